@@ -36,6 +36,7 @@ class CompareObjectsPageSettings extends ActiveWizardPage<CompareObjectsWizard>
     private Button compareLazyProperties;
     private Button compareOnlyStructure;
     private Button compareScriptProperties;
+    private Spinner maxConnectionThreads;
 
     CompareObjectsPageSettings() {
         super(CompareUIMessages.compare_objects_page_settings_page);
@@ -116,6 +117,15 @@ class CompareObjectsPageSettings extends ActiveWizardPage<CompareObjectsWizard>
                     settings.setCompareScripts(compareScriptProperties.getSelection());
                 }
             });
+            Composite threadsComposite = UIUtils.createComposite(compareSettings, 2);
+            maxConnectionThreads = UIUtils.createLabelSpinner(
+                threadsComposite,
+                CompareUIMessages.compare_objects_page_settings_spinner_max_connection_threads,
+                CompareUIMessages.compare_objects_page_settings_spinner_max_connection_threads_tip,
+                settings.getMaxConnectionThreads(),
+                1,
+                32);
+            maxConnectionThreads.addModifyListener(e -> settings.setMaxConnectionThreads(maxConnectionThreads.getSelection()));
         }
         
         setControl(composite);
@@ -37,6 +37,8 @@ public class CompareUIMessages extends NLS {
     public static String compare_objects_page_settings_checkbox_compare_preporties;
     public static String compare_objects_page_settings_checkbox_compare_structure;
     public static String compare_objects_page_settings_checkbox_scripts;
+    public static String compare_objects_page_settings_spinner_max_connection_threads;
+    public static String compare_objects_page_settings_spinner_max_connection_threads_tip;
     public static String compare_objects_page_checkbox_show_only_differences;
     public static String compare_objects_page_report_settings;
 
@@ -17,10 +17,12 @@
 package org.jkiss.dbeaver.tools.compare.simple;
 
 import org.eclipse.core.runtime.IStatus;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
 import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.DBPNamedObject;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseFolder;
@@ -29,12 +31,12 @@ import org.jkiss.dbeaver.model.navigator.meta.DBXTreeNode;
 import org.jkiss.dbeaver.model.preferences.DBPPropertyDescriptor;
 import org.jkiss.dbeaver.model.runtime.DBRProgressListener;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
-import org.jkiss.dbeaver.model.runtime.SubTaskProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
 import org.jkiss.dbeaver.runtime.properties.*;
 
 import java.util.*;
+import java.util.concurrent.Future;
 
 public class CompareObjectsExecutor {
 
@@ -54,6 +56,10 @@ public class CompareObjectsExecutor {
     private volatile IStatus initializeError;
     private final Map<Object, Map<DBPPropertyDescriptor, Object>> propertyValues = new IdentityHashMap<>();
 
+    // Children lists which are being loaded in background
+    private final Map<DBNDatabaseNode, Future<DBNDatabaseNode[]>> childrenLoaders = new IdentityHashMap<>();
+    private CompareObjectsLoader loader;
+
     private final List<CompareReportLine> reportLines = new ArrayList<>();
     private int reportDepth = 0;
     private CompareReportLine lastLine;
@@ -162,7 +168,18 @@ public class CompareObjectsExecutor {
         reportLines.clear();
         lastLine = null;
 
-        compareNodes(monitor, nodes);
+        Set<DBPDataSourceContainer> containers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DBNDatabaseNode node : nodes) {
+            containers.add(node.getDataSourceContainer());
+        }
+        loader = new CompareObjectsLoader(monitor, containers.size(), settings.getMaxConnectionThreads());
+        try {
+            compareNodes(monitor, nodes);
+        } finally {
+            loader.dispose();
+            loader = null;
+            childrenLoaders.clear();
+        }
         return new CompareReport(rootNodes, reportLines);
     }
 
@@ -237,55 +254,77 @@ public class CompareObjectsExecutor {
             return;
         }
 
-        // Load all properties
+        // Load all properties. Each node is read in its own thread
+        final boolean readLazyProperties = compareLazyProperties || compareScripts;
+        final boolean loadLazyProperties = compareLazyProperties;
+        List<Future<Map<DBPPropertyDescriptor, Object>>> propertyLoaders = new ArrayList<>(nodes.size());
         for (DBNDatabaseNode node : nodes) {
+            propertyLoaders.add(loader.submit(node, nodeMonitor ->
+                loadNodeProperties(nodeMonitor, node, properties, readLazyProperties, loadLazyProperties, compareScripts, onlyStruct)));
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            Map<DBPPropertyDescriptor, Object> nodeProperties = loader.get(propertyLoaders.get(i));
+            synchronized (PROPS_LOCK) {
+                Map<DBPPropertyDescriptor, Object> objectProps = propertyValues.get(nodes.get(i).getObject());
+                if (objectProps == null) {
+                    propertyValues.put(nodes.get(i).getObject(), nodeProperties);
+                } else {
+                    objectProps.putAll(nodeProperties);
+                }
+            }
+            monitor.worked(1);
+        }
+
+        // Compare properties
+        for (ObjectPropertyDescriptor prop : properties) {
+            reportPropertyCompare(prop);
+        }
+    }
+
+    private Map<DBPPropertyDescriptor, Object> loadNodeProperties(
+        DBRProgressMonitor monitor,
+        DBNDatabaseNode node,
+        List<ObjectPropertyDescriptor> properties,
+        boolean readLazyProperties,
+        boolean compareLazyProperties,
+        boolean compareScripts,
+        boolean onlyStruct) throws DBException, InterruptedException
+    {
+        DBSObject databaseObject = node.getObject();
+        Map<DBPPropertyDescriptor, Object> nodeProperties = new IdentityHashMap<>();
+        PropertyCollector propertySource = new PropertyCollector(databaseObject, readLazyProperties);
+        for (ObjectPropertyDescriptor prop : properties) {
             if (monitor.isCanceled()) {
                 throw new InterruptedException();
             }
-            DBSObject databaseObject = node.getObject();
-            Map<DBPPropertyDescriptor, Object> nodeProperties = propertyValues.get(databaseObject);
-            if (nodeProperties == null) {
-                nodeProperties = new IdentityHashMap<>();
-                propertyValues.put(databaseObject, nodeProperties);
-            }
-            PropertyCollector propertySource = new PropertyCollector(databaseObject, compareLazyProperties || compareScripts);
-            for (ObjectPropertyDescriptor prop : properties) {
-                boolean isScriptProperty = prop.getId().equals(DBConstants.PARAM_OBJECT_DEFINITION_TEXT) || prop.getId().equals(DBConstants.PARAM_EXTENDED_DEFINITION_TEXT);
-                if (prop.isLazy()) {
-                    if (!compareLazyProperties) {
-                        if (compareScripts) {
-                            // Only DBPScriptObject methods
-                            if (!isScriptProperty) {
-                                continue;
-                            }
-                        } else {
+            boolean isScriptProperty = prop.getId().equals(DBConstants.PARAM_OBJECT_DEFINITION_TEXT) || prop.getId().equals(DBConstants.PARAM_EXTENDED_DEFINITION_TEXT);
+            if (prop.isLazy()) {
+                if (!compareLazyProperties) {
+                    if (compareScripts) {
+                        // Only DBPScriptObject methods
+                        if (!isScriptProperty) {
                             continue;
                         }
-                    }
-                } else {
-                    if (prop.isHidden()) {
+                    } else {
                         continue;
                     }
                 }
-                if (onlyStruct && !isScriptProperty) {
+            } else {
+                if (prop.isHidden()) {
                     continue;
                 }
-                Object propertyValue = propertySource.getPropertyValue(monitor, databaseObject, prop, true);
-                synchronized (PROPS_LOCK) {
-                    if (propertyValue instanceof DBPNamedObject) {
-                        // Compare just object names
-                        propertyValue = ((DBPNamedObject) propertyValue).getName();
-                    }
-                    nodeProperties.put(prop, propertyValue);
-                }
             }
-            monitor.worked(1);
-        }
-
-        // Compare properties
-        for (ObjectPropertyDescriptor prop : properties) {
-            reportPropertyCompare(prop);
+            if (onlyStruct && !isScriptProperty) {
+                continue;
+            }
+            Object propertyValue = propertySource.getPropertyValue(monitor, databaseObject, prop, true);
+            if (propertyValue instanceof DBPNamedObject) {
+                // Compare just object names
+                propertyValue = ((DBPNamedObject) propertyValue).getName();
+            }
+            nodeProperties.put(prop, propertyValue);
         }
+        return nodeProperties;
     }
 
     private void compareChildren(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
@@ -293,21 +332,12 @@ public class CompareObjectsExecutor {
         // Compare children
         int nodeCount = nodes.size();
         List<DBNDatabaseNode[]> allChildren = new ArrayList<>(nodeCount);
-        // Use submonitor to avoid huge number of tasks
-        DBRProgressMonitor subMonitor = new SubTaskProgressMonitor(monitor);
-        for (int i = 0; i < nodeCount; i++) {
-            DBNDatabaseNode node = nodes.get(i);
-            // Cache structure if possible
-            if (node.getObject() instanceof DBSObjectContainer) {
-                ((DBSObjectContainer) node.getObject()).cacheStructure(subMonitor, DBSObjectContainer.STRUCT_ALL);
-            }
-            try {
-                DBNDatabaseNode[] children = node.getChildren(subMonitor);
-                allChildren.add(children);
-            } catch (Exception e) {
-                log.warn("Error reading child nodes for compare", e);
-                allChildren.add(null);
-            }
+        // Children of all compared nodes are read simultaneously
+        for (DBNDatabaseNode node : nodes) {
+            prefetchChildren(node);
+        }
+        for (DBNDatabaseNode node : nodes) {
+            allChildren.add(getChildren(node));
         }
 
         Set<String> allChildNames = new LinkedHashSet<>();
@@ -327,6 +357,7 @@ public class CompareObjectsExecutor {
             }
         }
 
+        List<List<DBNDatabaseNode>> childGroups = new ArrayList<>(allChildNames.size());
         for (String childName : allChildNames) {
             int[] childIndexes = new int[nodeCount];
             for (int i = 0; i < nodeCount; i++) {
@@ -359,8 +390,52 @@ public class CompareObjectsExecutor {
                     }
                 }
             }
+            childGroups.add(nodesToCompare);
+        }
+
+        // Start loading of all subtrees in background. Report is built in the original order
+        // while other subtrees are still being loaded.
+        for (List<DBNDatabaseNode> group : childGroups) {
+            if (group.size() > 1) {
+                for (DBNDatabaseNode child : group) {
+                    prefetchChildren(child);
+                }
+            }
+        }
+        for (List<DBNDatabaseNode> group : childGroups) {
             // Compare children recursively
-            compareNodes(monitor, nodesToCompare);
+            compareNodes(monitor, group);
+        }
+    }
+
+    private void prefetchChildren(DBNDatabaseNode node)
+    {
+        synchronized (childrenLoaders) {
+            childrenLoaders.computeIfAbsent(node, n -> loader.submit(n, nodeMonitor -> {
+                // Cache structure if possible
+                if (n.getObject() instanceof DBSObjectContainer) {
+                    ((DBSObjectContainer) n.getObject()).cacheStructure(nodeMonitor, DBSObjectContainer.STRUCT_ALL);
+                }
+                return n.getChildren(nodeMonitor);
+            }));
+        }
+    }
+
+    @Nullable
+    private DBNDatabaseNode[] getChildren(DBNDatabaseNode node) throws InterruptedException
+    {
+        Future<DBNDatabaseNode[]> childrenLoader;
+        synchronized (childrenLoaders) {
+            childrenLoader = childrenLoaders.remove(node);
+        }
+        if (childrenLoader == null) {
+            return null;
+        }
+        try {
+            return loader.get(childrenLoader);
+        } catch (DBException e) {
+            log.warn("Error reading child nodes for compare", e);
+            return null;
         }
     }
 
@@ -0,0 +1,145 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.tools.compare.simple;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
+import org.jkiss.dbeaver.model.runtime.BaseProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.DBRBlockingObject;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads compared nodes metadata in background threads.
+ * Number of simultaneous loads per data source is limited by {@link CompareObjectsSettings#getMaxConnectionThreads()}.
+ * Note that most drivers read metadata through a single shared meta connection, so loads of the same
+ * data source are still serialized on that connection - the parallelism mostly helps when several
+ * data sources are compared or when metadata is already cached.
+ */
+class CompareObjectsLoader {
+
+    interface LoadTask<T> {
+        T load(DBRProgressMonitor monitor) throws DBException, InterruptedException;
+    }
+
+    private final DBRProgressMonitor parentMonitor;
+    private final int maxConnectionThreads;
+    private final ExecutorService executor;
+    private final Map<DBPDataSourceContainer, Semaphore> connectionLimits = new IdentityHashMap<>();
+
+    CompareObjectsLoader(@NotNull DBRProgressMonitor parentMonitor, int dataSourceCount, int maxConnectionThreads) {
+        this.parentMonitor = parentMonitor;
+        this.maxConnectionThreads = Math.max(1, maxConnectionThreads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(
+            Math.max(1, dataSourceCount) * this.maxConnectionThreads,
+            r -> {
+                Thread thread = new Thread(r, "Compare objects loader " + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    <T> Future<T> submit(@NotNull DBNDatabaseNode node, @NotNull LoadTask<T> task) {
+        Semaphore limit = getConnectionLimit(node.getDataSourceContainer());
+        return executor.submit(() -> {
+            limit.acquire();
+            try {
+                if (parentMonitor.isCanceled()) {
+                    throw new InterruptedException();
+                }
+                return task.load(new LoaderMonitor());
+            } finally {
+                limit.release();
+            }
+        });
+    }
+
+    <T> T get(@NotNull Future<T> future) throws DBException, InterruptedException {
+        while (true) {
+            try {
+                return future.get(100, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (parentMonitor.isCanceled()) {
+                    future.cancel(true);
+                    throw new InterruptedException();
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof InvocationTargetException) {
+                    cause = ((InvocationTargetException) cause).getTargetException();
+                }
+                if (cause instanceof DBException) {
+                    throw (DBException) cause;
+                } else if (cause instanceof InterruptedException) {
+                    throw (InterruptedException) cause;
+                }
+                throw new DBException("Error loading compared objects", cause);
+            }
+        }
+    }
+
+    void dispose() {
+        executor.shutdownNow();
+    }
+
+    private Semaphore getConnectionLimit(DBPDataSourceContainer container) {
+        synchronized (connectionLimits) {
+            return connectionLimits.computeIfAbsent(container, c -> new Semaphore(maxConnectionThreads));
+        }
+    }
+
+    /**
+     * Worker threads can't share parent monitor blocks, so each task gets its own monitor
+     * which only follows parent cancellation.
+     */
+    private class LoaderMonitor extends BaseProgressMonitor {
+        private final List<DBRBlockingObject> blocks = new ArrayList<>();
+
+        @Override
+        public boolean isCanceled() {
+            return parentMonitor.isCanceled();
+        }
+
+        @Override
+        public synchronized void startBlock(DBRBlockingObject object, String taskName) {
+            blocks.add(object);
+        }
+
+        @Override
+        public synchronized void endBlock() {
+            if (!blocks.isEmpty()) {
+                blocks.remove(blocks.size() - 1);
+            }
+        }
+
+        @Override
+        public synchronized List<DBRBlockingObject> getActiveBlocks() {
+            return new ArrayList<>(blocks);
+        }
+    }
+
+}
@@ -27,6 +27,8 @@ import java.util.List;
  */
 public class CompareObjectsSettings {
 
+    public static final int DEFAULT_MAX_CONNECTION_THREADS = 2;
+
     public enum OutputType {
         BROWSER(CompareMessages.open_in_browser),
         FILE(CompareMessages.save_to_file);
@@ -47,6 +49,7 @@ public class CompareObjectsSettings {
     private boolean compareOnlyStructure = false;
     private boolean compareScripts = false;
     private boolean showOnlyDifferences = false;
+    private int maxConnectionThreads = DEFAULT_MAX_CONNECTION_THREADS;
     private OutputType outputType = OutputType.BROWSER;
     private String outputFolder;
 
@@ -98,6 +101,17 @@ public class CompareObjectsSettings {
         this.showOnlyDifferences = showOnlyDifferences;
     }
 
+    /**
+     * Maximum number of simultaneous metadata reads per connection
+     */
+    public int getMaxConnectionThreads() {
+        return maxConnectionThreads;
+    }
+
+    public void setMaxConnectionThreads(int maxConnectionThreads) {
+        this.maxConnectionThreads = maxConnectionThreads;
+    }
+
     public OutputType getOutputType() {
         return outputType;
     }
@@ -130,6 +144,9 @@ public class CompareObjectsSettings {
         if (dialogSettings.get("compareScripts") != null) {
             compareScripts = dialogSettings.getBoolean("compareScripts");
         }
+        if (dialogSettings.get("maxConnectionThreads") != null) {
+            maxConnectionThreads = dialogSettings.getInt("maxConnectionThreads");
+        }
         if (dialogSettings.get("outputType") != null) {
             outputType = OutputType.valueOf(dialogSettings.get("outputType"));
         }
@@ -144,6 +161,7 @@ public class CompareObjectsSettings {
         dialogSettings.put("compareStructure", compareOnlyStructure);
         dialogSettings.put("compareScripts", compareScripts);
         dialogSettings.put("showDifference", showOnlyDifferences);
+        dialogSettings.put("maxConnectionThreads", maxConnectionThreads);
         dialogSettings.put("outputType", outputType.name());
         dialogSettings.put("outputFolder", outputFolder);
     }
@@ -321,6 +321,13 @@ public class CoreMessages extends NLS {
     public static String pref_page_error_handle_group_cancel_title;
     public static String pref_page_error_handle_cancel_check_timeout;
     public static String pref_page_error_handle_cancel_check_timeout_tip;
+    public static String pref_page_error_handle_group_connection_pool_title;
+    public static String pref_page_error_handle_connection_pool_min_idle_label;
+    public static String pref_page_error_handle_connection_pool_min_idle_tip;
+    public static String pref_page_error_handle_connection_pool_max_idle_label;
+    public static String pref_page_error_handle_connection_pool_max_idle_tip;
+    public static String pref_page_error_handle_connection_pool_idle_timeout_label;
+    public static String pref_page_error_handle_connection_pool_idle_timeout_tip;
 
     public static String pref_page_query_manager_checkbox_ddl_executions;
     public static String pref_page_query_manager_checkbox_metadata_read;
@@ -510,6 +517,8 @@ public class CoreMessages extends NLS {
 
     public static String pref_page_connection_label_general;
     public static String pref_page_connection_label_use_environment;
+    public static String pref_page_connection_label_statement_cache_size;
+    public static String pref_page_connection_label_statement_cache_size_tip;
     public static String pref_page_connections_application_name_text;
     public static String pref_page_connection_label_default_connection_name_pattern;
     public static String pref_page_connection_label_default_connection_name_pattern_tip;
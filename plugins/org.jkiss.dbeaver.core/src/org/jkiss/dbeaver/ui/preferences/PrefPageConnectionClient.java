@@ -71,6 +71,7 @@ public class PrefPageConnectionClient extends TargetPrefPage
     private Text clientApplicationNameText;
 
     private Button connUseEnvVariables;
+    private Spinner statementCacheSize;
 
     public PrefPageConnectionClient()
     {
@@ -86,7 +87,8 @@ public class PrefPageConnectionClient extends TargetPrefPage
             store.contains(ModelPreferences.META_CLIENT_NAME_OVERRIDE) ||
             store.contains(ModelPreferences.META_CLIENT_NAME_VALUE) ||
 
-            store.contains(ModelPreferences.CONNECT_USE_ENV_VARS)
+            store.contains(ModelPreferences.CONNECT_USE_ENV_VARS) ||
+            store.contains(ModelPreferences.STATEMENT_CACHE_SIZE)
             ;
     }
 
@@ -130,6 +132,7 @@ public class PrefPageConnectionClient extends TargetPrefPage
             Group connGroup = UIUtils.createControlGroup(composite, CoreMessages.pref_page_connection_label_general, 2, GridData.FILL_HORIZONTAL, 0);
 
             connUseEnvVariables = UIUtils.createCheckbox(connGroup, CoreMessages.pref_page_connection_label_use_environment, null, false, 2);
+            statementCacheSize = UIUtils.createLabelSpinner(connGroup, CoreMessages.pref_page_connection_label_statement_cache_size, CoreMessages.pref_page_connection_label_statement_cache_size_tip, 0, 0, 1000);
         }
         return composite;
     }
@@ -147,6 +150,7 @@ public class PrefPageConnectionClient extends TargetPrefPage
             clientApplicationNameText.setText(store.getString(ModelPreferences.META_CLIENT_NAME_VALUE));
 
             connUseEnvVariables.setSelection(store.getBoolean(ModelPreferences.CONNECT_USE_ENV_VARS));
+            statementCacheSize.setSelection(store.getInt(ModelPreferences.STATEMENT_CACHE_SIZE));
 
             updateClientAppEnablement();
         } catch (Exception e) {
@@ -163,6 +167,7 @@ public class PrefPageConnectionClient extends TargetPrefPage
             store.setValue(ModelPreferences.META_CLIENT_NAME_VALUE, clientApplicationNameText.getText());
 
             store.setValue(ModelPreferences.CONNECT_USE_ENV_VARS, connUseEnvVariables.getSelection());
+            store.setValue(ModelPreferences.STATEMENT_CACHE_SIZE, statementCacheSize.getSelection());
         } catch (Exception e) {
             log.warn(e);
         }
@@ -177,6 +182,7 @@ public class PrefPageConnectionClient extends TargetPrefPage
         store.setToDefault(ModelPreferences.META_CLIENT_NAME_VALUE);
 
         store.setToDefault(ModelPreferences.CONNECT_USE_ENV_VARS);
+        store.setToDefault(ModelPreferences.STATEMENT_CACHE_SIZE);
     }
 
     @Override
@@ -44,6 +44,10 @@ public class PrefPageErrorHandle extends TargetPrefPage
     private Button connectionAutoRecoverEnabled;
     private Spinner connectionAutoRecoverRetryCount;
 
+    private Spinner connectionPoolMinIdle;
+    private Spinner connectionPoolMaxIdle;
+    private Spinner connectionPoolIdleTimeout;
+
     private Spinner cancelCheckTimeout;
 
     public PrefPageErrorHandle()
@@ -64,6 +68,10 @@ public class PrefPageErrorHandle extends TargetPrefPage
             store.contains(ModelPreferences.EXECUTE_RECOVER_ENABLED) ||
             store.contains(ModelPreferences.EXECUTE_RECOVER_RETRY_COUNT) ||
 
+            store.contains(ModelPreferences.CONNECTION_POOL_MIN_IDLE) ||
+            store.contains(ModelPreferences.CONNECTION_POOL_MAX_IDLE) ||
+            store.contains(ModelPreferences.CONNECTION_POOL_IDLE_TIMEOUT) ||
+
             store.contains(ModelPreferences.EXECUTE_CANCEL_CHECK_TIMEOUT)
             ;
     }
@@ -97,6 +105,15 @@ public class PrefPageErrorHandle extends TargetPrefPage
             connectionAutoRecoverRetryCount = UIUtils.createLabelSpinner(errorGroup, CoreMessages.pref_page_error_handle_recover_retry_count_label, CoreMessages.pref_page_error_handle_recover_retry_count_tip, 0, 0, Integer.MAX_VALUE);
         }
 
+        // Separate connections pool
+        {
+            Group poolGroup = UIUtils.createControlGroup(composite, CoreMessages.pref_page_error_handle_group_connection_pool_title, 2, GridData.VERTICAL_ALIGN_BEGINNING, 0);
+
+            connectionPoolMinIdle = UIUtils.createLabelSpinner(poolGroup, CoreMessages.pref_page_error_handle_connection_pool_min_idle_label, CoreMessages.pref_page_error_handle_connection_pool_min_idle_tip, 0, 0, 100);
+            connectionPoolMaxIdle = UIUtils.createLabelSpinner(poolGroup, CoreMessages.pref_page_error_handle_connection_pool_max_idle_label, CoreMessages.pref_page_error_handle_connection_pool_max_idle_tip, 0, 0, 100);
+            connectionPoolIdleTimeout = UIUtils.createLabelSpinner(poolGroup, CoreMessages.pref_page_error_handle_connection_pool_idle_timeout_label, CoreMessages.pref_page_error_handle_connection_pool_idle_timeout_tip, 0, 0, Integer.MAX_VALUE);
+        }
+
         // Canceling
         {
             Group errorGroup = UIUtils.createControlGroup(composite, CoreMessages.pref_page_error_handle_group_cancel_title, 2, GridData.VERTICAL_ALIGN_BEGINNING, 0);
@@ -119,6 +136,10 @@ public class PrefPageErrorHandle extends TargetPrefPage
             connectionAutoRecoverEnabled.setSelection(store.getBoolean(ModelPreferences.EXECUTE_RECOVER_ENABLED));
             connectionAutoRecoverRetryCount.setSelection(store.getInt(ModelPreferences.EXECUTE_RECOVER_RETRY_COUNT));
 
+            connectionPoolMinIdle.setSelection(store.getInt(ModelPreferences.CONNECTION_POOL_MIN_IDLE));
+            connectionPoolMaxIdle.setSelection(store.getInt(ModelPreferences.CONNECTION_POOL_MAX_IDLE));
+            connectionPoolIdleTimeout.setSelection(store.getInt(ModelPreferences.CONNECTION_POOL_IDLE_TIMEOUT));
+
             cancelCheckTimeout.setSelection(store.getInt(ModelPreferences.EXECUTE_CANCEL_CHECK_TIMEOUT));
         } catch (Exception e) {
             log.warn(e);
@@ -137,6 +158,10 @@ public class PrefPageErrorHandle extends TargetPrefPage
             store.setValue(ModelPreferences.EXECUTE_RECOVER_ENABLED, connectionAutoRecoverEnabled.getSelection());
             store.setValue(ModelPreferences.EXECUTE_RECOVER_RETRY_COUNT, connectionAutoRecoverRetryCount.getSelection());
 
+            store.setValue(ModelPreferences.CONNECTION_POOL_MIN_IDLE, connectionPoolMinIdle.getSelection());
+            store.setValue(ModelPreferences.CONNECTION_POOL_MAX_IDLE, connectionPoolMaxIdle.getSelection());
+            store.setValue(ModelPreferences.CONNECTION_POOL_IDLE_TIMEOUT, connectionPoolIdleTimeout.getSelection());
+
             store.setValue(ModelPreferences.EXECUTE_CANCEL_CHECK_TIMEOUT, cancelCheckTimeout.getSelection());
         } catch (Exception e) {
             log.warn(e);
@@ -155,6 +180,10 @@ public class PrefPageErrorHandle extends TargetPrefPage
         store.setToDefault(ModelPreferences.EXECUTE_RECOVER_ENABLED);
         store.setToDefault(ModelPreferences.EXECUTE_RECOVER_RETRY_COUNT);
 
+        store.setToDefault(ModelPreferences.CONNECTION_POOL_MIN_IDLE);
+        store.setToDefault(ModelPreferences.CONNECTION_POOL_MAX_IDLE);
+        store.setToDefault(ModelPreferences.CONNECTION_POOL_IDLE_TIMEOUT);
+
         store.setToDefault(ModelPreferences.EXECUTE_CANCEL_CHECK_TIMEOUT);
     }
 
@@ -167,6 +196,9 @@ public class PrefPageErrorHandle extends TargetPrefPage
         rollbackOnErrorCheck.setSelection(store.getDefaultBoolean(ModelPreferences.QUERY_ROLLBACK_ON_ERROR));
         connectionAutoRecoverEnabled.setSelection(store.getDefaultBoolean(ModelPreferences.EXECUTE_RECOVER_ENABLED));
         connectionAutoRecoverRetryCount.setSelection(store.getDefaultInt(ModelPreferences.EXECUTE_RECOVER_RETRY_COUNT));
+        connectionPoolMinIdle.setSelection(store.getDefaultInt(ModelPreferences.CONNECTION_POOL_MIN_IDLE));
+        connectionPoolMaxIdle.setSelection(store.getDefaultInt(ModelPreferences.CONNECTION_POOL_MAX_IDLE));
+        connectionPoolIdleTimeout.setSelection(store.getDefaultInt(ModelPreferences.CONNECTION_POOL_IDLE_TIMEOUT));
         cancelCheckTimeout.setSelection(store.getDefaultInt(ModelPreferences.EXECUTE_CANCEL_CHECK_TIMEOUT));
         super.performDefaults();
     }
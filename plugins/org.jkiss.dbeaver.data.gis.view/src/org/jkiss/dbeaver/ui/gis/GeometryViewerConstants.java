@@ -27,7 +27,7 @@ public class GeometryViewerConstants {
     public static final String PREF_DEFAULT_LEAFLET_TILES = "gis.view.defaultLeafletTiles";
     public static final String PREF_SHOW_LABELS = "gis.view.showLabels";
 
-    public static final int DEFAULT_MAX_OBJECTS_RENDER = 10000;
+    public static final int DEFAULT_MAX_OBJECTS_RENDER = 100000;
 
     // https://leafletjs.com/reference.html#tilelayer-minzoom
     public static final int DEFAULT_MIN_ZOOM_LEVEL = 0;
@@ -75,13 +75,18 @@ import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.IOUtils;
+import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
 
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceListener {
     private static final Log log = Log.getLog(GISLeafletViewer.class);
@@ -93,6 +98,11 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
     private static final String PROP_FLIP_COORDINATES = "gis.flipCoords";
     private static final String PROP_SRID = "gis.srid";
 
+    // Geometries with fewer points are not simplified
+    private static final int SIMPLIFY_MIN_POINTS = 100;
+    // Max number of distinguishable positions along the extent of all geometries
+    private static final double SIMPLIFY_RESOLUTION = 1 << 16;
+
     private volatile boolean browserCreating = false;
 
     private static final Gson gson = new GsonBuilder()
@@ -333,7 +343,7 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             }
         }
 
-        List<String> geomValues = new ArrayList<>();
+        List<Object> targetValues = new ArrayList<>();
         List<String> geomTipValues = new ArrayList<>();
         boolean showMap = false;
         for (int i = 0; i < values.length; i++) {
@@ -393,7 +403,7 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             if (targetValue == null) {
                 continue;
             }
-            geomValues.add("'" + targetValue + "'");
+            targetValues.add(targetValue);
             try {
                 if (CommonUtils.isEmpty(value.getProperties())) {
                     geomTipValues.add("null");
@@ -405,6 +415,11 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
             }
         }
         this.defaultSRID = actualSourceSRID;
+        simplifyGeometries(targetValues);
+        List<String> geomValues = new ArrayList<>(targetValues.size());
+        for (Object targetValue : targetValues) {
+            geomValues.add("'" + targetValue + "'");
+        }
         String geomValuesString = String.join(",", geomValues);
         String geomTipValuesString = String.join(",", geomTipValues);
         String geomCRS = actualSourceSRID == GisConstants.SRID_SIMPLE ? GisConstants.LL_CRS_SIMPLE : GisConstants.LL_CRS_3857;
@@ -455,6 +470,50 @@ public class GISLeafletViewer implements IGeometryValueEditor, DBPPreferenceList
         return scriptFile;
     }
 
+    /**
+     * Removes vertices of big geometries which are too close to be seen even at high zoom levels.
+     * Tolerance is relative to the extent of these geometries. Simplification for the current zoom level
+     * is done by the map renderer.
+     */
+    private static void simplifyGeometries(List<Object> targetValues) {
+        Map<Integer, Geometry> geometries = new HashMap<>();
+        Envelope extent = new Envelope();
+        for (int i = 0; i < targetValues.size(); i++) {
+            Object targetValue = targetValues.get(i);
+            Geometry geometry = null;
+            if (targetValue instanceof Geometry) {
+                geometry = (Geometry) targetValue;
+            } else if (targetValue instanceof org.cugos.wkg.Geometry) {
+                String wkt = targetValue.toString();
+                if (wkt.length() < SIMPLIFY_MIN_POINTS * 10) {
+                    // Don't parse small geometries
+                    continue;
+                }
+                geometry = GisTransformUtils.getJtsGeometry(targetValue);
+            }
+            if (geometry != null && geometry.getNumPoints() >= SIMPLIFY_MIN_POINTS) {
+                geometries.put(i, geometry);
+                extent.expandToInclude(geometry.getEnvelopeInternal());
+            }
+        }
+        double tolerance = Math.max(extent.getWidth(), extent.getHeight()) / SIMPLIFY_RESOLUTION;
+        if (geometries.isEmpty() || tolerance <= 0) {
+            return;
+        }
+        Map<Integer, Geometry> simplified = new ConcurrentHashMap<>();
+        geometries.entrySet().parallelStream().forEach(entry -> {
+            try {
+                Geometry result = TopologyPreservingSimplifier.simplify(entry.getValue(), tolerance);
+                if (result.getNumPoints() < entry.getValue().getNumPoints()) {
+                    simplified.put(entry.getKey(), result);
+                }
+            } catch (Exception e) {
+                log.debug("Error simplifying geometry", e);
+            }
+        });
+        simplified.forEach(targetValues::set);
+    }
+
     private void checkIncludesExistence(Path scriptDir) throws IOException {
         Path incFolder = scriptDir.resolve("inc");
         if (!Files.exists(incFolder)) {
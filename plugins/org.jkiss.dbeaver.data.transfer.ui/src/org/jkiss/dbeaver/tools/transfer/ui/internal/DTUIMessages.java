@@ -105,6 +105,7 @@ public class DTUIMessages extends NLS {
     public static String database_producer_page_extract_settings_row_count_checkbox_tooltip;
     public static String database_producer_page_extract_settings_text_fetch_size_label;
     public static String database_producer_page_extract_settings_text_fetch_size_tooltip;
+    public static String database_producer_page_extract_settings_text_sample_percent_tooltip;
 
     public static String database_producer_page_input_objects_name;
     public static String database_producer_page_input_objects_title;
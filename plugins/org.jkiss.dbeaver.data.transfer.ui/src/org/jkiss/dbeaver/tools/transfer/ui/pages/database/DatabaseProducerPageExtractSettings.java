@@ -53,6 +53,7 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
     private Button selectedColumnsOnlyCheckbox;
     private Button selectedRowsOnlyCheckbox;
     private Text fetchSizeText;
+    private Text samplePercentText;
 
     public DatabaseProducerPageExtractSettings() {
         super(DTUIMessages.database_producer_page_extract_settings_name_and_title);
@@ -147,6 +148,15 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
                 settings.setFetchSize(Integer.parseInt(fetchSizeText.getText()));
             });
 
+            samplePercentText = UIUtils.createLabelText(generalSettings, DTMessages.data_transfer_wizard_output_label_sample_percent, "", SWT.BORDER);
+            samplePercentText.setLayoutData(new GridData(GridData.HORIZONTAL_ALIGN_BEGINNING));
+            ((GridData)samplePercentText.getLayoutData()).widthHint = UIUtils.getFontHeight(samplePercentText) * 10;
+            samplePercentText.setToolTipText(DTUIMessages.database_producer_page_extract_settings_text_sample_percent_tooltip);
+            samplePercentText.addVerifyListener(UIUtils.getNumberVerifyListener(Locale.ENGLISH));
+            samplePercentText.addModifyListener(e -> {
+                settings.setSamplePercent(CommonUtils.toDouble(samplePercentText.getText(), 0));
+            });
+
             IStructuredSelection curSelection = getWizard().getCurrentSelection();
             boolean hasSelection = curSelection != null && !curSelection.isEmpty() && curSelection.getFirstElement() instanceof DBDCellValue;
 
@@ -238,6 +248,7 @@ public class DatabaseProducerPageExtractSettings extends DataTransferPageNodeSet
             }
         }
         fetchSizeText.setText(String.valueOf(settings.getFetchSize()));
+        samplePercentText.setText(settings.getSamplePercent() > 0 ? String.valueOf(settings.getSamplePercent()) : "");
         if (selectedColumnsOnlyCheckbox != null) {
             selectedColumnsOnlyCheckbox.setSelection(settings.isSelectedColumnsOnly());
         }
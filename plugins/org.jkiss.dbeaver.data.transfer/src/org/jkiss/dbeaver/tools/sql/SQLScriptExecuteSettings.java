@@ -40,6 +40,8 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings<IResource> {
 
     private static final Log log = Log.getLog(SQLScriptExecuteSettings.class);
 
+    public static final int MAX_PARALLELISM = 64;
+
     private List<DBPDataSourceContainer> dataSources = new ArrayList<>();
     private List<String> scriptFiles = new ArrayList<>();
 
@@ -48,6 +50,7 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings<IResource> {
 
     private boolean ignoreErrors;
     private boolean dumpQueryResultsToLog;
+    private int parallelism = 1;
 
     public List<String> getScriptFiles() {
         return scriptFiles;
@@ -81,6 +84,17 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings<IResource> {
         this.dumpQueryResultsToLog = dumpQueryResultsToLog;
     }
 
+    /**
+     * Number of queries executed simultaneously (in separate connections)
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public boolean isAutoCommit() {
         return autoCommit;
     }
@@ -136,6 +150,7 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings<IResource> {
         dumpQueryResultsToLog = JSONUtils.getBoolean(config, "dumpQueryResultsToLog");
 
         autoCommit = JSONUtils.getBoolean(config, "autoCommit");
+        parallelism = Math.max(1, Math.min(MAX_PARALLELISM, JSONUtils.getInteger(config, "parallelism", 1)));
     }
 
     public void saveConfiguration(Map<String, Object> config) {
@@ -153,5 +168,6 @@ public class SQLScriptExecuteSettings implements DBTTaskSettings<IResource> {
         config.put("dumpQueryResultsToLog", dumpQueryResultsToLog);
 
         config.put("autoCommit", autoCommit);
+        config.put("parallelism", parallelism);
     }
 }
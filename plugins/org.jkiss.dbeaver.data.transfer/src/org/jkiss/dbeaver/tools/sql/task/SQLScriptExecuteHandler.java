@@ -37,6 +37,8 @@ import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
 import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
 import org.jkiss.dbeaver.model.task.*;
 import org.jkiss.dbeaver.tools.sql.SQLScriptExecuteSettings;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
+import org.jkiss.utils.CommonUtils;
 
 import java.io.PrintStream;
 import java.io.PrintWriter;
@@ -150,12 +152,19 @@ public class SQLScriptExecuteHandler implements DBTTaskHandler {
 
         scriptProcessor.setCommitType(settings.isAutoCommit() ? SQLScriptCommitType.AUTOCOMMIT : SQLScriptCommitType.AT_END);
         scriptProcessor.setErrorHandling(settings.isIgnoreErrors() ? SQLScriptErrorHandling.IGNORE : SQLScriptErrorHandling.STOP_ROLLBACK);
+        scriptProcessor.setParallelism(settings.getParallelism());
         if (settings.isDumpQueryResultsToLog()) {
             dataReceiver.setDumpWriter(logWriter);
         }
 
         scriptProcessor.runScript(monitor);
 
+        if (settings.getParallelism() > 1) {
+            for (DBCStatistics queryStatistics : scriptProcessor.getQueryStatistics()) {
+                log.debug("> Query executed in " + RuntimeUtils.formatExecutionTime(queryStatistics.getExecuteTime()) +
+                    (queryStatistics.getError() != null ? " with error" : "") + ": " + CommonUtils.truncateString(queryStatistics.getQueryText(), 200));
+            }
+        }
         totalStatistics.accumulate(scriptProcessor.getTotalStatistics());
     }
 
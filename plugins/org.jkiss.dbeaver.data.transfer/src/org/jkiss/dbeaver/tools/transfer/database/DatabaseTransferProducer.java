@@ -56,6 +56,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 /**
  * Data container transfer producer
@@ -184,6 +185,16 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
         DBPDataSource dataSource = databaseObject.getDataSource();
         assert (dataSource != null);
 
+        DBDDataFilter transferFilter = dataFilter;
+        double samplePercent = settings.getSamplePercent();
+        if (samplePercent > 0 && samplePercent < 100 && databaseObject.isFeatureSupported(DBSDataContainer.FEATURE_DATA_SAMPLE)) {
+            // The same seed for all segments
+            transferFilter = dataFilter == null ? new DBDDataFilter() : new DBDDataFilter(dataFilter);
+            transferFilter.setSamplePercent(samplePercent);
+            transferFilter.setSampleSeed(new Random().nextInt(Integer.MAX_VALUE - 1) + 1);
+        }
+        final DBDDataFilter readFilter = transferFilter;
+
         DBExecUtils.tryExecuteRecover(monitor1, dataSource, monitor -> {
             long readFlags = DBSDataContainer.FLAG_NONE;
             if (settings.isSelectedColumnsOnly()) {
@@ -243,7 +254,7 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
                         if (settings.isQueryRowCount() && dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_DATA_COUNT)) {
                             monitor.beginTask(DTMessages.data_transfer_wizard_job_task_retrieve, 1);
                             try {
-                                totalRows = dataContainer.countData(transferSource, session, dataFilter, readFlags);
+                                totalRows = dataContainer.countData(transferSource, session, readFilter, readFlags);
                             } catch (Throwable e) {
                                 log.warn("Can't retrieve row count from '" + dataContainer.getName() + "'", e);
                                 try {
@@ -267,14 +278,14 @@ public class DatabaseTransferProducer implements IDataTransferProducer<DatabaseP
                             // Perform export
                             if (settings.getExtractType() == DatabaseProducerSettings.ExtractType.SINGLE_QUERY) {
                                 // Just do it in single query
-                                producerStatistics.accumulate(dataContainer.readData(transferSource, session, consumer, dataFilter, -1, -1, readFlags, settings.getFetchSize()));
+                                producerStatistics.accumulate(dataContainer.readData(transferSource, session, consumer, readFilter, -1, -1, readFlags, settings.getFetchSize()));
                             } else {
                                 // Read all data by segments
                                 long offset = 0;
                                 int segmentSize = settings.getSegmentSize();
                                 for (; ; ) {
                                     DBCStatistics statistics = dataContainer.readData(
-                                        transferSource, session, consumer, dataFilter, offset, segmentSize, readFlags, settings.getFetchSize());
+                                        transferSource, session, consumer, readFilter, offset, segmentSize, readFlags, settings.getFetchSize());
                                     if (statistics == null || statistics.getRowsFetched() < segmentSize) {
                                         // Done
                                         break;
@@ -54,6 +54,7 @@ public class DTMessages extends NLS {
     public static String data_transfer_wizard_output_label_encoding;
     public static String data_transfer_wizard_output_label_timestamp_pattern;
     public static String data_transfer_wizard_output_label_extract_type;
+    public static String data_transfer_wizard_output_label_sample_percent;
     public static String data_transfer_wizard_output_label_file_name_pattern;
     public static String data_transfer_wizard_output_label_insert_bom;
     public static String data_transfer_wizard_output_label_insert_bom_tooltip;
@@ -132,6 +133,8 @@ public class DTMessages extends NLS {
     public static String sql_script_task_page_settings_option_ignore_errors;
     public static String sql_script_task_page_settings_option_dump_results;
     public static String sql_script_task_page_settings_option_auto_commit;
+    public static String sql_script_task_page_settings_option_parallelism;
+    public static String sql_script_task_page_settings_option_parallelism_tip;
     public static String database_consumer_settings_option_use_transactions;
     public static String database_consumer_settings_option_commit_after;
     public static String database_consumer_settings_option_use_multi_insert;
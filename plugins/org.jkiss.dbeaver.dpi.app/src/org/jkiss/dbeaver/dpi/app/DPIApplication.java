@@ -75,7 +75,7 @@ public class DPIApplication extends DesktopApplicationImpl {
     private void runServer(IApplicationContext appContext, DBPApplication application) throws IOException {
         int portNumber = IOUtils.findFreePort(20000, 65000);
         DPIRestServer server = new DPIRestServer(application, portNumber);
-        saveServerInfo(portNumber);
+        saveServerInfo(portNumber, server.getStreamPort(), server.getStreamToken());
         try {
             log.debug("Started DPI Server at " + portNumber);
             server.join();
@@ -84,11 +84,13 @@ public class DPIApplication extends DesktopApplicationImpl {
         }
     }
 
-    private void saveServerInfo(int portNumber) throws IOException {
+    private void saveServerInfo(int portNumber, int streamPortNumber, String streamToken) throws IOException {
         Path serverIniFile = getServerIniFile();
         try (BufferedWriter out = Files.newBufferedWriter(serverIniFile, StandardOpenOption.CREATE)) {
             Map<String, String> props = new LinkedHashMap<>();
             props.put(DPIConstants.PARAM_SERVER_PORT, String.valueOf(portNumber));
+            props.put(DPIConstants.PARAM_STREAM_PORT, String.valueOf(streamPortNumber));
+            props.put(DPIConstants.PARAM_STREAM_TOKEN, streamToken);
             props.put("startTime", new Date().toString());
             ConfigUtils.storeProperties(out, props);
         }
@@ -23,8 +23,10 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.dpi.model.DPIConstants;
 import org.jkiss.dbeaver.dpi.model.DPIContext;
 import org.jkiss.dbeaver.dpi.model.DPIController;
+import org.jkiss.dbeaver.dpi.model.DPIMethodCall;
 import org.jkiss.dbeaver.dpi.model.DPISession;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
@@ -38,9 +40,7 @@ import org.jkiss.utils.rest.RestServer;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.*;
 
 public class DPIControllerImpl implements DPIController {
 
@@ -136,6 +136,21 @@ public class DPIControllerImpl implements DPIController {
         throw new DBException("Method '" + method + "' not found in DPI object '" + objectId + "'");
     }
 
+    @Override
+    public synchronized Object callMethods(@NotNull DPIMethodCall[] calls) {
+        List<Map<String, Object>> results = new ArrayList<>(calls.length);
+        for (DPIMethodCall call : calls) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            try {
+                result.put(DPIConstants.ATTR_CALL_RESULT, callMethod(call.getObject(), call.getMethod(), call.getArgs()));
+            } catch (DBException e) {
+                result.put(DPIConstants.ATTR_CALL_ERROR, e.getMessage());
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
     private Object invokeObjectMethod(Object object, Method method, Object[] args) throws DBException {
         try {
             log.debug("DPI Server: invoke DPI method " + method + " on " + object.getClass());
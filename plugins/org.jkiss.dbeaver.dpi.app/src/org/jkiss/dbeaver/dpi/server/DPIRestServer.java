@@ -31,6 +31,7 @@ public class DPIRestServer {
     private static final Log log = Log.getLog(DPIRestServer.class);
 
     private final RestServer<?> restServer;
+    private final DPIStreamServer streamServer;
 
     public DPIRestServer(DBPApplication application, int portNumber) throws IOException {
         DPIContext dpiContext = new DPIContext(new LoggingProgressMonitor(log), application);
@@ -43,11 +44,30 @@ public class DPIRestServer {
             .setGson(dpiContext.getGson())
             .create();
         dpiController.setServer(restServer);
+        streamServer = new DPIStreamServer(dpiContext);
+    }
+
+    /**
+     * Port of result set streaming server
+     */
+    public int getStreamPort() {
+        return streamServer.getPort();
+    }
+
+    /**
+     * Access token of result set streaming server
+     */
+    public String getStreamToken() {
+        return streamServer.getToken();
     }
 
     public void join() {
-        while (restServer.isRunning()) {
-            RuntimeUtils.pause(100);
+        try {
+            while (restServer.isRunning()) {
+                RuntimeUtils.pause(100);
+            }
+        } finally {
+            streamServer.stop();
         }
     }
 
@@ -0,0 +1,336 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.dpi.server;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.dpi.model.DPIContext;
+import org.jkiss.dbeaver.dpi.model.DPIStreamProtocol;
+import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams result sets registered in DPI context to the client in binary frames.
+ * See {@link DPIStreamProtocol} for the protocol description.
+ *
+ * Stream requests must contain the access token (see {@link #getToken()}), so only the process which
+ * started the server can open streams. Once the stream is opened, the result set is owned by the stream thread:
+ * it is read and closed by this thread, so client must not call result set methods via controller.
+ */
+public class DPIStreamServer {
+
+    private static final Log log = Log.getLog(DPIStreamServer.class);
+
+    private final DPIContext context;
+    private final ServerSocket serverSocket;
+    private final String token = UUID.randomUUID().toString();
+    private final ExecutorService streamExecutor;
+    private volatile boolean running = true;
+
+    public DPIStreamServer(@NotNull DPIContext context) throws IOException {
+        this.context = context;
+        // Ephemeral port on loopback interface only
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.streamExecutor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "DPI result set stream " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Thread acceptThread = new Thread(this::acceptConnections, "DPI stream server");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Access token which client sends in the stream open request
+     */
+    @NotNull
+    public String getToken() {
+        return token;
+    }
+
+    public void stop() {
+        running = false;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            log.debug(e);
+        }
+        streamExecutor.shutdownNow();
+    }
+
+    private void acceptConnections() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                streamExecutor.execute(() -> serveConnection(socket));
+            } catch (IOException e) {
+                if (running) {
+                    log.debug("Error accepting DPI stream connection", e);
+                }
+            }
+        }
+    }
+
+    private void serveConnection(Socket socket) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), DPIStreamProtocol.MAX_BATCH_BYTES)))
+        {
+            if (in.readInt() != DPIStreamProtocol.MAGIC || in.readByte() != DPIStreamProtocol.REQUEST_OPEN) {
+                log.debug("Bad DPI stream request");
+                return;
+            }
+            String requestToken = DPIStreamProtocol.readString(in);
+            if (requestToken == null ||
+                !MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8), requestToken.getBytes(StandardCharsets.UTF_8))) {
+                log.debug("Unauthorized DPI stream request");
+                return;
+            }
+            String resultSetId = DPIStreamProtocol.readString(in);
+            long maxRows = in.readLong();
+            int window = in.readInt();
+            Object object = context.getObject(resultSetId);
+            if (!(object instanceof DBCResultSet)) {
+                out.writeByte(DPIStreamProtocol.FRAME_ERROR);
+                DPIStreamProtocol.writeString(out, "DPI result set '" + resultSetId + "' not found");
+                out.flush();
+                return;
+            }
+            DBCResultSet resultSet = (DBCResultSet) object;
+            try {
+                new ResultSetStreamer(resultSet, in, out, maxRows, window).stream();
+            } catch (DBCException e) {
+                out.writeByte(DPIStreamProtocol.FRAME_ERROR);
+                DPIStreamProtocol.writeString(out, e.getMessage());
+                out.flush();
+            } finally {
+                // Result set is closed by the stream thread, so it is never closed while a row is read
+                try {
+                    resultSet.close();
+                } catch (Throwable e) {
+                    log.debug("Error closing streamed result set", e);
+                }
+            }
+        } catch (SocketException | EOFException e) {
+            // Client closed connection
+        } catch (IOException e) {
+            log.debug("DPI stream error", e);
+        }
+    }
+
+    private static class ResultSetStreamer {
+        private final DBCResultSet resultSet;
+        private final DataInputStream in;
+        private final DataOutputStream out;
+        private final long maxRows;
+
+        private final ByteArrayOutputStream batchBuffer = new ByteArrayOutputStream(DPIStreamProtocol.MAX_BATCH_BYTES);
+        private final DataOutputStream batchOut = new DataOutputStream(batchBuffer);
+        private int batchRows;
+        private long credit;
+        private boolean closed;
+
+        ResultSetStreamer(DBCResultSet resultSet, DataInputStream in, DataOutputStream out, long maxRows, int window) {
+            this.resultSet = resultSet;
+            this.in = in;
+            this.out = out;
+            this.maxRows = maxRows;
+            this.credit = window <= 0 ? DPIStreamProtocol.DEFAULT_WINDOW_SIZE : window;
+        }
+
+        void stream() throws DBCException, IOException {
+            List<DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
+            writeHeader(attributes);
+            int columnCount = attributes.size();
+
+            long rowCount = 0;
+            while ((maxRows <= 0 || rowCount < maxRows) && resultSet.nextRow()) {
+                for (int i = 0; i < columnCount; i++) {
+                    writeValue(resultSet.getAttributeValue(i));
+                }
+                batchRows++;
+                rowCount++;
+                credit--;
+                if (batchRows >= DPIStreamProtocol.MAX_BATCH_ROWS || batchBuffer.size() >= DPIStreamProtocol.MAX_BATCH_BYTES) {
+                    flushBatch();
+                }
+                if (credit <= 0) {
+                    flushBatch();
+                    waitForCredit();
+                }
+                if (closed) {
+                    return;
+                }
+            }
+            flushBatch();
+            out.writeByte(DPIStreamProtocol.FRAME_END);
+            out.writeLong(rowCount);
+            out.flush();
+            // Wait for client close to not break its last read
+            while (!closed) {
+                readClientFrame();
+            }
+        }
+
+        private void writeHeader(List<DBCAttributeMetaData> attributes) throws IOException {
+            out.writeByte(DPIStreamProtocol.FRAME_HEADER);
+            out.writeInt(attributes.size());
+            for (DBCAttributeMetaData attr : attributes) {
+                DPIStreamProtocol.writeString(out, attr.getName());
+                DPIStreamProtocol.writeString(out, attr.getLabel());
+                DPIStreamProtocol.writeString(out, attr.getTypeName());
+                out.writeInt(attr.getTypeID());
+                out.writeByte(attr.getDataKind().ordinal());
+            }
+            out.flush();
+        }
+
+        private void writeValue(Object value) throws DBCException, IOException {
+            if (DPIStreamProtocol.writeValue(batchOut, value)) {
+                return;
+            }
+            // LOB chunks go to the output stream directly, before the rows batch
+            try (LobChunkOutputStream lobOut = new LobChunkOutputStream(out)) {
+                if (value instanceof Blob) {
+                    batchOut.writeByte(DPIStreamProtocol.VALUE_BLOB);
+                    try (InputStream lobStream = ((Blob) value).getBinaryStream()) {
+                        lobStream.transferTo(lobOut);
+                    }
+                } else {
+                    batchOut.writeByte(DPIStreamProtocol.VALUE_CLOB);
+                    Writer writer = new OutputStreamWriter(lobOut, StandardCharsets.UTF_8);
+                    try (Reader lobReader = ((Clob) value).getCharacterStream()) {
+                        lobReader.transferTo(writer);
+                    }
+                    writer.flush();
+                }
+            } catch (SQLException e) {
+                throw new DBCException("Error reading LOB value", e);
+            }
+        }
+
+        private void flushBatch() throws IOException {
+            if (batchRows > 0) {
+                out.writeByte(DPIStreamProtocol.FRAME_ROWS);
+                out.writeInt(batchRows);
+                out.writeInt(batchBuffer.size());
+                batchBuffer.writeTo(out);
+                batchBuffer.reset();
+                batchRows = 0;
+                out.flush();
+            }
+            // Consume credits sent by client meanwhile
+            while (!closed && in.available() > 0) {
+                readClientFrame();
+            }
+        }
+
+        private void waitForCredit() throws IOException {
+            while (!closed && credit <= 0) {
+                readClientFrame();
+            }
+        }
+
+        private void readClientFrame() throws IOException {
+            byte frameType = in.readByte();
+            switch (frameType) {
+                case DPIStreamProtocol.FRAME_CREDIT:
+                    credit += in.readInt();
+                    break;
+                case DPIStreamProtocol.FRAME_CLOSE:
+                    closed = true;
+                    break;
+                default:
+                    throw new IOException("Unexpected DPI stream frame: " + frameType);
+            }
+        }
+    }
+
+    /**
+     * Splits LOB content in {@link DPIStreamProtocol#FRAME_LOB} frames.
+     * Each frame: chunk length, chunk bytes, last chunk flag.
+     */
+    private static class LobChunkOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte[] chunk = new byte[DPIStreamProtocol.LOB_CHUNK_SIZE];
+        private int chunkLength;
+
+        LobChunkOutputStream(DataOutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (chunkLength == chunk.length) {
+                writeChunk(false);
+            }
+            chunk[chunkLength++] = (byte) b;
+        }
+
+        @Override
+        public void write(@NotNull byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (chunkLength == chunk.length) {
+                    writeChunk(false);
+                }
+                int count = Math.min(len, chunk.length - chunkLength);
+                System.arraycopy(b, off, chunk, chunkLength, count);
+                chunkLength += count;
+                off += count;
+                len -= count;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            writeChunk(true);
+        }
+
+        private void writeChunk(boolean last) throws IOException {
+            out.writeByte(DPIStreamProtocol.FRAME_LOB);
+            out.writeInt(chunkLength);
+            out.write(chunk, 0, chunkLength);
+            out.writeBoolean(last);
+            chunkLength = 0;
+        }
+    }
+
+}
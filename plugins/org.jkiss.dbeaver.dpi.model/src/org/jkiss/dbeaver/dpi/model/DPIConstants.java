@@ -23,5 +23,11 @@ public class DPIConstants {
 
 
     public static final String PARAM_SERVER_PORT = "serverPort";
+    public static final String PARAM_STREAM_PORT = "streamPort";
+    public static final String PARAM_STREAM_TOKEN = "streamToken";
     public static final String SERVER_INI_FILE = "server.ini";
+
+    // Batch call result attributes
+    public static final String ATTR_CALL_RESULT = "result";
+    public static final String ATTR_CALL_ERROR = "error";
 }
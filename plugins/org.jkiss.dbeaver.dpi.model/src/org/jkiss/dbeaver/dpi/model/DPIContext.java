@@ -40,6 +40,8 @@ public class DPIContext {
     private final Object rootObject;
     private final Gson gson;
     private DPIController dpiController;
+    private int streamPort;
+    private String streamToken;
 
     public DPIContext(@NotNull DBRProgressMonitor monitor, @NotNull Object rootObject) {
         this.monitor = monitor;
@@ -59,6 +61,28 @@ public class DPIContext {
         this.dpiController = dpiController;
     }
 
+    /**
+     * Port of the server result set streaming channel (see {@link DPIStreamProtocol}). Zero if streaming is not supported.
+     */
+    public int getStreamPort() {
+        return streamPort;
+    }
+
+    public void setStreamPort(int streamPort) {
+        this.streamPort = streamPort;
+    }
+
+    /**
+     * Access token of the streaming channel
+     */
+    public String getStreamToken() {
+        return streamToken;
+    }
+
+    public void setStreamToken(String streamToken) {
+        this.streamToken = streamToken;
+    }
+
     public Object getObject(String id) {
         return objectIdCache.get(id);
     }
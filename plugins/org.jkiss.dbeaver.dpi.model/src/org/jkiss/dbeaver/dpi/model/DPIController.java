@@ -57,4 +57,13 @@ public interface DPIController extends AutoCloseable {
         @RequestParameter("object") @NotNull String objectId,
         @RequestParameter("method") @NotNull String method,
         @RequestParameter("args") @Nullable Object[] args) throws DBException;
+
+    /**
+     * Invokes several methods in one request.
+     * Returns list of call results, each result is a map with {@link DPIConstants#ATTR_CALL_RESULT}
+     * or {@link DPIConstants#ATTR_CALL_ERROR} attribute. Failed call doesn't break other calls.
+     */
+    @RequestMapping
+    Object callMethods(
+        @RequestParameter("calls") @NotNull DPIMethodCall[] calls) throws DBException;
 }
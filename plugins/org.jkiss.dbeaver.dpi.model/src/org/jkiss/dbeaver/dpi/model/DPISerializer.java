@@ -385,14 +385,17 @@ public class DPISerializer {
                         jsonReader.beginObject();
                         while (jsonReader.peek() == JsonToken.NAME) {
                             String propName = jsonReader.nextName();
-                            Object propValue = null;
+                            Object propValue;
                             switch (jsonReader.peek()) {
                                 case BOOLEAN: propValue = jsonReader.nextBoolean(); break;
-                                case NUMBER: propValue = jsonReader.nextLong(); break;
+                                case NUMBER: propValue = readNumber(jsonReader); break;
                                 case STRING: propValue = jsonReader.nextString(); break;
+                                case NULL: jsonReader.nextNull(); propValue = null; break;
                                 default:
+                                    // Value is not prefetched, it will be read on demand
                                     log.debug("Skip property '" + propName + "' value");
-                                    jsonReader.skipValue(); break;
+                                    jsonReader.skipValue();
+                                    continue;
                             }
                             if (objectProperties == null) {
                                 objectProperties = new LinkedHashMap<>();
@@ -447,6 +450,15 @@ public class DPISerializer {
             return context.getClassLoader();
         }
 
+        private static Number readNumber(JsonReader jsonReader) throws IOException {
+            String strValue = jsonReader.nextString();
+            try {
+                return Long.parseLong(strValue);
+            } catch (NumberFormatException e) {
+                return Double.parseDouble(strValue);
+            }
+        }
+
     }
 
 }
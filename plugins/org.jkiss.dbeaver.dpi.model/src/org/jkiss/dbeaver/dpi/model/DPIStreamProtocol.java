@@ -0,0 +1,201 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.dpi.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary result set streaming protocol.
+ *
+ * Result set rows are transferred over a separate loopback socket (see {@link DPIConstants#PARAM_STREAM_PORT}).
+ * Client opens stream with {@link #REQUEST_OPEN} request: access token (see {@link DPIConstants#PARAM_STREAM_TOKEN}),
+ * result set object id, max rows and flow control window. Requests with a wrong token are rejected.
+ * Server replies with {@link #FRAME_HEADER} and then sends {@link #FRAME_ROWS} batches until the window is exhausted.
+ * Client grants more rows with {@link #FRAME_CREDIT} or stops the stream with {@link #FRAME_CLOSE}.
+ * Stream ends with {@link #FRAME_END} or {@link #FRAME_ERROR}. Server closes the result set when the stream is closed.
+ *
+ * Each row value is a type tag followed by the value. Strings are length-prefixed UTF-8.
+ * LOB values are sent as {@link #FRAME_LOB} chunks right before the rows batch which refers to them
+ * (with {@link #VALUE_BLOB}/{@link #VALUE_CLOB} tag), in the same order as they appear in rows.
+ * LOBs are read completely and values of other unsupported types are sent as strings ({@link #VALUE_OTHER}).
+ */
+public class DPIStreamProtocol {
+
+    public static final int MAGIC = 0x44504953;
+
+    // Client requests
+    public static final byte REQUEST_OPEN = 'O';
+    public static final byte FRAME_CREDIT = 'C';
+    public static final byte FRAME_CLOSE = 'Q';
+
+    // Server frames
+    public static final byte FRAME_HEADER = 'H';
+    public static final byte FRAME_ROWS = 'R';
+    public static final byte FRAME_LOB = 'L';
+    public static final byte FRAME_END = 'E';
+    public static final byte FRAME_ERROR = 'X';
+
+    // Value tags
+    public static final byte VALUE_NULL = 0;
+    public static final byte VALUE_BOOLEAN = 1;
+    public static final byte VALUE_INT = 2;
+    public static final byte VALUE_LONG = 3;
+    public static final byte VALUE_FLOAT = 4;
+    public static final byte VALUE_DOUBLE = 5;
+    public static final byte VALUE_DECIMAL = 6;
+    public static final byte VALUE_BIGINT = 7;
+    public static final byte VALUE_STRING = 8;
+    public static final byte VALUE_BYTES = 9;
+    public static final byte VALUE_DATE = 10;
+    public static final byte VALUE_TIME = 11;
+    public static final byte VALUE_TIMESTAMP = 12;
+    public static final byte VALUE_BLOB = 13;
+    public static final byte VALUE_CLOB = 14;
+    public static final byte VALUE_OTHER = 15;
+
+    public static final int DEFAULT_WINDOW_SIZE = 1000;
+    public static final int MAX_BATCH_ROWS = 200;
+    public static final int MAX_BATCH_BYTES = 256 * 1024;
+    public static final int LOB_CHUNK_SIZE = 64 * 1024;
+
+    public static void writeString(@NotNull DataOutputStream out, @Nullable String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Nullable
+    public static String readString(@NotNull DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes tagged scalar value. Returns false if the value is a LOB and must be streamed separately.
+     */
+    public static boolean writeValue(@NotNull DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(VALUE_NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(VALUE_INT);
+            out.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            out.writeByte(VALUE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(VALUE_DECIMAL);
+            writeString(out, ((BigDecimal) value).toString());
+        } else if (value instanceof BigInteger) {
+            out.writeByte(VALUE_BIGINT);
+            writeString(out, value.toString());
+        } else if (value instanceof String) {
+            out.writeByte(VALUE_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof byte[]) {
+            out.writeByte(VALUE_BYTES);
+            out.writeInt(((byte[]) value).length);
+            out.write((byte[]) value);
+        } else if (value instanceof java.sql.Timestamp) {
+            out.writeByte(VALUE_TIMESTAMP);
+            out.writeLong(((java.sql.Timestamp) value).getTime());
+            out.writeInt(((java.sql.Timestamp) value).getNanos());
+        } else if (value instanceof java.sql.Time) {
+            out.writeByte(VALUE_TIME);
+            out.writeLong(((java.sql.Time) value).getTime());
+        } else if (value instanceof java.util.Date) {
+            out.writeByte(VALUE_DATE);
+            out.writeLong(((java.util.Date) value).getTime());
+        } else if (value instanceof java.sql.Blob || value instanceof java.sql.Clob) {
+            return false;
+        } else {
+            out.writeByte(VALUE_OTHER);
+            writeString(out, value.toString());
+        }
+        return true;
+    }
+
+    /**
+     * Reads tagged scalar value. LOB tags must be handled by caller.
+     */
+    @Nullable
+    public static Object readValue(@NotNull DataInputStream in, byte tag) throws IOException {
+        switch (tag) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_BOOLEAN:
+                return in.readBoolean();
+            case VALUE_INT:
+                return in.readInt();
+            case VALUE_LONG:
+                return in.readLong();
+            case VALUE_FLOAT:
+                return in.readFloat();
+            case VALUE_DOUBLE:
+                return in.readDouble();
+            case VALUE_DECIMAL:
+                return new BigDecimal(readString(in));
+            case VALUE_BIGINT:
+                return new BigInteger(readString(in));
+            case VALUE_STRING:
+            case VALUE_OTHER:
+                return readString(in);
+            case VALUE_BYTES: {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                return bytes;
+            }
+            case VALUE_DATE:
+                return new java.sql.Date(in.readLong());
+            case VALUE_TIME:
+                return new java.sql.Time(in.readLong());
+            case VALUE_TIMESTAMP: {
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(in.readLong());
+                timestamp.setNanos(in.readInt());
+                return timestamp;
+            }
+            default:
+                throw new IOException("Unsupported value tag: " + tag);
+        }
+    }
+
+}
@@ -16,16 +16,24 @@
  */
 package org.jkiss.dbeaver.dpi.model.client;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.dpi.model.DPIConstants;
 import org.jkiss.dbeaver.dpi.model.DPIContext;
 import org.jkiss.dbeaver.dpi.model.DPIController;
+import org.jkiss.dbeaver.dpi.model.DPIMethodCall;
 import org.jkiss.dbeaver.dpi.model.DPISerializer;
 import org.jkiss.dbeaver.model.DPIClientObject;
 import org.jkiss.dbeaver.model.DPIContainer;
 import org.jkiss.dbeaver.model.DPIElement;
 import org.jkiss.dbeaver.model.DPIFactory;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.utils.ArrayUtils;
@@ -33,16 +41,19 @@ import org.jkiss.utils.BeanUtils;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.rest.RestProxy;
 
+import java.io.IOException;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 public class DPIClientProxy implements DPIClientObject, InvocationHandler {
 
+    private static final Log log = Log.getLog(DPIClientProxy.class);
+
     public static final Object SELF_REFERENCE = new Object();
+    private static final Object NO_VALUE = new Object();
 
     private final DPIContext context;
     private final String objectId;
@@ -53,6 +64,10 @@ public class DPIClientProxy implements DPIClientObject, InvocationHandler {
     private Map<String, Object> objectContainers;
     private Map<String, Object> objectProperties;
     private Map<Class<?>, Object> factoryObjects;
+    private boolean propertiesPrefetched;
+    // Rows of remote result set are read through the streaming channel. JSON calls are used if stream can't be opened.
+    private DPIResultSetReader rowStream;
+    private boolean rowStreamDisabled;
 
     public DPIClientProxy(
         @NotNull DPIContext context,
@@ -96,6 +111,47 @@ public class DPIClientProxy implements DPIClientObject, InvocationHandler {
         return objectToString;
     }
 
+    /**
+     * Reads result set rows from the streaming channel.
+     * Returns NO_VALUE if method must be called remotely.
+     * Streamed values of LOBs and types unknown to the stream protocol differ from remote call values
+     * (see {@link DPIResultSetReader#getValue(int)}).
+     * Streamed result set is closed by the server when the stream is closed, so it is not closed remotely.
+     */
+    private Object invokeResultSetStream(Method method, Object[] args) throws DBCException {
+        String methodName = method.getName();
+        int paramCount = method.getParameterCount();
+        if (methodName.equals("nextRow") && paramCount == 0) {
+            if (rowStream == null && !rowStreamDisabled) {
+                rowStreamDisabled = true;
+                if (context.getStreamPort() > 0 && context.getStreamToken() != null) {
+                    try {
+                        rowStream = new DPIResultSetReader(context.getStreamPort(), context.getStreamToken(), objectId, 0, 0);
+                    } catch (IOException | DBCException e) {
+                        log.debug("Can't open DPI result set stream, fallback to JSON calls: " + e.getMessage());
+                    }
+                }
+            }
+            return rowStream == null ? NO_VALUE : rowStream.nextRow();
+        } else if (methodName.equals("getAttributeValue") && paramCount == 1 && rowStream != null) {
+            if (args[0] instanceof Integer) {
+                return rowStream.getValue((Integer) args[0]);
+            }
+            List<DPIResultSetReader.Column> columns = rowStream.getColumns();
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).label().equals(args[0]) || columns.get(i).name().equals(args[0])) {
+                    return rowStream.getValue(i);
+                }
+            }
+            throw new DBCException("Attribute '" + args[0] + "' not found in result set");
+        } else if (methodName.equals("close") && paramCount == 0 && rowStream != null) {
+            rowStream.close();
+            rowStream = null;
+            return null;
+        }
+        return NO_VALUE;
+    }
+
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         if (method.getDeclaringClass() == Object.class) {
@@ -114,6 +170,13 @@ public class DPIClientProxy implements DPIClientObject, InvocationHandler {
             return null;
         }
 
+        if (objectInstance instanceof DBCResultSet) {
+            Object result = invokeResultSetStream(method, args);
+            if (result != NO_VALUE) {
+                return result;
+            }
+        }
+
         DPIContainer containerAnno = DPISerializer.getMethodAnno(method, DPIContainer.class);
         if (containerAnno != null) {
             if (containerAnno.root()) {
@@ -139,9 +202,15 @@ public class DPIClientProxy implements DPIClientObject, InvocationHandler {
         }
 
         Property propAnnotation = method.getAnnotation(Property.class);
-        if (propAnnotation != null && objectProperties != null) {
-            Object result = objectProperties.get(getPropertyKey(method, propAnnotation));
-            if (result != null) {
+        boolean isCachedProperty = propAnnotation != null && isImmutableProperty(propAnnotation);
+        if (isCachedProperty) {
+            Object result = getCachedProperty(method, propAnnotation);
+            if (result == NO_VALUE && !propertiesPrefetched && method.getParameterCount() == 0) {
+                // Read all simple properties in one call
+                prefetchProperties();
+                result = getCachedProperty(method, propAnnotation);
+            }
+            if (result != NO_VALUE) {
                 return result;
             }
         }
@@ -175,7 +244,7 @@ public class DPIClientProxy implements DPIClientObject, InvocationHandler {
         }
         Object result = controller.callMethod(this.objectId, method.getName(), args);
 
-        if (propAnnotation != null) {
+        if (isCachedProperty) {
             // Cache property value
             if (objectProperties == null) {
                 objectProperties = new HashMap<>();
@@ -202,6 +271,122 @@ public class DPIClientProxy implements DPIClientObject, InvocationHandler {
         return result;
     }
 
+    /**
+     * Returns cached property value converted to the getter return type
+     * or {@link #NO_VALUE} if value isn't cached.
+     */
+    private Object getCachedProperty(Method method, Property propAnnotation) {
+        String propKey = getPropertyKey(method, propAnnotation);
+        if (objectProperties == null || !objectProperties.containsKey(propKey)) {
+            return NO_VALUE;
+        }
+        return convertPropertyValue(objectProperties.get(propKey), method.getReturnType());
+    }
+
+    /**
+     * Reads values of all immutable non-expensive properties which weren't transferred with the object.
+     * All getters are invoked in a single batch call.
+     */
+    private void prefetchProperties() throws DBException {
+        propertiesPrefetched = true;
+        DPIController controller = context.getDpiController();
+        if (controller == null) {
+            return;
+        }
+        List<Method> getters = new ArrayList<>();
+        Set<String> propKeys = new HashSet<>();
+        for (Class<?> theInterface : objectInstance.getClass().getInterfaces()) {
+            for (Method getter : theInterface.getMethods()) {
+                Property getterProp = getter.getAnnotation(Property.class);
+                if (getterProp == null || getterProp.expensive() || !isImmutableProperty(getterProp) || getter.getParameterCount() > 0) {
+                    continue;
+                }
+                String propKey = getPropertyKey(getter, getterProp);
+                if ((objectProperties != null && objectProperties.containsKey(propKey)) || !propKeys.add(propKey)) {
+                    continue;
+                }
+                getters.add(getter);
+            }
+        }
+        if (getters.size() < 2) {
+            // Nothing to batch
+            return;
+        }
+        DPIMethodCall[] calls = new DPIMethodCall[getters.size()];
+        for (int i = 0; i < calls.length; i++) {
+            calls[i] = new DPIMethodCall(objectId, getters.get(i).getName(), null);
+        }
+        if (controller instanceof RestProxy) {
+            // Results are deserialized one by one according to getters return types
+            ((RestProxy) controller).setNextCallResultType(JsonArray.class);
+        }
+        Object batchResult = controller.callMethods(calls);
+        if (!(batchResult instanceof JsonArray)) {
+            return;
+        }
+        JsonArray results = (JsonArray) batchResult;
+        Gson gson = context.getGson();
+        if (objectProperties == null) {
+            objectProperties = new HashMap<>();
+        }
+        for (int i = 0; i < calls.length && i < results.size(); i++) {
+            JsonElement callResult = results.get(i);
+            if (!callResult.isJsonObject() || callResult.getAsJsonObject().has(DPIConstants.ATTR_CALL_ERROR)) {
+                continue;
+            }
+            Method getter = getters.get(i);
+            JsonElement value = callResult.getAsJsonObject().get(DPIConstants.ATTR_CALL_RESULT);
+            Object propValue;
+            try {
+                propValue = value == null || value.isJsonNull() ? null : gson.fromJson(value, getter.getGenericReturnType());
+            } catch (RuntimeException e) {
+                // Gson can't build some return types (e.g. interfaces). Property will be read by a remote call.
+                log.debug("Can't prefetch property '" + getter.getName() + "': " + e.getMessage());
+                continue;
+            }
+            objectProperties.put(getPropertyKey(getter, getter.getAnnotation(Property.class)), propValue);
+        }
+    }
+
+    private static boolean isImmutableProperty(Property propAnnotation) {
+        return !propAnnotation.editable() && !propAnnotation.updatable();
+    }
+
+    private static Object convertPropertyValue(Object value, Class<?> type) {
+        if (value == null) {
+            return type.isPrimitive() ? NO_VALUE : null;
+        }
+        if (type.isInstance(value)) {
+            return value;
+        }
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            if (type == Integer.TYPE || type == Integer.class) {
+                return number.intValue();
+            } else if (type == Long.TYPE || type == Long.class) {
+                return number.longValue();
+            } else if (type == Short.TYPE || type == Short.class) {
+                return number.shortValue();
+            } else if (type == Byte.TYPE || type == Byte.class) {
+                return number.byteValue();
+            } else if (type == Double.TYPE || type == Double.class) {
+                return number.doubleValue();
+            } else if (type == Float.TYPE || type == Float.class) {
+                return number.floatValue();
+            }
+        } else if (value instanceof Boolean && type == Boolean.TYPE) {
+            return value;
+        } else if (value instanceof String && type.isEnum()) {
+            for (Object constant : type.getEnumConstants()) {
+                if (((Enum<?>) constant).name().equals(value)) {
+                    return constant;
+                }
+            }
+        }
+        // Value of unexpected type (e.g. formatted by server), read it from server
+        return NO_VALUE;
+    }
+
     private static String getPropertyKey(Method method, Property propAnnotation) {
         String propId = propAnnotation.id();
         if (CommonUtils.isEmpty(propId)) {
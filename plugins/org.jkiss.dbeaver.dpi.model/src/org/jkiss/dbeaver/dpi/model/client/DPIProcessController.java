@@ -47,6 +47,8 @@ public class DPIProcessController implements AutoCloseable {
     public static final int PROCESS_PAWN_TIMEOUT = 10000;
     private DPIController dpiRestClient;
     private int dpiServerPort;
+    private int dpiStreamPort;
+    private String dpiStreamToken;
     private final Process process;
 
 
@@ -77,6 +79,8 @@ public class DPIProcessController implements AutoCloseable {
             if (Files.exists(serverConfigFile)) {
                 Map<String, String> props = ConfigUtils.readPropertiesFromFile(serverConfigFile);
                 dpiServerPort = CommonUtils.toInt(props.get(DPIConstants.PARAM_SERVER_PORT));
+                dpiStreamPort = CommonUtils.toInt(props.get(DPIConstants.PARAM_STREAM_PORT));
+                dpiStreamToken = props.get(DPIConstants.PARAM_STREAM_TOKEN);
                 if (dpiServerPort == 0) {
                     // Maybe it was incomplete config file
                     continue;
@@ -108,6 +112,8 @@ public class DPIProcessController implements AutoCloseable {
             throw new IOException("Error connecting to DPI Server", e);
         }
         dpiContext.setController(dpiRestClient);
+        dpiContext.setStreamPort(dpiStreamPort);
+        dpiContext.setStreamToken(dpiStreamToken);
     }
 
     private void terminateChildProcess() {
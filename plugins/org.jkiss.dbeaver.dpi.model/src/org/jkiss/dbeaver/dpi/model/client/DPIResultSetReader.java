@@ -0,0 +1,230 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.dpi.model.client;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.dpi.model.DPIStreamProtocol;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.exec.DBCException;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Reads result set rows streamed by DPI server.
+ * See {@link DPIStreamProtocol} for the protocol description.
+ *
+ * Rows are read batch by batch. More rows are requested from the server when half of the window is consumed,
+ * so the server prepares the next batches while client processes the current one.
+ */
+public class DPIResultSetReader implements AutoCloseable {
+
+    public record Column(String name, String label, String typeName, int typeId, DBPDataKind dataKind) {
+    }
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final int window;
+    private final List<Column> columns;
+
+    private final Deque<byte[]> lobValues = new ArrayDeque<>();
+    private ByteArrayOutputStream lobBuffer;
+
+    private DataInputStream batchIn;
+    private int batchRowsLeft;
+    private int consumedRows;
+    private Object[] currentRow;
+    private boolean finished;
+
+    DPIResultSetReader(int port, @NotNull String token, @NotNull String resultSetId, long maxRows, int window) throws IOException, DBCException {
+        this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        this.window = window <= 0 ? DPIStreamProtocol.DEFAULT_WINDOW_SIZE : window;
+        try {
+            socket.setTcpNoDelay(true);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), DPIStreamProtocol.MAX_BATCH_BYTES));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            out.writeInt(DPIStreamProtocol.MAGIC);
+            out.writeByte(DPIStreamProtocol.REQUEST_OPEN);
+            DPIStreamProtocol.writeString(out, token);
+            DPIStreamProtocol.writeString(out, resultSetId);
+            out.writeLong(maxRows);
+            out.writeInt(this.window);
+            out.flush();
+
+            byte frameType = in.readByte();
+            if (frameType == DPIStreamProtocol.FRAME_ERROR) {
+                throw new DBCException(DPIStreamProtocol.readString(in));
+            } else if (frameType != DPIStreamProtocol.FRAME_HEADER) {
+                throw new IOException("Unexpected DPI stream frame: " + frameType);
+            }
+            this.columns = readHeader();
+        } catch (IOException | DBCException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    @NotNull
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Moves to the next row. Returns false if there are no more rows.
+     */
+    public boolean nextRow() throws DBCException {
+        if (finished) {
+            return false;
+        }
+        try {
+            while (batchRowsLeft == 0) {
+                if (!readFrame()) {
+                    finished = true;
+                    currentRow = null;
+                    return false;
+                }
+            }
+            Object[] row = new Object[columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                byte tag = batchIn.readByte();
+                if (tag == DPIStreamProtocol.VALUE_BLOB) {
+                    row[i] = lobValues.poll();
+                } else if (tag == DPIStreamProtocol.VALUE_CLOB) {
+                    byte[] lobData = lobValues.poll();
+                    row[i] = lobData == null ? null : new String(lobData, StandardCharsets.UTF_8);
+                } else {
+                    row[i] = DPIStreamProtocol.readValue(batchIn, tag);
+                }
+            }
+            batchRowsLeft--;
+            currentRow = row;
+
+            consumedRows++;
+            if (consumedRows >= window / 2) {
+                out.writeByte(DPIStreamProtocol.FRAME_CREDIT);
+                out.writeInt(consumedRows);
+                out.flush();
+                consumedRows = 0;
+            }
+            return true;
+        } catch (IOException e) {
+            throw new DBCException("Error reading DPI result set stream", e);
+        }
+    }
+
+    /**
+     * Returns value of the current row. Values may differ from ones returned by remote calls:
+     * LOBs are returned as byte arrays (binary) or strings (text), values of types not supported
+     * by {@link DPIStreamProtocol} are returned as strings.
+     */
+    @Nullable
+    public Object getValue(int index) {
+        if (currentRow == null) {
+            throw new IllegalStateException("No current row");
+        }
+        return currentRow[index];
+    }
+
+    /**
+     * Closes the stream. Server closes the result set after that.
+     */
+    @Override
+    public void close() {
+        try {
+            if (!socket.isClosed()) {
+                out.writeByte(DPIStreamProtocol.FRAME_CLOSE);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // Server already closed the stream
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+
+    private List<Column> readHeader() throws IOException {
+        int columnCount = in.readInt();
+        List<Column> result = new ArrayList<>(columnCount);
+        DBPDataKind[] dataKinds = DBPDataKind.values();
+        for (int i = 0; i < columnCount; i++) {
+            String name = DPIStreamProtocol.readString(in);
+            String label = DPIStreamProtocol.readString(in);
+            String typeName = DPIStreamProtocol.readString(in);
+            int typeId = in.readInt();
+            int kind = in.readByte();
+            result.add(new Column(name, label, typeName, typeId, kind < dataKinds.length ? dataKinds[kind] : DBPDataKind.UNKNOWN));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Reads frames till the next rows batch. Returns false on the stream end.
+     */
+    private boolean readFrame() throws IOException, DBCException {
+        while (true) {
+            byte frameType = in.readByte();
+            switch (frameType) {
+                case DPIStreamProtocol.FRAME_ROWS: {
+                    batchRowsLeft = in.readInt();
+                    byte[] batch = new byte[in.readInt()];
+                    in.readFully(batch);
+                    batchIn = new DataInputStream(new ByteArrayInputStream(batch));
+                    return true;
+                }
+                case DPIStreamProtocol.FRAME_LOB:
+                    readLobChunk();
+                    break;
+                case DPIStreamProtocol.FRAME_END:
+                    in.readLong();
+                    return false;
+                case DPIStreamProtocol.FRAME_ERROR:
+                    throw new DBCException(DPIStreamProtocol.readString(in));
+                default:
+                    throw new IOException("Unexpected DPI stream frame: " + frameType);
+            }
+        }
+    }
+
+    private void readLobChunk() throws IOException {
+        if (lobBuffer == null) {
+            lobBuffer = new ByteArrayOutputStream();
+        }
+        byte[] chunk = new byte[in.readInt()];
+        in.readFully(chunk);
+        lobBuffer.write(chunk);
+        if (in.readBoolean()) {
+            // Value type is defined by the row tag, so text is decoded on row read
+            lobValues.add(lobBuffer.toByteArray());
+            lobBuffer = null;
+        }
+    }
+
+}
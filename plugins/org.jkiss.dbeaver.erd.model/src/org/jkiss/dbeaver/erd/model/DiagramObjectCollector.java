@@ -39,6 +39,10 @@ public class DiagramObjectCollector {
 
     private static final Log log = Log.getLog(DiagramObjectCollector.class);
 
+    // Container structure is read at once only if the diagram shows at least this share of its tables.
+    // Reading all attributes of a big schema for a few tables is slower than reading these tables separately.
+    private static final double PREFETCH_MIN_TABLES_SHARE = 0.2;
+
     private final ERDDiagram diagram;
     private final List<ERDEntity> erdEntities = new ArrayList<>();
     private boolean showViews;
@@ -57,7 +61,9 @@ public class DiagramObjectCollector {
         throws DBException
     {
         Set<DBSEntity> tables = new LinkedHashSet<>();
-        collectTables(monitor, roots, tables, settings, forceShowViews);
+        Set<DBSObjectContainer> cachedContainers = new HashSet<>();
+        collectTables(monitor, roots, tables, cachedContainers, settings, forceShowViews);
+        prefetchEntitiesStructure(monitor, tables, cachedContainers);
         return tables;
     }
 
@@ -69,6 +75,7 @@ public class DiagramObjectCollector {
         DBRProgressMonitor monitor,
         Collection<? extends DBSObject> roots,
         Set<DBSEntity> tables,
+        Set<DBSObjectContainer> cachedContainers,
         DiagramCollectSettings settings,
         boolean forceShowViews)
         throws DBException
@@ -86,7 +93,7 @@ public class DiagramObjectCollector {
             }
 
             if (root instanceof DBSFolder) {
-                collectTables(monitor, ((DBSFolder) root).getChildrenObjects(monitor), tables, settings, false);
+                collectTables(monitor, ((DBSFolder) root).getChildrenObjects(monitor), tables, cachedContainers, settings, false);
             } else if (root instanceof DBSEntity) {
                 if ((root instanceof DBSTablePartition && !showPartitions) || (DBUtils.isView((DBSEntity) root) && !(showViews || forceShowViews))) {
                     continue;
@@ -94,7 +101,7 @@ public class DiagramObjectCollector {
                 tables.add((DBSEntity) root);
             }
             if (root instanceof DBSObjectContainer) {
-                collectTables(monitor, (DBSObjectContainer) root, tables, showViews, showPartitions);
+                collectTables(monitor, (DBSObjectContainer) root, tables, cachedContainers, showViews, showPartitions);
             }
         }
     }
@@ -103,6 +110,7 @@ public class DiagramObjectCollector {
         DBRProgressMonitor monitor,
         DBSObjectContainer container,
         Set<DBSEntity> tables,
+        Set<DBSObjectContainer> cachedContainers,
         boolean showViews,
         boolean showPartitions)
         throws DBException
@@ -111,6 +119,7 @@ public class DiagramObjectCollector {
             return;
         }
         container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
+        cachedContainers.add(container);
         final Collection<? extends DBSObject> children = container.getChildren(monitor);
         if (!CommonUtils.isEmpty(children)) {
             Class<? extends DBSObject> childType = container.getPrimaryChildType(monitor);
@@ -134,10 +143,66 @@ public class DiagramObjectCollector {
 
                     tables.add(entity1);
                 } else if (entity instanceof DBSObjectContainer) {
-                    collectTables(monitor, (DBSObjectContainer) entity, tables, showViews, showPartitions);
+                    collectTables(monitor, (DBSObjectContainer) entity, tables, cachedContainers, showViews, showPartitions);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads attributes, constraints and associations of all entities of each container at once.
+     * Entity metadata is then read from the container caches instead of separate queries per entity.
+     */
+    private static void prefetchEntitiesStructure(
+        DBRProgressMonitor monitor,
+        Collection<DBSEntity> tables,
+        Set<DBSObjectContainer> cachedContainers)
+    {
+        Map<DBSObjectContainer, Integer> containerTables = new LinkedHashMap<>();
+        for (DBSEntity table : tables) {
+            DBSObject parent = table.getParentObject();
+            if (parent instanceof DBSObjectContainer && !cachedContainers.contains(parent)) {
+                containerTables.merge((DBSObjectContainer) parent, 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<DBSObjectContainer, Integer> entry : containerTables.entrySet()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            DBSObjectContainer container = entry.getKey();
+            if (!isPrefetchWorthIt(monitor, container, entry.getValue())) {
+                continue;
+            }
+            monitor.subTask("Read '" + container.getName() + "' structure");
+            try {
+                container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
+                cachedContainers.add(container);
+            } catch (DBException e) {
+                log.debug("Error reading '" + container.getName() + "' structure", e);
+            }
+        }
+    }
+
+    private static boolean isPrefetchWorthIt(DBRProgressMonitor monitor, DBSObjectContainer container, int selectedCount) {
+        if (selectedCount < 2) {
+            // Not worth reading the whole container for one table
+            return false;
+        }
+        int tableCount = 0;
+        try {
+            Collection<? extends DBSObject> children = container.getChildren(monitor);
+            if (children != null) {
+                for (DBSObject child : children) {
+                    if (child instanceof DBSEntity) {
+                        tableCount++;
+                    }
                 }
             }
+        } catch (DBException e) {
+            log.debug("Error reading '" + container.getName() + "' tables", e);
+            return false;
         }
+        return selectedCount >= tableCount * PREFETCH_MIN_TABLES_SHARE;
     }
 
     public void generateDiagramObjects(
@@ -148,6 +213,9 @@ public class DiagramObjectCollector {
     {
         Collection<DBSEntity> tables = collectTables(monitor, roots, settings, showViews);
         for (DBSEntity table : tables) {
+            if (monitor.isCanceled()) {
+                break;
+            }
             if (DBUtils.isHiddenObject(table)) {
                 // Skip hidden tables
                 continue;
@@ -311,12 +311,9 @@ public class ERDDiagram extends ERDObject<DBSObject> implements ERDContainer {
     }
 
     public boolean containsTable(DBSEntity table) {
-        for (ERDEntity erdEntity : entities) {
-            if (erdEntity.getObject() == table) {
-                return true;
-            }
+        synchronized (entities) {
+            return entityMap.containsKey(table);
         }
-        return false;
     }
 
     public Map<DBSEntity, ERDEntity> getEntityMap() {
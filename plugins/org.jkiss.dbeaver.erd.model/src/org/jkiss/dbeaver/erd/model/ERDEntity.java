@@ -31,6 +31,7 @@ import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSEntityAssociation;
 import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.dbeaver.model.struct.DBSEntityConstraint;
 import org.jkiss.dbeaver.model.struct.DBSEntityReferrer;
 import org.jkiss.dbeaver.model.virtual.DBVUtils;
 import org.jkiss.utils.CommonUtils;
@@ -52,7 +53,8 @@ public class ERDEntity extends ERDElement<DBSEntity> {
     private String alias;
     private List<ERDEntityAttribute> attributes;
 
-    private List<DBSEntityAssociation> unresolvedKeys;
+    // Unresolved associations and their referenced entities
+    private Map<DBSEntityAssociation, DBSEntity> unresolvedKeys;
 
     private boolean primary = false;
     private ERDAttributeVisibility attributeVisibility;
@@ -223,9 +225,9 @@ public class ERDEntity extends ERDElement<DBSEntity> {
                     if (entity2 == null) {
                         //log.debug("Table '" + fk.getReferencedKey().getTable().getFullyQualifiedName() + "' not found in ERD");
                         if (unresolvedKeys == null) {
-                            unresolvedKeys = new ArrayList<>();
+                            unresolvedKeys = new LinkedHashMap<>();
                         }
-                        unresolvedKeys.add(fk);
+                        unresolvedKeys.put(fk, getReferencedEntity(fk));
                     } else {
                         if (create) {
                             if (DBUtils.isInheritedObject(fk)) {
@@ -255,11 +257,15 @@ public class ERDEntity extends ERDElement<DBSEntity> {
         if (CommonUtils.isEmpty(unresolvedKeys)) {
             return;
         }
-        for (Iterator<DBSEntityAssociation> iter = unresolvedKeys.iterator(); iter.hasNext(); ) {
-            final DBSEntityAssociation fk = iter.next();
-            if (fk.getReferencedConstraint() != null) {
-                ERDEntity refEntity = diagram.getEntityMap().get(
-                    DBVUtils.tryGetRealEntity(fk.getReferencedConstraint().getParentObject()));
+        // Referenced entities are resolved once, so this is called on each entity add without metadata lookups
+        for (Iterator<Map.Entry<DBSEntityAssociation, DBSEntity>> iter = unresolvedKeys.entrySet().iterator(); iter.hasNext(); ) {
+            final Map.Entry<DBSEntityAssociation, DBSEntity> entry = iter.next();
+            final DBSEntityAssociation fk = entry.getKey();
+            if (entry.getValue() == null) {
+                entry.setValue(getReferencedEntity(fk));
+            }
+            if (entry.getValue() != null) {
+                ERDEntity refEntity = diagram.getEntityMap().get(entry.getValue());
                 if (refEntity != null) {
                     ERDAssociation erdAssociation = diagram.getContentProvider().createAutoAssociation(diagram, fk, this, refEntity, reflect);
                     if (erdAssociation != null) {
@@ -270,6 +276,11 @@ public class ERDEntity extends ERDElement<DBSEntity> {
         }
     }
 
+    private static DBSEntity getReferencedEntity(DBSEntityAssociation fk) {
+        DBSEntityConstraint refConstraint = fk.getReferencedConstraint();
+        return refConstraint == null ? null : DBVUtils.tryGetRealEntity(refConstraint.getParentObject());
+    }
+
     @NotNull
     @Override
     public String getName() {
@@ -76,6 +76,12 @@ public class DelegatingLayoutManager implements LayoutManager {
                         setLayoutManager(container, xyLayoutManager);
                         activeLayoutManager.layout(container);
 
+                    } else if (entityDiagram.isLayoutManualAllowed() && graphLayoutManager.layoutNewNodes(container)) {
+
+                        // Only nodes without saved location were arranged
+                        setLayoutManager(container, xyLayoutManager);
+                        activeLayoutManager.layout(container);
+
                     } else {
 
                         // we first have to set the constraint data
@@ -25,9 +25,15 @@ import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.jkiss.dbeaver.erd.ui.layout.algorithm.direct.DirectedGraphLayoutVisitor;
+import org.jkiss.dbeaver.erd.ui.model.EntityDiagram;
 import org.jkiss.dbeaver.erd.ui.part.DiagramPart;
+import org.jkiss.dbeaver.erd.ui.part.EntityPart;
+import org.jkiss.dbeaver.erd.ui.part.NodePart;
+import org.jkiss.dbeaver.erd.ui.part.NotePart;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -76,5 +82,34 @@ public class GraphLayoutAuto extends AbstractLayout
 
         Animation.run(400);
 	}
-	
+
+	/**
+	 * Lays out only entities and notes which have no saved location, other nodes stay in their places.
+	 * Returns false if no node has saved location, then the whole diagram must be laid out.
+	 */
+	public boolean layoutNewNodes(IFigure container)
+	{
+		EntityDiagram entityDiagram = diagram.getDiagram();
+		Set<NodePart> fixedParts = new HashSet<>();
+		for (Object child : diagram.getChildren()) {
+			EntityDiagram.NodeVisualInfo visualInfo = null;
+			if (child instanceof EntityPart) {
+				visualInfo = entityDiagram.getVisualInfo(((EntityPart) child).getEntity().getObject());
+			} else if (child instanceof NotePart) {
+				visualInfo = entityDiagram.getVisualInfo(((NotePart) child).getNote());
+			}
+			if (visualInfo != null && visualInfo.initBounds != null) {
+				fixedParts.add((NodePart) child);
+			}
+		}
+		if (fixedParts.isEmpty()) {
+			return false;
+		}
+		Animation.markBegin();
+		new DirectedGraphLayoutVisitor(entityDiagram.getDecorator()).layoutDiagram(diagram, fixedParts);
+		diagram.setTableModelBounds();
+		Animation.run(400);
+		return true;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.layout.algorithm.direct;
+
+import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.DirectedGraph;
+import org.eclipse.draw2d.graph.DirectedGraphLayout;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.EdgeList;
+import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.NodeList;
+import org.eclipse.draw2d.graph.Subgraph;
+import org.jkiss.dbeaver.Log;
+
+import java.util.*;
+
+/**
+ * Layout for big graphs.
+ *
+ * Graph is split into connected components. Each component is laid out by DirectedGraphLayout separately
+ * (components are processed in parallel), so layout time depends on the component sizes rather than on
+ * the whole graph size. Then components are packed in rows, the biggest ones first.
+ * Nodes without edges are single node components, so they are packed after all linked nodes.
+ */
+public class ComponentGraphLayout {
+
+    private static final Log log = Log.getLog(ComponentGraphLayout.class);
+
+    public static final int COMPONENT_SPACING = 60;
+
+    static class Component {
+        final NodeList nodes = new NodeList();
+        final EdgeList edges = new EdgeList();
+        Rectangle bounds;
+
+        void layout() {
+            if (!edges.isEmpty()) {
+                DirectedGraph graph = new DirectedGraph();
+                graph.setDirection(PositionConstants.EAST);
+                graph.nodes.addAll(nodes);
+                graph.edges.addAll(edges);
+                try {
+                    new DirectedGraphLayout().visit(graph);
+                } catch (Exception e) {
+                    log.error("Diagram component layout error", e);
+                }
+            }
+            bounds = null;
+            for (Object node : nodes) {
+                addBounds((Node) node);
+            }
+            for (Object edge : edges) {
+                NodeList vNodes = ((Edge) edge).vNodes;
+                if (vNodes != null) {
+                    for (Object vNode : vNodes) {
+                        addBounds((Node) vNode);
+                    }
+                }
+            }
+        }
+
+        private void addBounds(Node node) {
+            Rectangle nodeBounds = new Rectangle(node.x, node.y, node.width, node.height);
+            if (bounds == null) {
+                bounds = nodeBounds;
+            } else {
+                bounds.union(nodeBounds);
+            }
+        }
+
+        void translate(int dx, int dy) {
+            for (Object node : nodes) {
+                translateNode((Node) node, dx, dy);
+            }
+            for (Object edge : edges) {
+                NodeList vNodes = ((Edge) edge).vNodes;
+                if (vNodes != null) {
+                    for (Object vNode : vNodes) {
+                        translateNode((Node) vNode, dx, dy);
+                    }
+                }
+            }
+            bounds.translate(dx, dy);
+        }
+
+        private static void translateNode(Node node, int dx, int dy) {
+            node.x += dx;
+            node.y += dy;
+            if (node instanceof Subgraph) {
+                for (Object member : ((Subgraph) node).members) {
+                    translateNode((Node) member, dx, dy);
+                }
+            }
+        }
+    }
+
+    private final double aspectRatio;
+
+    /**
+     * @param aspectRatio desired ratio of the result width to its height
+     */
+    public ComponentGraphLayout(double aspectRatio) {
+        this.aspectRatio = aspectRatio > 0 ? aspectRatio : 1;
+    }
+
+    /**
+     * Lays out nodes and edges. Result is placed to the right and below the origin point.
+     */
+    public void visit(NodeList nodes, EdgeList edges, Point origin) {
+        List<Component> components = splitComponents(nodes, edges);
+        if (components.isEmpty()) {
+            return;
+        }
+        components.parallelStream().forEach(Component::layout);
+        // Stable sort keeps the diagram order of components of the same size
+        components.sort((c1, c2) -> c2.nodes.size() - c1.nodes.size());
+
+        long totalArea = 0;
+        int maxWidth = 0;
+        for (Component component : components) {
+            totalArea += (long) (component.bounds.width + COMPONENT_SPACING) * (component.bounds.height + COMPONENT_SPACING);
+            maxWidth = Math.max(maxWidth, component.bounds.width);
+        }
+        int rowWidth = Math.max(maxWidth, (int) Math.sqrt(totalArea * aspectRatio));
+
+        int x = origin.x, y = origin.y, rowHeight = 0;
+        for (Component component : components) {
+            if (x > origin.x && x + component.bounds.width > origin.x + rowWidth) {
+                x = origin.x;
+                y += rowHeight + COMPONENT_SPACING;
+                rowHeight = 0;
+            }
+            component.translate(x - component.bounds.x, y - component.bounds.y);
+            x += component.bounds.width + COMPONENT_SPACING;
+            rowHeight = Math.max(rowHeight, component.bounds.height);
+        }
+    }
+
+    /**
+     * Splits graph into connected components. Nodes and components keep the original order.
+     * Edges of subgraph members connect the top level nodes.
+     */
+    static List<Component> splitComponents(NodeList nodes, EdgeList edges) {
+        Map<Node, Integer> nodeIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeIndexes.put(nodes.getNode(i), i);
+        }
+        int[] roots = new int[nodes.size()];
+        for (int i = 0; i < roots.length; i++) {
+            roots[i] = i;
+        }
+        for (Object item : edges) {
+            Edge edge = (Edge) item;
+            Integer source = nodeIndexes.get(getTopNode(edge.source));
+            Integer target = nodeIndexes.get(getTopNode(edge.target));
+            if (source != null && target != null) {
+                roots[findRoot(roots, source)] = findRoot(roots, target);
+            }
+        }
+
+        Map<Integer, Component> components = new LinkedHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            components.computeIfAbsent(findRoot(roots, i), root -> new Component()).nodes.add(nodes.getNode(i));
+        }
+        for (Object item : edges) {
+            Edge edge = (Edge) item;
+            Integer source = nodeIndexes.get(getTopNode(edge.source));
+            if (source != null && nodeIndexes.containsKey(getTopNode(edge.target))) {
+                components.get(findRoot(roots, source)).edges.add(edge);
+            }
+        }
+        return new ArrayList<>(components.values());
+    }
+
+    private static Node getTopNode(Node node) {
+        while (node.getParent() != null) {
+            node = node.getParent();
+        }
+        return node;
+    }
+
+    private static int findRoot(int[] roots, int index) {
+        while (roots[index] != index) {
+            roots[index] = roots[roots[index]];
+            index = roots[index];
+        }
+        return index;
+    }
+
+}
@@ -22,6 +22,7 @@ package org.jkiss.dbeaver.erd.ui.layout.algorithm.direct;
 
 import org.eclipse.draw2d.*;
 import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.draw2d.graph.*;
 import org.eclipse.gef.EditPart;
@@ -36,9 +37,11 @@ import org.jkiss.dbeaver.erd.ui.part.EntityPart;
 import org.jkiss.dbeaver.erd.ui.part.NodePart;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Visitor with support for populating nodes and edges of DirectedGraph
@@ -52,6 +55,8 @@ public class DirectedGraphLayoutVisitor {
     private final ERDDecorator decorator;
     private Map<EditPart, Object> partToNodesMap;
     private DirectedGraph graph;
+    private Set<? extends EditPart> fixedParts = Collections.emptySet();
+    private Rectangle fixedBounds;
 
     public DirectedGraphLayoutVisitor(ERDDecorator decorator) {
         this.decorator = decorator;
@@ -61,8 +66,18 @@ public class DirectedGraphLayoutVisitor {
      * Public method for reading graph nodes
      */
     public void layoutDiagram(AbstractGraphicalEditPart diagram)
+    {
+        layoutDiagram(diagram, Collections.emptySet());
+    }
+
+    /**
+     * Lays out all nodes except fixed ones. Fixed nodes keep their locations, other nodes are placed below them.
+     */
+    public void layoutDiagram(AbstractGraphicalEditPart diagram, Set<? extends EditPart> fixedParts)
     {
         partToNodesMap = new IdentityHashMap<>();
+        this.fixedParts = fixedParts;
+        this.fixedBounds = null;
 
         graph = new DirectedGraph();
         graph.setDirection(PositionConstants.EAST);
@@ -70,9 +85,11 @@ public class DirectedGraphLayoutVisitor {
         addDiagramNodes(diagram);
         if (graph.nodes.size() > 0) {
             addDiagramEdges(diagram);
+            Point origin = fixedBounds == null ?
+                new Point(0, 0) :
+                new Point(fixedBounds.x, fixedBounds.bottom() + ComponentGraphLayout.COMPONENT_SPACING);
             try {
-                //new CompoundDirectedGraphLayout().visit(graph);
-                new NodeJoiningDirectedGraphLayout(diagram).visit(graph);
+                new ComponentGraphLayout(getAspectRatio(diagram)).visit(graph.nodes, graph.edges, origin);
             } catch (Exception e) {
                 log.error("Diagram layout error", e);
             }
@@ -81,6 +98,12 @@ public class DirectedGraphLayoutVisitor {
 
     }
 
+    private static double getAspectRatio(AbstractGraphicalEditPart diagram)
+    {
+        final org.eclipse.swt.graphics.Point diagramSize = diagram.getViewer().getControl().getSize();
+        return diagramSize.y > 0 ? (double) diagramSize.x / diagramSize.y : 1;
+    }
+
     //******************* DiagramPart contribution methods **********/
 
     protected void addDiagramNodes(AbstractGraphicalEditPart diagram)
@@ -88,7 +111,11 @@ public class DirectedGraphLayoutVisitor {
         GraphAnimation.recordInitialState(diagram.getFigure());
         //IFigure fig = diagram.getFigure();
         for (Object child : diagram.getChildren()) {
-            addEntityNode((NodePart) child);
+            if (fixedParts.contains(child)) {
+                addFixedNode((NodePart) child);
+            } else {
+                addEntityNode((NodePart) child);
+            }
         }
     }
 
@@ -124,6 +151,18 @@ public class DirectedGraphLayoutVisitor {
 */
     }
 
+    private void addFixedNode(NodePart nodeEditPart)
+    {
+        IFigure figure = nodeEditPart.getFigure();
+        Rectangle bounds = new Rectangle(figure.getBounds().getLocation(), figure.getPreferredSize());
+        figure.setBounds(bounds);
+        if (fixedBounds == null) {
+            fixedBounds = bounds.getCopy();
+        } else {
+            fixedBounds.union(bounds);
+        }
+    }
+
     protected void addDiagramEdges(AbstractGraphicalEditPart diagram)
     {
         for (Object child : diagram.getChildren()) {
@@ -160,7 +199,10 @@ public class DirectedGraphLayoutVisitor {
             target = (Node) partToNodesMap.get(connectionPart.getTarget().getParent());
         }
         if (source == null || target == null) {
-            log.warn("Source or target node not found");
+            if (fixedParts.isEmpty()) {
+                log.warn("Source or target node not found");
+            }
+            // Links of fixed nodes are not laid out
             return;
         }
 
@@ -191,6 +233,10 @@ public class DirectedGraphLayoutVisitor {
     {
 
         Node n = (Node) partToNodesMap.get(entityPart);
+        if (n == null) {
+            // Fixed node
+            return;
+        }
         IFigure tableFigure = entityPart.getFigure();
 
         Dimension preferredSize = tableFigure.getPreferredSize();
@@ -221,6 +267,9 @@ public class DirectedGraphLayoutVisitor {
     {
 
         Edge connEdge = (Edge) partToNodesMap.get(connectionPart);
+        if (connEdge == null) {
+            return;
+        }
 
         NodeList edgeNodes = connEdge.vNodes;
 
@@ -260,12 +260,11 @@ public class DiagramLoader extends ERDPersistedState {
                     DBSEntity table = (DBSEntity) child;
                     EntityDiagram.NodeVisualInfo visualInfo = new EntityDiagram.NodeVisualInfo();
 
-                    visualInfo.initBounds = new Rectangle();
                     if (CommonUtils.isEmpty(locX) || CommonUtils.isEmpty(locY)) {
+                        // Entities without location are arranged on diagram open, the rest keep their locations
                         diagram.setNeedsAutoLayout(true);
                     } else {
-                        visualInfo.initBounds.x = Integer.parseInt(locX);
-                        visualInfo.initBounds.y = Integer.parseInt(locY);
+                        visualInfo.initBounds = new Rectangle(Integer.parseInt(locX), Integer.parseInt(locY), 0, 0);
                     }
                     String attrVis = entityElem.getAttribute(ATTR_ATTRIBUTE_VISIBILITY);
                     if (!CommonUtils.isEmpty(attrVis)) {
@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.ext.clickhouse.model;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.ext.clickhouse.ClickhouseConstants;
 import org.jkiss.dbeaver.ext.generic.model.GenericSQLDialect;
 import org.jkiss.dbeaver.model.DBPDataKind;
@@ -282,4 +283,11 @@ public class ClickhouseSQLDialect extends GenericSQLDialect {
             return super.getTypeCastClause(attribute, expression, isInCondition);
         }
     }
+
+    @Nullable
+    @Override
+    public String getTableSampleClause(double samplePercent, long seed) {
+        // Sampling is deterministic and works only for tables with sampling key
+        return "SAMPLE " + formatSampleSize(samplePercent / 100);
+    }
 }
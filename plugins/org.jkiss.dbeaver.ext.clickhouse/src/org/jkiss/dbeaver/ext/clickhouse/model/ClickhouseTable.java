@@ -25,6 +25,7 @@ import org.jkiss.dbeaver.ext.generic.model.GenericTable;
 import org.jkiss.dbeaver.model.DBConstants;
 import org.jkiss.dbeaver.model.DBPObjectStatistics;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
@@ -42,6 +43,7 @@ import org.jkiss.utils.CommonUtils;
 import java.sql.SQLException;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * ClickhouseTable
@@ -147,6 +149,16 @@ public class ClickhouseTable extends GenericTable implements DBPObjectStatistics
         this.engineMessage = engineMessage;
     }
 
+    @Nullable
+    @Override
+    protected String getTableSampleClause(@NotNull DBDDataFilter dataFilter) {
+        // SAMPLE works only for MergeTree tables with sampling key
+        if (engineMessage == null || !engineMessage.toUpperCase(Locale.ENGLISH).contains("SAMPLE BY")) {
+            return null;
+        }
+        return super.getTableSampleClause(dataFilter);
+    }
+
     @Property(category = DBConstants.CAT_STATISTICS, viewable = true, order = 27)
     public String getMetadataPath() {
         return metadataPath;
@@ -445,4 +445,11 @@ public class SQLServerDialect extends JDBCSQLDialect implements TPRuleProvider,
     public String getCreateSchemaQuery(@NotNull String schemaName) {
         return "CREATE SCHEMA " + schemaName;
     }
+
+    @Nullable
+    @Override
+    public String getTableSampleClause(double samplePercent, long seed) {
+        // Page sampling
+        return "TABLESAMPLE SYSTEM (" + formatSampleSize(samplePercent) + " PERCENT) REPEATABLE (" + seed + ")";
+    }
 }
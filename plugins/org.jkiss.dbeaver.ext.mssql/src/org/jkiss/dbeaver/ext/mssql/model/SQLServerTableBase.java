@@ -22,6 +22,7 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ext.mssql.SQLServerUtils;
 import org.jkiss.dbeaver.model.*;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCExecutionSource;
 import org.jkiss.dbeaver.model.exec.DBCSession;
@@ -205,6 +206,26 @@ public abstract class SQLServerTableBase extends JDBCTable<SQLServerDataSource,
         return rowCount;
     }
 
+    @Override
+    protected long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException {
+        if (!isPersisted() || (dataFilter != null && dataFilter.hasConditions()) ||
+            SQLServerUtils.isDriverBabelfish(getDataSource().getContainer().getDriver()))
+        {
+            return -1;
+        }
+        // Row count of the heap or clustered index partitions
+        try {
+            Long rowCount = JDBCUtils.queryLong(
+                (JDBCSession) session,
+                "SELECT SUM(p.rows) FROM " + SQLServerUtils.getSystemTableName(getDatabase(), "partitions") + " p " +
+                    "WHERE p.object_id=? AND p.index_id IN (0,1)",
+                getObjectId());
+            return rowCount == null ? -1 : rowCount;
+        } catch (SQLException e) {
+            throw new DBCException(e, session.getExecutionContext());
+        }
+    }
+
     @NotNull
     @Override
     public String getFullyQualifiedName(DBPEvaluationContext context)
@@ -24,6 +24,7 @@ import org.jkiss.dbeaver.ext.mssql.SQLServerUtils;
 import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBPScriptObject;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.meta.Association;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
@@ -57,6 +58,13 @@ public class SQLServerView extends SQLServerTableBase implements DBSView {
         return true;
     }
 
+    @Nullable
+    @Override
+    protected String getTableSampleClause(@NotNull DBDDataFilter dataFilter) {
+        // TABLESAMPLE can't be applied to views
+        return null;
+    }
+
     @Override
     public List<SQLServerTableColumn> getAttributes(@NotNull DBRProgressMonitor monitor)
         throws DBException
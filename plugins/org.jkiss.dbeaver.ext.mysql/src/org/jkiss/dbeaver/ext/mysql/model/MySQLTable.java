@@ -22,7 +22,9 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ext.mysql.MySQLConstants;
 import org.jkiss.dbeaver.model.*;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.*;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCConstants;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
@@ -395,6 +397,24 @@ public class MySQLTable extends MySQLTableBase implements DBPObjectStatistics, D
         return partitionCache.getAllObjects(monitor, this);
     }
 
+    @Override
+    protected long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException {
+        if (!isPersisted() || (dataFilter != null && dataFilter.hasConditions())) {
+            return -1;
+        }
+        // Exact for MyISAM, estimated by InnoDB
+        try {
+            Long rowCount = JDBCUtils.queryLong(
+                (JDBCSession) session,
+                "SELECT TABLE_ROWS FROM " + MySQLConstants.META_TABLE_TABLES + " WHERE TABLE_SCHEMA=? AND TABLE_NAME=?",
+                getContainer().getName(),
+                getName());
+            return rowCount == null ? -1 : rowCount;
+        } catch (SQLException e) {
+            throw new DBCException(e, session.getExecutionContext());
+        }
+    }
+
     private void loadAdditionalInfo(DBRProgressMonitor monitor) throws DBCException
     {
         if (!isPersisted()) {
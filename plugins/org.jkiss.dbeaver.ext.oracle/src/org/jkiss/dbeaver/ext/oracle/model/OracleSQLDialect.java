@@ -781,4 +781,11 @@ public class OracleSQLDialect extends JDBCSQLDialect
     public String getCreateSchemaQuery(@NotNull String schemaName) {
         return "CREATE USER \"" + schemaName + "\" IDENTIFIED BY \"" + SecurityUtils.generatePassword(10) + "\"";
     }
+
+    @Nullable
+    @Override
+    public String getTableSampleClause(double samplePercent, long seed) {
+        // Block sampling. Note: sample clause goes before the table alias in Oracle
+        return "SAMPLE BLOCK (" + formatSampleSize(samplePercent) + ") SEED (" + seed + ")";
+    }
 }
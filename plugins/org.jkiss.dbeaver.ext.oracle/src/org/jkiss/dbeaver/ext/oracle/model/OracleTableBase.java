@@ -22,6 +22,7 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ext.oracle.model.source.OracleStatefulObject;
 import org.jkiss.dbeaver.model.*;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
@@ -350,6 +351,25 @@ public abstract class OracleTableBase extends JDBCTable<OracleDataSource, Oracle
         return tablePrivCache.getAllObjects(monitor, this);
     }
 
+    @Nullable
+    @Override
+    protected String getTableSampleClause(@NotNull DBDDataFilter dataFilter) {
+        // Views with joins can't be sampled
+        return isView() ? null : super.getTableSampleClause(dataFilter);
+    }
+
+    @Override
+    protected void appendTableSource(@NotNull StringBuilder query, @Nullable String tableAlias, @Nullable String sampleClause) {
+        // Sample clause goes before the alias
+        query.append(getTableName());
+        if (sampleClause != null) {
+            query.append(" ").append(sampleClause);
+        }
+        if (tableAlias != null) {
+            query.append(" ").append(tableAlias);
+        }
+    }
+
     static class TablePrivCache extends JDBCObjectCache<OracleTableBase, OraclePrivTable> {
         @NotNull
         @Override
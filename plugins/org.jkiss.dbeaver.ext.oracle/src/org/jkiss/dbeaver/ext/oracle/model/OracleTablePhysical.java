@@ -22,6 +22,7 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
@@ -120,6 +121,29 @@ public abstract class OracleTablePhysical extends OracleTableBase implements DBS
         return realRowCount;
     }
 
+    @Override
+    protected long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException {
+        if (!isPersisted() || (dataFilter != null && dataFilter.hasConditions())) {
+            return -1;
+        }
+        // Optimizer statistics. NUM_ROWS is empty if table was never analyzed.
+        try {
+            Long numRows = JDBCUtils.queryLong(
+                (JDBCSession) session,
+                "SELECT NUM_ROWS FROM " + OracleUtils.getAdminAllViewPrefix(session.getProgressMonitor(), getDataSource(), "TABLES") +
+                    " WHERE OWNER=? AND TABLE_NAME=?",
+                getContainer().getName(),
+                getName());
+            if (numRows == null) {
+                return -1;
+            }
+            rowCount = numRows;
+            return numRows;
+        } catch (SQLException e) {
+            throw new DBCException(e, session.getExecutionContext());
+        }
+    }
+
     @Override
     public Object getLazyReference(Object propertyId)
     {
@@ -1090,4 +1090,14 @@ public class PostgreDialect extends JDBCSQLDialect implements TPRuleProvider, SQ
     public String getCreateSchemaQuery(@NotNull String schemaName) {
         return "CREATE SCHEMA " + schemaName;
     }
+
+    @Nullable
+    @Override
+    public String getTableSampleClause(double samplePercent, long seed) {
+        if (serverExtension == null || !serverExtension.supportsTableSample()) {
+            return null;
+        }
+        // Block sampling, reads only sampled pages
+        return "TABLESAMPLE SYSTEM (" + formatSampleSize(samplePercent) + ") REPEATABLE (" + seed + ")";
+    }
 }
@@ -186,6 +186,9 @@ public interface PostgreServerExtension {
     /** True if supports table generated columns */
     boolean supportsGeneratedColumns();
 
+    /** True if supports TABLESAMPLE clause */
+    boolean supportsTableSample();
+
     /** True if supports table rowid columns. Rowid columns usually replace primary key in the table */
     boolean isHiddenRowidColumn(@NotNull PostgreAttribute attribute);
 
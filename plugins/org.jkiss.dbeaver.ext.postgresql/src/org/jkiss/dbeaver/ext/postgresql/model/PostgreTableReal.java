@@ -21,8 +21,11 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBConstants;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBPObjectStatistics;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
@@ -37,6 +40,7 @@ import org.jkiss.dbeaver.model.meta.Association;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.preferences.DBPPropertySource;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.dbeaver.model.struct.DBSDataContainer;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectType;
@@ -48,6 +52,8 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * PostgreTable base
@@ -56,6 +62,8 @@ public abstract class PostgreTableReal extends PostgreTableBase implements DBPOb
 {
     private static final Log log = Log.getLog(PostgreTableReal.class);
 
+    private static final Pattern PLAN_ROWS_PATTERN = Pattern.compile("rows=([0-9]+)");
+
     protected long rowCountEstimate;
     protected transient volatile Long rowCount;
     protected transient volatile Long diskSpace;
@@ -125,6 +133,40 @@ public abstract class PostgreTableReal extends PostgreTableBase implements DBPOb
         return rowCount;
     }
 
+    @Override
+    protected long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException {
+        if (!isPersisted()) {
+            return -1;
+        }
+        try {
+            if (dataFilter == null || !dataFilter.hasConditions()) {
+                // Statistics are negative (or zero in older versions) if table was never analyzed
+                Long relTuples = JDBCUtils.queryLong(
+                    (JDBCSession) session,
+                    "SELECT c.reltuples::bigint FROM pg_catalog.pg_class c WHERE c.oid=?",
+                    getObjectId());
+                if (relTuples != null && relTuples > 0) {
+                    rowCountEstimate = relTuples;
+                    return relTuples;
+                }
+            }
+            // Use planner estimate
+            StringBuilder query = new StringBuilder();
+            query.append("EXPLAIN SELECT * FROM ").append(getFullyQualifiedName(DBPEvaluationContext.DML));
+            SQLUtils.appendQueryConditions(getDataSource(), query, null, dataFilter);
+            String plan = JDBCUtils.queryString((JDBCSession) session, query.toString());
+            if (plan != null) {
+                Matcher matcher = PLAN_ROWS_PATTERN.matcher(plan);
+                if (matcher.find()) {
+                    return Long.parseLong(matcher.group(1));
+                }
+            }
+            return -1;
+        } catch (SQLException e) {
+            throw new DBCException(e, session.getExecutionContext());
+        }
+    }
+
     @Property(category = DBConstants.CAT_STATISTICS, viewable = false, order = 24, formatter = ByteNumberFormat.class)
     public Long getDiskSpace(DBRProgressMonitor monitor)
     {
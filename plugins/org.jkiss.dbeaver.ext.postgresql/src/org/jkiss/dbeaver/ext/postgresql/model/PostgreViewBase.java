@@ -17,6 +17,7 @@
 package org.jkiss.dbeaver.ext.postgresql.model;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.ext.postgresql.PostgreUtils;
@@ -24,6 +25,7 @@ import org.jkiss.dbeaver.ext.postgresql.edit.PostgreTableColumnManager;
 import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBPScriptObject;
 import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.impl.DBObjectNameCaseTransformer;
@@ -84,6 +86,13 @@ public abstract class PostgreViewBase extends PostgreTableReal implements DBSVie
         return null;
     }
 
+    @Nullable
+    @Override
+    protected String getTableSampleClause(@NotNull DBDDataFilter dataFilter) {
+        // TABLESAMPLE works only for tables and materialized views
+        return this instanceof PostgreMaterializedView ? super.getTableSampleClause(dataFilter) : null;
+    }
+
     public String getSource() {
         return source;
     }
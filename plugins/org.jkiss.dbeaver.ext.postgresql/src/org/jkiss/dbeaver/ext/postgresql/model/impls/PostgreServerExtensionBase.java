@@ -534,6 +534,11 @@ public abstract class PostgreServerExtensionBase implements PostgreServerExtensi
         return false;
     }
 
+    @Override
+    public boolean supportsTableSample() {
+        return false;
+    }
+
     @Override
     public boolean isHiddenRowidColumn(@NotNull PostgreAttribute attribute) {
         return false;
@@ -76,6 +76,11 @@ public class PostgreServerPostgreSQL extends PostgreServerExtensionBase {
         return dataSource.isServerVersionAtLeast(12, 0);
     }
 
+    @Override
+    public boolean supportsTableSample() {
+        return dataSource.isServerVersionAtLeast(9, 5);
+    }
+
     @Override
     public boolean supportsKeyAndIndexRename() {
         return dataSource.isServerVersionAtLeast(9, 2);
@@ -175,4 +175,10 @@ public class SnowflakeSQLDialect extends GenericSQLDialect implements TPRuleProv
         }
         return super.mustBeQuoted(str, forceCaseSensitive);
     }
+
+    @Nullable
+    @Override
+    public String getTableSampleClause(double samplePercent, long seed) {
+        return "SAMPLE SYSTEM (" + formatSampleSize(samplePercent) + ") SEED (" + seed + ")";
+    }
 }
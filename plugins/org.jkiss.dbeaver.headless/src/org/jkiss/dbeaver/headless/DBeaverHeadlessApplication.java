@@ -16,6 +16,7 @@
  */
 package org.jkiss.dbeaver.headless;
 
+import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
@@ -27,23 +28,92 @@ import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Headless application
+ * Headless application.
+ *
+ * With -runTask argument works as a task runner: platform is initialized in exclusive mode
+ * (without plugin services and connections monitor), saved tasks are executed and
+ * run statistics are printed in JSON (or saved in the file specified by -taskStats).
  */
 public class DBeaverHeadlessApplication extends DesktopApplicationImpl {
 
     private static final Log log = Log.getLog(DBeaverHeadlessApplication.class);
 
+    public static final String ARG_RUN_TASK = "-runTask"; //$NON-NLS-1$
+    public static final String ARG_TASK_STATS = "-taskStats"; //$NON-NLS-1$
+
+    private final List<String> runTasks = new ArrayList<>();
+    private Path taskStatsFile;
+
     @Override
     public Object start(IApplicationContext context) {
+        parseArguments((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+        if (isTaskRunnerMode()) {
+            return runTasks();
+        }
         DBPApplication application = DBWorkbench.getPlatform().getApplication();
+        initTrustStore();
+        System.out.println("Starting headless test application " + application.getClass().getName());
+
+        return null;
+    }
+
+    private void initTrustStore() {
         if (RuntimeUtils.isWindows() && ModelPreferences.getPreferences().getBoolean(ModelPreferences.PROP_USE_WIN_TRUST_STORE_TYPE)) {
             System.setProperty(GeneralUtils.PROP_TRUST_STORE_TYPE, GeneralUtils.VALUE_TRUST_STORE_TYPE_WINDOWS);
         }
-        System.out.println("Starting headless test application " + application.getClass().getName());
+    }
 
-        return null;
+    private void parseArguments(@Nullable String[] args) {
+        if (args == null) {
+            return;
+        }
+        for (int i = 0; i < args.length - 1; i++) {
+            if (ARG_RUN_TASK.equals(args[i])) {
+                for (String taskRef : args[++i].split(",")) {
+                    if (!taskRef.isBlank()) {
+                        runTasks.add(taskRef.trim());
+                    }
+                }
+            } else if (ARG_TASK_STATS.equals(args[i])) {
+                taskStatsFile = Path.of(args[++i]);
+            }
+        }
+    }
+
+    private boolean isTaskRunnerMode() {
+        return !runTasks.isEmpty();
+    }
+
+    private Object runTasks() {
+        long startTime = System.currentTimeMillis();
+        try {
+            DBWorkbench.getPlatform();
+            initTrustStore();
+            log.debug("Headless task runner started in " + (System.currentTimeMillis() - startTime) + "ms");
+            boolean success = new HeadlessTaskRunner(runTasks, taskStatsFile).runTasks();
+            return success ? IApplication.EXIT_OK : Integer.valueOf(1);
+        } catch (Throwable e) {
+            log.error("Error running tasks", e);
+            return 1;
+        } finally {
+            if (DBeaverTestPlatform.instance != null) {
+                DBeaverTestPlatform.instance.dispose();
+            }
+        }
+    }
+
+    @Override
+    public boolean isHeadlessMode() {
+        return isTaskRunnerMode();
+    }
+
+    @Override
+    public boolean isExclusiveMode() {
+        return isTaskRunnerMode();
     }
 
     @Override
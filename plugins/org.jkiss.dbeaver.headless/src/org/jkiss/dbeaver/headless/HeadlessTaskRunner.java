@@ -0,0 +1,205 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.headless;
+
+import com.google.gson.stream.JsonWriter;
+import org.eclipse.core.runtime.jobs.Job;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.app.DBPProject;
+import org.jkiss.dbeaver.model.app.DBPWorkspace;
+import org.jkiss.dbeaver.model.data.json.JSONUtils;
+import org.jkiss.dbeaver.model.task.DBTTask;
+import org.jkiss.dbeaver.model.task.DBTTaskExecutionListener;
+import org.jkiss.dbeaver.model.task.DBTTaskRun;
+import org.jkiss.dbeaver.registry.task.TaskRunImpl;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Runs saved tasks in headless mode and reports run statistics in JSON.
+ *
+ * Task reference format: [project:]task, where task is a task id or name.
+ * If project is not specified then active project is used.
+ * All tasks are submitted at once, concurrency is limited by the task scheduler preferences.
+ */
+class HeadlessTaskRunner {
+
+    private static final Log log = Log.getLog(HeadlessTaskRunner.class);
+
+    private static class TaskResult implements DBTTaskExecutionListener {
+        private final String reference;
+        private final DBTTask task;
+        private Job job;
+        private long startTime = -1;
+        private long duration = -1;
+        private Throwable error;
+
+        TaskResult(String reference, DBTTask task) {
+            this.reference = reference;
+            this.task = task;
+        }
+
+        boolean isSuccess() {
+            return task != null && job != null && error == null && duration >= 0;
+        }
+
+        @Override
+        public void taskStarted(@Nullable DBTTask task) {
+            startTime = System.currentTimeMillis();
+        }
+
+        @Override
+        public void taskFinished(@Nullable DBTTask task, @Nullable Object result, @Nullable Throwable error, @Nullable Object settings) {
+            duration = System.currentTimeMillis() - startTime;
+            this.error = error;
+        }
+
+        @Override
+        public void subTaskFinished(@Nullable DBTTask task, @Nullable Throwable error, @Nullable Object settings) {
+            // Sub tasks are reported in task log
+        }
+    }
+
+    private final List<String> taskReferences;
+    private final Path statsFile;
+
+    HeadlessTaskRunner(@NotNull List<String> taskReferences, @Nullable Path statsFile) {
+        this.taskReferences = taskReferences;
+        this.statsFile = statsFile;
+    }
+
+    /**
+     * Runs tasks and waits for their completion. Returns true if all tasks succeeded.
+     */
+    boolean runTasks() {
+        long startTime = System.currentTimeMillis();
+        List<TaskResult> results = new ArrayList<>();
+        for (String reference : taskReferences) {
+            DBTTask task = findTask(reference);
+            TaskResult result = new TaskResult(reference, task);
+            results.add(result);
+            if (task == null) {
+                log.error("Task '" + reference + "' not found");
+                continue;
+            }
+            log.debug("Run task '" + task.getName() + "' (" + task.getId() + ")");
+            result.job = task.getProject().getTaskManager().runTask(task, result, Collections.emptyMap());
+        }
+        for (TaskResult result : results) {
+            if (result.job == null) {
+                continue;
+            }
+            try {
+                result.job.join();
+            } catch (InterruptedException e) {
+                log.debug("Task wait interrupted");
+                break;
+            }
+        }
+
+        boolean success = results.stream().allMatch(TaskResult::isSuccess);
+        try {
+            writeStatistics(results, System.currentTimeMillis() - startTime, success);
+        } catch (IOException e) {
+            log.error("Error writing task run statistics", e);
+        }
+        return success;
+    }
+
+    @Nullable
+    private DBTTask findTask(@NotNull String reference) {
+        DBPWorkspace workspace = DBWorkbench.getPlatform().getWorkspace();
+        DBPProject project;
+        String taskRef;
+        int divPos = reference.indexOf(':');
+        if (divPos > 0) {
+            project = workspace.getProject(reference.substring(0, divPos));
+            taskRef = reference.substring(divPos + 1);
+        } else {
+            project = workspace.getActiveProject();
+            taskRef = reference;
+        }
+        if (project == null) {
+            return null;
+        }
+        DBTTask task = project.getTaskManager().getTaskById(taskRef);
+        if (task == null) {
+            task = project.getTaskManager().getTaskByName(taskRef);
+        }
+        return task;
+    }
+
+    private void writeStatistics(@NotNull List<TaskResult> results, long totalTime, boolean success) throws IOException {
+        Writer writer = statsFile == null ?
+            new OutputStreamWriter(System.out, StandardCharsets.UTF_8) :
+            Files.newBufferedWriter(statsFile, StandardCharsets.UTF_8);
+        try {
+            JsonWriter json = new JsonWriter(writer);
+            json.setIndent(JSONUtils.DEFAULT_INDENT);
+            json.beginObject();
+            JSONUtils.field(json, "success", success);
+            JSONUtils.field(json, "totalTime", totalTime);
+            json.name("tasks");
+            json.beginArray();
+            for (TaskResult result : results) {
+                json.beginObject();
+                JSONUtils.field(json, "reference", result.reference);
+                if (result.task != null) {
+                    JSONUtils.field(json, "id", result.task.getId());
+                    JSONUtils.field(json, "name", result.task.getName());
+                    JSONUtils.field(json, "type", result.task.getType().getId());
+                    JSONUtils.field(json, "project", result.task.getProject().getName());
+                }
+                JSONUtils.field(json, "success", result.isSuccess());
+                JSONUtils.field(json, "duration", result.duration);
+                DBTTaskRun lastRun = result.task == null ? null : result.task.getLastRun();
+                if (lastRun instanceof TaskRunImpl) {
+                    JSONUtils.field(json, "runId", ((TaskRunImpl) lastRun).getId());
+                    JSONUtils.field(json, "queueWaitTime", ((TaskRunImpl) lastRun).getQueueWaitTime());
+                    JSONUtils.fieldNE(json, "message", lastRun.getExtraMessage());
+                }
+                if (result.task == null) {
+                    JSONUtils.field(json, "error", "Task not found");
+                } else if (result.error != null) {
+                    JSONUtils.field(json, "error", CommonUtils.notEmpty(result.error.getMessage()));
+                } else if (lastRun != null && !lastRun.isRunSuccess()) {
+                    JSONUtils.field(json, "error", lastRun.getErrorMessage());
+                }
+                json.endObject();
+            }
+            json.endArray();
+            json.endObject();
+            json.flush();
+            writer.write(System.lineSeparator());
+        } finally {
+            if (statsFile == null) {
+                writer.flush();
+            } else {
+                writer.close();
+            }
+        }
+    }
+
+}
@@ -20,12 +20,14 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.DBPAdaptable;
 import org.jkiss.dbeaver.model.DBPTransactionIsolation;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionContext;
 import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCSavepointImpl;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCStatementCache;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.qm.QMUtils;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
@@ -60,6 +62,7 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
     private volatile Boolean autoCommit;
     private volatile Integer transactionIsolationLevel;
     private transient volatile boolean txnIsolationLevelReadInProgress;
+    private volatile JDBCStatementCache statementCache;
 
     public JDBCExecutionContext(@NotNull JDBCRemoteInstance instance, String purpose) {
         super(instance.getDataSource(), purpose);
@@ -104,6 +107,8 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
             if (this.connection == null) {
                 throw new DBCException("Null connection returned");
             }
+            int statementCacheSize = dataSource.getContainer().getPreferenceStore().getInt(ModelPreferences.STATEMENT_CACHE_SIZE);
+            this.statementCache = statementCacheSize > 0 ? new JDBCStatementCache(statementCacheSize) : null;
             monitor.subTask("Set connection defaults");
             // Get defaults from preferences
             if (autoCommit == null) {
@@ -184,6 +189,11 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
         // [JDBC] Need sync here because real connection close could take some time
         // while UI may invoke callbacks to operate with connection
         synchronized (this) {
+            if (statementCache != null) {
+                // Statements belong to the physical connection
+                statementCache.close();
+                statementCache = null;
+            }
             // If we cannot determine if connection is in autocommit mode, assume that it is not
             if (connection != null && !dataSource.closeConnection(connection, purpose, !isAutoCommit(false))) {
                 log.debug("Connection close timeout");
@@ -210,6 +220,14 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
         return connection;
     }
 
+    /**
+     * Prepared statements cache of this context. Null if statements caching is disabled.
+     */
+    @Nullable
+    public JDBCStatementCache getStatementCache() {
+        return statementCache;
+    }
+
     @NotNull
     @Override
     public JDBCSession openSession(@NotNull DBRProgressMonitor monitor, @NotNull DBCExecutionPurpose purpose, @NotNull String taskTitle) {
@@ -251,9 +269,70 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
 
     @Override
     public void close() {
+        if (instance.releasePooledContext(this)) {
+            // Context was returned to the pool of isolated contexts
+            return;
+        }
         closeContext(true);
     }
 
+    /**
+     * Rolls back active transaction and restores default auto-commit mode and transaction isolation.
+     * Used before isolated context reuse.
+     *
+     * @return false if context state can't be reset
+     */
+    boolean resetContextState() {
+        Connection dbCon = this.connection;
+        if (dbCon == null) {
+            return false;
+        }
+        try {
+            boolean defaultAutoCommit = dataSource.getContainer().isDefaultAutoCommit();
+            if (!isAutoCommit(true)) {
+                dbCon.rollback();
+                QMUtils.getDefaultHandler().handleTransactionRollback(this, null);
+            }
+            if (autoCommit == null || autoCommit != defaultAutoCommit) {
+                dbCon.setAutoCommit(defaultAutoCommit);
+                this.autoCommit = defaultAutoCommit;
+                QMUtils.getDefaultHandler().handleTransactionAutocommit(this, defaultAutoCommit);
+            }
+            Integer txnLevel = dataSource.getContainer().getDefaultTransactionsIsolation();
+            if (txnLevel != null && !txnLevel.equals(transactionIsolationLevel)) {
+                dbCon.setTransactionIsolation(txnLevel);
+                this.transactionIsolationLevel = txnLevel;
+            }
+        } catch (Throwable e) {
+            log.debug("Can't reset context '" + purpose + "' state: " + e.getMessage());
+            return false;
+        }
+        for (String attributeName : getContextAttributes().keySet()) {
+            removeContextAttribute(attributeName);
+        }
+        try {
+            // Drivers which support request boundaries reset session state here
+            dbCon.endRequest();
+        } catch (Throwable e) {
+            log.debug("Can't end connection request: " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * Marks start of the work on a pooled connection
+     */
+    void beginContextRequest() {
+        Connection dbCon = this.connection;
+        if (dbCon != null) {
+            try {
+                dbCon.beginRequest();
+            } catch (Throwable e) {
+                log.debug("Can't begin connection request: " + e.getMessage());
+            }
+        }
+    }
+
     private void closeContext(boolean removeContext) {
         // We remove context before it is actually closed.
         // Because disconnect may (potentially) hang in socket forever
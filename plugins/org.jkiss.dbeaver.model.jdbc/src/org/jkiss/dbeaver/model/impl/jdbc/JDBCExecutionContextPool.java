@@ -0,0 +1,288 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContextDefaults;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
+import org.jkiss.dbeaver.model.struct.rdb.DBSSchema;
+
+import java.util.*;
+
+/**
+ * Pool of idle isolated contexts of a remote instance.
+ *
+ * Closed isolated contexts are kept connected and reused by the next {@link JDBCRemoteInstance#openIsolatedContext} call.
+ * Context state is reset on return (active transaction is rolled back, default auto-commit and isolation are restored,
+ * context attributes are cleared). On reuse default catalog/schema are set from the context the new one is initialized from,
+ * or restored to the ones the context had right after connect.
+ * Other session state (variables, role, temporary tables) is reset only by drivers which support JDBC request boundaries
+ * ({@link java.sql.Connection#endRequest()}), with other drivers it is carried over to the next user.
+ * Idle contexts are validated before reuse and closed after idle timeout.
+ * Pool size is configured in data source preferences ({@link ModelPreferences#CONNECTION_POOL_MAX_IDLE}).
+ */
+class JDBCExecutionContextPool {
+
+    private static final Log log = Log.getLog(JDBCExecutionContextPool.class);
+
+    private static final String POOLED_CONTEXT_NAME = "Pooled";
+    private static final long MAINTENANCE_PERIOD = 30 * 1000L;
+
+    private static class IdleContext {
+        final JDBCExecutionContext context;
+        final InitialDefaults defaults;
+        final long releaseTime;
+
+        IdleContext(JDBCExecutionContext context, InitialDefaults defaults, long releaseTime) {
+            this.context = context;
+            this.defaults = defaults;
+            this.releaseTime = releaseTime;
+        }
+    }
+
+    /**
+     * Default catalog and schema of the context right after it was connected
+     */
+    private static class InitialDefaults {
+        final DBSCatalog catalog;
+        final DBSSchema schema;
+
+        InitialDefaults(@NotNull JDBCExecutionContext context) {
+            DBCExecutionContextDefaults<?, ?> contextDefaults = context.getContextDefaults();
+            this.catalog = contextDefaults == null ? null : contextDefaults.getDefaultCatalog();
+            this.schema = contextDefaults == null ? null : contextDefaults.getDefaultSchema();
+        }
+    }
+
+    @NotNull
+    private final JDBCRemoteInstance instance;
+    // Most recently released contexts are in the end
+    private final Deque<IdleContext> idleContexts = new ArrayDeque<>();
+    // Contexts opened by the pool which are currently in use
+    private final Map<JDBCExecutionContext, InitialDefaults> activeContexts = new IdentityHashMap<>();
+    private final MaintenanceJob maintenanceJob = new MaintenanceJob();
+    private volatile boolean closed;
+
+    JDBCExecutionContextPool(@NotNull JDBCRemoteInstance instance) {
+        this.instance = instance;
+    }
+
+    private DBPPreferenceStore getPreferenceStore() {
+        return instance.getDataSource().getContainer().getPreferenceStore();
+    }
+
+    boolean isEnabled() {
+        return !closed && getPreferenceStore().getInt(ModelPreferences.CONNECTION_POOL_MAX_IDLE) > 0;
+    }
+
+    /**
+     * Returns validated idle context or null if there are no idle contexts
+     */
+    @Nullable
+    JDBCExecutionContext acquireContext(@NotNull DBRProgressMonitor monitor, @NotNull String purpose, @Nullable JDBCExecutionContext initFrom) {
+        while (!monitor.isCanceled()) {
+            IdleContext idle;
+            synchronized (this) {
+                idle = idleContexts.pollLast();
+                if (idle == null) {
+                    return null;
+                }
+                activeContexts.put(idle.context, idle.defaults);
+            }
+            JDBCExecutionContext context = idle.context;
+            try {
+                context.checkContextAlive(monitor);
+                context.beginContextRequest();
+                initContextDefaults(monitor, context, idle.defaults, initFrom);
+            } catch (Exception e) {
+                log.debug("Pooled context validation failed: " + e.getMessage());
+                discardContext(context);
+                continue;
+            }
+            context.setContextName(purpose);
+            instance.addContext(context);
+            return context;
+        }
+        return null;
+    }
+
+    /**
+     * Marks context opened by the instance as a pooled one, so it will be returned to the pool on close
+     */
+    synchronized void addActiveContext(@NotNull JDBCExecutionContext context) {
+        if (!closed) {
+            activeContexts.put(context, new InitialDefaults(context));
+        }
+    }
+
+    /**
+     * Returns context to the pool.
+     *
+     * @return false if context doesn't belong to the pool or can't be reused.
+     */
+    boolean releaseContext(@NotNull JDBCExecutionContext context) {
+        InitialDefaults defaults;
+        synchronized (this) {
+            if (!activeContexts.containsKey(context)) {
+                return false;
+            }
+            defaults = activeContexts.remove(context);
+            if (closed || idleContexts.size() >= getPreferenceStore().getInt(ModelPreferences.CONNECTION_POOL_MAX_IDLE)) {
+                return false;
+            }
+        }
+        if (!context.isConnected() || !context.resetContextState()) {
+            return false;
+        }
+        // Idle contexts are not visible in instance contexts list
+        instance.removeContext(context);
+        synchronized (this) {
+            if (closed) {
+                // Pool was closed during reset
+                return false;
+            }
+            idleContexts.addLast(new IdleContext(context, defaults, System.currentTimeMillis()));
+            context.setContextName(POOLED_CONTEXT_NAME);
+        }
+        maintenanceJob.schedule(MAINTENANCE_PERIOD);
+        return true;
+    }
+
+    private void initContextDefaults(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull JDBCExecutionContext context,
+        @NotNull InitialDefaults initialDefaults,
+        @Nullable JDBCExecutionContext initFrom
+    ) throws DBException {
+        DBCExecutionContextDefaults contextDefaults = context.getContextDefaults();
+        if (contextDefaults == null) {
+            return;
+        }
+        // Previous user could change defaults, so refresh them first
+        contextDefaults.refreshDefaults(monitor, true);
+        DBCExecutionContextDefaults initDefaults = initFrom == null ? null : initFrom.getContextDefaults();
+        DBSCatalog catalog = initDefaults == null ? initialDefaults.catalog : initDefaults.getDefaultCatalog();
+        DBSSchema schema = initDefaults == null ? initialDefaults.schema : initDefaults.getDefaultSchema();
+        if (contextDefaults.supportsCatalogChange() && catalog != null && catalog != contextDefaults.getDefaultCatalog()) {
+            contextDefaults.setDefaultCatalog(monitor, catalog, schema);
+        } else if (contextDefaults.supportsSchemaChange() && schema != null && schema != contextDefaults.getDefaultSchema()) {
+            contextDefaults.setDefaultSchema(monitor, schema);
+        }
+    }
+
+    private void discardContext(@NotNull JDBCExecutionContext context) {
+        synchronized (this) {
+            activeContexts.remove(context);
+        }
+        context.close();
+    }
+
+    /**
+     * Closes idle contexts. Contexts which are in use are closed by their owners.
+     */
+    void close() {
+        List<IdleContext> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayList<>(idleContexts);
+            idleContexts.clear();
+            activeContexts.clear();
+        }
+        maintenanceJob.cancel();
+        for (IdleContext idle : toClose) {
+            idle.context.close();
+        }
+    }
+
+    private void evictIdleContexts(@NotNull DBRProgressMonitor monitor) {
+        DBPPreferenceStore store = getPreferenceStore();
+        int minIdle = store.getInt(ModelPreferences.CONNECTION_POOL_MIN_IDLE);
+        int maxIdle = store.getInt(ModelPreferences.CONNECTION_POOL_MAX_IDLE);
+        long idleTimeout = store.getLong(ModelPreferences.CONNECTION_POOL_IDLE_TIMEOUT) * 1000;
+        long currentTime = System.currentTimeMillis();
+
+        List<JDBCExecutionContext> toClose = new ArrayList<>();
+        int missingCount;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            // The oldest contexts are in the beginning
+            for (Iterator<IdleContext> iter = idleContexts.iterator(); iter.hasNext(); ) {
+                IdleContext idle = iter.next();
+                boolean expired = idleTimeout > 0 && currentTime - idle.releaseTime > idleTimeout;
+                if (idleContexts.size() > maxIdle || (expired && idleContexts.size() > minIdle)) {
+                    toClose.add(idle.context);
+                    iter.remove();
+                }
+            }
+            missingCount = Math.min(minIdle, maxIdle) - idleContexts.size();
+        }
+        for (JDBCExecutionContext context : toClose) {
+            context.close();
+        }
+        // Keep minimal number of warm contexts
+        for (int i = 0; i < missingCount && !monitor.isCanceled() && !closed; i++) {
+            try {
+                JDBCExecutionContext context = instance.getDataSource().createExecutionContext(instance, POOLED_CONTEXT_NAME);
+                context.connect(monitor, null, null, null, false);
+                InitialDefaults defaults = new InitialDefaults(context);
+                synchronized (this) {
+                    if (!closed) {
+                        idleContexts.addFirst(new IdleContext(context, defaults, currentTime));
+                        context = null;
+                    }
+                }
+                if (context != null) {
+                    context.close();
+                }
+            } catch (DBException e) {
+                log.debug("Can't open pooled context: " + e.getMessage());
+                break;
+            }
+        }
+    }
+
+    private class MaintenanceJob extends AbstractJob {
+        MaintenanceJob() {
+            super("Connection pool maintenance (" + instance.getName() + ")");
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            evictIdleContexts(monitor);
+            synchronized (JDBCExecutionContextPool.this) {
+                if (!closed && !idleContexts.isEmpty()) {
+                    schedule(MAINTENANCE_PERIOD);
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
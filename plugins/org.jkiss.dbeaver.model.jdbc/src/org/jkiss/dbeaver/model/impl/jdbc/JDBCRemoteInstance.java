@@ -53,6 +53,7 @@ public class JDBCRemoteInstance implements DBSInstance {
     @NotNull
     private final List<JDBCExecutionContext> allContexts = new ArrayList<>();
     private final DBPExclusiveResource exclusiveLock = new SimpleExclusiveLock();
+    private volatile JDBCExecutionContextPool contextPool = new JDBCExecutionContextPool(this);
 
     protected JDBCRemoteInstance(@NotNull DBRProgressMonitor monitor, @NotNull JDBCDataSource dataSource, boolean initContext)
         throws DBException {
@@ -158,6 +159,14 @@ public class JDBCRemoteInstance implements DBSInstance {
         if (sharedInstance != null) {
             return sharedInstance.openIsolatedContext(monitor, purpose, initFrom);
         }
+        JDBCExecutionContextPool pool = this.contextPool;
+        boolean usePool = pool.isEnabled();
+        if (usePool) {
+            JDBCExecutionContext pooledContext = pool.acquireContext(monitor, purpose, (JDBCExecutionContext) initFrom);
+            if (pooledContext != null) {
+                return pooledContext;
+            }
+        }
         JDBCExecutionContext context = dataSource.createExecutionContext(this, purpose);
         DBExecUtils.tryExecuteRecover(monitor, getDataSource(), monitor1 -> {
             try {
@@ -166,9 +175,21 @@ public class JDBCRemoteInstance implements DBSInstance {
                 throw new InvocationTargetException(e);
             }
         });
+        if (usePool) {
+            pool.addActiveContext(context);
+        }
         return context;
     }
 
+    /**
+     * Returns isolated context to the pool.
+     *
+     * @return false if context is not pooled and must be closed
+     */
+    boolean releasePooledContext(@NotNull JDBCExecutionContext context) {
+        return contextPool.releaseContext(context);
+    }
+
     @NotNull
     @Override
     public JDBCExecutionContext[] getAllContexts() {
@@ -227,6 +248,11 @@ public class JDBCRemoteInstance implements DBSInstance {
     public void shutdown(DBRProgressMonitor monitor, boolean keepMeta) {
         // [JDBC] Need sync here because real connection close could take some time
         // while UI may invoke callbacks to operate with connection
+        // Close idle pooled contexts. Active ones will be closed below.
+        JDBCExecutionContextPool oldPool = contextPool;
+        contextPool = new JDBCExecutionContextPool(this);
+        oldPool.close();
+
         List<JDBCExecutionContext> ctxCopy;
         synchronized (allContexts) {
             ctxCopy = new ArrayList<>(allContexts);
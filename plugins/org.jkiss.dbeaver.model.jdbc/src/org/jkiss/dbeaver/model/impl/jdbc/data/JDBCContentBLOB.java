@@ -83,6 +83,26 @@ public class JDBCContentBLOB extends JDBCContentLOB {
         return MimeTypes.OCTET_STREAM;
     }
 
+    @Override
+    protected boolean supportsLOBPartialRead() {
+        return blob != null;
+    }
+
+    @NotNull
+    @Override
+    protected byte[] readLOBBytes(long offset, int length) throws DBCException {
+        long partLength = Math.min(length, getLOBLength() - offset);
+        if (partLength <= 0) {
+            return new byte[0];
+        }
+        try {
+            // LOB positions start from 1
+            return blob.getBytes(offset + 1, (int) partLength);
+        } catch (Throwable e) {
+            throw new DBCException(e, executionContext);
+        }
+    }
+
     @Override
     public DBDContentStorage getContents(DBRProgressMonitor monitor)
         throws DBCException
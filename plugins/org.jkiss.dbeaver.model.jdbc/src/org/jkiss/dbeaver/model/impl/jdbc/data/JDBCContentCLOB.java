@@ -84,6 +84,32 @@ public class JDBCContentCLOB extends JDBCContentLOB implements DBDContent {
         return MimeTypes.TEXT_PLAIN;
     }
 
+    @Override
+    protected boolean supportsLOBPartialRead() {
+        return clob != null;
+    }
+
+    @NotNull
+    @Override
+    protected String readLOBChars(long offset, int length) throws DBCException {
+        long partLength = Math.min(length, getLOBLength() - offset);
+        if (partLength <= 0) {
+            return "";
+        }
+        try {
+            // LOB positions start from 1
+            return clob.getSubString(offset + 1, (int) partLength);
+        } catch (Throwable e) {
+            throw new DBCException(e, executionContext);
+        }
+    }
+
+    @NotNull
+    @Override
+    protected byte[] readLOBBytes(long offset, int length) throws DBCException {
+        return readLOBChars(offset, length).getBytes(Charset.forName(getDefaultEncoding()));
+    }
+
     @Override
     public DBDContentStorage getContents(DBRProgressMonitor monitor)
         throws DBCException
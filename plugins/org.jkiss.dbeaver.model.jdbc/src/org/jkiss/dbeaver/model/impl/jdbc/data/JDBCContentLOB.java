@@ -16,8 +16,9 @@
  */
 package org.jkiss.dbeaver.model.impl.jdbc.data;
 
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.model.DBUtils;
-import org.jkiss.dbeaver.model.data.DBDContent;
+import org.jkiss.dbeaver.model.data.DBDContentPartial;
 import org.jkiss.dbeaver.model.data.DBDContentStorage;
 import org.jkiss.dbeaver.model.data.DBDValueCloneable;
 import org.jkiss.dbeaver.model.exec.DBCException;
@@ -26,16 +27,21 @@ import org.jkiss.dbeaver.model.exec.DBCTransactionManager;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.utils.ContentUtils;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
 
 /**
  * JDBCContentLOB
  *
  * @author Serge Rider
  */
-public abstract class JDBCContentLOB extends JDBCContentAbstract implements DBDContent {
+public abstract class JDBCContentLOB extends JDBCContentAbstract implements DBDContentPartial {
 
     private static final String ERROR_MESSAGE_PARAM_IS_SHOWN = "lob-reading-error-message-is-shown";
 
@@ -61,6 +67,94 @@ public abstract class JDBCContentLOB extends JDBCContentAbstract implements DBDC
 
     protected abstract long getLOBLength() throws DBCException;
 
+    /**
+     * Checks that parts of the database value can be read. Otherwise the whole value is loaded on the first part read.
+     */
+    protected boolean supportsLOBPartialRead() {
+        return false;
+    }
+
+    /**
+     * Reads part of the database value. Called only if {@link #supportsLOBPartialRead()} is true.
+     */
+    @NotNull
+    protected byte[] readLOBBytes(long offset, int length) throws DBCException {
+        throw new DBCException("Partial reading is not supported by " + getClass().getSimpleName());
+    }
+
+    /**
+     * Reads part of the database value as text. Called only for text values if {@link #supportsLOBPartialRead()} is true.
+     * Binary values are read by bytes and decoded, see {@link DBDContentPartial#readChars}.
+     */
+    @NotNull
+    protected String readLOBChars(long offset, int length) throws DBCException {
+        throw new DBCException("Partial reading is not supported by " + getClass().getSimpleName());
+    }
+
+    @Override
+    public boolean isPartialReadSupported() {
+        return storage != null || supportsLOBPartialRead();
+    }
+
+    @NotNull
+    @Override
+    public byte[] readBytes(@NotNull DBRProgressMonitor monitor, long offset, int length) throws DBCException {
+        if (storage == null && supportsLOBPartialRead()) {
+            return readLOBBytes(offset, length);
+        }
+        if (ContentUtils.isTextContent(this)) {
+            return readChars(monitor, offset, length).getBytes(Charset.forName(getDefaultEncoding()));
+        }
+        DBDContentStorage contents = getContents(monitor);
+        if (contents == null) {
+            return new byte[0];
+        }
+        try (InputStream stream = contents.getContentStream()) {
+            stream.skipNBytes(offset);
+            return stream.readNBytes(length);
+        } catch (EOFException e) {
+            return new byte[0];
+        } catch (IOException e) {
+            throw new DBCException("Error reading content part", e);
+        }
+    }
+
+    @NotNull
+    @Override
+    public String readChars(@NotNull DBRProgressMonitor monitor, long offset, int length) throws DBCException {
+        if (!ContentUtils.isTextContent(this)) {
+            return new String(readBytes(monitor, offset, length), Charset.forName(getDefaultEncoding()));
+        }
+        if (storage == null && supportsLOBPartialRead()) {
+            return readLOBChars(offset, length);
+        }
+        DBDContentStorage contents = getContents(monitor);
+        if (contents == null) {
+            return "";
+        }
+        try (Reader reader = contents.getContentReader()) {
+            for (long skipped = 0; skipped < offset; ) {
+                long count = reader.skip(offset - skipped);
+                if (count <= 0) {
+                    return "";
+                }
+                skipped += count;
+            }
+            char[] buffer = new char[length];
+            int count = 0;
+            while (count < length) {
+                int read = reader.read(buffer, count, length - count);
+                if (read < 0) {
+                    break;
+                }
+                count += read;
+            }
+            return new String(buffer, 0, count);
+        } catch (IOException e) {
+            throw new DBCException("Error reading content part", e);
+        }
+    }
+
     @Override
     public boolean updateContents(
         DBRProgressMonitor monitor,
@@ -184,6 +184,18 @@ public class JDBCConnectionImpl extends AbstractSession implements JDBCSession,
                     }
                 }
             } else {
+                JDBCStatementCache statementCache = context.getStatementCache();
+                if (statementCache != null) {
+                    JDBCPreparedStatement cachedStat = statementCache.openStatement(
+                        this,
+                        sqlQuery,
+                        scrollable ? ResultSet.TYPE_SCROLL_INSENSITIVE : ResultSet.TYPE_FORWARD_ONLY,
+                        updatable ? ResultSet.CONCUR_UPDATABLE : ResultSet.CONCUR_READ_ONLY);
+                    if (cachedStat != null) {
+                        return cachedStat;
+                    }
+                    // Fallback to generic statement
+                }
                 JDBCPreparedStatement dbStat;
                 try {
                     // Generic prepared statement
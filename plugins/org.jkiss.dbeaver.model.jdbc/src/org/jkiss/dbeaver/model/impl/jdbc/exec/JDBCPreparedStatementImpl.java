@@ -53,6 +53,11 @@ public class JDBCPreparedStatementImpl extends JDBCStatementImpl<PreparedStateme
     private static final Object NULL_VALUE = new Object();
 
     private Map<Object, Object> paramMap;
+    // Cache which owns original statement. Null for regular statements.
+    @Nullable
+    private JDBCStatementCache statementCache;
+    private boolean batchUsed;
+    private boolean closed;
 
     protected static class ContentParameter {
         String displayString;
@@ -91,6 +96,13 @@ public class JDBCPreparedStatementImpl extends JDBCStatementImpl<PreparedStateme
 
     @Override
     public void close() {
+        if (statementCache != null) {
+            // Original statement may be already given to another user, so the second close must do nothing
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
         if (paramMap != null) {
             paramMap.clear();
             paramMap = null;
@@ -98,6 +110,30 @@ public class JDBCPreparedStatementImpl extends JDBCStatementImpl<PreparedStateme
         super.close();
     }
 
+    @Override
+    protected void closeOriginal() {
+        if (statementCache != null) {
+            statementCache.releaseStatement(this);
+        } else {
+            super.closeOriginal();
+        }
+    }
+
+    void setStatementCache(@Nullable JDBCStatementCache statementCache) {
+        this.statementCache = statementCache;
+    }
+
+    boolean isBatchUsed() {
+        return batchUsed;
+    }
+
+    /**
+     * Closes original statement even if it belongs to the statement cache
+     */
+    void dropOriginal() {
+        super.closeOriginal();
+    }
+
     public String getFormattedQuery() {
         if (paramMap == null) {
             return getQueryString();
@@ -450,6 +486,7 @@ public class JDBCPreparedStatementImpl extends JDBCStatementImpl<PreparedStateme
     public void addBatch()
         throws SQLException
     {
+        batchUsed = true;
         getOriginal().addBatch();
     }
 
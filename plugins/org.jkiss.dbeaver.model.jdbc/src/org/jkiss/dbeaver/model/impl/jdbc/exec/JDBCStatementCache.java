@@ -0,0 +1,248 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPErrorAssistant;
+import org.jkiss.dbeaver.model.exec.DBExecUtils;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.*;
+
+/**
+ * Prepared statements cache of a single execution context (i.e. of a single physical connection).
+ * Statements are keyed by query text and result set type/concurrency.
+ *
+ * Cached statement is given to one user at a time: it is removed from the cache when opened and
+ * returned back on close. Statement state (parameters, max rows, timeout, fetch size) is reset on return.
+ * Least recently used statements are closed when cache size exceeds the limit.
+ */
+public class JDBCStatementCache {
+
+    private static final Log log = Log.getLog(JDBCStatementCache.class);
+
+    static final class StatementKey {
+        private final String query;
+        private final int resultSetType;
+        private final int resultSetConcurrency;
+
+        StatementKey(@NotNull String query, int resultSetType, int resultSetConcurrency) {
+            this.query = query;
+            this.resultSetType = resultSetType;
+            this.resultSetConcurrency = resultSetConcurrency;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey key = (StatementKey) obj;
+            return resultSetType == key.resultSetType &&
+                resultSetConcurrency == key.resultSetConcurrency &&
+                query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return (query.hashCode() * 31 + resultSetType) * 31 + resultSetConcurrency;
+        }
+    }
+
+    private static final class CachedStatement {
+        private final StatementKey key;
+        private final PreparedStatement statement;
+        private final int defaultFetchSize;
+
+        CachedStatement(StatementKey key, PreparedStatement statement, int defaultFetchSize) {
+            this.key = key;
+            this.statement = statement;
+            this.defaultFetchSize = defaultFetchSize;
+        }
+    }
+
+    private final int maxSize;
+    // Access ordered, so the first entry is the least recently used one
+    private final LinkedHashMap<StatementKey, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+    // Statements which are currently in use
+    private final Map<PreparedStatement, CachedStatement> openedStatements = new IdentityHashMap<>();
+    private boolean closed;
+
+    public JDBCStatementCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized int getSize() {
+        return statements.size();
+    }
+
+    /**
+     * Returns cached statement or prepares a new one.
+     * Statement wrapper is created by the data source JDBC factory.
+     * Returns null if driver doesn't support statements of the specified type.
+     */
+    @Nullable
+    public JDBCPreparedStatement openStatement(
+        @NotNull JDBCSession session,
+        @NotNull String query,
+        int resultSetType,
+        int resultSetConcurrency) throws SQLException
+    {
+        StatementKey key = new StatementKey(query, resultSetType, resultSetConcurrency);
+        CachedStatement cached;
+        synchronized (this) {
+            cached = statements.remove(key);
+            if (cached != null) {
+                openedStatements.put(cached.statement, cached);
+            }
+        }
+        if (cached == null) {
+            PreparedStatement original;
+            try {
+                original = session.getOriginal().prepareStatement(query, resultSetType, resultSetConcurrency);
+            } catch (SQLFeatureNotSupportedException | UnsupportedOperationException | IncompatibleClassChangeError e) {
+                return null;
+            } catch (SQLException e) {
+                if (DBExecUtils.discoverErrorType(session.getDataSource(), e) == DBPErrorAssistant.ErrorType.FEATURE_UNSUPPORTED) {
+                    return null;
+                }
+                throw e;
+            }
+            if (original == null) {
+                throw new IllegalArgumentException("Null statement");
+            }
+            int defaultFetchSize;
+            try {
+                defaultFetchSize = original.getFetchSize();
+            } catch (Throwable e) {
+                // Fetch size can't be reset, so statement won't be cached
+                defaultFetchSize = -1;
+            }
+            cached = new CachedStatement(key, original, defaultFetchSize);
+            synchronized (this) {
+                openedStatements.put(original, cached);
+            }
+        }
+        JDBCPreparedStatement statement = session.getDataSource().getJdbcFactory().createPreparedStatement(
+            session, cached.statement, query, !session.isLoggingEnabled());
+        if (statement instanceof JDBCPreparedStatementImpl) {
+            ((JDBCPreparedStatementImpl) statement).setStatementCache(this);
+        } else {
+            // Custom statement implementation closes original statement itself
+            synchronized (this) {
+                openedStatements.remove(cached.statement);
+            }
+        }
+        return statement;
+    }
+
+    /**
+     * Returns statement to the cache. Statement is closed if it can't be reused.
+     */
+    void releaseStatement(@NotNull JDBCPreparedStatementImpl statement) {
+        PreparedStatement original = statement.getOriginal();
+        CachedStatement opened;
+        synchronized (this) {
+            opened = openedStatements.remove(original);
+        }
+        if (opened == null) {
+            // Not owned by the cache anymore
+            return;
+        }
+        if (opened.defaultFetchSize < 0 || !resetStatement(statement, opened.defaultFetchSize)) {
+            statement.dropOriginal();
+            return;
+        }
+        List<CachedStatement> evicted = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                evicted.add(opened);
+            } else {
+                CachedStatement prev = statements.put(opened.key, opened);
+                if (prev != null) {
+                    // The same query was opened twice simultaneously
+                    evicted.add(prev);
+                }
+                for (Iterator<CachedStatement> iter = statements.values().iterator(); statements.size() > maxSize && iter.hasNext(); ) {
+                    evicted.add(iter.next());
+                    iter.remove();
+                }
+            }
+        }
+        closeStatements(evicted);
+    }
+
+    private static boolean resetStatement(@NotNull JDBCPreparedStatementImpl statement, int defaultFetchSize) {
+        PreparedStatement original = statement.getOriginal();
+        try {
+            if (original.isClosed()) {
+                return false;
+            }
+            original.clearParameters();
+            if (statement.isBatchUsed()) {
+                original.clearBatch();
+            }
+            if (original.getMaxRows() != 0) {
+                original.setMaxRows(0);
+            }
+            if (original.getQueryTimeout() != 0) {
+                original.setQueryTimeout(0);
+            }
+            if (original.getFetchSize() != defaultFetchSize) {
+                original.setFetchSize(defaultFetchSize);
+            }
+            return true;
+        } catch (Throwable e) {
+            log.debug("Can't reset cached statement state: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Closes all cached statements. Statements which are currently in use are closed on release.
+     */
+    public void close() {
+        List<CachedStatement> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayList<>(statements.values());
+            statements.clear();
+        }
+        closeStatements(toClose);
+    }
+
+    private static void closeStatements(List<CachedStatement> statements) {
+        for (CachedStatement cached : statements) {
+            try {
+                cached.statement.close();
+            } catch (Throwable e) {
+                log.debug("Can't close cached statement: " + e.getMessage());
+            }
+        }
+    }
+
+}
@@ -493,7 +493,14 @@ public class JDBCStatementImpl<STATEMENT extends Statement> extends AbstractStat
             QMUtils.getDefaultHandler().handleStatementClose(this, updateCount);
         }
 
-        // Close statement
+        closeOriginal();
+    }
+
+    /**
+     * Closes original statement. Called by {@link #close()} after query manager notification.
+     */
+    protected void closeOriginal()
+    {
         try {
             getOriginal().close();
         }
@@ -20,6 +20,7 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.exec.*;
@@ -34,6 +35,7 @@ import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCStructCache;
 import org.jkiss.dbeaver.model.impl.jdbc.data.handlers.JDBCStringValueHandler;
 import org.jkiss.dbeaver.model.impl.sql.ChangeTableDataStatement;
 import org.jkiss.dbeaver.model.impl.struct.AbstractTable;
+import org.jkiss.dbeaver.model.impl.struct.DictionaryCache;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
@@ -49,10 +51,13 @@ import org.jkiss.utils.CommonUtils;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.stream.Collectors;
 
 /**
@@ -65,8 +70,11 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     private static final Log log = Log.getLog(JDBCTable.class);
 
     private static final String DEFAULT_TABLE_ALIAS = "x";
+    // Number of random key ranges in sample if server side sampling is not supported
+    private static final int SAMPLE_KEY_RANGES = 16;
 
     private boolean persisted;
+    private volatile JDBCTableKeyset keyset;
 
     protected JDBCTable(CONTAINER container, boolean persisted)
     {
@@ -113,9 +121,9 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     public String[] getSupportedFeatures()
     {
         if (isTruncateSupported()) {
-            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE, FEATURE_DATA_TRUNCATE};
+            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_COUNT_ESTIMATE, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_SAMPLE, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE, FEATURE_DATA_TRUNCATE};
         } else {
-            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE};
+            return new String[] {FEATURE_DATA_COUNT, FEATURE_DATA_COUNT_ESTIMATE, FEATURE_DATA_FILTER, FEATURE_DATA_SEARCH, FEATURE_DATA_SAMPLE, FEATURE_DATA_INSERT, FEATURE_DATA_UPDATE, FEATURE_DATA_DELETE};
         }
     }
 
@@ -154,16 +162,50 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             rowIdAttribute = null;
         }
 
+        boolean sampled = dataFilter != null && dataFilter.isSampled();
+        String sampleClause = sampled ? getTableSampleClause(dataFilter) : null;
+        String sampleCondition = sampled && sampleClause == null ? makeSampleCondition(session, tableAlias, dataFilter) : null;
+
         StringBuilder query = new StringBuilder(100);
         query.append("SELECT ");
         appendSelectSource(monitor, query, tableAlias, rowIdAttribute);
-        query.append(" FROM ").append(getTableName());
-        if (tableAlias != null) {
-            query.append(" ").append(tableAlias); //$NON-NLS-1$
-        }
+        query.append(" FROM ");
+        appendTableSource(query, tableAlias, sampleClause);
         appendExtraSelectParameters(query);
-        SQLUtils.appendQueryConditions(dataSource, query, tableAlias, dataFilter);
-        SQLUtils.appendQueryOrder(dataSource, query, tableAlias, dataFilter);
+
+        // All limited reads (including the first segment) are ordered by the keyset key,
+        // otherwise next segments would be read from differently ordered rows.
+        // Sample segments are not stable, so keyset is not used for them.
+        JDBCTableKeyset segmentKeyset = hasLimits && !sampled ? getKeyset(monitor, dataSource, dataFilter) : null;
+        StringBuilder orderClause = new StringBuilder();
+        if (segmentKeyset != null && (dataFilter == null || !dataFilter.hasOrdering())) {
+            segmentKeyset.appendOrder(orderClause, tableAlias);
+        } else {
+            SQLUtils.appendQueryOrder(dataSource, orderClause, tableAlias, dataFilter);
+        }
+        // Query without keyset condition identifies segments
+        String segmentQuery = null;
+        Object[] segmentStartKey = null;
+        if (segmentKeyset != null) {
+            StringBuilder conditionClause = new StringBuilder();
+            SQLUtils.appendQueryConditions(dataSource, conditionClause, tableAlias, dataFilter);
+            segmentQuery = query.toString() + conditionClause + orderClause;
+            if (firstRow > 0) {
+                segmentStartKey = segmentKeyset.getSegmentKey(segmentQuery, firstRow);
+            }
+        }
+        if (segmentStartKey != null) {
+            query.append("\nWHERE "); //$NON-NLS-1$
+            if (dataFilter != null && dataFilter.hasConditions()) {
+                query.append("(");
+                dataSource.getSQLDialect().getQueryGenerator().appendConditionString(dataFilter, dataSource, tableAlias, query, true);
+                query.append(") AND ");
+            }
+            segmentKeyset.appendCondition(query, tableAlias);
+        } else {
+            appendQueryConditions(query, tableAlias, dataFilter, sampleCondition);
+        }
+        query.append(orderClause);
 
         String sqlQuery = query.toString();
         statistics.setQueryText(sqlQuery);
@@ -173,14 +215,17 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         try (DBCStatement dbStat = DBUtils.makeStatement(
             source,
             session,
-            DBCStatementType.SCRIPT,
+            segmentStartKey != null ? DBCStatementType.QUERY : DBCStatementType.SCRIPT,
             sqlQuery,
-            firstRow,
+            segmentStartKey != null ? 0 : firstRow,
             maxRows))
         {
             if (monitor.isCanceled()) {
                 return statistics;
             }
+            if (segmentStartKey != null) {
+                segmentKeyset.bindCondition(session, dbStat, segmentStartKey);
+            }
             if (dbStat instanceof JDBCStatement && (fetchSize > 0 || maxRows > 0)) {
                 DBExecUtils.setStatementFetchSize(dbStat, firstRow, maxRows, fetchSize);
             }
@@ -194,6 +239,9 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
                     try {
                         dataReceiver.fetchStart(session, dbResult, firstRow, maxRows);
 
+                        int[] keyIndexes = segmentKeyset == null ? null : segmentKeyset.getResultSetIndexes(dbResult);
+                        Object[] lastKey = null;
+                        long rowCount = 0;
                         DBFetchProgress fetchProgress = new DBFetchProgress(session.getProgressMonitor());
                         while (dbResult.nextRow()) {
                             if (fetchProgress.isCanceled() || (hasLimits && fetchProgress.isMaxRowsFetched(maxRows))) {
@@ -201,9 +249,17 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
                                 break;
                             }
                             dataReceiver.fetchRow(session, dbResult);
+                            if (keyIndexes != null) {
+                                lastKey = segmentKeyset.readKey(session, dbResult, keyIndexes);
+                            }
+                            rowCount++;
                             fetchProgress.monitorRowFetch();
                         }
                         fetchProgress.dumpStatistics(statistics);
+                        if (lastKey != null && rowCount == maxRows) {
+                            // Remember where the next segment starts
+                            segmentKeyset.setSegmentKey(segmentQuery, firstRow + rowCount, lastKey);
+                        }
                     } finally {
                         // First - close cursor
                         try {
@@ -226,11 +282,142 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         }
     }
 
+    /**
+     * Returns keyset for segments pagination or null if it can't be used for this table or data filter
+     */
+    @Nullable
+    private JDBCTableKeyset getKeyset(@NotNull DBRProgressMonitor monitor, @NotNull DBPDataSource dataSource, @Nullable DBDDataFilter dataFilter) {
+        if (!dataSource.getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_KEYSET_PAGINATION)) {
+            return null;
+        }
+        JDBCTableKeyset newKeyset;
+        try {
+            newKeyset = JDBCTableKeyset.create(DBUtils.getBestTableIdentifier(monitor, this), dataFilter);
+        } catch (DBException e) {
+            log.debug("Error reading table unique key", e);
+            return null;
+        }
+        if (newKeyset == null) {
+            return null;
+        }
+        JDBCTableKeyset curKeyset = keyset;
+        if (curKeyset != null && curKeyset.isSameKey(newKeyset)) {
+            return curKeyset;
+        }
+        keyset = newKeyset;
+        return newKeyset;
+    }
+
     @NotNull
     protected String getTableName() {
         return getFullyQualifiedName(DBPEvaluationContext.DML);
     }
 
+    /**
+     * Appends table name, alias and sample clause in the FROM clause
+     */
+    protected void appendTableSource(@NotNull StringBuilder query, @Nullable String tableAlias, @Nullable String sampleClause) {
+        query.append(getTableName());
+        if (tableAlias != null) {
+            query.append(" ").append(tableAlias); //$NON-NLS-1$
+        }
+        if (sampleClause != null) {
+            query.append(" ").append(sampleClause); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Returns server side sampling clause or null if table can't be sampled by the server.
+     */
+    @Nullable
+    protected String getTableSampleClause(@NotNull DBDDataFilter dataFilter) {
+        return getDataSource().getSQLDialect().getTableSampleClause(dataFilter.getSamplePercent(), dataFilter.getSampleSeed());
+    }
+
+    /**
+     * Makes sample condition from random ranges of the numeric unique key.
+     * Ranges cover sample percent of the key values. Each range is read by index, so the whole table is not scanned.
+     * The same seed gives the same ranges.
+     */
+    @NotNull
+    private String makeSampleCondition(@NotNull DBCSession session, @Nullable String tableAlias, @NotNull DBDDataFilter dataFilter) throws DBCException {
+        List<? extends DBSEntityAttribute> keyAttributes;
+        try {
+            keyAttributes = DBUtils.getBestTableIdentifier(session.getProgressMonitor(), this);
+        } catch (DBException e) {
+            throw new DBCException("Error reading table unique key", e);
+        }
+        if (keyAttributes.size() != 1 || keyAttributes.get(0).getDataKind() != DBPDataKind.NUMBER) {
+            throw new DBCException("Table '" + getName() + "' can't be sampled: sampling is not supported by the database and table has no numeric unique key");
+        }
+        String keyName = DBUtils.getQuotedIdentifier(keyAttributes.get(0));
+        if (tableAlias != null) {
+            keyName = tableAlias + "." + keyName;
+        }
+
+        Object minKey = null, maxKey = null;
+        try (DBCStatement dbStat = session.prepareStatement(
+            DBCStatementType.QUERY,
+            "SELECT MIN(" + keyName + "),MAX(" + keyName + ") FROM " + getTableName() + (tableAlias == null ? "" : " " + tableAlias),
+            false, false, false))
+        {
+            if (dbStat.executeStatement()) {
+                DBCResultSet dbResult = dbStat.openResultSet();
+                if (dbResult != null) {
+                    try {
+                        if (dbResult.nextRow()) {
+                            minKey = dbResult.getAttributeValue(0);
+                            maxKey = dbResult.getAttributeValue(1);
+                        }
+                    } finally {
+                        dbResult.close();
+                    }
+                }
+            }
+        }
+        if (!(minKey instanceof Number) || !(maxKey instanceof Number)) {
+            // Empty table
+            return "1=0"; //$NON-NLS-1$
+        }
+        long minValue = ((Number) minKey).longValue();
+        double keyRange = ((Number) maxKey).doubleValue() - minValue + 1;
+        double sampleWidth = keyRange * dataFilter.getSamplePercent() / 100;
+        int rangeCount = (int) Math.max(1, Math.min(SAMPLE_KEY_RANGES, sampleWidth));
+        long rangeWidth = Math.max(1, (long) (sampleWidth / rangeCount));
+        long[] rangeStarts = new long[rangeCount];
+        Random random = new Random(dataFilter.getSampleSeed());
+        for (int i = 0; i < rangeCount; i++) {
+            rangeStarts[i] = minValue + (long) (random.nextDouble() * Math.max(0, keyRange - rangeWidth));
+        }
+        Arrays.sort(rangeStarts);
+
+        StringBuilder condition = new StringBuilder("(");
+        for (int i = 0; i < rangeCount; i++) {
+            if (i > 0) {
+                condition.append(" OR ");
+            }
+            condition.append("(").append(keyName).append(" >= ").append(rangeStarts[i])
+                .append(" AND ").append(keyName).append(" < ").append(rangeStarts[i] + rangeWidth).append(")");
+        }
+        condition.append(")");
+        return condition.toString();
+    }
+
+    private void appendQueryConditions(@NotNull StringBuilder query, @Nullable String tableAlias, @Nullable DBDDataFilter dataFilter, @Nullable String sampleCondition) {
+        DATASOURCE dataSource = getDataSource();
+        if (sampleCondition == null) {
+            SQLUtils.appendQueryConditions(dataSource, query, tableAlias, dataFilter);
+            return;
+        }
+        query.append("\nWHERE "); //$NON-NLS-1$
+        if (dataFilter != null && dataFilter.hasConditions()) {
+            query.append("(");
+            dataSource.getSQLDialect().getQueryGenerator().appendConditionString(dataFilter, dataSource, tableAlias, query, true);
+            query.append(") AND ");
+        }
+        query.append(sampleCondition);
+    }
+
     protected void appendSelectSource(DBRProgressMonitor monitor, StringBuilder query, String tableAlias, DBDPseudoAttribute rowIdAttribute) throws DBCException {
         String asteriskString = getDataSource().getSQLDialect().getAllAttributesAlias();
         if (asteriskString == null) {
@@ -283,16 +470,23 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
     @Override
     public long countData(@NotNull DBCExecutionSource source, @NotNull DBCSession session, @Nullable DBDDataFilter dataFilter, long flags) throws DBCException
     {
+        boolean sampled = dataFilter != null && dataFilter.isSampled();
+        if ((flags & FLAG_ESTIMATE_COUNT) != 0) {
+            return sampled ? -1 : estimateRowCount(session, dataFilter);
+        }
         DBRProgressMonitor monitor = session.getProgressMonitor();
         String asteriskString = getDataSource().getSQLDialect().getDefaultGroupAttribute();
         if (asteriskString == null) {
             asteriskString = "";
         }
 
+        String sampleClause = sampled ? getTableSampleClause(dataFilter) : null;
+        String sampleCondition = sampled && sampleClause == null ? makeSampleCondition(session, null, dataFilter) : null;
+
         StringBuilder query = new StringBuilder();
         query.append("SELECT COUNT(").append(asteriskString).append(") FROM "); //$NON-NLS-1$
-        query.append(getTableName());
-        SQLUtils.appendQueryConditions(getDataSource(), query, null, dataFilter);
+        appendTableSource(query, null, sampleClause);
+        appendQueryConditions(query, null, dataFilter, sampleCondition);
         monitor.subTask(ModelMessages.model_jdbc_fetch_table_row_count);
         try (DBCStatement dbStat = session.prepareStatement(
             DBCStatementType.QUERY,
@@ -326,6 +520,14 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         }
     }
 
+    /**
+     * Returns row count estimated from the database statistics or negative value if estimate is not available.
+     * Must not scan table data. Data filter may be ignored only if it has no conditions.
+     */
+    protected long estimateRowCount(@NotNull DBCSession session, @Nullable DBDDataFilter dataFilter) throws DBCException {
+        return -1;
+    }
+
     ////////////////////////////////////////////////////////////////////
     // Insert
 
@@ -541,18 +743,23 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         int offset,
         int maxResults
     ) throws DBException {
-        return readKeyEnumeration(
-            monitor,
-            keyColumn,
-            keyPattern,
-            searchText,
-            preceedingKeys,
-            sortByValue,
-            sortAsc,
-            caseInsensitiveSearch,
-            maxResults,
-            offset
-        );
+        String descColumns = DBVUtils.getDictionaryDescriptionColumns(monitor, keyColumn);
+        return DictionaryCache.getInstance(getDataSource()).getPage(
+            this,
+            makeDictionaryScope(keyColumn, descColumns, preceedingKeys),
+            Arrays.asList(keyPattern, searchText, caseInsensitiveSearch, sortAsc, sortByValue, offset, maxResults),
+            () -> readKeyEnumeration(
+                monitor,
+                keyColumn,
+                keyPattern,
+                searchText,
+                preceedingKeys,
+                sortByValue,
+                sortAsc,
+                caseInsensitiveSearch,
+                maxResults,
+                offset
+            ));
     }
 
     @NotNull
@@ -565,26 +772,49 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         boolean sortByValue,
         boolean sortAsc) throws DBException
     {
-        DBDValueHandler keyValueHandler = DBUtils.findValueHandler(keyColumn.getDataSource(), keyColumn);
+        String descColumns = DBVUtils.getDictionaryDescriptionColumns(monitor, keyColumn);
+        List<DBDLabelValuePair> values = DictionaryCache.getInstance(getDataSource()).getValues(
+            this,
+            makeDictionaryScope(keyColumn, descColumns, preceedingKeys),
+            keyValues,
+            keys -> {
+                try (JDBCSession session = DBUtils.openUtilSession(monitor, this, "Load dictionary values")) {
+                    return readDictionaryValues(session, keyColumn, descColumns, keys, preceedingKeys);
+                }
+            });
+        // Values are collected from the cache and from several queries, so they are sorted here
+        Comparator<DBDLabelValuePair> comparator = sortByValue ?
+            (o1, o2) -> DBUtils.compareDataValues(o1.getValue(), o2.getValue()) :
+            Comparator.comparing(DBDLabelValuePair::getLabel, Comparator.nullsFirst(Comparator.naturalOrder()));
+        values.sort(sortAsc ? comparator : comparator.reversed());
+        return values;
+    }
+
+    /**
+     * Reads labels of the specified keys with a single IN query
+     */
+    @NotNull
+    private List<DBDLabelValuePair> readDictionaryValues(
+        @NotNull JDBCSession session,
+        @NotNull DBSEntityAttribute keyColumn,
+        @Nullable String descColumns,
+        @NotNull List<Object> keyValues,
+        @Nullable List<DBDAttributeValue> preceedingKeys) throws DBException
+    {
+        DBDValueHandler keyValueHandler = DBUtils.findValueHandler(session, keyColumn);
 
         StringBuilder query = new StringBuilder();
         query.append("SELECT ").append(DBUtils.getQuotedIdentifier(keyColumn));
-
-        String descColumns = DBVUtils.getDictionaryDescriptionColumns(monitor, keyColumn);
         if (descColumns != null) {
             query.append(", ").append(descColumns);
         }
         query.append(" FROM ").append(DBUtils.getObjectFullName(this, DBPEvaluationContext.DML)).append(" WHERE ");
-        boolean hasCond = false;
         // Preceeding keys
-        if (preceedingKeys != null && !preceedingKeys.isEmpty()) {
+        if (preceedingKeys != null) {
             for (DBDAttributeValue pk : preceedingKeys) {
-                if (hasCond) query.append(" AND ");
-                query.append(DBUtils.getQuotedIdentifier(getDataSource(), pk.getAttribute().getName())).append(" = ?");
-                hasCond = true;
+                query.append(DBUtils.getQuotedIdentifier(getDataSource(), pk.getAttribute().getName())).append(" = ? AND ");
             }
         }
-        if (hasCond) query.append(" AND ");
         query.append(DBUtils.getQuotedIdentifier(keyColumn)).append(" IN (");
         for (int i = 0; i < keyValues.size(); i++) {
             if (i > 0) query.append(",");
@@ -592,39 +822,47 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         }
         query.append(")");
 
-        query.append(" ORDER BY ");
-        if (sortByValue) {
-            query.append(DBUtils.getQuotedIdentifier(keyColumn));
-        } else {
-            // Sort by description
-            query.append(descColumns);
-        }
-        if (!sortAsc) {
-            query.append(" DESC");
-        }
-
-        try (JDBCSession session = DBUtils.openUtilSession(monitor, this, "Load dictionary values")) {
-            try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, query.toString(), false, false, false)) {
-                int paramPos = 0;
-                if (preceedingKeys != null && !preceedingKeys.isEmpty()) {
-                    for (DBDAttributeValue precAttribute : preceedingKeys) {
-                        DBDValueHandler precValueHandler = DBUtils.findValueHandler(session, precAttribute.getAttribute());
-                        precValueHandler.bindValueObject(session, dbStat, precAttribute.getAttribute(), paramPos++, precAttribute.getValue());
-                    }
-                }
-                for (Object value : keyValues) {
-                    keyValueHandler.bindValueObject(session, dbStat, keyColumn, paramPos++, value);
+        try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, query.toString(), false, false, false)) {
+            int paramPos = 0;
+            if (preceedingKeys != null) {
+                for (DBDAttributeValue precAttribute : preceedingKeys) {
+                    DBDValueHandler precValueHandler = DBUtils.findValueHandler(session, precAttribute.getAttribute());
+                    precValueHandler.bindValueObject(session, dbStat, precAttribute.getAttribute(), paramPos++, precAttribute.getValue());
                 }
-                dbStat.setLimit(0, keyValues.size());
-                if (dbStat.executeStatement()) {
-                    try (DBCResultSet dbResult = dbStat.openResultSet()) {
-                        return DBVUtils.readDictionaryRows(session, keyColumn, keyValueHandler, dbResult, true, false);
-                    }
-                } else {
-                    return Collections.emptyList();
+            }
+            for (Object value : keyValues) {
+                keyValueHandler.bindValueObject(session, dbStat, keyColumn, paramPos++, value);
+            }
+            dbStat.setLimit(0, keyValues.size());
+            if (dbStat.executeStatement()) {
+                try (DBCResultSet dbResult = dbStat.openResultSet()) {
+                    return DBVUtils.readDictionaryRows(session, keyColumn, keyValueHandler, dbResult, true, false);
                 }
+            } else {
+                return Collections.emptyList();
+            }
+        }
+    }
+
+    /**
+     * Dictionary values are cached per key column, description and preceding key values
+     */
+    @NotNull
+    private static List<Object> makeDictionaryScope(
+        @NotNull DBSEntityAttribute keyColumn,
+        @Nullable String descColumns,
+        @Nullable List<DBDAttributeValue> preceedingKeys)
+    {
+        List<Object> scope = new ArrayList<>();
+        scope.add(keyColumn.getName());
+        scope.add(descColumns);
+        if (preceedingKeys != null) {
+            for (DBDAttributeValue pk : preceedingKeys) {
+                scope.add(pk.getAttribute().getName());
+                scope.add(pk.getValue());
             }
         }
+        return scope;
     }
 
     private List<DBDLabelValuePair> readKeyEnumeration(
@@ -980,6 +1218,8 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         private final boolean isKeyComparable;
 
         private final DBDDataFilter filter;
+        private final DictionaryCache cache;
+        private final List<Object> scope;
         private JDBCSession session;
 
         public DictionaryAccessor(
@@ -1021,6 +1261,9 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             
             this.descAttributesInfo = descAttributes == null ? Collections.emptyList() : descAttributes.stream()
                 .map(a -> new AttrInfo<>(a, DBUtils.findValueHandler(session, a))).collect(Collectors.toList());
+
+            this.cache = DictionaryCache.getInstance(getDataSource());
+            this.scope = makeDictionaryScope(keyColumn, descColumns, preceedingKeys);
         }
         
         @Override
@@ -1041,6 +1284,11 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         @NotNull
         @Override
         public List<DBDLabelValuePair> getValueEntry(@NotNull Object keyValue) throws DBException {
+            return cache.getValues(JDBCTable.this, scope, Collections.singletonList(keyValue), keys -> readValueEntry(keys.get(0)));
+        }
+
+        @NotNull
+        private List<DBDLabelValuePair> readValueEntry(@NotNull Object keyValue) throws DBException {
             DBDDataFilter filter = new DBDDataFilter(this.filter);
             List<DBDAttributeConstraint> constraints = filter.getConstraints();
             DBDAttributeConstraint constraint = new DBDAttributeConstraint(keyColumn, constraints.size());
@@ -1058,6 +1306,12 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
         @NotNull
         @Override
         public List<DBDLabelValuePair> getValues(long offset, int pageSize) throws DBException {
+            return cache.getPage(JDBCTable.this, scope, Arrays.asList("values", offset, pageSize, sortAsc, sortByDesc),
+                () -> readValuesPage(offset, pageSize));
+        }
+
+        @NotNull
+        private List<DBDLabelValuePair> readValuesPage(long offset, int pageSize) throws DBException {
             StringBuilder query = prepareQueryString(filter);
             appendSortingClause(query, false);
             try (DBCStatement dbStat = DBUtils.makeStatement(null, session, DBCStatementType.QUERY, query.toString(), offset, pageSize)) {
@@ -1073,6 +1327,17 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             boolean isPreceeding,
             long offset,
             long maxResults
+        ) throws DBException {
+            return cache.getPage(JDBCTable.this, scope, Arrays.asList("near", value, isPreceeding, offset, maxResults, sortAsc, sortByDesc),
+                () -> readValuesNear(value, isPreceeding, offset, maxResults));
+        }
+
+        @NotNull
+        private List<DBDLabelValuePair> readValuesNear(
+            @NotNull Object value,
+            boolean isPreceeding,
+            long offset,
+            long maxResults
         ) throws DBException {
             DBDDataFilter filter = new DBDDataFilter(this.filter);
             List<DBDAttributeConstraint> constraints = filter.getConstraints();
@@ -1097,6 +1362,18 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             boolean byDesc,
             long offset,
             long maxResults
+        ) throws DBException {
+            return cache.getPage(JDBCTable.this, scope, Arrays.asList("similar", pattern, caseInsensitive, byDesc, offset, maxResults, sortAsc, sortByDesc),
+                () -> readSimilarValues(pattern, caseInsensitive, byDesc, offset, maxResults));
+        }
+
+        @NotNull
+        private List<DBDLabelValuePair> readSimilarValues(
+            @NotNull Object pattern,
+            boolean caseInsensitive,
+            boolean byDesc,
+            long offset,
+            long maxResults
         ) throws DBException {
             StringBuilder query = prepareQueryString(filter);
             appendByPatternCondition(query, filter, pattern, caseInsensitive, byDesc);
@@ -1114,6 +1391,17 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             @NotNull Object pattern, boolean caseInsensitive, boolean byDesc,
             Object value, boolean isPreceeding, 
             long offset, long maxResults
+        ) throws DBException {
+            return cache.getPage(JDBCTable.this, scope,
+                Arrays.asList("similarNear", pattern, caseInsensitive, byDesc, value, isPreceeding, offset, maxResults, sortAsc, sortByDesc),
+                () -> readSimilarValuesNear(pattern, caseInsensitive, byDesc, value, isPreceeding, offset, maxResults));
+        }
+
+        @NotNull
+        private List<DBDLabelValuePair> readSimilarValuesNear(
+            @NotNull Object pattern, boolean caseInsensitive, boolean byDesc,
+            Object value, boolean isPreceeding,
+            long offset, long maxResults
         ) throws DBException {
             DBDDataFilter filter = new DBDDataFilter(this.filter);
             List<DBDAttributeConstraint> constraints = filter.getConstraints();
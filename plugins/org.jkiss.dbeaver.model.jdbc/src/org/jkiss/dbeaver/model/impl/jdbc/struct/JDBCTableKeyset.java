@@ -0,0 +1,198 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.struct;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeConstraint;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keyset (seek) pagination of table data.
+ *
+ * Rows are ordered by the table unique key. The last key of each fetched segment is remembered,
+ * so the next segment is read with key condition instead of the offset:
+ * {@code WHERE k1 > ? OR (k1 = ? AND k2 > ?) ORDER BY k1, k2}.
+ * Expanded condition is used instead of row value comparison because the latter is not supported by all databases.
+ */
+class JDBCTableKeyset {
+
+    private static final int MAX_SEGMENTS = 100;
+
+    private final List<? extends DBSEntityAttribute> keyAttributes;
+    private final boolean descending;
+    // Segment start key by query text and row offset
+    private final Map<String, Object[]> segmentKeys = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Object[]> eldest) {
+            return size() > MAX_SEGMENTS;
+        }
+    };
+
+    private JDBCTableKeyset(@NotNull List<? extends DBSEntityAttribute> keyAttributes, boolean descending) {
+        this.keyAttributes = keyAttributes;
+        this.descending = descending;
+    }
+
+    /**
+     * Creates keyset for the specified key and data filter.
+     * Returns null if filter ordering is not compatible with the key.
+     */
+    @Nullable
+    static JDBCTableKeyset create(@NotNull List<? extends DBSEntityAttribute> keyAttributes, @Nullable DBDDataFilter dataFilter) {
+        if (keyAttributes.isEmpty()) {
+            return null;
+        }
+        boolean descending = false;
+        if (dataFilter != null) {
+            if (!CommonUtils.isEmpty(dataFilter.getOrder())) {
+                // Custom ordering
+                return null;
+            }
+            List<DBDAttributeConstraint> orderConstraints = dataFilter.getOrderConstraints();
+            if (!CommonUtils.isEmpty(orderConstraints)) {
+                // Ordering must be exactly the same as the key and in the same direction
+                if (orderConstraints.size() != keyAttributes.size()) {
+                    return null;
+                }
+                descending = orderConstraints.get(0).isOrderDescending();
+                for (int i = 0; i < orderConstraints.size(); i++) {
+                    DBDAttributeConstraint constraint = orderConstraints.get(i);
+                    if (constraint.isOrderDescending() != descending ||
+                        !keyAttributes.get(i).getName().equalsIgnoreCase(constraint.getAttributeName())) {
+                        return null;
+                    }
+                }
+            }
+        }
+        return new JDBCTableKeyset(keyAttributes, descending);
+    }
+
+    boolean isSameKey(@NotNull JDBCTableKeyset keyset) {
+        return keyAttributes.equals(keyset.keyAttributes) && descending == keyset.descending;
+    }
+
+    @Nullable
+    Object[] getSegmentKey(@NotNull String query, long firstRow) {
+        synchronized (segmentKeys) {
+            return segmentKeys.get(firstRow + ":" + query);
+        }
+    }
+
+    void setSegmentKey(@NotNull String query, long firstRow, @NotNull Object[] key) {
+        synchronized (segmentKeys) {
+            segmentKeys.put(firstRow + ":" + query, key);
+        }
+    }
+
+    void appendOrder(@NotNull StringBuilder query, @Nullable String tableAlias) {
+        query.append("\nORDER BY "); //$NON-NLS-1$
+        for (int i = 0; i < keyAttributes.size(); i++) {
+            if (i > 0) {
+                query.append(",");
+            }
+            appendAttribute(query, tableAlias, keyAttributes.get(i));
+            if (descending) {
+                query.append(" DESC"); //$NON-NLS-1$
+            }
+        }
+    }
+
+    void appendCondition(@NotNull StringBuilder query, @Nullable String tableAlias) {
+        String operator = descending ? " < ?" : " > ?";
+        query.append("(");
+        for (int i = 0; i < keyAttributes.size(); i++) {
+            if (i > 0) {
+                query.append(" OR ");
+            }
+            query.append("(");
+            for (int k = 0; k < i; k++) {
+                appendAttribute(query, tableAlias, keyAttributes.get(k));
+                query.append(" = ? AND ");
+            }
+            appendAttribute(query, tableAlias, keyAttributes.get(i));
+            query.append(operator).append(")");
+        }
+        query.append(")");
+    }
+
+    void bindCondition(@NotNull DBCSession session, @NotNull DBCStatement statement, @NotNull Object[] key) throws DBCException {
+        int paramIndex = 0;
+        for (int i = 0; i < keyAttributes.size(); i++) {
+            for (int k = 0; k <= i; k++) {
+                DBSEntityAttribute attribute = keyAttributes.get(k);
+                DBUtils.findValueHandler(session, attribute).bindValueObject(session, statement, attribute, paramIndex++, key[k]);
+            }
+        }
+    }
+
+    /**
+     * Returns key attribute indexes in the result set or null if some of them are missing
+     */
+    @Nullable
+    int[] getResultSetIndexes(@NotNull DBCResultSet resultSet) throws DBCException {
+        List<DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
+        int[] indexes = new int[keyAttributes.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = -1;
+            for (int k = 0; k < attributes.size(); k++) {
+                if (keyAttributes.get(i).getName().equalsIgnoreCase(attributes.get(k).getName())) {
+                    indexes[i] = k;
+                    break;
+                }
+            }
+            if (indexes[i] < 0) {
+                return null;
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Reads key of the current row. Returns null if key can't be used for pagination (contains nulls or complex values).
+     */
+    @Nullable
+    Object[] readKey(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, @NotNull int[] indexes) throws DBCException {
+        Object[] key = new Object[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            DBSEntityAttribute attribute = keyAttributes.get(i);
+            Object value = DBUtils.findValueHandler(session, attribute).fetchValueObject(session, resultSet, attribute, indexes[i]);
+            if (value == null || value instanceof DBDValue) {
+                return null;
+            }
+            key[i] = value;
+        }
+        return key;
+    }
+
+    private static void appendAttribute(@NotNull StringBuilder query, @Nullable String tableAlias, @NotNull DBSEntityAttribute attribute) {
+        if (tableAlias != null) {
+            query.append(tableAlias).append(".");
+        }
+        query.append(DBUtils.getQuotedIdentifier(attribute));
+    }
+
+}
@@ -14,33 +14,23 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+package org.jkiss.dbeaver.model.sql.commands;
 
-/*
- * Created on Jul 15, 2004
- */
-package org.jkiss.dbeaver.erd.ui.layout.algorithm.direct;
-
-import org.eclipse.draw2d.BendpointConnectionRouter;
-import org.eclipse.draw2d.IFigure;
-import org.eclipse.draw2d.PolylineConnection;
-
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.sql.SQLControlCommand;
+import org.jkiss.dbeaver.model.sql.SQLControlCommandHandler;
+import org.jkiss.dbeaver.model.sql.SQLScriptContext;
 
 /**
- * Used to represent a dummy edge node with NodeJoiningDirectedGraphLayout
- *
- * @author Serge Rider
+ * Barrier command.
+ * In parallel script execution all previous queries must finish before next queries start.
+ * Does nothing in sequential execution.
  */
-public class DummyEdgePart {
-
-    protected void createEditPolicies() {
-    }
-
+public class SQLCommandBarrier implements SQLControlCommandHandler {
 
-    protected IFigure createFigure() {
-        PolylineConnection conn = new PolylineConnection();
-        conn.setConnectionRouter(new BendpointConnectionRouter());
-        conn.setVisible(true);
-        return conn;
+    @Override
+    public boolean handleCommand(SQLControlCommand command, SQLScriptContext scriptContext) throws DBException {
+        return true;
     }
 
 }
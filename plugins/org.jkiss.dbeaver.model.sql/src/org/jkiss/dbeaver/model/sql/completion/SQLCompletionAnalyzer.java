@@ -89,6 +89,7 @@ public class SQLCompletionAnalyzer implements DBRRunnableParametrized<DBRProgres
     private DBRProgressMonitor monitor;
 
     private final List<SQLCompletionProposalBase> proposals = new ArrayList<>();
+    private volatile List<SQLCompletionProposalBase> availableProposals = Collections.emptyList();
     private boolean searchFinished = false;
     private boolean checkNavigatorNodes = true;
 
@@ -123,6 +124,15 @@ public class SQLCompletionAnalyzer implements DBRRunnableParametrized<DBRProgres
         return proposals;
     }
 
+    /**
+     * Returns proposals found so far. May be called from another thread while analyzer is running.
+     * Local proposals are published before catalog lookups, so they are available even if catalog search is slow.
+     */
+    @NotNull
+    public List<SQLCompletionProposalBase> getAvailableProposals() {
+        return availableProposals;
+    }
+
     public boolean isSearchFinished() {
         return searchFinished;
     }
@@ -469,7 +479,14 @@ public class SQLCompletionAnalyzer implements DBRRunnableParametrized<DBRProgres
                 makeProposalFromHippie(wordDetector);
             }
         }
-        filterProposals(dataSource);
+        filterProposals(proposals, dataSource);
+        availableProposals = proposals;
+    }
+
+    private void publishProposals() {
+        List<SQLCompletionProposalBase> published = new ArrayList<>(proposals);
+        filterProposals(published, request.getContext().getDataSource());
+        availableProposals = published;
     }
 
     private void makeProposalFromHippie(@NotNull SQLWordPartDetector wordPartDetector) {
@@ -635,7 +652,7 @@ public class SQLCompletionAnalyzer implements DBRRunnableParametrized<DBRProgres
         }
     }
 
-    private void filterProposals(DBPDataSource dataSource) {
+    private void filterProposals(@NotNull List<SQLCompletionProposalBase> proposals, DBPDataSource dataSource) {
 
         // Remove duplications
         final Set<String> proposalMap = new HashSet<>(proposals.size());
@@ -898,6 +915,7 @@ public class SQLCompletionAnalyzer implements DBRRunnableParametrized<DBRProgres
                             );
                             params.setCaseSensitive(request.getWordDetector().isQuoted(token));
                             params.setMaxResults(2);
+                            publishProposals();
                             Collection<DBSObjectReference> references = structureAssistant.findObjectsByMask(monitor, executionContext, params);
                             if (!references.isEmpty()) {
                                 childObject = references.iterator().next().resolveObject(monitor);
@@ -1064,8 +1082,21 @@ public class SQLCompletionAnalyzer implements DBRRunnableParametrized<DBRProgres
                     }
                 }
             }
+            Collection<? extends DBSObject> candidates = children;
+            if (!allObjects && !CommonUtils.isEmpty(startPart) && children.size() >= SQLCompletionNameIndex.MIN_INDEXED_SIZE) {
+                // Large container - check only names which may match
+                SQLCompletionNameIndex nameIndex = SQLCompletionNameIndex.getIndex(parent, children);
+                if (dataSource != null && !request.getContext().isSearchInsideNames()) {
+                    candidates = nameIndex.findByPrefix(children, startPart);
+                } else {
+                    candidates = nameIndex.findFuzzyCandidates(children, startPart);
+                }
+            }
             StringBuilder combinedMatch = new StringBuilder();
-            for (DBSObject child : children) {
+            for (DBSObject child : candidates) {
+                if (monitor.isCanceled()) {
+                    return;
+                }
                 if (DBUtils.isHiddenObject(child)) {
                     // Skip hidden
                     continue;
@@ -1166,6 +1197,7 @@ public class SQLCompletionAnalyzer implements DBRRunnableParametrized<DBRProgres
         assistantParams.setCaseSensitive(request.getWordDetector().isQuoted(objectName));
         assistantParams.setGlobalSearch(request.getContext().isSearchGlobally());
         assistantParams.setMaxResults(MAX_STRUCT_PROPOSALS);
+        publishProposals();
         Collection<DBSObjectReference> references = assistant.findObjectsByMask(monitor, request.getContext().getExecutionContext(), assistantParams);
         for (DBSObjectReference reference : references) {
             proposals.add(
@@ -0,0 +1,198 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.sql.completion;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.DBPObject;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.utils.CommonUtils;
+
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+/**
+ * Index of object names used to search completion proposals in large containers.
+ *
+ * Names are sorted in upper case, so prefix search is a binary search.
+ * For fuzzy search each name has a signature of characters it contains. Name may match
+ * the query only if its signature contains all query characters, so most names are skipped without scoring.
+ * Both searches return candidates in the original children order, virtual objects are always returned.
+ *
+ * Indexes are cached per container and rebuilt when container children change.
+ * Index keeps only names data, objects are taken from the children collection passed to the search methods.
+ * Children reference their container, so index can't reference them (otherwise cached container is never collected).
+ */
+final class SQLCompletionNameIndex {
+
+    /**
+     * Smaller containers are scanned directly
+     */
+    static final int MIN_INDEXED_SIZE = 1000;
+
+    private static final Map<DBPObject, SQLCompletionNameIndex> indexCache = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final WeakReference<Collection<? extends DBSObject>> childrenRef;
+    private final int childrenCount;
+    private final long namesHash;
+
+    // Positions of virtual objects in children collection
+    private final BitSet virtualPositions = new BitSet();
+    // Name signatures in the children order
+    private final long[] signatures;
+    // Upper case names of indexed objects in alphabetical order and their positions in children collection
+    private final String[] sortedNames;
+    private final int[] sortedPositions;
+
+    private SQLCompletionNameIndex(@NotNull Collection<? extends DBSObject> children, long namesHash) {
+        this.childrenRef = new WeakReference<>(children);
+        this.childrenCount = children.size();
+        this.namesHash = namesHash;
+
+        signatures = new long[childrenCount];
+        List<String> upperNames = new ArrayList<>(childrenCount);
+        List<Integer> order = new ArrayList<>(childrenCount);
+        int position = 0;
+        for (DBSObject child : children) {
+            if (DBUtils.isVirtualObject(child)) {
+                virtualPositions.set(position);
+            } else {
+                String name = CommonUtils.notEmpty(child.getName());
+                signatures[position] = makeSignature(name);
+                upperNames.add(toUpperCase(name));
+                order.add(position);
+            }
+            position++;
+        }
+        int count = order.size();
+        Integer[] sortOrder = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            sortOrder[i] = i;
+        }
+        Arrays.sort(sortOrder, Comparator.comparing(upperNames::get));
+        sortedNames = new String[count];
+        sortedPositions = new int[count];
+        for (int i = 0; i < count; i++) {
+            sortedNames[i] = upperNames.get(sortOrder[i]);
+            sortedPositions[i] = order.get(sortOrder[i]);
+        }
+    }
+
+    /**
+     * Returns index of the container children. Index is built on the first access and reused while
+     * the children collection and names stay the same.
+     */
+    @NotNull
+    static SQLCompletionNameIndex getIndex(@NotNull DBPObject parent, @NotNull Collection<? extends DBSObject> children) {
+        // String hash codes are cached, so this check is much cheaper than names matching
+        long namesHash = 0;
+        for (DBSObject child : children) {
+            namesHash = namesHash * 31 + CommonUtils.notEmpty(child.getName()).hashCode();
+        }
+        SQLCompletionNameIndex index = indexCache.get(parent);
+        if (index == null || index.childrenRef.get() != children || index.childrenCount != children.size() || index.namesHash != namesHash) {
+            index = new SQLCompletionNameIndex(children, namesHash);
+            indexCache.put(parent, index);
+        }
+        return index;
+    }
+
+    /**
+     * Objects which names start with the specified prefix (case insensitive)
+     *
+     * @param children the same children collection which was used to get the index
+     */
+    @NotNull
+    List<DBSObject> findByPrefix(@NotNull Collection<? extends DBSObject> children, @NotNull String prefix) {
+        String key = toUpperCase(prefix);
+        int low = 0, high = sortedNames.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedNames[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        BitSet positions = (BitSet) virtualPositions.clone();
+        for (int i = low; i < sortedNames.length && sortedNames[i].startsWith(key); i++) {
+            positions.set(sortedPositions[i]);
+        }
+
+        List<DBSObject> result = new ArrayList<>(positions.cardinality());
+        int position = 0;
+        for (DBSObject child : children) {
+            if (positions.get(position++)) {
+                result.add(child);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Objects which names contain all characters of the query.
+     * Result is a superset of {@link org.jkiss.dbeaver.model.text.TextUtils#fuzzyScore} matches, so candidates must be scored.
+     *
+     * @param children the same children collection which was used to get the index
+     */
+    @NotNull
+    List<DBSObject> findFuzzyCandidates(@NotNull Collection<? extends DBSObject> children, @NotNull String query) {
+        long querySignature = makeSignature(query);
+        List<DBSObject> result = new ArrayList<>();
+        int position = 0;
+        for (DBSObject child : children) {
+            if (virtualPositions.get(position) || (signatures[position] & querySignature) == querySignature) {
+                result.add(child);
+            }
+            position++;
+        }
+        return result;
+    }
+
+    private static long makeSignature(@NotNull String text) {
+        // The same lower case conversion as in fuzzy score
+        String lowerText = text.toLowerCase(Locale.getDefault());
+        long signature = 0;
+        for (int i = 0; i < lowerText.length(); i++) {
+            char c = lowerText.charAt(i);
+            int bit;
+            if (c >= 'a' && c <= 'z') {
+                bit = c - 'a';
+            } else if (c >= '0' && c <= '9') {
+                bit = 26 + c - '0';
+            } else {
+                // Other characters are hashed to the remaining bits
+                bit = 36 + c % 28;
+            }
+            signature |= 1L << bit;
+        }
+        return signature;
+    }
+
+    /**
+     * Per-character conversion keeps the string length, so prefix of the converted name is the converted prefix
+     */
+    @NotNull
+    private static String toUpperCase(@NotNull String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toUpperCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+}
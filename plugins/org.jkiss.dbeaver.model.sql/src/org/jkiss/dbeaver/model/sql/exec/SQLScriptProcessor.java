@@ -16,7 +16,9 @@
  */
 package org.jkiss.dbeaver.model.sql.exec;
 
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBFetchProgress;
@@ -25,16 +27,32 @@ import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.qm.QMUtils;
+import org.jkiss.dbeaver.model.runtime.BlockCanceler;
+import org.jkiss.dbeaver.model.runtime.DBRBlockingObject;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.DefaultProgressMonitor;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.sql.data.SQLQueryDataContainer;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
+import org.jkiss.utils.CommonUtils;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SQLScriptProcessor
+ *
+ * Executes queries one by one in the same session. In parallel mode (see {@link #setParallelism(int)})
+ * queries are executed by several workers, each worker uses its own isolated context.
+ * Control commands (e.g. {@code @barrier}) split the script in segments: all queries of a segment
+ * finish before the command is executed and the next segment starts.
+ * Transactions of all workers are finished (according to the commit type) at each barrier, so the next segment
+ * sees changes of the previous one. With {@link SQLScriptCommitType#NO_COMMIT} changes made by one worker
+ * are not visible to other workers.
  */
 public class SQLScriptProcessor {
     private static final String STAT_LOG_PREFIX = "-----------------> ";
@@ -49,11 +67,14 @@ public class SQLScriptProcessor {
 
     private DBCStatistics statistics;
     private final DBCStatistics totalStatistics = new DBCStatistics();
+    private final List<DBCStatistics> queryStatistics = new ArrayList<>();
 
     private int fetchSize;
     private long fetchFlags;
     private SQLScriptCommitType commitType = SQLScriptCommitType.AUTOCOMMIT;
     private SQLScriptErrorHandling errorHandling = SQLScriptErrorHandling.STOP_ROLLBACK;
+    private int parallelism = 1;
+    private volatile boolean stopExecution;
 
     public SQLScriptProcessor(
         @NotNull DBCExecutionContext executionContext,
@@ -92,9 +113,24 @@ public class SQLScriptProcessor {
         this.errorHandling = errorHandling;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets number of queries executed simultaneously. Values greater than 1 enable parallel mode.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
     public void runScript(DBRProgressMonitor monitor) throws DBCException {
         RuntimeUtils.setThreadName("SQL script execution");
         statistics = new DBCStatistics();
+        if (parallelism > 1 && getQueryCount() > 1) {
+            runScriptParallel(monitor);
+            return;
+        }
         try {
             DBCTransactionManager txnManager = DBUtils.getTransactionManager(executionContext);
             try (DBCSession session = executionContext.openSession(monitor, DBCExecutionPurpose.USER_SCRIPT, "SQL Query")) {
@@ -135,21 +171,8 @@ public class SQLScriptProcessor {
                 monitor.done();
 
                 // Commit data
-                if (txnManager != null && txnManager.isSupportsTransactions() && !oldAutoCommit && commitType != SQLScriptCommitType.AUTOCOMMIT) {
-                    monitor.beginTask("Finish transaction", 1);
-                    if (lastError == null || errorHandling == SQLScriptErrorHandling.STOP_COMMIT) {
-                        if (commitType != SQLScriptCommitType.NO_COMMIT) {
-                            monitor.subTask("Commit");
-                            txnManager.commit(session);
-                        }
-                    } else if (errorHandling == SQLScriptErrorHandling.STOP_ROLLBACK) {
-                        monitor.subTask("Rollback");
-                        txnManager.rollback(session, null);
-                    } else {
-                        // Just ignore error
-                        monitor.subTask("Script executed with errors. Changes were not committed.");
-                    }
-                    monitor.done();
+                if (txnManager != null && txnManager.isSupportsTransactions() && !oldAutoCommit) {
+                    finishTransaction(monitor, session, txnManager, lastError);
                 }
 
                 // Restore transactions settings
@@ -169,6 +192,181 @@ public class SQLScriptProcessor {
         }
     }
 
+    private void finishTransaction(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBCSession session,
+        @NotNull DBCTransactionManager txnManager,
+        Throwable error
+    ) throws DBCException {
+        if (commitType == SQLScriptCommitType.AUTOCOMMIT) {
+            return;
+        }
+        monitor.beginTask("Finish transaction", 1);
+        if (error == null || errorHandling == SQLScriptErrorHandling.STOP_COMMIT) {
+            if (commitType != SQLScriptCommitType.NO_COMMIT) {
+                monitor.subTask("Commit");
+                txnManager.commit(session);
+            }
+        } else if (errorHandling == SQLScriptErrorHandling.STOP_ROLLBACK) {
+            monitor.subTask("Rollback");
+            txnManager.rollback(session, null);
+        } else {
+            // Just ignore error
+            monitor.subTask("Script executed with errors. Changes were not committed.");
+        }
+        monitor.done();
+    }
+
+    private int getQueryCount() {
+        int count = 0;
+        for (SQLScriptElement element : queries) {
+            if (element instanceof SQLQuery) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void runScriptParallel(DBRProgressMonitor monitor) throws DBCException {
+        int workerCount = Math.min(parallelism, getQueryCount());
+        BlockingQueue<ScriptWorker> idleWorkers = new ArrayBlockingQueue<>(workerCount);
+        List<ScriptWorker> workers = new ArrayList<>(workerCount);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread thread = new Thread(r, "SQL script worker " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        stopExecution = false;
+        try {
+            monitor.beginTask("Open worker connections (" + workerCount + ")", workerCount);
+            DBSInstance instance = executionContext.getOwnerInstance();
+            for (int i = 0; i < workerCount; i++) {
+                DBCExecutionContext workerContext = instance.openIsolatedContext(
+                    monitor, "SQL script worker " + (i + 1), executionContext);
+                ScriptWorker worker = new ScriptWorker(workerContext, new WorkerProgressMonitor(monitor));
+                worker.scriptContext.copyFrom(scriptContext);
+                workers.add(worker);
+                worker.beginScript();
+                idleWorkers.add(worker);
+                monitor.worked(1);
+            }
+            monitor.done();
+
+            monitor.beginTask("Execute queries (" + queries.size() + ") in " + workerCount + " threads", queries.size());
+            List<Future<DBCStatistics>> segment = new ArrayList<>();
+            for (SQLScriptElement element : queries) {
+                if (monitor.isCanceled() || stopExecution) {
+                    break;
+                }
+                if (element instanceof SQLControlCommand) {
+                    // Control commands are barriers
+                    waitForSegment(monitor, segment, workers);
+                    for (ScriptWorker worker : workers) {
+                        worker.finishSegment();
+                    }
+                    if (monitor.isCanceled() || stopExecution) {
+                        break;
+                    }
+                    log.debug(STAT_LOG_PREFIX + "Execute command\n" + element.getText());
+                    try {
+                        if (!scriptContext.executeControlCommand((SQLControlCommand) element)) {
+                            break;
+                        }
+                    } catch (Throwable e) {
+                        handleParallelError(e);
+                    }
+                    // Commands may change variables
+                    for (ScriptWorker worker : workers) {
+                        worker.scriptContext.copyFrom(scriptContext);
+                    }
+                    monitor.worked(1);
+                    continue;
+                }
+                SQLQuery query = (SQLQuery) element;
+                // Parameters are resolved in script order
+                scriptContext.fillQueryParameters(query, true);
+                scriptContext.clearStatementContext();
+                segment.add(executor.submit(() -> {
+                    if (monitor.isCanceled() || stopExecution) {
+                        return null;
+                    }
+                    ScriptWorker worker = idleWorkers.take();
+                    try {
+                        return worker.executeQuery(query);
+                    } finally {
+                        idleWorkers.add(worker);
+                    }
+                }));
+            }
+            waitForSegment(monitor, segment, workers);
+            monitor.done();
+
+            for (ScriptWorker worker : workers) {
+                worker.endScript();
+            }
+        } catch (Throwable ex) {
+            throw new DBCException("Error during SQL script execution", ex);
+        } finally {
+            executor.shutdownNow();
+            for (ScriptWorker worker : workers) {
+                worker.context.close();
+            }
+        }
+
+        if (lastError != null && errorHandling != SQLScriptErrorHandling.IGNORE) {
+            throw new DBCException("Script execute failed", lastError);
+        }
+    }
+
+    /**
+     * Waits for all queries of the segment. Query statistics are added in script order.
+     */
+    private void waitForSegment(DBRProgressMonitor monitor, List<Future<DBCStatistics>> segment, List<ScriptWorker> workers) throws InterruptedException {
+        boolean canceled = false;
+        for (Future<DBCStatistics> future : segment) {
+            while (true) {
+                if (!canceled && monitor.isCanceled()) {
+                    // Cancel queries which are running now
+                    canceled = true;
+                    for (ScriptWorker worker : workers) {
+                        worker.cancelQuery();
+                    }
+                }
+                try {
+                    DBCStatistics queryStat = future.get(100, TimeUnit.MILLISECONDS);
+                    if (queryStat != null) {
+                        synchronized (queryStatistics) {
+                            queryStatistics.add(queryStat);
+                        }
+                    }
+                    break;
+                } catch (TimeoutException e) {
+                    // Continue waiting
+                } catch (ExecutionException e) {
+                    log.error("Unexpected error in SQL script worker", e.getCause());
+                    break;
+                }
+            }
+            monitor.worked(1);
+        }
+        segment.clear();
+    }
+
+    private synchronized void handleParallelError(@NotNull Throwable error) {
+        if (errorHandling == SQLScriptErrorHandling.IGNORE) {
+            // Errors are tracked by workers, as in sequential mode only the last query error prevents commit
+            log.warn("Query failed: " + error.getMessage());
+        } else {
+            if (!stopExecution) {
+                log.error(error);
+                lastError = error;
+            }
+            // Queries which were not started yet are skipped
+            stopExecution = true;
+        }
+    }
+
     private boolean executeSingleQuery(@NotNull DBCSession session, @NotNull SQLScriptElement element) {
         if (element instanceof SQLControlCommand) {
             log.debug(STAT_LOG_PREFIX + "Execute command\n" + element.getText());
@@ -187,13 +385,13 @@ public class SQLScriptProcessor {
         lastError = null;
 
         try {
-            statistics.reset();
+            statistics = new DBCStatistics();
             statistics.setQueryText(sqlQuery.getText());
 
             DBExecUtils.tryExecuteRecover(session, session.getDataSource(), param -> {
                 try {
                     long execStartTime = System.currentTimeMillis();
-                    executeStatement(session, sqlQuery, execStartTime);
+                    executeStatement(session, sqlQuery, scriptContext, statistics, execStartTime);
                 } catch (Throwable e) {
                     throw new InvocationTargetException(e);
                 }
@@ -203,15 +401,26 @@ public class SQLScriptProcessor {
                 log.error("Unexpected error while processing SQL", ex);
             }
             lastError = ex;
+            statistics.setError(ex);
         } finally {
             scriptContext.clearStatementContext();
+            synchronized (queryStatistics) {
+                queryStatistics.add(statistics);
+            }
         }
 
         return lastError == null || errorHandling == SQLScriptErrorHandling.IGNORE;
     }
 
-    private void executeStatement(@NotNull DBCSession session, SQLQuery sqlQuery, long startTime) throws DBCException {
-        SQLQueryDataContainer dataContainer = new SQLQueryDataContainer(() -> executionContext, sqlQuery, scriptContext, log);
+    private void executeStatement(
+        @NotNull DBCSession session,
+        @NotNull SQLQuery sqlQuery,
+        @NotNull SQLScriptContext scriptContext,
+        @NotNull DBCStatistics statistics,
+        long startTime
+    ) throws DBCException {
+        DBCExecutionContext sessionContext = session.getExecutionContext();
+        SQLQueryDataContainer dataContainer = new SQLQueryDataContainer(() -> sessionContext, sqlQuery, scriptContext, log);
         DBCExecutionSource source = new AbstractExecutionSource(dataContainer, session.getExecutionContext(), this, sqlQuery);
         final DBCStatement statement = DBUtils.makeStatement(
             source,
@@ -241,7 +450,7 @@ public class SQLScriptProcessor {
                             // Kind of bug in the driver. It says it has resultset but returns null
                             break;
                         } else {
-                            hasResultSet = fetchQueryData(session, resultSet, dataReceiver);
+                            hasResultSet = fetchQueryData(session, resultSet, statistics);
                         }
                     }
                 }
@@ -285,8 +494,11 @@ public class SQLScriptProcessor {
             try {
                 Throwable[] warnings = statement.getStatementWarnings();
                 if (warnings != null) {
-                    for (Throwable warning : warnings) {
-                        scriptContext.getOutputWriter().println(null, warning.getMessage());
+                    // Output writer is shared by parallel workers
+                    synchronized (scriptContext.getOutputWriter()) {
+                        for (Throwable warning : warnings) {
+                            scriptContext.getOutputWriter().println(null, warning.getMessage());
+                        }
                     }
                 }
             } catch (Throwable e) {
@@ -301,11 +513,13 @@ public class SQLScriptProcessor {
                 (statistics.getRowsFetched() >= 0 ? ", fetched " + statistics.getRowsFetched() + " row(s)" : "") +
                 (statistics.getRowsUpdated() >= 0 ? ", updated " + statistics.getRowsUpdated() + " row(s)" : ""));
 
-            totalStatistics.accumulate(statistics);
+            synchronized (totalStatistics) {
+                totalStatistics.accumulate(statistics);
+            }
         }
     }
 
-    private boolean fetchQueryData(DBCSession session, DBCResultSet resultSet, DBDDataReceiver dataReceiver)
+    private boolean fetchQueryData(DBCSession session, DBCResultSet resultSet, DBCStatistics statistics)
         throws DBCException {
         if (dataReceiver == null) {
             // No data pump - skip fetching stage
@@ -318,6 +532,19 @@ public class SQLScriptProcessor {
         monitor.subTask("Fetch result set");
         DBFetchProgress fetchProgress = new DBFetchProgress(session.getProgressMonitor());
 
+        // Data receiver is shared by parallel workers
+        synchronized (dataReceiver) {
+            fetchAllRows(session, resultSet, statistics, fetchProgress);
+        }
+
+        statistics.setRowsFetched(fetchProgress.getRowCount());
+        monitor.subTask(fetchProgress.getRowCount() + " rows fetched");
+
+        return true;
+    }
+
+    private void fetchAllRows(DBCSession session, DBCResultSet resultSet, DBCStatistics statistics, DBFetchProgress fetchProgress)
+        throws DBCException {
         dataReceiver.fetchStart(session, resultSet, 0, 0);
 
         try {
@@ -342,15 +569,137 @@ public class SQLScriptProcessor {
             }
             dataReceiver.close();
         }
-
-        statistics.setRowsFetched(fetchProgress.getRowCount());
-        monitor.subTask(fetchProgress.getRowCount() + " rows fetched");
-
-        return true;
     }
 
     public DBCStatistics getTotalStatistics() {
         return totalStatistics;
     }
 
+    /**
+     * Statistics of each executed query in script order
+     */
+    @NotNull
+    public List<DBCStatistics> getQueryStatistics() {
+        synchronized (queryStatistics) {
+            return new ArrayList<>(queryStatistics);
+        }
+    }
+
+    /**
+     * Executes queries in its own isolated context.
+     * Each worker has its own script context (a copy of the processor's one) as it is not thread-safe.
+     */
+    private class ScriptWorker {
+        private final DBCExecutionContext context;
+        private final SQLScriptContext scriptContext;
+        private final WorkerProgressMonitor monitor;
+        private final DBCTransactionManager txnManager;
+        private boolean oldAutoCommit;
+        // Error of the last query executed by this worker
+        private volatile Throwable lastError;
+
+        ScriptWorker(DBCExecutionContext context, WorkerProgressMonitor monitor) {
+            this.context = context;
+            this.scriptContext = new SQLScriptContext(
+                SQLScriptProcessor.this.scriptContext,
+                () -> context,
+                SQLScriptProcessor.this.scriptContext.getSourceFile(),
+                SQLScriptProcessor.this.scriptContext.getOutputWriter(),
+                null);
+            this.monitor = monitor;
+            this.txnManager = DBUtils.getTransactionManager(context);
+        }
+
+        void beginScript() throws DBCException {
+            oldAutoCommit = txnManager == null || txnManager.isAutoCommit();
+            boolean newAutoCommit = (commitType == SQLScriptCommitType.AUTOCOMMIT);
+            if (txnManager != null && txnManager.isSupportsTransactions() && oldAutoCommit != newAutoCommit) {
+                txnManager.setAutoCommit(monitor, newAutoCommit);
+            }
+        }
+
+        @NotNull
+        DBCStatistics executeQuery(SQLQuery query) {
+            lastError = null;
+            DBCStatistics statistics = new DBCStatistics();
+            statistics.setQueryText(query.getText());
+            try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.USER_SCRIPT, "SQL Query")) {
+                DBExecUtils.tryExecuteRecover(session, session.getDataSource(), param -> {
+                    try {
+                        executeStatement(session, query, scriptContext, statistics, System.currentTimeMillis());
+                    } catch (Throwable e) {
+                        throw new InvocationTargetException(e);
+                    }
+                });
+            } catch (Throwable ex) {
+                if (!(ex instanceof DBException)) {
+                    log.error("Unexpected error while processing SQL", ex);
+                }
+                statistics.setError(ex);
+                lastError = ex;
+                handleParallelError(ex);
+            }
+            return statistics;
+        }
+
+        void cancelQuery() {
+            List<DBRBlockingObject> activeBlocks = monitor.getActiveBlocks();
+            if (!CommonUtils.isEmpty(activeBlocks)) {
+                try {
+                    BlockCanceler.cancelBlock(monitor, activeBlocks.get(activeBlocks.size() - 1), null);
+                } catch (DBException e) {
+                    log.debug("Error canceling query: " + e.getMessage());
+                }
+            }
+        }
+
+        void finishSegment() throws DBCException {
+            if (txnManager == null || !txnManager.isSupportsTransactions()) {
+                return;
+            }
+            try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Finish SQL script segment transaction")) {
+                finishTransaction(monitor, session, txnManager, getTransactionError());
+            }
+        }
+
+        /**
+         * Ignored errors affect only the worker's own transaction, like in sequential mode.
+         * Otherwise the script error finishes transactions of all workers.
+         */
+        @Nullable
+        private Throwable getTransactionError() {
+            return errorHandling == SQLScriptErrorHandling.IGNORE ? lastError : SQLScriptProcessor.this.lastError;
+        }
+
+        void endScript() throws DBCException {
+            if (txnManager == null || !txnManager.isSupportsTransactions()) {
+                return;
+            }
+            try (DBCSession session = context.openSession(monitor, DBCExecutionPurpose.UTIL, "Finish SQL script transaction")) {
+                finishTransaction(monitor, session, txnManager, getTransactionError());
+                boolean newAutoCommit = (commitType == SQLScriptCommitType.AUTOCOMMIT);
+                if (oldAutoCommit != newAutoCommit) {
+                    txnManager.setAutoCommit(monitor, oldAutoCommit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Worker monitor. Has its own blocks (queries) but is canceled with the script monitor.
+     */
+    private static class WorkerProgressMonitor extends DefaultProgressMonitor {
+        private final DBRProgressMonitor parent;
+
+        WorkerProgressMonitor(DBRProgressMonitor parent) {
+            super(new NullProgressMonitor());
+            this.parent = parent;
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return parent.isCanceled() || super.isCanceled();
+        }
+    }
+
 }
@@ -2499,6 +2499,21 @@ public final class DBUtils {
         @Nullable DBSDataContainer dataContainer,
         @Nullable DBDDataFilter dataFilter,
         @NotNull Object controller
+    ) throws DBException {
+        return readRowCount(monitor, executionContext, dataContainer, dataFilter, controller, DBSDataContainer.FLAG_NONE);
+    }
+
+    /**
+     * Reads row count with the specified count flags.
+     * If {@link DBSDataContainer#FLAG_ESTIMATE_COUNT} is set then negative value is returned if estimate is not available.
+     */
+    public static long readRowCount(
+        @NotNull DBRProgressMonitor monitor,
+        @Nullable DBCExecutionContext executionContext,
+        @Nullable DBSDataContainer dataContainer,
+        @Nullable DBDDataFilter dataFilter,
+        @NotNull Object controller,
+        long flags
     ) throws DBException {
         if (executionContext == null || dataContainer == null) {
             throw new DBException(ModelMessages.error_not_connected_to_database);
@@ -2513,7 +2528,7 @@ public final class DBUtils {
                     new AbstractExecutionSource(dataContainer, executionContext, controller),
                     session,
                     dataFilter,
-                    DBSDataContainer.FLAG_NONE);
+                    flags);
                 result[0] = rowCount;
             } catch (DBCException e) {
                 throw new InvocationTargetException(e);
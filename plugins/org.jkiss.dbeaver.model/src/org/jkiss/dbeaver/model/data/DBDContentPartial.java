@@ -0,0 +1,55 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+/**
+ * Content value which parts can be read without reading the whole value.
+ * Parts of not yet loaded value are read directly from the database, so large values can be shown page by page.
+ */
+public interface DBDContentPartial extends DBDContent {
+
+    /**
+     * Checks that content parts can be read. E.g. released content can't be read.
+     */
+    boolean isPartialReadSupported();
+
+    /**
+     * Reads part of content. Returns fewer bytes than requested at the content end.
+     * Text content is encoded in the default encoding.
+     *
+     * @param offset zero-based offset in bytes (in characters for text content)
+     * @param length max number of bytes (characters for text content) to read
+     */
+    @NotNull
+    byte[] readBytes(@NotNull DBRProgressMonitor monitor, long offset, int length) throws DBCException;
+
+    /**
+     * Reads part of content as text. Returns fewer characters than requested at the content end.
+     * Binary content is decoded from the default encoding. Its parts are split by bytes, so multibyte characters
+     * at the part bounds are not decoded. Binary content must be read with {@link #readBytes} if exact text matters.
+     *
+     * @param offset zero-based offset in characters (in bytes for binary content)
+     * @param length max number of characters (bytes for binary content) to read
+     */
+    @NotNull
+    String readChars(@NotNull DBRProgressMonitor monitor, long offset, int length) throws DBCException;
+
+}
@@ -33,6 +33,9 @@ public class DBDDataFilter {
     private boolean anyConstraint; // means OR condition
     private String order;
     private String where;
+    // Percent of rows to read, 0 means no sampling
+    private double samplePercent;
+    private long sampleSeed;
 
     public DBDDataFilter() {
         this.constraints = new ArrayList<>();
@@ -50,6 +53,8 @@ public class DBDDataFilter {
         this.order = source.order;
         this.where = source.where;
         this.anyConstraint = source.anyConstraint;
+        this.samplePercent = source.samplePercent;
+        this.sampleSeed = source.sampleSeed;
     }
 
     public List<DBDAttributeConstraint> getConstraints() {
@@ -148,8 +153,34 @@ public class DBDDataFilter {
         this.where = where;
     }
 
+    /**
+     * Sample size in percents of table rows. Zero (or 100 and more) means that all rows are read.
+     */
+    public double getSamplePercent() {
+        return samplePercent;
+    }
+
+    public void setSamplePercent(double samplePercent) {
+        this.samplePercent = samplePercent;
+    }
+
+    /**
+     * Seed of the random sample. The same seed gives the same sample if data wasn't changed.
+     */
+    public long getSampleSeed() {
+        return sampleSeed;
+    }
+
+    public void setSampleSeed(long sampleSeed) {
+        this.sampleSeed = sampleSeed;
+    }
+
+    public boolean isSampled() {
+        return samplePercent > 0 && samplePercent < 100;
+    }
+
     public boolean hasFilters() {
-        if (!CommonUtils.isEmpty(this.order) || !CommonUtils.isEmpty(this.where)) {
+        if (!CommonUtils.isEmpty(this.order) || !CommonUtils.isEmpty(this.where) || isSampled()) {
             return true;
         }
         for (DBDAttributeConstraint constraint : constraints) {
@@ -185,7 +216,7 @@ public class DBDDataFilter {
     }
 
     public boolean isDirty() {
-        if (!CommonUtils.isEmpty(this.order) || !CommonUtils.isEmpty(this.where)) {
+        if (!CommonUtils.isEmpty(this.order) || !CommonUtils.isEmpty(this.where) || isSampled()) {
             return true;
         }
         for (DBDAttributeConstraint constraint : constraints) {
@@ -236,6 +267,7 @@ public class DBDDataFilter {
         }
         this.order = null;
         this.where = null;
+        this.samplePercent = 0;
     }
 
     public void bindAttributes(DBDAttributeBinding[] bindings) {
@@ -268,7 +300,9 @@ public class DBDDataFilter {
             }
         }
         return CommonUtils.equalObjects(this.order, source.order) &&
-            CommonUtils.equalObjects(this.where, source.where);
+            CommonUtils.equalObjects(this.where, source.where) &&
+            this.samplePercent == source.samplePercent &&
+            this.sampleSeed == source.sampleSeed;
     }
 
     /**
@@ -290,7 +324,9 @@ public class DBDDataFilter {
             }
         }
         return CommonUtils.equalObjects(this.order, source.order) &&
-            CommonUtils.equalObjects(this.where, source.where);
+            CommonUtils.equalObjects(this.where, source.where) &&
+            this.samplePercent == source.samplePercent &&
+            this.sampleSeed == source.sampleSeed;
     }
 
     public boolean equalVisibility(DBDDataFilter dataFilter) {
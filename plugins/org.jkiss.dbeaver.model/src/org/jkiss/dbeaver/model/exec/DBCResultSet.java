@@ -21,11 +21,13 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.DBPCloseableObject;
 import org.jkiss.dbeaver.model.DBPObject;
+import org.jkiss.dbeaver.model.DPIObject;
 import org.jkiss.dbeaver.model.data.DBDValueMeta;
 
 /**
  * DBCResultSet
  */
+@DPIObject
 public interface DBCResultSet extends DBPObject, DBPCloseableObject
 {
     String FEATURE_NAME_JDBC            = "jdbc";
@@ -46,7 +46,7 @@ public abstract class AbstractExecutionContext<DATASOURCE extends DBPDataSource>
 
     @NotNull
     protected final DATASOURCE dataSource;
-    protected final String purpose;
+    protected volatile String purpose;
     protected final long id;
     private final Map<String, Object> contextAttributes = new LinkedHashMap<>();
 
@@ -75,6 +75,13 @@ public abstract class AbstractExecutionContext<DATASOURCE extends DBPDataSource>
         return purpose;
     }
 
+    /**
+     * Changes context name. Used when context is reused for another purpose.
+     */
+    public void setContextName(@NotNull String purpose) {
+        this.purpose = purpose;
+    }
+
     @DPIContainer
     @NotNull
     @Override
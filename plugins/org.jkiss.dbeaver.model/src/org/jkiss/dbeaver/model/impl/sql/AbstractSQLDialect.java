@@ -39,6 +39,7 @@ import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.Pair;
 
+import java.math.BigDecimal;
 import java.util.*;
 
 /**
@@ -989,6 +990,20 @@ public abstract class AbstractSQLDialect implements SQLDialect {
         return true;
     }
 
+    @Nullable
+    @Override
+    public String getTableSampleClause(double samplePercent, long seed) {
+        return null;
+    }
+
+    /**
+     * Formats sample size for sampling clause (without exponent)
+     */
+    @NotNull
+    protected static String formatSampleSize(double sampleSize) {
+        return BigDecimal.valueOf(sampleSize).stripTrailingZeros().toPlainString();
+    }
+
     @NotNull
     @Override
     public SQLTokenPredicateSet getSkipTokenPredicates() {
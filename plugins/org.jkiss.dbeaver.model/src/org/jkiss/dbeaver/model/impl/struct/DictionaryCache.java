@@ -0,0 +1,305 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.struct;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPEvaluationContext;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDLabelValuePair;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Dictionary values cache. One cache per data source.
+ *
+ * Keeps dictionary pages (enumerations) and key to label lookups, so value completion, value filters
+ * and reference editors do not query the same dictionary again and again.
+ * Entries expire after {@link ModelPreferences#DICTIONARY_CACHE_TTL} seconds, zero lifetime disables the cache.
+ * Entity entries are invalidated on data modifications made by DBeaver (see {@link #invalidate(DBSEntity)}),
+ * changes made by other clients become visible after entry expiration.
+ *
+ * Scope identifies the lookup context: key column, description columns and preceding key values.
+ * Labels are cached only for the same scope.
+ */
+public class DictionaryCache {
+
+    public static final int MAX_LOOKUP_BATCH_SIZE = 200;
+
+    private static final int MAX_PAGES = 1000;
+    private static final int MAX_LABELS = 50000;
+
+    private static final Object NOT_FOUND = new Object();
+
+    // Cache must not reference its data source, otherwise data source is never collected
+    private static final Map<DBPDataSource, DictionaryCache> caches = new WeakHashMap<>();
+
+    public interface PageLoader {
+        @NotNull
+        List<DBDLabelValuePair> loadPage() throws DBException;
+    }
+
+    public interface LookupLoader {
+        /**
+         * Reads labels of the specified keys. Keys which are missing in the dictionary are skipped.
+         */
+        @NotNull
+        List<DBDLabelValuePair> loadValues(@NotNull List<Object> keyValues) throws DBException;
+    }
+
+    private static class CacheEntry {
+        final String entityName;
+        final Object value;
+        final long expireTime;
+
+        CacheEntry(String entityName, Object value, long expireTime) {
+            this.entityName = entityName;
+            this.value = value;
+            this.expireTime = expireTime;
+        }
+    }
+
+    private static class BoundedMap extends LinkedHashMap<List<Object>, CacheEntry> {
+        private final int maxSize;
+
+        BoundedMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, CacheEntry> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    @NotNull
+    public static DictionaryCache getInstance(@NotNull DBPDataSource dataSource) {
+        synchronized (caches) {
+            return caches.computeIfAbsent(dataSource, ds -> new DictionaryCache(ds.getContainer().getPreferenceStore()));
+        }
+    }
+
+    /**
+     * Removes all cached values of the specified entity
+     */
+    public static void invalidate(@NotNull DBSEntity entity) {
+        DictionaryCache cache;
+        synchronized (caches) {
+            cache = caches.get(entity.getDataSource());
+        }
+        if (cache != null) {
+            cache.invalidateEntity(getEntityName(entity));
+        }
+    }
+
+    private final DBPPreferenceStore preferenceStore;
+    private final Map<List<Object>, CacheEntry> pages = new BoundedMap(MAX_PAGES);
+    private final Map<List<Object>, CacheEntry> labels = new BoundedMap(MAX_LABELS);
+
+    private DictionaryCache(@NotNull DBPPreferenceStore preferenceStore) {
+        this.preferenceStore = preferenceStore;
+    }
+
+    public boolean isEnabled() {
+        return getTimeToLive() > 0;
+    }
+
+    /**
+     * Returns dictionary page. Page is identified by the scope and page parameters (pattern, offset, ordering, etc).
+     */
+    @NotNull
+    public List<DBDLabelValuePair> getPage(
+        @NotNull DBSEntity entity,
+        @NotNull List<Object> scope,
+        @NotNull List<Object> pageParameters,
+        @NotNull PageLoader loader
+    ) throws DBException {
+        long ttl = getTimeToLive();
+        if (ttl <= 0) {
+            return loader.loadPage();
+        }
+        String entityName = getEntityName(entity);
+        List<Object> pageKey = new ArrayList<>(scope.size() + pageParameters.size() + 1);
+        pageKey.add(entityName);
+        pageKey.addAll(scope);
+        pageKey.addAll(pageParameters);
+        synchronized (this) {
+            CacheEntry entry = getValidEntry(pages, pageKey);
+            if (entry != null) {
+                return copyPage(entry);
+            }
+        }
+        List<DBDLabelValuePair> page = loader.loadPage();
+        long expireTime = System.currentTimeMillis() + ttl;
+        synchronized (this) {
+            pages.put(pageKey, new CacheEntry(entityName, new ArrayList<>(page), expireTime));
+            // Page values may be used in lookups
+            for (DBDLabelValuePair pair : page) {
+                labels.put(makeLabelKey(entityName, scope, pair.getValue()), new CacheEntry(entityName, pair, expireTime));
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Returns labels of the specified keys. Missing keys are read in batches by the loader.
+     * Result contains only keys found in the dictionary, in the order of the requested keys.
+     */
+    @NotNull
+    public List<DBDLabelValuePair> getValues(
+        @NotNull DBSEntity entity,
+        @NotNull List<Object> scope,
+        @NotNull Collection<?> keyValues,
+        @NotNull LookupLoader loader
+    ) throws DBException {
+        long ttl = getTimeToLive();
+        String entityName = getEntityName(entity);
+        Map<Object, DBDLabelValuePair> found = new LinkedHashMap<>();
+        Map<Object, Object> missingKeys = new LinkedHashMap<>();
+        synchronized (this) {
+            for (Object keyValue : keyValues) {
+                Object normalizedKey = normalizeKey(keyValue);
+                if (found.containsKey(normalizedKey) || missingKeys.containsKey(normalizedKey)) {
+                    continue;
+                }
+                CacheEntry entry = ttl <= 0 ? null : getValidEntry(labels, makeLabelKey(entityName, scope, keyValue));
+                if (entry == null) {
+                    missingKeys.put(normalizedKey, keyValue);
+                } else if (entry.value != NOT_FOUND) {
+                    found.put(normalizedKey, (DBDLabelValuePair) entry.value);
+                }
+            }
+        }
+        if (missingKeys.isEmpty()) {
+            return new ArrayList<>(found.values());
+        }
+
+        List<DBDLabelValuePair> unmatched = new ArrayList<>();
+        List<Object> batch = new ArrayList<>(MAX_LOOKUP_BATCH_SIZE);
+        Iterator<Object> keyIterator = missingKeys.values().iterator();
+        while (keyIterator.hasNext()) {
+            batch.add(keyIterator.next());
+            if (batch.size() < MAX_LOOKUP_BATCH_SIZE && keyIterator.hasNext()) {
+                continue;
+            }
+            List<DBDLabelValuePair> batchValues = loader.loadValues(batch);
+            long expireTime = System.currentTimeMillis() + ttl;
+            boolean keysMatched = true;
+            Set<Object> batchKeys = new HashSet<>();
+            for (DBDLabelValuePair pair : batchValues) {
+                Object normalizedKey = normalizeKey(pair.getValue());
+                batchKeys.add(normalizedKey);
+                if (missingKeys.containsKey(normalizedKey)) {
+                    found.put(normalizedKey, pair);
+                } else {
+                    // Value was converted by the value handler, so it can't be matched with the requested key
+                    keysMatched = false;
+                    unmatched.add(pair);
+                }
+            }
+            if (ttl > 0) {
+                synchronized (this) {
+                    for (DBDLabelValuePair pair : batchValues) {
+                        labels.put(makeLabelKey(entityName, scope, pair.getValue()), new CacheEntry(entityName, pair, expireTime));
+                    }
+                    if (keysMatched) {
+                        // Remember keys which are missing in the dictionary, otherwise they will be read again and again
+                        for (Object keyValue : batch) {
+                            if (!batchKeys.contains(normalizeKey(keyValue))) {
+                                labels.put(makeLabelKey(entityName, scope, keyValue), new CacheEntry(entityName, NOT_FOUND, expireTime));
+                            }
+                        }
+                    }
+                }
+            }
+            batch.clear();
+        }
+
+        List<DBDLabelValuePair> result = new ArrayList<>(found.size() + unmatched.size());
+        for (Object keyValue : keyValues) {
+            DBDLabelValuePair pair = found.remove(normalizeKey(keyValue));
+            if (pair != null) {
+                result.add(pair);
+            }
+        }
+        result.addAll(unmatched);
+        return result;
+    }
+
+    private synchronized void invalidateEntity(@NotNull String entityName) {
+        pages.values().removeIf(entry -> entry.entityName.equals(entityName));
+        labels.values().removeIf(entry -> entry.entityName.equals(entityName));
+    }
+
+    private long getTimeToLive() {
+        return preferenceStore.getLong(ModelPreferences.DICTIONARY_CACHE_TTL) * 1000;
+    }
+
+    @Nullable
+    private static CacheEntry getValidEntry(@NotNull Map<List<Object>, CacheEntry> map, @NotNull List<Object> key) {
+        CacheEntry entry = map.get(key);
+        if (entry != null && entry.expireTime < System.currentTimeMillis()) {
+            map.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private static List<DBDLabelValuePair> copyPage(@NotNull CacheEntry entry) {
+        return new ArrayList<>((List<DBDLabelValuePair>) entry.value);
+    }
+
+    @NotNull
+    private static List<Object> makeLabelKey(@NotNull String entityName, @NotNull List<Object> scope, @Nullable Object keyValue) {
+        List<Object> key = new ArrayList<>(scope.size() + 2);
+        key.add(entityName);
+        key.addAll(scope);
+        key.add(normalizeKey(keyValue));
+        return key;
+    }
+
+    /**
+     * Numbers of different types (e.g. Integer key and Long value read from the database) must be equal
+     */
+    @Nullable
+    private static Object normalizeKey(@Nullable Object keyValue) {
+        if (keyValue instanceof Number) {
+            try {
+                return new BigDecimal(keyValue.toString()).stripTrailingZeros();
+            } catch (NumberFormatException e) {
+                // NaN or infinity
+                return keyValue;
+            }
+        }
+        return keyValue;
+    }
+
+    @NotNull
+    private static String getEntityName(@NotNull DBSEntity entity) {
+        return DBUtils.getObjectFullName(entity, DBPEvaluationContext.DML);
+    }
+
+}
@@ -486,6 +486,16 @@ public interface SQLDialect {
 
     boolean supportsUuid();
 
+    /**
+     * Returns clause which makes server read approximately the specified percent of table rows,
+     * e.g. {@code TABLESAMPLE SYSTEM (10) REPEATABLE (seed)}. Clause is appended after the table name and alias.
+     * @param samplePercent percent of rows in the sample
+     * @param seed random seed. The same seed should give the same sample (if supported by the database)
+     * @return sample clause or null if table sampling is not supported
+     */
+    @Nullable
+    String getTableSampleClause(double samplePercent, long seed);
+
     /**
      * Generates a set of connection-specific dialect features which require special handling during SQL parsing
      * (empty by default)
@@ -37,16 +37,30 @@ public interface DBSDataContainer extends DBSObject {
 
     String FEATURE_DATA_SELECT = "data.select";
     String FEATURE_DATA_COUNT = "data.count";
+    /**
+     * Row count can be estimated (see {@link #FLAG_ESTIMATE_COUNT})
+     */
+    String FEATURE_DATA_COUNT_ESTIMATE = "data.count.estimate";
     String FEATURE_DATA_FILTER = "data.filter";
     String FEATURE_DATA_SEARCH = "data.search";
     String FEATURE_KEY_VALUE = "data.key.value";
     String FEATURE_DATA_MODIFIED_ON_REFRESH = "data.modifying";
+    /**
+     * Data read respects sampling settings of the data filter (see {@link org.jkiss.dbeaver.model.data.DBDDataFilter#isSampled()})
+     */
+    String FEATURE_DATA_SAMPLE = "data.sample";
 
     long FLAG_NONE                  = 0;
     long FLAG_READ_PSEUDO           = 1 << 1;
     long FLAG_USE_SELECTED_ROWS     = 1 << 2;
     long FLAG_USE_SELECTED_COLUMNS  = 1 << 3;
     long FLAG_FETCH_SEGMENT         = 1 << 4;
+    /**
+     * Count data from the database statistics instead of scanning data. Result is approximate.
+     * Containers which can't estimate row count return negative value.
+     * Containers without {@link #FEATURE_DATA_COUNT_ESTIMATE} feature may ignore this flag and count data exactly.
+     */
+    long FLAG_ESTIMATE_COUNT        = 1 << 5;
     long FLAG_REFRESH               = 1 << 8;
 
     @Nullable
@@ -0,0 +1,304 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.runtime.jobs;
+
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.DBCStatement;
+import org.jkiss.dbeaver.model.runtime.VoidProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
+import org.jkiss.dbeaver.runtime.qm.DefaultExecutionHandler;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keep-alive scheduler.
+ *
+ * Ping deadlines of connected data sources are kept in a hashed timer wheel, so each monitor tick
+ * only processes data sources which are due. Data sources are pinged in parallel by a bounded thread pool,
+ * contexts of one data source are pinged one by one. Data source is skipped while its previous ping is still running.
+ * Each ping has a timeout. If ping didn't even start before the timeout (all threads were busy),
+ * the data source state is unknown and it is just checked again later.
+ * Contexts with successful statement executions during the last keep-alive interval
+ * (observed by query manager handler) are not pinged at all.
+ */
+class DataSourceKeepAliveScheduler {
+
+    private static final Log log = Log.getLog(DataSourceKeepAliveScheduler.class);
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int MAX_PARALLEL_PINGS = 8;
+    private static final long PING_TIMEOUT = 60 * 1000L;
+
+    private static final int MAX_FAILED_ATTEMPTS_BEFORE_DISCONNECT = 5;
+    private static final int MAX_FAILED_ATTEMPTS_BEFORE_IGNORE = 10;
+
+    private static class PingEntry {
+        final DBPDataSourceContainer container;
+        long deadline;
+        // Set while ping task is running (it may outlive its timeout)
+        volatile boolean pingRunning;
+
+        PingEntry(DBPDataSourceContainer container, long deadline) {
+            this.container = container;
+            this.deadline = deadline;
+        }
+    }
+
+    private final long tickInterval;
+    private final List<PingEntry>[] wheel;
+    private final Map<String, PingEntry> entries = new HashMap<>();
+    private long currentTick = -1;
+
+    private final ExecutorService pingExecutor;
+    private final ActivityHandler activityHandler = new ActivityHandler();
+
+    @SuppressWarnings("unchecked")
+    DataSourceKeepAliveScheduler(long tickInterval) {
+        this.tickInterval = tickInterval;
+        this.wheel = new List[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            MAX_PARALLEL_PINGS, MAX_PARALLEL_PINGS,
+            30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+                Thread thread = new Thread(r, "Connection ping " + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        this.pingExecutor = executor;
+    }
+
+    /**
+     * Query manager handler which tracks the last successful statement execution of each context
+     */
+    @NotNull
+    DefaultExecutionHandler getActivityHandler() {
+        return activityHandler;
+    }
+
+    /**
+     * Adds connected data source in the wheel (if it isn't there yet)
+     */
+    synchronized void registerDataSource(@NotNull DBPDataSourceContainer container, long currentTime) {
+        int keepAliveInterval = container.getConnectionConfiguration().getKeepAliveInterval();
+        if (keepAliveInterval <= 0 || entries.containsKey(container.getId())) {
+            return;
+        }
+        Date connectTime = container.getConnectTime();
+        long lastCheckTime = connectTime == null ? currentTime : connectTime.getTime();
+        PingEntry entry = new PingEntry(container, lastCheckTime + keepAliveInterval * 1000L);
+        entries.put(container.getId(), entry);
+        addToWheel(entry);
+    }
+
+    /**
+     * Advances the wheel and starts pings of all due data sources
+     */
+    void advance(long currentTime) {
+        List<PingEntry> dueEntries = new ArrayList<>();
+        synchronized (this) {
+            long tick = currentTime / tickInterval;
+            if (currentTick < 0 || tick - currentTick > WHEEL_SIZE) {
+                // First run or a long pause (e.g. system suspend) - check all slots
+                currentTick = tick - WHEEL_SIZE;
+            }
+            while (currentTick < tick) {
+                currentTick++;
+                List<PingEntry> slot = wheel[(int) (currentTick % WHEEL_SIZE)];
+                for (Iterator<PingEntry> iter = slot.iterator(); iter.hasNext(); ) {
+                    PingEntry entry = iter.next();
+                    if (entry.deadline <= currentTime) {
+                        iter.remove();
+                        dueEntries.add(entry);
+                    }
+                }
+            }
+        }
+        for (PingEntry entry : dueEntries) {
+            startPing(entry, currentTime);
+        }
+    }
+
+    void dispose() {
+        pingExecutor.shutdownNow();
+        synchronized (this) {
+            entries.clear();
+            for (List<PingEntry> slot : wheel) {
+                slot.clear();
+            }
+        }
+    }
+
+    private void addToWheel(PingEntry entry) {
+        long tick = Math.max(entry.deadline / tickInterval, currentTick + 1);
+        wheel[(int) (tick % WHEEL_SIZE)].add(entry);
+    }
+
+    private synchronized void reschedule(PingEntry entry, long lastCheckTime) {
+        DBPDataSourceContainer container = entry.container;
+        int keepAliveInterval = container.getConnectionConfiguration().getKeepAliveInterval();
+        if (!container.isConnected() || keepAliveInterval <= 0 || entries.get(container.getId()) != entry) {
+            // Will be registered again on the next connect
+            entries.remove(container.getId(), entry);
+            return;
+        }
+        entry.deadline = lastCheckTime + keepAliveInterval * 1000L;
+        addToWheel(entry);
+    }
+
+    private void startPing(PingEntry entry, long currentTime) {
+        DBPDataSourceContainer container = entry.container;
+        DBPDataSource dataSource = container.getDataSource();
+        if (!container.isConnected() || dataSource == null || entry.pingRunning) {
+            reschedule(entry, currentTime);
+            return;
+        }
+        int failedAttemptCount = KeepAliveInvalidateJob.getFailedAttemptCount(dataSource);
+        if (failedAttemptCount >= MAX_FAILED_ATTEMPTS_BEFORE_IGNORE) {
+            reschedule(entry, currentTime);
+            return;
+        }
+        long activityThreshold = currentTime - container.getConnectionConfiguration().getKeepAliveInterval() * 1000L;
+        List<DBCExecutionContext> contexts = new ArrayList<>();
+        for (DBSInstance instance : dataSource.getAvailableInstances()) {
+            for (DBCExecutionContext context : instance.getAllContexts()) {
+                if (activityHandler.getLastActivityTime(context) > activityThreshold) {
+                    // Context was used recently, no need to ping it
+                    continue;
+                }
+                contexts.add(context);
+            }
+        }
+        if (contexts.isEmpty()) {
+            reschedule(entry, currentTime);
+            return;
+        }
+        boolean disconnectOnError = failedAttemptCount > MAX_FAILED_ATTEMPTS_BEFORE_DISCONNECT;
+        // Set by ping task when it starts or by timeout handler if task didn't start in time
+        AtomicBoolean started = new AtomicBoolean();
+        CompletableFuture
+            .supplyAsync(() -> {
+                if (!started.compareAndSet(false, true)) {
+                    // Timed out in queue
+                    return null;
+                }
+                entry.pingRunning = true;
+                try {
+                    for (DBCExecutionContext context : contexts) {
+                        if (!pingContext(dataSource, context)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                } finally {
+                    entry.pingRunning = false;
+                }
+            }, pingExecutor)
+            .orTimeout(PING_TIMEOUT, TimeUnit.MILLISECONDS)
+            .whenComplete((result, error) -> {
+                Boolean alive = result;
+                if (error != null && started.compareAndSet(false, true)) {
+                    // Ping didn't start, so data source state is unknown
+                    log.debug("Keep-alive ping of '" + container.getName() + "' wasn't started in time");
+                    alive = null;
+                } else if (error != null) {
+                    // Ping hangs
+                    alive = false;
+                }
+                if (Boolean.FALSE.equals(alive)) {
+                    KeepAliveInvalidateJob invalidateJob = new KeepAliveInvalidateJob(dataSource, disconnectOnError);
+                    invalidateJob.addJobChangeListener(new JobChangeAdapter() {
+                        @Override
+                        public void done(IJobChangeEvent event) {
+                            reschedule(entry, System.currentTimeMillis());
+                        }
+                    });
+                    invalidateJob.schedule();
+                } else {
+                    reschedule(entry, System.currentTimeMillis());
+                }
+            });
+    }
+
+    private boolean pingContext(DBPDataSource dataSource, DBCExecutionContext context) {
+        try {
+            context.checkContextAlive(new VoidProgressMonitor());
+            activityHandler.setLastActivityTime(context, System.currentTimeMillis());
+            return true;
+        } catch (Exception e) {
+            log.debug("Context [" + dataSource.getName() + "::" + context.getContextName() + "] check failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static class ActivityHandler extends DefaultExecutionHandler {
+        private final Map<DBCExecutionContext, Long> lastActivityTimes = new WeakHashMap<>();
+
+        @NotNull
+        @Override
+        public String getHandlerName() {
+            return "Keep-alive activity tracker";
+        }
+
+        @Override
+        public void handleContextClose(@NotNull DBCExecutionContext context) {
+            synchronized (lastActivityTimes) {
+                lastActivityTimes.remove(context);
+            }
+        }
+
+        @Override
+        public void handleStatementExecuteEnd(@NotNull DBCStatement statement, long rows, Throwable error) {
+            if (error != null) {
+                return;
+            }
+            DBCSession session = statement.getSession();
+            if (session != null) {
+                setLastActivityTime(session.getExecutionContext(), System.currentTimeMillis());
+            }
+        }
+
+        long getLastActivityTime(DBCExecutionContext context) {
+            synchronized (lastActivityTimes) {
+                Long time = lastActivityTimes.get(context);
+                return time == null ? -1 : time;
+            }
+        }
+
+        void setLastActivityTime(DBCExecutionContext context, long time) {
+            synchronized (lastActivityTimes) {
+                lastActivityTimes.put(context, time);
+            }
+        }
+    }
+
+}
@@ -18,8 +18,6 @@ package org.jkiss.dbeaver.runtime.jobs;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.IJobChangeEvent;
-import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ModelPreferences;
@@ -45,7 +43,7 @@ import java.util.*;
 /**
  * DataSourceMonitorJob.
  *
- * Performs connection keep-alive ping.
+ * Performs connection keep-alive ping (see {@link DataSourceKeepAliveScheduler}).
  * Ends idle transactions.
  */
 public class DataSourceMonitorJob extends AbstractJob {
@@ -54,12 +52,8 @@ public class DataSourceMonitorJob extends AbstractJob {
 
     private static final Log log = Log.getLog(DataSourceMonitorJob.class);
 
-    private static final int MAX_FAILED_ATTEMPTS_BEFORE_DISCONNECT = 5;
-    private static final int MAX_FAILED_ATTEMPTS_BEFORE_IGNORE = 10;
-
     private final DBPPlatform platform;
-    private final Map<String, Long> checkCache = new HashMap<>();
-    private final Set<String> pingCache = new HashSet<>();
+    private final DataSourceKeepAliveScheduler keepAliveScheduler;
     private long lastPingTime = -1;
 
     public DataSourceMonitorJob(DBPPlatform platform) {
@@ -67,47 +61,44 @@ public class DataSourceMonitorJob extends AbstractJob {
         setUser(false);
         setSystem(true);
         this.platform = platform;
+        this.keepAliveScheduler = new DataSourceKeepAliveScheduler(MONITOR_INTERVAL);
+        platform.getQueryManager().registerHandler(keepAliveScheduler.getActivityHandler());
     }
 
     @Override
     protected IStatus run(DBRProgressMonitor monitor) {
         if (platform.isShuttingDown()) {
+            platform.getQueryManager().unregisterHandler(keepAliveScheduler.getActivityHandler());
+            keepAliveScheduler.dispose();
             return Status.OK_STATUS;
         }
         if (lastPingTime > 0 && System.currentTimeMillis() - lastPingTime > SYSTEM_SUSPEND_INTERVAL) {
             log.debug("System suspend detected! Reinitialize all remote connections.");
         }
-        lastPingTime = System.currentTimeMillis();
+        final long currentTime = System.currentTimeMillis();
+        lastPingTime = currentTime;
 
         final DBPWorkspace workspace = platform.getWorkspace();
         for (DBPProject project : workspace.getProjects()) {
             if (project.isOpen() && project.isRegistryLoaded()) {
                 DBPDataSourceRegistry dataSourceRegistry = project.getDataSourceRegistry();
                 for (DBPDataSourceContainer ds : dataSourceRegistry.getDataSources()) {
-                    checkDataSourceAlive(ds);
+                    checkDataSourceAlive(ds, currentTime);
                 }
             }
         }
+        keepAliveScheduler.advance(currentTime);
         if (!platform.isShuttingDown()) {
             scheduleMonitor();
         }
         return Status.OK_STATUS;
     }
 
-    private void checkDataSourceAlive(final DBPDataSourceContainer dataSourceDescriptor) {
+    private void checkDataSourceAlive(final DBPDataSourceContainer dataSourceDescriptor, long currentTime) {
         if (!dataSourceDescriptor.isConnected()) {
             return;
         }
 
-        final String dsId = dataSourceDescriptor.getId();
-        synchronized (this) {
-            if (pingCache.contains(dsId)) {
-                // Ping is still in progress. Hanged?
-                // Anyway - just skip it
-                return;
-            }
-        }
-
         // End long transactions
         if (dataSourceDescriptor.isAutoCloseTransactions() ||
             dataSourceDescriptor.getConnectionConfiguration().getCloseIdleInterval() > 0)
@@ -115,55 +106,8 @@ public class DataSourceMonitorJob extends AbstractJob {
             endIdleTransactions(dataSourceDescriptor);
         }
 
-        // Perform keep alive request
-        final int keepAliveInterval = dataSourceDescriptor.getConnectionConfiguration().getKeepAliveInterval();
-        if (keepAliveInterval <= 0) {
-            return;
-        }
-
-        final DBPDataSource dataSource = dataSourceDescriptor.getDataSource();
-        if (dataSource == null) {
-            return;
-        }
-        Long lastCheckTime;
-        synchronized (this) {
-            lastCheckTime = checkCache.get(dsId);
-        }
-        if (lastCheckTime == null) {
-            final Date connectTime = dataSourceDescriptor.getConnectTime();
-            if (connectTime != null) {
-                lastCheckTime = connectTime.getTime();
-            }
-        }
-        if (lastCheckTime == null) {
-            log.debug("Can't determine last check time for " + dsId);
-            return;
-        }
-        long curTime = System.currentTimeMillis();
-        if ((curTime - lastCheckTime) / 1000 > keepAliveInterval) {
-            boolean disconnectOnError = false;
-            int failedAttemptCount = KeepAlivePingJob.getFailedAttemptCount(dataSource);
-            if (failedAttemptCount >= MAX_FAILED_ATTEMPTS_BEFORE_IGNORE) {
-                return;
-            }
-            if (failedAttemptCount > MAX_FAILED_ATTEMPTS_BEFORE_DISCONNECT) {
-                disconnectOnError = true;
-            }
-            final KeepAlivePingJob pingJob = new KeepAlivePingJob(dataSource, disconnectOnError);
-            pingJob.addJobChangeListener(new JobChangeAdapter() {
-                @Override
-                public void done(IJobChangeEvent event) {
-                    synchronized (DataSourceMonitorJob.this) {
-                        checkCache.put(dsId, System.currentTimeMillis());
-                        pingCache.remove(dsId);
-                    }
-                }
-            });
-            synchronized (this) {
-                pingCache.add(dsId);
-            }
-            pingJob.schedule();
-        }
+        // Keep alive requests are performed by scheduler
+        keepAliveScheduler.registerDataSource(dataSourceDescriptor, currentTime);
     }
 
     private void endIdleTransactions(DBPDataSourceContainer dsDescriptor) {
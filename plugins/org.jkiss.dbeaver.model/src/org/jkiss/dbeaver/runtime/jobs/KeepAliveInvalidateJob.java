@@ -20,10 +20,8 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSource;
-import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
-import org.jkiss.dbeaver.model.struct.DBSInstance;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 
 import java.util.HashMap;
@@ -31,18 +29,20 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * KeepAlivePingJob
+ * KeepAliveInvalidateJob.
+ *
+ * Invalidates data source after failed keep-alive ping (see {@link DataSourceKeepAliveScheduler}).
  */
-class KeepAlivePingJob extends AbstractJob {
-    private static final Log log = Log.getLog(KeepAlivePingJob.class);
+class KeepAliveInvalidateJob extends AbstractJob {
+    private static final Log log = Log.getLog(KeepAliveInvalidateJob.class);
 
     private static final Map<String, Integer> failedAttempts = new HashMap<>();
 
     private final DBPDataSource dataSource;
     private final boolean disconnectOnError;
 
-    KeepAlivePingJob(DBPDataSource dataSource, boolean disconnectOnError) {
-        super("Connection ping (" + dataSource.getContainer().getName() + ")");
+    KeepAliveInvalidateJob(DBPDataSource dataSource, boolean disconnectOnError) {
+        super("Connection invalidate (" + dataSource.getContainer().getName() + ")");
         setUser(false);
         setSystem(true);
         this.dataSource = dataSource;
@@ -51,41 +51,27 @@ class KeepAlivePingJob extends AbstractJob {
 
     @Override
     protected IStatus run(DBRProgressMonitor monitor) {
-        boolean hasDeadContexts = false;
-        for (final DBSInstance instance : dataSource.getAvailableInstances()) {
-            for (final DBCExecutionContext context : instance.getAllContexts()) {
-                try {
-                    context.checkContextAlive(monitor);
-                } catch (Exception e) {
-                    log.debug("Context [" + dataSource.getName() + "::" + context.getContextName() + "] check failed: " + e.getMessage());
-                    hasDeadContexts = true;
-                    break;
-                }
-            }
-        }
-        if (hasDeadContexts) {
-            // Invalidate whole datasource. Do not log errors (as it can spam tons of logs)
-            final List<InvalidateJob.ContextInvalidateResult> results = InvalidateJob.invalidateDataSource(
-                monitor,
-                dataSource,
-                disconnectOnError,
-                false,
-                () -> DBWorkbench.getPlatformUI().openConnectionEditor(dataSource.getContainer()));
-            synchronized (failedAttempts) {
-                String dsId = dataSource.getContainer().getId();
-                if (isSuccess(results) || disconnectOnError) {
-                    log.debug("Datasource " + dataSource.getName() + " invalidated: " + results);
-                    failedAttempts.remove(dsId);
+        // Invalidate whole datasource. Do not log errors (as it can spam tons of logs)
+        final List<InvalidateJob.ContextInvalidateResult> results = InvalidateJob.invalidateDataSource(
+            monitor,
+            dataSource,
+            disconnectOnError,
+            false,
+            () -> DBWorkbench.getPlatformUI().openConnectionEditor(dataSource.getContainer()));
+        synchronized (failedAttempts) {
+            String dsId = dataSource.getContainer().getId();
+            if (isSuccess(results) || disconnectOnError) {
+                log.debug("Datasource " + dataSource.getName() + " invalidated: " + results);
+                failedAttempts.remove(dsId);
+            } else {
+                log.debug("Datasource " + dataSource.getName() + " invalidate failed: " + results);
+                Integer curAttempts = failedAttempts.get(dsId);
+                if (curAttempts == null) {
+                    curAttempts = 1;
                 } else {
-                    log.debug("Datasource " + dataSource.getName() + " invalidate failed: " + results);
-                    Integer curAttempts = failedAttempts.get(dsId);
-                    if (curAttempts == null) {
-                        curAttempts = 1;
-                    } else {
-                        curAttempts++;
-                    }
-                    failedAttempts.put(dsId, curAttempts);
+                    curAttempts++;
                 }
+                failedAttempts.put(dsId, curAttempts);
             }
         }
         return Status.OK_STATUS;
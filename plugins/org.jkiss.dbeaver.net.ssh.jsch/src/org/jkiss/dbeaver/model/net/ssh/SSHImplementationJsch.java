@@ -48,10 +48,27 @@ import java.util.stream.Collectors;
 public class SSHImplementationJsch extends SSHImplementationAbstract {
     private static final String CHANNEL_TYPE_SFTP = "sftp";
 
+    private static final String COMPRESSION_METHODS = "zlib@openssh.com,zlib,none";
+
     private static final Log log = Log.getLog(SSHImplementationJsch.class);
 
+    private static final SSHSharedSessionManager<Session[]> sharedSessions = new SSHSharedSessionManager<>(
+        new SSHSharedSessionManager.SessionHandler<>() {
+            @Override
+            public boolean isSessionAlive(@NotNull Session[] sessions) {
+                return SSHImplementationJsch.isSessionAlive(sessions);
+            }
+
+            @Override
+            public void closeSession(@NotNull Session[] sessions) {
+                closeSessions(sessions);
+            }
+        });
+
     private transient JSch jsch;
     private transient volatile Session[] sessions;
+    private transient SSHSharedSessionManager.SharedSession<Session[]> sharedSession;
+    private transient SSHPortForwardConfiguration portForward;
 
     @Override
     protected synchronized void setupTunnel(@NotNull DBRProgressMonitor monitor, @NotNull DBWHandlerConfiguration configuration, @NotNull SSHHostConfiguration[] hosts, @NotNull SSHPortForwardConfiguration portForward) throws DBException, IOException {
@@ -60,7 +77,28 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
             JSch.setLogger(new JschLoggerProxy());
         }
 
-        sessions = new Session[hosts.length];
+        final SSHSharedSessionManager.SharedSession<Session[]> shared = sharedSessions.acquireSession(
+            getSessionKey(configuration, hosts),
+            () -> openSessions(monitor, configuration, hosts));
+        final Session[] sessions = shared.getSession();
+
+        try {
+            log.debug("Set port forwarding " + portForward.getLocalHost() + ":" + portForward.getLocalPort() + " -> " + portForward.getRemoteHost() + ":" + portForward.getRemotePort());
+            sessions[sessions.length - 1].setPortForwardingL(portForward.getLocalHost(), portForward.getLocalPort(), portForward.getRemoteHost(), portForward.getRemotePort());
+        } catch (JSchException e) {
+            sharedSessions.releaseSession(shared);
+            final SSHHostConfiguration host = hosts[hosts.length - 1];
+            throw new DBException("Cannot establish tunnel to " + host.getHostname() + ":" + host.getPort(), e);
+        }
+
+        this.sharedSession = shared;
+        this.sessions = sessions;
+        this.portForward = portForward;
+    }
+
+    @NotNull
+    private Session[] openSessions(@NotNull DBRProgressMonitor monitor, @NotNull DBWHandlerConfiguration configuration, @NotNull SSHHostConfiguration[] hosts) throws DBException, IOException {
+        final Session[] sessions = new Session[hosts.length];
 
         for (int index = 0; index < hosts.length; index++) {
             final SSHHostConfiguration host = hosts[index];
@@ -116,21 +154,40 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
                     session.setConfig("PreferredAuthentications", "publickey,keyboard-interactive,password");
                 }
 
+                if (isCompressionEnabled(configuration)) {
+                    session.setConfig("compression.s2c", COMPRESSION_METHODS);
+                    session.setConfig("compression.c2s", COMPRESSION_METHODS);
+                }
+
                 log.debug("Connect to tunnel host");
 
                 session.connect();
-
-                if (index == hosts.length - 1) {
-                    log.debug("Set port forwarding " + portForward.getLocalHost() + ":" + portForward.getLocalPort() + " -> " + portForward.getRemoteHost() + ":" + portForward.getRemotePort());
-                    session.setPortForwardingL(portForward.getLocalHost(), portForward.getLocalPort(), portForward.getRemoteHost(), portForward.getRemotePort());
-                }
             } catch (JSchException e) {
-                closeTunnel(monitor);
+                closeSessions(sessions);
                 throw new DBException("Cannot establish tunnel to " + host.getHostname() + ":" + host.getPort(), e);
             }
 
             sessions[index] = session;
         }
+
+        return sessions;
+    }
+
+    private static boolean isSessionAlive(@NotNull Session[] sessions) {
+        for (Session session : sessions) {
+            if (session == null || !session.isConnected()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void closeSessions(@NotNull Session[] sessions) {
+        for (Session session : sessions) {
+            if (session != null && session.isConnected()) {
+                session.disconnect();
+            }
+        }
     }
 
     private void setupHostKeyVerification(Session session, DBWHandlerConfiguration configuration) throws JSchException {
@@ -161,21 +218,26 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
 
     @Override
     public synchronized void closeTunnel(DBRProgressMonitor monitor) {
-        if (ArrayUtils.isEmpty(sessions)) {
+        final SSHSharedSessionManager.SharedSession<Session[]> shared = this.sharedSession;
+        final SSHPortForwardConfiguration portForward = this.portForward;
+        if (shared == null) {
             return;
         }
+        this.sharedSession = null;
+        this.sessions = null;
+        this.portForward = null;
         RuntimeUtils.runTask(monitor1 -> {
-            Session[] sessions = this.sessions;
-            if (ArrayUtils.isEmpty(sessions)) {
-                return;
-            }
-            for (Session session : sessions) {
-                if (session != null && session.isConnected()) {
-                    session.disconnect();
+            final Session session = shared.getSession()[shared.getSession().length - 1];
+            if (portForward != null && session.isConnected() && sharedSessions.isShared(shared)) {
+                // Other tunnels still use this session
+                try {
+                    session.delPortForwardingL(portForward.getLocalHost(), portForward.getLocalPort());
+                } catch (JSchException e) {
+                    log.debug("Error removing port forwarding: " + e.getMessage());
                 }
             }
+            sharedSessions.releaseSession(shared);
         }, "Close SSH session", 1000);
-        sessions = null;
     }
 
     @Override
@@ -202,6 +264,12 @@ public class SSHImplementationJsch extends SSHImplementationAbstract {
             }
         }
         if (!isAlive) {
+            synchronized (this) {
+                if (sharedSession != null) {
+                    // Session is released asynchronously, so make sure it won't be reused by initTunnel
+                    sharedSessions.invalidateSession(sharedSession);
+                }
+            }
             closeTunnel(monitor);
             initTunnel(monitor, savedConfiguration, savedConnectionInfo);
         }
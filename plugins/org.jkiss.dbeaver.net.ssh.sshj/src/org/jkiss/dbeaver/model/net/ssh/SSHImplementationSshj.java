@@ -62,8 +62,22 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
 
     private static final Log log = Log.getLog(SSHImplementationSshj.class);
 
+    private static final SSHSharedSessionManager<SSHClient[]> sharedClients = new SSHSharedSessionManager<>(
+        new SSHSharedSessionManager.SessionHandler<>() {
+            @Override
+            public boolean isSessionAlive(@NotNull SSHClient[] clients) {
+                return isClientAlive(clients);
+            }
+
+            @Override
+            public void closeSession(@NotNull SSHClient[] clients) {
+                disconnectClients(clients);
+            }
+        });
+
     private final List<LocalPortListener> listeners = new ArrayList<>();
     private SSHClient[] clients;
+    private SSHSharedSessionManager.SharedSession<SSHClient[]> sharedClient;
 
     @Override
     protected synchronized void setupTunnel(
@@ -71,8 +85,38 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
         @NotNull DBWHandlerConfiguration configuration,
         @NotNull SSHHostConfiguration[] hosts,
         @NotNull SSHPortForwardConfiguration portForward
+    ) throws DBException, IOException {
+        final SSHSharedSessionManager.SharedSession<SSHClient[]> shared = sharedClients.acquireSession(
+            getSessionKey(configuration, hosts),
+            () -> openClients(monitor, configuration, hosts));
+        final SSHClient[] clients = shared.getSession();
+
+        try {
+            log.debug(String.format(
+                "Set port forwarding %s:%d -> %s:%d",
+                portForward.getLocalHost(), portForward.getLocalPort(),
+                portForward.getRemoteHost(), portForward.getRemotePort()));
+            setPortForwarding(
+                clients[clients.length - 1],
+                portForward.getLocalHost(), portForward.getLocalPort(),
+                portForward.getRemoteHost(), portForward.getRemotePort());
+        } catch (IOException e) {
+            sharedClients.releaseSession(shared);
+            final SSHHostConfiguration host = hosts[hosts.length - 1];
+            throw new DBException("Cannot establish tunnel to " + host.getHostname() + ":" + host.getPort(), e);
+        }
+
+        this.sharedClient = shared;
+        this.clients = clients;
+    }
+
+    @NotNull
+    private SSHClient[] openClients(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull DBWHandlerConfiguration configuration,
+        @NotNull SSHHostConfiguration[] hosts
     ) throws DBException {
-        this.clients = new SSHClient[hosts.length];
+        final SSHClient[] clients = new SSHClient[hosts.length];
 
         final int connectTimeout = configuration.getIntProperty(SSHConstants.PROP_CONNECT_TIMEOUT);
         final int keepAliveInterval = configuration.getIntProperty(SSHConstants.PROP_ALIVE_INTERVAL) / 1000; // sshj uses seconds for keep-alive interval
@@ -95,6 +139,10 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
             }
 
             try {
+                if (isCompressionEnabled(configuration)) {
+                    client.useCompression();
+                }
+
                 if (index > 0) {
                     final SSHClient prevClient = clients[index - 1];
 
@@ -145,22 +193,35 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
                     default:
                         break;
                 }
-
-                if (index == hosts.length - 1) {
-                    log.debug(String.format(
-                        "Set port forwarding %s:%d -> %s:%d",
-                        portForward.getLocalHost(), portForward.getLocalPort(),
-                        portForward.getRemoteHost(), portForward.getRemotePort()));
-                    setPortForwarding(
-                        client,
-                        portForward.getLocalHost(), portForward.getLocalPort(),
-                        portForward.getRemoteHost(), portForward.getRemotePort());
-                }
             } catch (IOException e) {
-                closeTunnel(monitor);
+                disconnectClients(clients);
                 throw new DBException("Cannot establish tunnel to " + host.getHostname() + ":" + host.getPort(), e);
             }
         }
+
+        return clients;
+    }
+
+    private static boolean isClientAlive(@NotNull SSHClient[] clients) {
+        for (SSHClient client : clients) {
+            if (client == null || !client.isConnected() || !client.isAuthenticated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void disconnectClients(@NotNull SSHClient[] clients) {
+        for (SSHClient client : clients) {
+            if (client != null && client.isConnected()) {
+                try {
+                    log.debug("Disconnect SSHJ tunnel " + client);
+                    client.disconnect();
+                } catch (Throwable e) {
+                    log.debug("Error closing session: " + e.getMessage());
+                }
+            }
+        }
     }
 
     private static void setupHostKeyVerification(
@@ -185,27 +246,19 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
         listeners.forEach(LocalPortListener::disconnect);
         listeners.clear();
 
-        if (!ArrayUtils.isEmpty(clients)) {
-            SSHClient[] clientsCopy = this.clients;
+        final SSHSharedSessionManager.SharedSession<SSHClient[]> shared = this.sharedClient;
+        if (shared != null) {
             new AbstractJob("Close SSHJ clients") {
                 @Override
                 protected IStatus run(DBRProgressMonitor monitor) {
-                    for (SSHClient client : clientsCopy) {
-                        if (client != null && client.isConnected()) {
-                            try {
-                                log.debug("Disconnect SSHJ tunnel " + client);
-                                client.disconnect();
-                            } catch (Throwable e) {
-                                log.debug("Error closing session: " + e.getMessage());
-                            }
-                        }
-                    }
+                    sharedClients.releaseSession(shared);
                     return Status.OK_STATUS;
                 }
             }.schedule();
         }
 
-        clients = null;
+        this.sharedClient = null;
+        this.clients = null;
     }
 
     @Override
@@ -220,6 +273,12 @@ public class SSHImplementationSshj extends SSHImplementationAbstract {
 
     @Override
     public void invalidateTunnel(DBRProgressMonitor monitor) throws DBException, IOException {
+        synchronized (this) {
+            if (sharedClient != null) {
+                // Clients are released asynchronously, so make sure they won't be reused by initTunnel
+                sharedClients.invalidateSession(sharedClient);
+            }
+        }
         closeTunnel(monitor);
         initTunnel(monitor, savedConfiguration, savedConnectionInfo);
     }
@@ -79,6 +79,8 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
 
     private Combo tunnelImplCombo;
     private Button fingerprintVerificationCheck;
+    private Button shareSessionCheck;
+    private Button compressionCheck;
     private Text localHostText;
     private Text localPortSpinner;
     private Text remoteHostText;
@@ -192,6 +194,20 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
                 false,
                 2);
 
+            shareSessionCheck = UIUtils.createCheckbox(
+                client,
+                SSHUIMessages.model_ssh_configurator_label_share_session,
+                SSHUIMessages.model_ssh_configurator_label_share_session_description,
+                true,
+                2);
+
+            compressionCheck = UIUtils.createCheckbox(
+                client,
+                SSHUIMessages.model_ssh_configurator_label_compression,
+                SSHUIMessages.model_ssh_configurator_label_compression_description,
+                false,
+                2);
+
             localHostText = UIUtils.createLabelText(client, SSHUIMessages.model_ssh_configurator_label_local_host, null, SWT.BORDER, new GridData(GridData.FILL_HORIZONTAL));
             localHostText.setToolTipText(SSHUIMessages.model_ssh_configurator_label_local_host_description);
             localHostText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
@@ -457,6 +473,8 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
         }
         
         fingerprintVerificationCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_BYPASS_HOST_VERIFICATION));
+        shareSessionCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_SHARE_SESSION, true));
+        compressionCheck.setSelection(configuration.getBooleanProperty(SSHConstants.PROP_COMPRESSION));
         
         localHostText.setText(CommonUtils.notEmpty(configuration.getStringProperty(SSHConstants.PROP_LOCAL_HOST)));
         int lpValue = configuration.getIntProperty(SSHConstants.PROP_LOCAL_PORT);
@@ -518,6 +536,8 @@ public class SSHTunnelConfiguratorUI implements IObjectPropertyConfigurator<Obje
         } else {
             configuration.setProperty(SSHConstants.PROP_BYPASS_HOST_VERIFICATION, null);
         }
+        configuration.setProperty(SSHConstants.PROP_SHARE_SESSION, shareSessionCheck.getSelection() ? null : false);
+        configuration.setProperty(SSHConstants.PROP_COMPRESSION, compressionCheck.getSelection() ? true : null);
 
         configuration.setProperty(SSHConstants.PROP_LOCAL_HOST, localHostText.getText().trim());
         int localPort = CommonUtils.toInt(localPortSpinner.getText());
@@ -47,6 +47,10 @@ public class SSHUIMessages extends NLS {
     public static String model_ssh_configurator_label_tunnel_timeout;
     public static String model_ssh_configurator_label_bypass_verification;
     public static String model_ssh_configurator_label_bypass_verification_description;
+    public static String model_ssh_configurator_label_share_session;
+    public static String model_ssh_configurator_label_share_session_description;
+    public static String model_ssh_configurator_label_compression;
+    public static String model_ssh_configurator_label_compression_description;
     public static String model_ssh_configurator_button_test_tunnel;
     public static String model_ssh_configurator_combo_agent;
     public static String model_ssh_configurator_group_jump_server_settings_text;
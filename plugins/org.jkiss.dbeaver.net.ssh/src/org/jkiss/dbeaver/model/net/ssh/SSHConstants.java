@@ -38,6 +38,8 @@ public class SSHConstants {
     public static final String PROP_REMOTE_HOST = "remoteHost";
     public static final String PROP_REMOTE_PORT = "remotePort";
     public static final String PROP_BYPASS_HOST_VERIFICATION = "bypassHostVerification";
+    public static final String PROP_SHARE_SESSION = "shareSession";
+    public static final String PROP_COMPRESSION = "compression";
     //private static final int CONNECT_TIMEOUT = 10000;
 
     public enum AuthType {
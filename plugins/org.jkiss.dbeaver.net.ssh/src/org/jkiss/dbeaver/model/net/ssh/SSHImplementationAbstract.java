@@ -39,6 +39,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * SSH tunnel
@@ -143,6 +144,41 @@ public abstract class SSHImplementationAbstract implements SSHImplementation {
         return connectionInfo;
     }
 
+    /**
+     * Returns key of the SSH session which may be used by this tunnel.
+     * Tunnels with equal keys share the same session (see {@link SSHSharedSessionManager}).
+     * If session sharing is disabled then the key is unique.
+     */
+    @NotNull
+    protected Object getSessionKey(@NotNull DBWHandlerConfiguration configuration, @NotNull SSHHostConfiguration[] hosts) {
+        if (!configuration.getBooleanProperty(SSHConstants.PROP_SHARE_SESSION, true)) {
+            return new Object();
+        }
+        List<SessionHostKey> hostKeys = new ArrayList<>(hosts.length);
+        for (SSHHostConfiguration host : hosts) {
+            SSHAuthConfiguration auth = host.getAuthConfiguration();
+            hostKeys.add(new SessionHostKey(
+                host.getUsername(),
+                host.getHostname(),
+                host.getPort(),
+                auth.getType(),
+                auth.getPassword(),
+                auth.getKeyFile() == null ? null : auth.getKeyFile().toAbsolutePath().toString(),
+                auth.getKeyValue()));
+        }
+        return new SessionKey(
+            getClass(),
+            hostKeys,
+            isCompressionEnabled(configuration),
+            configuration.getBooleanProperty(SSHConstants.PROP_BYPASS_HOST_VERIFICATION),
+            configuration.getIntProperty(SSHConstants.PROP_ALIVE_INTERVAL),
+            configuration.getIntProperty(SSHConstants.PROP_CONNECT_TIMEOUT));
+    }
+
+    protected static boolean isCompressionEnabled(@NotNull DBWHandlerConfiguration configuration) {
+        return configuration.getBooleanProperty(SSHConstants.PROP_COMPRESSION);
+    }
+
     protected abstract void setupTunnel(
         @NotNull DBRProgressMonitor monitor,
         @NotNull DBWHandlerConfiguration configuration,
@@ -212,6 +248,36 @@ public abstract class SSHImplementationAbstract implements SSHImplementation {
         return SSHConstants.PROP_JUMP_SERVER + index + ".";
     }
 
+    private record SessionKey(
+        Class<?> implClass,
+        List<SessionHostKey> hosts,
+        boolean compression,
+        boolean bypassHostVerification,
+        int keepAliveInterval,
+        int connectTimeout
+    ) {
+        @Override
+        public String toString() {
+            return hosts.stream().map(SessionHostKey::toString).collect(Collectors.joining(" -> "));
+        }
+    }
+
+    private record SessionHostKey(
+        String username,
+        String hostname,
+        int port,
+        SSHConstants.AuthType authType,
+        String password,
+        String keyFile,
+        String keyValue
+    ) {
+        @Override
+        public String toString() {
+            // Do not expose credentials
+            return username + "@" + hostname + ":" + port;
+        }
+    }
+
     protected boolean isSupportsJumpServer() {
         for (SSHImplementationDescriptor descriptor : SSHImplementationRegistry.getInstance().getDescriptors()) {
             if (descriptor.getImplClass().getObjectClass() == getClass()) {
@@ -0,0 +1,160 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.net.ssh;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Authenticated SSH sessions shared between tunnels.
+ *
+ * Tunnels with the same session key (see {@link SSHImplementationAbstract#getSessionKey})
+ * use the same session (with its jump hosts chain) and only open their own port forwards on it.
+ * Session is closed when the last tunnel releases it. Dead sessions (and sessions invalidated by
+ * {@link #invalidateSession}) are replaced on acquire; tunnels which still hold a dead session release it independently.
+ */
+public class SSHSharedSessionManager<T> {
+
+    private static final Log log = Log.getLog(SSHSharedSessionManager.class);
+
+    public interface SessionFactory<T> {
+        @NotNull
+        T openSession() throws DBException, IOException;
+    }
+
+    public interface SessionHandler<T> {
+        boolean isSessionAlive(@NotNull T session);
+
+        void closeSession(@NotNull T session);
+    }
+
+    public static class SharedSession<T> {
+        private final Object key;
+        private final T session;
+        private int refCount;
+        private boolean invalidated;
+
+        private SharedSession(@NotNull Object key, @NotNull T session) {
+            this.key = key;
+            this.session = session;
+            this.refCount = 1;
+        }
+
+        @NotNull
+        public T getSession() {
+            return session;
+        }
+    }
+
+    private final SessionHandler<T> handler;
+    private final Map<Object, SharedSession<T>> sessions = new HashMap<>();
+    // Session opening may take a while, so it is synchronized per key.
+    // Lock is kept while somebody acquires a session with its key.
+    private final Map<Object, KeyLock> keyLocks = new HashMap<>();
+
+    private static class KeyLock {
+        private int users;
+    }
+
+    public SSHSharedSessionManager(@NotNull SessionHandler<T> handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Returns alive session for the specified key or opens a new one
+     */
+    @NotNull
+    public SharedSession<T> acquireSession(@NotNull Object key, @NotNull SessionFactory<T> factory) throws DBException, IOException {
+        KeyLock keyLock;
+        synchronized (sessions) {
+            keyLock = keyLocks.computeIfAbsent(key, k -> new KeyLock());
+            keyLock.users++;
+        }
+        try {
+            synchronized (keyLock) {
+                SharedSession<T> shared;
+                synchronized (sessions) {
+                    shared = sessions.get(key);
+                    if (shared != null && shared.refCount > 0) {
+                        if (!shared.invalidated && handler.isSessionAlive(shared.session)) {
+                            shared.refCount++;
+                            log.debug("Reuse shared SSH session " + key + " (" + shared.refCount + " tunnels)");
+                            return shared;
+                        }
+                        sessions.remove(key);
+                    }
+                }
+                shared = new SharedSession<>(key, factory.openSession());
+                synchronized (sessions) {
+                    sessions.put(key, shared);
+                }
+                return shared;
+            }
+        } finally {
+            synchronized (sessions) {
+                keyLock.users--;
+                if (keyLock.users == 0) {
+                    keyLocks.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks session as dead, so it won't be given to other tunnels anymore.
+     * Session itself is closed when all its tunnels release it.
+     */
+    public void invalidateSession(@NotNull SharedSession<T> shared) {
+        synchronized (sessions) {
+            shared.invalidated = true;
+            if (sessions.get(shared.key) == shared) {
+                sessions.remove(shared.key);
+            }
+        }
+    }
+
+    /**
+     * Releases session. Session is closed if it is not used by other tunnels.
+     */
+    public void releaseSession(@NotNull SharedSession<T> shared) {
+        synchronized (sessions) {
+            shared.refCount--;
+            if (shared.refCount > 0) {
+                return;
+            }
+            if (sessions.get(shared.key) == shared) {
+                sessions.remove(shared.key);
+            }
+        }
+        handler.closeSession(shared.session);
+    }
+
+    /**
+     * Returns true if session is used by other tunnels
+     */
+    public boolean isShared(@NotNull SharedSession<T> shared) {
+        synchronized (sessions) {
+            return shared.refCount > 1;
+        }
+    }
+
+}
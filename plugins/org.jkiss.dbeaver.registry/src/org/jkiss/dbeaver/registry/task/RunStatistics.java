@@ -33,4 +33,24 @@ public class RunStatistics {
     public List<TaskRunImpl> getRuns() {
         return runs;
     }
+
+    public long getTotalRunTime() {
+        long total = 0;
+        for (TaskRunImpl run : runs) {
+            if (run.getRunDuration() > 0) {
+                total += run.getRunDuration();
+            }
+        }
+        return total;
+    }
+
+    public long getTotalQueueWaitTime() {
+        long total = 0;
+        for (TaskRunImpl run : runs) {
+            if (run.getQueueWaitTime() > 0) {
+                total += run.getQueueWaitTime();
+            }
+        }
+        return total;
+    }
 }
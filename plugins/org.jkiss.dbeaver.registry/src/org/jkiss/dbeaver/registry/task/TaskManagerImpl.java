@@ -305,6 +305,7 @@ public class TaskManagerImpl implements DBTTaskManager {
     @Override
     public Job runTask(@NotNull DBTTask task, @NotNull DBTTaskExecutionListener listener, @NotNull Map<String, Object> options) {
         TaskRunJob runJob = new TaskRunJob((TaskImpl) task, Locale.getDefault(), listener);
+        runJob.setSchedulerEntry(TaskScheduler.getInstance().submit(task, options));
         runJob.addJobChangeListener(new JobChangeAdapter() {
             @Override
             public void aboutToRun(IJobChangeEvent event) {
@@ -313,7 +314,11 @@ public class TaskManagerImpl implements DBTTaskManager {
 
             @Override
             public void done(IJobChangeEvent event) {
-                runningTasks.remove((TaskRunJob) event.getJob());
+                // Queued job is rescheduled until it starts
+                TaskRunJob job = (TaskRunJob) event.getJob();
+                if (!job.isQueued()) {
+                    runningTasks.remove(job);
+                }
             }
         });
         runJob.schedule();
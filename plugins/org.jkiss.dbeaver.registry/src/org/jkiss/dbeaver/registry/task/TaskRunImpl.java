@@ -32,6 +32,7 @@ public class TaskRunImpl implements DBTTaskRun {
     private final String startUser;
     private final String startedBy;
     private long duration = -1;
+    private long queueWaitTime = -1;
     private String errorMessage;
     private String errorStackTrace;
     private String extraMessage;
@@ -84,6 +85,17 @@ public class TaskRunImpl implements DBTTaskRun {
         this.duration = duration;
     }
 
+    /**
+     * Time spent in the task queue before execution start (or -1 if unknown)
+     */
+    public long getQueueWaitTime() {
+        return queueWaitTime;
+    }
+
+    public void setQueueWaitTime(long queueWaitTime) {
+        this.queueWaitTime = queueWaitTime;
+    }
+
     @Override
     public boolean isRunSuccess() {
         return errorMessage == null;
@@ -18,6 +18,8 @@ package org.jkiss.dbeaver.registry.task;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
@@ -57,6 +59,7 @@ public class TaskRunJob extends AbstractJob implements DBRRunnableContext {
     private DBTTaskExecutionListener executionListener;
     private Log taskLog = log;
     private DBRProgressMonitor activeMonitor;
+    private TaskScheduler.Entry schedulerEntry;
 
     private long startTime;
     private long elapsedTime;
@@ -69,11 +72,69 @@ public class TaskRunJob extends AbstractJob implements DBRRunnableContext {
         this.task = task;
         this.locale = locale;
         this.executionListener = new LoggingExecutionListener(executionListener);
+        addJobChangeListener(new JobChangeAdapter() {
+            @Override
+            public void done(IJobChangeEvent event) {
+                // Job may be canceled while it sleeps in the queue, then run() is not called
+                if (event.getResult().getSeverity() == IStatus.CANCEL && isQueued()) {
+                    cancelQueued();
+                }
+            }
+        });
+    }
+
+    /**
+     * Sets task queue entry. Job is rescheduled until there is a free execution slot for the task.
+     */
+    void setSchedulerEntry(@Nullable TaskScheduler.Entry schedulerEntry) {
+        this.schedulerEntry = schedulerEntry;
+    }
 
+    /**
+     * Task is waiting in the queue, it wasn't started yet
+     */
+    boolean isQueued() {
+        return schedulerEntry != null && schedulerEntry.isWaiting();
     }
 
     @Override
     protected IStatus run(DBRProgressMonitor monitor) {
+        Throwable queueError = null;
+        if (isQueued()) {
+            if (monitor.isCanceled()) {
+                return Status.CANCEL_STATUS;
+            }
+            try {
+                if (!TaskScheduler.getInstance().tryStart(monitor, schedulerEntry)) {
+                    // Do not block worker thread while there are no free slots
+                    schedule(TaskScheduler.WAIT_CHECK_PERIOD);
+                    return Status.OK_STATUS;
+                }
+            } catch (DBException e) {
+                queueError = e;
+            }
+        }
+        try {
+            runTask(monitor, queueError);
+        } finally {
+            if (schedulerEntry != null) {
+                TaskScheduler.getInstance().finish(schedulerEntry, queueError == null && taskError == null);
+            }
+        }
+        return Status.OK_STATUS;
+    }
+
+    private void cancelQueued() {
+        TaskScheduler.getInstance().finish(schedulerEntry, false);
+        executionListener.taskStarted(task);
+        executionListener.taskFinished(
+            task,
+            null,
+            new InterruptedException("Task '" + task.getName() + "' was canceled while waiting in queue"),
+            null);
+    }
+
+    private void runTask(DBRProgressMonitor monitor, @Nullable Throwable queueError) {
         Date startTime = new Date();
         SimpleDateFormat dateFormat = new SimpleDateFormat(GeneralUtils.DEFAULT_TIMESTAMP_PATTERN, Locale.getDefault()); //$NON-NLS-1$
         dateFormat.setTimeZone(TimeZone.getTimeZone(TimezoneRegistry.getUserDefaultTimezone()));
@@ -84,6 +145,9 @@ public class TaskRunJob extends AbstractJob implements DBRRunnableContext {
             System.getProperty(StandardConstants.ENV_USER_NAME),
             GeneralUtils.getProductTitle(),
             null, null);
+        if (schedulerEntry != null) {
+            taskRun.setQueueWaitTime(schedulerEntry.getQueueWaitTime());
+        }
         task.getTaskStatsFolder(true);
         Path logFile = Objects.requireNonNull(task.getRunLog(taskRun)); // must exist on local machine
         task.addNewRun(taskRun);
@@ -94,6 +158,9 @@ public class TaskRunJob extends AbstractJob implements DBRRunnableContext {
             Log.setLogWriter(logStream);
             monitor.beginTask("Run task '" + task.getName() + " (" + task.getType().getName() + ")", 1);
             try {
+                if (queueError != null) {
+                    throw queueError;
+                }
                 DBTTaskRunStatus runResultStatus = executeTask(new LoggingProgressMonitor(monitor), logStream);
                 taskRun.setExtraMessage(runResultStatus.getResultMessage());
             } catch (Throwable e) {
@@ -121,7 +188,6 @@ public class TaskRunJob extends AbstractJob implements DBRRunnableContext {
         } catch (IOException e) {
             log.error("Error opning task run log file", e);
         }
-        return Status.OK_STATUS;
     }
 
     private DBTTaskRunStatus executeTask(DBRProgressMonitor monitor, PrintStream logWriter) throws DBException, InterruptedException {
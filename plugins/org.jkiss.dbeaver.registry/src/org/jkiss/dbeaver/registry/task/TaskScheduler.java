@@ -0,0 +1,326 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.registry.task;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.app.DBPProject;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.task.DBTTask;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+
+/**
+ * Task execution scheduler.
+ *
+ * Limits the number of simultaneously running tasks (globally and per data source).
+ * Task run jobs stay in the queue until all their data sources have free slots and all
+ * tasks they depend on are finished. Queued jobs do not block worker threads, they are rescheduled
+ * and check for free slots again after {@link #WAIT_CHECK_PERIOD}. Waiting tasks with higher priority start first,
+ * tasks with the same priority start in submission order.
+ *
+ * Limits are configured in {@link ModelPreferences#TASK_MAX_CONCURRENT} and
+ * {@link ModelPreferences#TASK_MAX_CONCURRENT_PER_DATASOURCE}.
+ */
+public class TaskScheduler {
+
+    private static final Log log = Log.getLog(TaskScheduler.class);
+
+    static final long WAIT_CHECK_PERIOD = 500;
+
+    // Task properties/options
+    public static final String OPTION_PRIORITY = "taskPriority";
+    public static final String OPTION_DEPENDS_ON = "taskDependsOn";
+
+    private static final Set<String> DATA_SOURCE_ATTRS = Set.of("dataSource", "dataSourceContainer", "dataSourceId");
+    private static final Set<String> OBJECT_ID_ATTRS = Set.of("entityId", "databaseObjects");
+
+    private static TaskScheduler instance;
+
+    public static synchronized TaskScheduler getInstance() {
+        if (instance == null) {
+            instance = new TaskScheduler();
+        }
+        return instance;
+    }
+
+    /**
+     * Task run queue entry
+     */
+    public class Entry {
+        private final DBTTask task;
+        private final Set<String> dataSourceIds;
+        private final int priority;
+        private final long sequence;
+        private final List<Entry> dependencies;
+        private final long submitTime = System.currentTimeMillis();
+        private long startTime = -1;
+        private boolean finished;
+        private boolean failed;
+        private boolean waitReported;
+
+        private Entry(DBTTask task, Set<String> dataSourceIds, int priority, long sequence, List<Entry> dependencies) {
+            this.task = task;
+            this.dataSourceIds = dataSourceIds;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.dependencies = dependencies;
+        }
+
+        @NotNull
+        public DBTTask getTask() {
+            return task;
+        }
+
+        /**
+         * Time spent in the queue (till now if the task is still waiting)
+         */
+        public long getQueueWaitTime() {
+            return (startTime < 0 ? System.currentTimeMillis() : startTime) - submitTime;
+        }
+
+        /**
+         * Task is in the queue: neither started nor finished
+         */
+        public boolean isWaiting() {
+            synchronized (TaskScheduler.this) {
+                return startTime < 0 && !finished;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return task.getName() + " (priority " + priority + ")";
+        }
+    }
+
+    private final List<Entry> waitingEntries = new ArrayList<>();
+    private final List<Entry> runningEntries = new ArrayList<>();
+    private final Map<String, Integer> dataSourceUsage = new HashMap<>();
+    private long sequence;
+
+    private TaskScheduler() {
+    }
+
+    /**
+     * Adds task in the queue. Returned entry must be passed to {@link #tryStart} and then to {@link #finish}.
+     */
+    @NotNull
+    public synchronized Entry submit(@NotNull DBTTask task, @NotNull Map<String, Object> options) {
+        List<Entry> dependencies = new ArrayList<>();
+        for (String taskId : getDependencies(task, options)) {
+            // Only tasks which are queued or running now. Finished tasks do not block.
+            for (Entry entry : waitingEntries) {
+                if (entry.task.getId().equals(taskId)) {
+                    dependencies.add(entry);
+                }
+            }
+            for (Entry entry : runningEntries) {
+                if (entry.task.getId().equals(taskId)) {
+                    dependencies.add(entry);
+                }
+            }
+        }
+        Entry entry = new Entry(task, getTaskDataSources(task), getPriority(task, options), sequence++, dependencies);
+        waitingEntries.add(entry);
+        return entry;
+    }
+
+    /**
+     * Starts the task if it has free execution slots.
+     * Returns false if the task must stay in the queue, then start should be tried again later.
+     * Throws error if one of task dependencies failed.
+     */
+    public synchronized boolean tryStart(@NotNull DBRProgressMonitor monitor, @NotNull Entry entry) throws DBException {
+        Entry failedDependency = getFailedDependency(entry);
+        if (failedDependency != null) {
+            waitingEntries.remove(entry);
+            throw new DBException("Task '" + failedDependency.task.getName() + "' which this task depends on has failed");
+        }
+        if (!canStart(entry)) {
+            if (!entry.waitReported) {
+                monitor.subTask("Waiting for free task execution slot");
+                log.debug("Task '" + entry.task.getName() + "' is waiting in queue");
+                entry.waitReported = true;
+            }
+            return false;
+        }
+        waitingEntries.remove(entry);
+        runningEntries.add(entry);
+        for (String dsId : entry.dataSourceIds) {
+            dataSourceUsage.merge(dsId, 1, Integer::sum);
+        }
+        entry.startTime = System.currentTimeMillis();
+        if (entry.waitReported) {
+            log.debug("Task '" + entry.task.getName() + "' started after " + entry.getQueueWaitTime() + "ms in queue");
+        }
+        return true;
+    }
+
+    /**
+     * Releases task slots
+     */
+    public synchronized void finish(@NotNull Entry entry, boolean success) {
+        entry.finished = true;
+        entry.failed = !success;
+        if (runningEntries.remove(entry)) {
+            for (String dsId : entry.dataSourceIds) {
+                dataSourceUsage.computeIfPresent(dsId, (id, count) -> count > 1 ? count - 1 : null);
+            }
+        } else {
+            waitingEntries.remove(entry);
+        }
+    }
+
+    public synchronized int getWaitingTaskCount() {
+        return waitingEntries.size();
+    }
+
+    public synchronized int getRunningTaskCount() {
+        return runningEntries.size();
+    }
+
+    private Entry getFailedDependency(Entry entry) {
+        for (Entry dependency : entry.dependencies) {
+            if (dependency.finished && dependency.failed) {
+                return dependency;
+            }
+        }
+        return null;
+    }
+
+    private boolean canStart(Entry entry) {
+        DBPPreferenceStore preferences = ModelPreferences.getPreferences();
+        int maxTasks = preferences.getInt(ModelPreferences.TASK_MAX_CONCURRENT);
+        int maxDataSourceTasks = preferences.getInt(ModelPreferences.TASK_MAX_CONCURRENT_PER_DATASOURCE);
+        if (!isReady(entry, maxTasks, maxDataSourceTasks)) {
+            return false;
+        }
+        for (Entry other : waitingEntries) {
+            if (other == entry || !hasPrecedence(other, entry) || !isReady(other, maxTasks, maxDataSourceTasks)) {
+                continue;
+            }
+            // Do not take the last slot which is needed by the entry with higher priority
+            if (maxTasks > 0 && runningEntries.size() + 1 >= maxTasks) {
+                return false;
+            }
+            if (maxDataSourceTasks > 0) {
+                for (String dsId : entry.dataSourceIds) {
+                    if (other.dataSourceIds.contains(dsId) && dataSourceUsage.getOrDefault(dsId, 0) + 1 >= maxDataSourceTasks) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasPrecedence(Entry entry, Entry other) {
+        return entry.priority > other.priority || (entry.priority == other.priority && entry.sequence < other.sequence);
+    }
+
+    private boolean isReady(Entry entry, int maxTasks, int maxDataSourceTasks) {
+        for (Entry dependency : entry.dependencies) {
+            if (!dependency.finished) {
+                return false;
+            }
+        }
+        if (maxTasks > 0 && runningEntries.size() >= maxTasks) {
+            return false;
+        }
+        if (maxDataSourceTasks > 0) {
+            for (String dsId : entry.dataSourceIds) {
+                if (dataSourceUsage.getOrDefault(dsId, 0) >= maxDataSourceTasks) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int getPriority(DBTTask task, Map<String, Object> options) {
+        Object priority = options.get(OPTION_PRIORITY);
+        if (priority == null) {
+            priority = task.getProperties().get(OPTION_PRIORITY);
+        }
+        return CommonUtils.toInt(priority, 0);
+    }
+
+    private static List<String> getDependencies(DBTTask task, Map<String, Object> options) {
+        Object dependsOn = options.get(OPTION_DEPENDS_ON);
+        if (dependsOn == null) {
+            dependsOn = task.getProperties().get(OPTION_DEPENDS_ON);
+        }
+        if (dependsOn instanceof Collection<?>) {
+            List<String> result = new ArrayList<>();
+            for (Object id : (Collection<?>) dependsOn) {
+                result.add(CommonUtils.toString(id));
+            }
+            return result;
+        } else if (dependsOn instanceof String && !CommonUtils.isEmpty((String) dependsOn)) {
+            return CommonUtils.splitString((String) dependsOn, ',');
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Collects data sources referenced in task configuration
+     */
+    @NotNull
+    static Set<String> getTaskDataSources(@NotNull DBTTask task) {
+        Set<String> result = new LinkedHashSet<>();
+        collectDataSources(task.getProject(), task.getProperties(), result);
+        return result;
+    }
+
+    private static void collectDataSources(@NotNull DBPProject project, @Nullable Object value, @NotNull Set<String> result) {
+        if (value instanceof Map<?, ?>) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                String key = CommonUtils.toString(entry.getKey());
+                if (DATA_SOURCE_ATTRS.contains(key) && entry.getValue() instanceof String) {
+                    DBPDataSourceContainer dataSource = project.getDataSourceRegistry().getDataSource((String) entry.getValue());
+                    if (dataSource != null) {
+                        result.add(dataSource.getId());
+                    }
+                } else if (OBJECT_ID_ATTRS.contains(key)) {
+                    Object objectIds = entry.getValue();
+                    for (Object objectId : objectIds instanceof Collection<?> ? (Collection<?>) objectIds : List.of(CommonUtils.notNull(objectIds, ""))) {
+                        DBPDataSourceContainer dataSource = objectId instanceof String ?
+                            DBUtils.findDataSourceByObjectId(project, (String) objectId) : null;
+                        if (dataSource != null) {
+                            result.add(dataSource.getId());
+                        }
+                    }
+                } else {
+                    collectDataSources(project, entry.getValue(), result);
+                }
+            }
+        } else if (value instanceof Collection<?>) {
+            for (Object item : (Collection<?>) value) {
+                collectDataSources(project, item, result);
+            }
+        }
+    }
+
+}
@@ -17,6 +17,8 @@
 package org.jkiss.dbeaver.ui.dashboard.control;
 
 import org.apache.commons.jexl3.JexlExpression;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.*;
@@ -29,14 +31,21 @@ import org.eclipse.swt.widgets.Canvas;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Text;
+import org.jfree.chart.JFreeChart;
+import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.ui.UIStyles;
 import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.dbeaver.ui.dashboard.history.DashboardHistoryRecorder;
+import org.jkiss.dbeaver.ui.dashboard.history.DashboardHistoryStorage;
 import org.jkiss.dbeaver.ui.dashboard.internal.UIDashboardMessages;
 import org.jkiss.dbeaver.ui.dashboard.model.*;
 import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardDataset;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
@@ -53,6 +62,8 @@ public class DashboardItem extends Composite implements DashboardContainer {
     private final Label titleLabel;
     private final Composite chartComposite;
     private boolean autoUpdateEnabled;
+    // Live updates received while recorded history is being loaded. Null when history is not loading.
+    private List<DashboardDataset> pendingUpdates;
 
     public DashboardItem(DashboardList parent, String dashboardId) {
         super(parent, SWT.DOUBLE_BUFFERED);
@@ -91,6 +102,7 @@ public class DashboardItem extends Composite implements DashboardContainer {
         chartComposite.setLayout(new FillLayout());
 
         createChartRenderer();
+        loadDashboardHistory();
 
         groupContainer.addItem(this);
         addDisposeListener(e -> groupContainer.removeItem(this));
@@ -348,6 +360,63 @@ public class DashboardItem extends Composite implements DashboardContainer {
         return dashboardConfig.getDashboardDescriptor().getQueries();
     }
 
+    /**
+     * Fills dashboard with data recorded by {@link DashboardHistoryRecorder}.
+     * History is read in background. Live updates which come meanwhile are applied after the history.
+     */
+    private void loadDashboardHistory() {
+        DBPDataSourceContainer dataSourceContainer = getDataSourceContainer();
+        if (renderer == null || dataSourceContainer == null ||
+            !DashboardHistoryRecorder.isRecorded(dataSourceContainer, getDashboardId())) {
+            return;
+        }
+        long maxAge = getDashboardMaxAge();
+        if (maxAge <= 0) {
+            maxAge = DashboardConstants.DEF_DASHBOARD_MAXIMUM_AGE;
+        }
+        long fromTime = System.currentTimeMillis() - maxAge;
+        String dashboardId = getDashboardId();
+        pendingUpdates = new ArrayList<>();
+        new AbstractJob("Load dashboard history") {
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                List<DashboardDataset> samples = DashboardHistoryStorage.getInstance().readSamples(
+                    dataSourceContainer,
+                    dashboardId,
+                    fromTime);
+                UIUtils.asyncExec(() -> applyDashboardHistory(samples));
+                return Status.OK_STATUS;
+            }
+        }.schedule();
+    }
+
+    private void applyDashboardHistory(@NotNull List<DashboardDataset> samples) {
+        List<DashboardDataset> liveUpdates = pendingUpdates;
+        pendingUpdates = null;
+        if (isDisposed() || renderer == null) {
+            return;
+        }
+        // Suspend chart notifications, so the whole history is drawn once
+        JFreeChart chart = dashboardControl == null ? null : dashboardControl.getChart();
+        if (chart != null) {
+            chart.setNotify(false);
+        }
+        try {
+            for (DashboardDataset sample : samples) {
+                renderer.updateDashboardData(this, lastUpdateTime, sample);
+                lastUpdateTime = sample.getRows().get(0).getTimestamp();
+            }
+            for (DashboardDataset dataset : liveUpdates) {
+                renderer.updateDashboardData(this, lastUpdateTime, dataset);
+                lastUpdateTime = new Date();
+            }
+        } finally {
+            if (chart != null) {
+                chart.setNotify(true);
+            }
+        }
+    }
+
     @Override
     public Date getLastUpdateTime() {
         return lastUpdateTime;
@@ -356,7 +425,9 @@ public class DashboardItem extends Composite implements DashboardContainer {
     @Override
     public void updateDashboardData(DashboardDataset dataset) {
         UIUtils.asyncExec(() -> {
-            if (renderer != null) {
+            if (pendingUpdates != null) {
+                pendingUpdates.add(dataset);
+            } else if (renderer != null) {
                 renderer.updateDashboardData(this, lastUpdateTime, dataset);
                 lastUpdateTime = new Date();
             }
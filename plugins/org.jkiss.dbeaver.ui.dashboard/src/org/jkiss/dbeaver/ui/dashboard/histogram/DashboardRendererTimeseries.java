@@ -36,6 +36,7 @@ import org.jkiss.dbeaver.ui.dashboard.control.DashboardRendererBase;
 import org.jkiss.dbeaver.ui.dashboard.model.*;
 import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardDataset;
 import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardDatasetRow;
+import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardTimeSeries;
 
 import java.awt.*;
 import java.text.SimpleDateFormat;
@@ -53,8 +54,7 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
     @Override
     public DashboardChartComposite createDashboard(Composite composite, DashboardContainer container, DashboardViewContainer viewContainer, Point preferredSize) {
 
-        TimeSeriesCollection dataset = new TimeSeriesCollection();
-        //generateSampleSeries(container, dataset);
+        DashboardTimeSeriesDataset dataset = new DashboardTimeSeriesDataset();
 
         DashboardItemViewConfiguration viewConfig = viewContainer.getViewConfiguration().getDashboardConfig(container.getDashboardId());
 
@@ -195,12 +195,28 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
         }
         JFreeChart chart = chartComposite.getChart();
         XYPlot plot = (XYPlot) chart.getPlot();
-        TimeSeriesCollection chartDataset = (TimeSeriesCollection) plot.getDataset();
+        DashboardTimeSeriesDataset chartDataset = (DashboardTimeSeriesDataset) plot.getDataset();
 
         if (container.getDashboardFetchType() == DashboardFetchType.stats) {
             // Clean previous data before stats update
             chartDataset.removeAllSeries();
         }
+        try {
+            updateSeriesData(container, lastUpdateTime, dataset, chartComposite, plot, chartDataset);
+        } finally {
+            // Redraw chart once after all series were updated
+            chartDataset.fireDatasetChanged();
+        }
+    }
+
+    private void updateSeriesData(
+        DashboardContainer container,
+        Date lastUpdateTime,
+        DashboardDataset dataset,
+        DashboardChartComposite chartComposite,
+        XYPlot plot,
+        DashboardTimeSeriesDataset chartDataset
+    ) {
 
         long currentTime = System.currentTimeMillis();
         long secondsPassed = lastUpdateTime == null ? 1 : (currentTime - lastUpdateTime.getTime()) / 1000;
@@ -216,11 +232,9 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
         for (int i = 0; i < srcSeries.length; i++) {
             String seriesName = srcSeries[i];
 
-            TimeSeries series = chartDataset.getSeries(seriesName);
+            DashboardTimeSeries series = chartDataset.getSeries(seriesName);
             if (series == null) {
-                series = new TimeSeries(seriesName);
-                series.setMaximumItemCount(container.getDashboardMaxItems());
-                series.setMaximumItemAge(container.getDashboardMaxAge());
+                series = new DashboardTimeSeries(seriesName, container.getDashboardMaxItems(), container.getDashboardMaxAge());
                 chartDataset.addSeries(series);
                 plot.getRenderer().setSeriesStroke(chartDataset.getSeriesCount() - 1, plot.getRenderer().getBaseStroke());
             }
@@ -244,7 +258,7 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
                         }
                         Object value = row.getValues()[i];
                         if (value instanceof Number) {
-                            series.addOrUpdate(makeDataItem(container, row), (Number) value);
+                            series.addOrUpdate(makeDataItem(container, row).getFirstMillisecond(), ((Number) value).doubleValue());
                         }
                     }
                     break;
@@ -260,12 +274,14 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
                             Object newValue = row.getValues()[i];
                             if (newValue instanceof Number && prevValue instanceof Number) {
                                 double deltaValue = ((Number) newValue).doubleValue() - ((Number) prevValue).doubleValue();
-                                deltaValue /= secondsPassed;
+                                // Prefer real time between samples (they may come from recorded history)
+                                long rowSecondsPassed = (row.getTimestamp().getTime() - lastRow.getTimestamp().getTime()) / 1000;
+                                deltaValue /= rowSecondsPassed > 0 ? rowSecondsPassed : secondsPassed;
                                 if (container.getDashboardValueType() != DashboardValueType.decimal) {
                                     deltaValue = Math.round(deltaValue);
                                 }
                                 series.addOrUpdate(
-                                    makeDataItem(container, row),
+                                    makeDataItem(container, row).getFirstMillisecond(),
                                     deltaValue);
                             }
                         }
@@ -298,7 +314,7 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
     public void resetDashboardData(DashboardContainer container, Date lastUpdateTime) {
         XYPlot plot = getDashboardPlot(container);
         if (plot != null) {
-            TimeSeriesCollection chartDataset = (TimeSeriesCollection) plot.getDataset();
+            DashboardTimeSeriesDataset chartDataset = (DashboardTimeSeriesDataset) plot.getDataset();
             chartDataset.removeAllSeries();
         }
     }
@@ -319,12 +335,13 @@ public class DashboardRendererTimeseries extends DashboardRendererBase {
 
                 chartComposite.getChart().getLegend().setVisible(dashboardConfig.isLegendVisible());
 
-                TimeSeriesCollection chartDataset = (TimeSeriesCollection) plot.getDataset();
+                DashboardTimeSeriesDataset chartDataset = (DashboardTimeSeriesDataset) plot.getDataset();
                 for (int i = 0; i < chartDataset.getSeriesCount(); i++) {
-                    TimeSeries series = chartDataset.getSeries(i);
+                    DashboardTimeSeries series = chartDataset.getSeries(i);
                     series.setMaximumItemCount(dashboardConfig.getMaxItems());
                     series.setMaximumItemAge(dashboardConfig.getMaxAge());
                 }
+                chartDataset.fireDatasetChanged();
             }
         }
         dashboardItem.getParent().layout(true, true);
@@ -0,0 +1,112 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.dashboard.histogram;
+
+import org.jfree.data.DomainOrder;
+import org.jfree.data.xy.AbstractXYDataset;
+import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardTimeSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Chart dataset backed by {@link DashboardTimeSeries}.
+ * Shows the most detailed tier of each series which covers dashboard time window.
+ * Chart is notified once per update (see {@link #fireDatasetChanged()}) rather than once per added value.
+ */
+public class DashboardTimeSeriesDataset extends AbstractXYDataset {
+
+    private final List<DashboardTimeSeries> seriesList = new ArrayList<>();
+    // Tiers are chosen on update, so they do not change during chart rendering
+    private final List<DashboardTimeSeries.Tier> visibleTiers = new ArrayList<>();
+
+    public DashboardTimeSeries getSeries(String name) {
+        for (DashboardTimeSeries series : seriesList) {
+            if (series.getName().equals(name)) {
+                return series;
+            }
+        }
+        return null;
+    }
+
+    public DashboardTimeSeries getSeries(int index) {
+        return seriesList.get(index);
+    }
+
+    public void addSeries(DashboardTimeSeries series) {
+        seriesList.add(series);
+        visibleTiers.add(series.getVisibleTier());
+    }
+
+    public void removeAllSeries() {
+        seriesList.clear();
+        visibleTiers.clear();
+        fireDatasetChanged();
+    }
+
+    /**
+     * Must be called after series data modification
+     */
+    @Override
+    public void fireDatasetChanged() {
+        for (int i = 0; i < seriesList.size(); i++) {
+            visibleTiers.set(i, seriesList.get(i).getVisibleTier());
+        }
+        super.fireDatasetChanged();
+    }
+
+    @Override
+    public int getSeriesCount() {
+        return seriesList.size();
+    }
+
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return seriesList.get(series).getName();
+    }
+
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    @Override
+    public int getItemCount(int series) {
+        return visibleTiers.get(series).getItemCount();
+    }
+
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    @Override
+    public double getXValue(int series, int item) {
+        return visibleTiers.get(series).getTimestamp(item);
+    }
+
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    @Override
+    public double getYValue(int series, int item) {
+        return visibleTiers.get(series).getAvgValue(item);
+    }
+
+}
@@ -0,0 +1,307 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.dashboard.history;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.app.DBPDataSourceRegistry;
+import org.jkiss.dbeaver.model.app.DBPProject;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSInstance;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.ui.dashboard.model.DashboardConstants;
+import org.jkiss.dbeaver.ui.dashboard.model.DashboardFetchType;
+import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardDataset;
+import org.jkiss.dbeaver.ui.dashboard.registry.DashboardDescriptor;
+import org.jkiss.dbeaver.ui.dashboard.registry.DashboardRegistry;
+import org.jkiss.dbeaver.ui.dashboard.view.DashboardUpdater;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+
+/**
+ * Records dashboards data of connected data sources in background, even if no dashboard view is open.
+ * Recording is enabled per data source (see {@link DashboardConstants#PREF_HISTORY_ENABLED}).
+ * Recorded samples are written in {@link DashboardHistoryStorage} and used to backfill dashboards on open.
+ * Queries are executed in a separate (isolated) context, so they don't interfere with metadata reads
+ * and user's transactions. Data sources which force a single connection are not recorded.
+ *
+ * Dashboards based on map queries are not recorded.
+ */
+public class DashboardHistoryRecorder extends AbstractJob {
+
+    private static final Log log = Log.getLog(DashboardHistoryRecorder.class);
+
+    private static final int JOB_DELAY = 1000;
+    private static final long CLEANUP_PERIOD = 10 * 60 * 1000L;
+
+    // Last record time for each data source/dashboard pair
+    private final Map<String, Long> lastRecordTimes = new HashMap<>();
+    private final Set<DBPDataSourceContainer> activeRecords = new HashSet<>();
+    private final Map<DBPDataSourceContainer, DBCExecutionContext> recordContexts = new HashMap<>();
+    private long lastCleanupTime;
+
+    private DashboardHistoryRecorder() {
+        super("Dashboard history recorder");
+        setSystem(true);
+        setUser(false);
+    }
+
+    public static void startRecording() {
+        new DashboardHistoryRecorder().schedule(JOB_DELAY);
+    }
+
+    /**
+     * Returns true if history of the specified dashboard is recorded for the data source
+     */
+    public static boolean isRecorded(@NotNull DBPDataSourceContainer dataSourceContainer, @NotNull String dashboardId) {
+        DBPPreferenceStore store = dataSourceContainer.getPreferenceStore();
+        return store.getBoolean(DashboardConstants.PREF_HISTORY_ENABLED) &&
+            getRecordedDashboardIds(store).contains(dashboardId);
+    }
+
+    /**
+     * Returns IDs of dashboards which are recorded when history is enabled
+     */
+    @NotNull
+    public static Set<String> getRecordedDashboardIds(@NotNull DBPPreferenceStore store) {
+        Set<String> result = new LinkedHashSet<>();
+        for (String id : CommonUtils.splitString(store.getString(DashboardConstants.PREF_HISTORY_DASHBOARDS), ',')) {
+            if (!CommonUtils.isEmptyTrimmed(id)) {
+                result.add(id.trim());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected IStatus run(DBRProgressMonitor monitor) {
+        if (DBWorkbench.getPlatform().isShuttingDown()) {
+            return Status.OK_STATUS;
+        }
+        long currentTime = System.currentTimeMillis();
+        boolean cleanup = currentTime - lastCleanupTime > CLEANUP_PERIOD;
+        try {
+            for (DBPProject project : DBWorkbench.getPlatform().getWorkspace().getProjects()) {
+                if (!project.isOpen() || !project.isRegistryLoaded()) {
+                    continue;
+                }
+                DBPDataSourceRegistry registry = project.getDataSourceRegistry();
+                for (DBPDataSourceContainer dataSourceContainer : registry.getDataSources()) {
+                    DBPPreferenceStore store = dataSourceContainer.getPreferenceStore();
+                    if (!dataSourceContainer.isConnected() || !store.getBoolean(DashboardConstants.PREF_HISTORY_ENABLED)) {
+                        closeRecordContext(dataSourceContainer);
+                        continue;
+                    }
+                    List<DashboardDescriptor> dashboards = getDashboardsToRecord(dataSourceContainer, store, currentTime);
+                    if (cleanup) {
+                        removeObsoleteSamples(dataSourceContainer, store, currentTime);
+                    }
+                    if (dashboards.isEmpty()) {
+                        continue;
+                    }
+                    synchronized (activeRecords) {
+                        if (!activeRecords.add(dataSourceContainer)) {
+                            // Previous record is still in progress
+                            continue;
+                        }
+                    }
+                    new DataSourceRecordJob(dataSourceContainer, dashboards).schedule();
+                }
+            }
+            if (cleanup) {
+                lastCleanupTime = currentTime;
+            }
+        } catch (Exception e) {
+            log.error("Error running dashboard history recorder", e);
+        }
+
+        if (!DBWorkbench.getPlatform().isShuttingDown()) {
+            schedule(JOB_DELAY);
+        }
+        return Status.OK_STATUS;
+    }
+
+    private List<DashboardDescriptor> getDashboardsToRecord(DBPDataSourceContainer dataSourceContainer, DBPPreferenceStore store, long currentTime) {
+        List<DashboardDescriptor> result = new ArrayList<>();
+        DashboardRegistry registry = DashboardRegistry.getInstance();
+        for (String dashboardId : getRecordedDashboardIds(store)) {
+            DashboardDescriptor dashboard = registry.getDashboard(dashboardId);
+            if (dashboard == null || dashboard.getMapQuery() != null || dashboard.getQueries().isEmpty()) {
+                continue;
+            }
+            String recordKey = getRecordKey(dataSourceContainer, dashboardId);
+            Long lastRecordTime;
+            synchronized (lastRecordTimes) {
+                lastRecordTime = lastRecordTimes.get(recordKey);
+            }
+            if (lastRecordTime == null || DashboardUpdater.isUpdateRequired(lastRecordTime, currentTime, dashboard.getUpdatePeriod())) {
+                result.add(dashboard);
+            }
+        }
+        return result;
+    }
+
+    private void removeObsoleteSamples(DBPDataSourceContainer dataSourceContainer, DBPPreferenceStore store, long currentTime) {
+        long retentionHours = store.getLong(DashboardConstants.PREF_HISTORY_RETENTION);
+        if (retentionHours <= 0) {
+            return;
+        }
+        long minTime = currentTime - retentionHours * 60 * 60 * 1000;
+        for (String dashboardId : getRecordedDashboardIds(store)) {
+            DashboardHistoryStorage.getInstance().removeSamplesBefore(dataSourceContainer, dashboardId, minTime);
+        }
+    }
+
+    private static String getRecordKey(DBPDataSourceContainer dataSourceContainer, String dashboardId) {
+        return dataSourceContainer.getId() + ":" + dashboardId;
+    }
+
+    private void recordDashboards(DBRProgressMonitor monitor, DBPDataSourceContainer dataSourceContainer, List<DashboardDescriptor> dashboards) {
+        DBPDataSource dataSource = dataSourceContainer.getDataSource();
+        if (dataSource == null) {
+            return;
+        }
+        DBCExecutionContext executionContext = getRecordContext(monitor, dataSourceContainer, dataSource);
+        if (executionContext == null) {
+            return;
+        }
+        int queryTimeout = dataSourceContainer.getPreferenceStore().getInt(DashboardConstants.PREF_QUERY_TIMEOUT);
+        for (DashboardDescriptor dashboard : dashboards) {
+            synchronized (lastRecordTimes) {
+                lastRecordTimes.put(getRecordKey(dataSourceContainer, dashboard.getId()), System.currentTimeMillis());
+            }
+            try (DBCSession session = executionContext.openSession(
+                monitor, DBCExecutionPurpose.UTIL, "Record dashboard '" + dashboard.getName() + "' data")) {
+                session.enableLogging(false);
+                for (DashboardDescriptor.QueryMapping query : dashboard.getQueries()) {
+                    DashboardDataset dataset = readQueryData(session, dashboard, query.getQueryText(), queryTimeout);
+                    if (dataset != null && !dataset.getRows().isEmpty()) {
+                        DashboardHistoryStorage.getInstance().appendSamples(dataSourceContainer, dashboard.getId(), dataset);
+                    }
+                }
+            } catch (Exception e) {
+                log.debug("Error recording dashboard '" + dashboard.getId() + "' data of '" + dataSourceContainer.getName() + "': " + e.getMessage());
+            }
+        }
+    }
+
+    @Nullable
+    private DBCExecutionContext getRecordContext(DBRProgressMonitor monitor, DBPDataSourceContainer dataSourceContainer, DBPDataSource dataSource) {
+        synchronized (recordContexts) {
+            DBCExecutionContext context = recordContexts.get(dataSourceContainer);
+            if (context != null && context.isConnected() && context.getDataSource() == dataSource) {
+                return context;
+            }
+            recordContexts.remove(dataSourceContainer);
+        }
+        if (dataSourceContainer.isForceUseSingleConnection()) {
+            return null;
+        }
+        DBSInstance instance = DBUtils.getObjectOwnerInstance(dataSource);
+        if (instance == null) {
+            return null;
+        }
+        try {
+            DBCExecutionContext context = instance.openIsolatedContext(monitor, "Dashboard history recorder", null);
+            synchronized (recordContexts) {
+                recordContexts.put(dataSourceContainer, context);
+            }
+            return context;
+        } catch (DBException e) {
+            log.debug("Can't open dashboard history connection to '" + dataSourceContainer.getName() + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void closeRecordContext(DBPDataSourceContainer dataSourceContainer) {
+        synchronized (activeRecords) {
+            if (activeRecords.contains(dataSourceContainer)) {
+                // Context is in use, it will be closed on the next run
+                return;
+            }
+        }
+        DBCExecutionContext context;
+        synchronized (recordContexts) {
+            context = recordContexts.remove(dataSourceContainer);
+        }
+        if (context != null && context.isConnected()) {
+            context.close();
+        }
+    }
+
+    @Nullable
+    private DashboardDataset readQueryData(DBCSession session, DashboardDescriptor dashboard, String queryText, int queryTimeout) throws DBCException {
+        try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, queryText, false, false, false)) {
+            if (queryTimeout > 0) {
+                try {
+                    dbStat.setStatementTimeout(queryTimeout);
+                } catch (DBCException e) {
+                    log.debug("Can't set dashboard query timeout: " + e.getMessage());
+                }
+            }
+            if (dbStat.executeStatement()) {
+                try (DBCResultSet dbResults = dbStat.openResultSet()) {
+                    if (dbResults != null) {
+                        DashboardDataset dataset = DashboardUpdater.fetchDashboardData(dbResults, dashboard.getMaxItems());
+                        if (dashboard.getFetchType() == DashboardFetchType.rows) {
+                            dataset = DashboardUpdater.transposeDataset(dataset);
+                        }
+                        return dataset;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private class DataSourceRecordJob extends AbstractJob {
+        private final DBPDataSourceContainer dataSourceContainer;
+        private final List<DashboardDescriptor> dashboards;
+
+        DataSourceRecordJob(DBPDataSourceContainer dataSourceContainer, List<DashboardDescriptor> dashboards) {
+            super("Record dashboards (" + dataSourceContainer.getName() + ")");
+            this.dataSourceContainer = dataSourceContainer;
+            this.dashboards = dashboards;
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                recordDashboards(monitor, dataSourceContainer, dashboards);
+            } finally {
+                synchronized (activeRecords) {
+                    activeRecords.remove(dataSourceContainer);
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.dashboard.history;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardDataset;
+import org.jkiss.dbeaver.ui.dashboard.model.data.DashboardDatasetRow;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Local storage of recorded dashboard samples.
+ *
+ * Samples are kept in hourly partitioned files: {@code <workspace>/.metadata/dashboard-history/<data source>/<dashboard>/<yyyyMMdd-HH>.dat}.
+ * Each file is a sequence of records. Column record: {@code 'C', int count, count * UTF name}.
+ * Value record: {@code 'V', long timestamp, count * double value} (NaN for nulls and non-numeric values).
+ * Column record is written at the beginning of each append session, so value records always follow their columns.
+ */
+public class DashboardHistoryStorage {
+
+    private static final Log log = Log.getLog(DashboardHistoryStorage.class);
+
+    private static final String HISTORY_FOLDER = "dashboard-history";
+    private static final String FILE_EXT = ".dat";
+    private static final long PARTITION_PERIOD = 60 * 60 * 1000L;
+    private static final DateTimeFormatter PARTITION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HH").withZone(ZoneOffset.UTC);
+
+    private static final byte RECORD_COLUMNS = 'C';
+    private static final byte RECORD_VALUES = 'V';
+
+    private static DashboardHistoryStorage instance;
+
+    // Files already opened by this session with their last written columns.
+    // Only the current partition of each dashboard is kept, older ones are evicted on partition rotation.
+    private final Map<Path, String[]> writtenColumns = new HashMap<>();
+
+    public static synchronized DashboardHistoryStorage getInstance() {
+        if (instance == null) {
+            instance = new DashboardHistoryStorage();
+        }
+        return instance;
+    }
+
+    private DashboardHistoryStorage() {
+    }
+
+    @NotNull
+    private Path getDashboardFolder(@NotNull DBPDataSourceContainer dataSourceContainer, @NotNull String dashboardId) {
+        return DBWorkbench.getPlatform().getWorkspace().getMetadataFolder()
+            .resolve(HISTORY_FOLDER)
+            .resolve(CommonUtils.escapeFileName(dataSourceContainer.getId()))
+            .resolve(CommonUtils.escapeFileName(dashboardId));
+    }
+
+    private static String getPartitionName(long timestamp) {
+        return PARTITION_FORMAT.format(Instant.ofEpochMilli(timestamp)) + FILE_EXT;
+    }
+
+    /**
+     * Appends all dataset rows to the history.
+     * Rows are written through one stream per partition file, so a batch usually opens a single file.
+     */
+    public synchronized void appendSamples(
+        @NotNull DBPDataSourceContainer dataSourceContainer,
+        @NotNull String dashboardId,
+        @NotNull DashboardDataset dataset
+    ) throws IOException {
+        List<DashboardDatasetRow> rows = dataset.getRows();
+        if (rows.isEmpty()) {
+            return;
+        }
+        String[] columns = dataset.getColumnNames();
+        Path folder = getDashboardFolder(dataSourceContainer, dashboardId);
+        if (!Files.exists(folder)) {
+            Files.createDirectories(folder);
+        }
+        Path file = null;
+        DataOutputStream out = null;
+        try {
+            for (DashboardDatasetRow row : rows) {
+                long timestamp = row.getTimestamp().getTime();
+                Path rowFile = folder.resolve(getPartitionName(timestamp));
+                if (!rowFile.equals(file)) {
+                    if (out != null) {
+                        out.close();
+                    }
+                    file = rowFile;
+                    Path currentFile = file;
+                    writtenColumns.keySet().removeIf(f -> folder.equals(f.getParent()) && !f.equals(currentFile));
+                    out = new DataOutputStream(new BufferedOutputStream(
+                        Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+                }
+                if (!Arrays.equals(columns, writtenColumns.get(file))) {
+                    out.writeByte(RECORD_COLUMNS);
+                    out.writeInt(columns.length);
+                    for (String column : columns) {
+                        out.writeUTF(column);
+                    }
+                    writtenColumns.put(file, columns);
+                }
+                out.writeByte(RECORD_VALUES);
+                out.writeLong(timestamp);
+                Object[] values = row.getValues();
+                for (int i = 0; i < columns.length; i++) {
+                    Object value = i < values.length ? values[i] : null;
+                    out.writeDouble(value instanceof Number ? ((Number) value).doubleValue() : Double.NaN);
+                }
+            }
+        } finally {
+            if (out != null) {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Reads samples recorded since the specified time. Each sample is returned as a separate dataset.
+     */
+    @NotNull
+    public synchronized List<DashboardDataset> readSamples(
+        @NotNull DBPDataSourceContainer dataSourceContainer,
+        @NotNull String dashboardId,
+        long fromTime
+    ) {
+        Path folder = getDashboardFolder(dataSourceContainer, dashboardId);
+        if (!Files.exists(folder)) {
+            return Collections.emptyList();
+        }
+        List<DashboardDataset> result = new ArrayList<>();
+        String firstPartition = getPartitionName(fromTime - fromTime % PARTITION_PERIOD);
+        for (Path file : listPartitions(folder)) {
+            if (file.getFileName().toString().compareTo(firstPartition) < 0) {
+                continue;
+            }
+            readPartition(file, fromTime, result);
+        }
+        return result;
+    }
+
+    private void readPartition(Path file, long fromTime, List<DashboardDataset> result) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            String[] columns = null;
+            while (true) {
+                int recordType = in.read();
+                if (recordType < 0) {
+                    break;
+                }
+                if (recordType == RECORD_COLUMNS) {
+                    columns = new String[in.readInt()];
+                    for (int i = 0; i < columns.length; i++) {
+                        columns[i] = in.readUTF();
+                    }
+                } else if (recordType == RECORD_VALUES && columns != null) {
+                    long timestamp = in.readLong();
+                    Object[] values = new Object[columns.length];
+                    for (int i = 0; i < columns.length; i++) {
+                        double value = in.readDouble();
+                        values[i] = Double.isNaN(value) ? null : value;
+                    }
+                    if (timestamp >= fromTime) {
+                        DashboardDataset dataset = new DashboardDataset(columns);
+                        dataset.addRow(new DashboardDatasetRow(new Date(timestamp), values));
+                        result.add(dataset);
+                    }
+                } else {
+                    log.debug("Corrupted dashboard history file '" + file + "'");
+                    break;
+                }
+            }
+        } catch (EOFException e) {
+            // Incomplete last record. Most likely the application was terminated during write.
+        } catch (IOException e) {
+            log.debug("Error reading dashboard history file '" + file + "'", e);
+        }
+    }
+
+    /**
+     * Deletes partitions which contain only samples older than the specified time
+     */
+    public synchronized void removeSamplesBefore(
+        @NotNull DBPDataSourceContainer dataSourceContainer,
+        @NotNull String dashboardId,
+        long minTime
+    ) {
+        Path folder = getDashboardFolder(dataSourceContainer, dashboardId);
+        if (!Files.exists(folder)) {
+            return;
+        }
+        // Partition name is the partition start time, so the partition is obsolete if the next one starts before minTime
+        String lastObsoletePartition = getPartitionName(minTime - minTime % PARTITION_PERIOD - PARTITION_PERIOD);
+        for (Path file : listPartitions(folder)) {
+            if (file.getFileName().toString().compareTo(lastObsoletePartition) <= 0) {
+                try {
+                    Files.delete(file);
+                    writtenColumns.remove(file);
+                } catch (IOException e) {
+                    log.debug("Error deleting dashboard history file '" + file + "'", e);
+                }
+            }
+        }
+    }
+
+    private static List<Path> listPartitions(Path folder) {
+        try (Stream<Path> files = Files.list(folder)) {
+            List<Path> result = new ArrayList<>();
+            files.filter(f -> f.getFileName().toString().endsWith(FILE_EXT)).forEach(result::add);
+            result.sort(Comparator.comparing(f -> f.getFileName().toString()));
+            return result;
+        } catch (IOException e) {
+            log.debug("Error reading dashboard history folder '" + folder + "'", e);
+            return Collections.emptyList();
+        }
+    }
+
+}
@@ -20,6 +20,7 @@ import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.jkiss.dbeaver.model.impl.preferences.BundlePreferenceStore;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.ui.dashboard.history.DashboardHistoryRecorder;
 import org.jkiss.dbeaver.ui.dashboard.view.DashboardUpdateJob;
 import org.osgi.framework.BundleContext;
 
@@ -42,6 +43,7 @@ public class UIDashboardActivator extends AbstractUIPlugin {
         preferences = new BundlePreferenceStore(getBundle());
 
         DashboardUpdateJob.startUpdating();
+        DashboardHistoryRecorder.startRecording();
     }
 
     @Override
@@ -36,6 +36,10 @@ public class UIDashboardPreferencesInitializer extends AbstractPreferenceInitial
         DBPPreferenceStore store = DBWorkbench.getPlatform().getPreferenceStore();
 
         PrefUtils.setDefaultPreferenceValue(store, DashboardConstants.PREF_OPEN_SEPARATE_CONNECTION, false);
+        PrefUtils.setDefaultPreferenceValue(store, DashboardConstants.PREF_QUERY_TIMEOUT, DashboardConstants.DEF_DASHBOARD_QUERY_TIMEOUT);
+        PrefUtils.setDefaultPreferenceValue(store, DashboardConstants.PREF_HISTORY_ENABLED, false);
+        PrefUtils.setDefaultPreferenceValue(store, DashboardConstants.PREF_HISTORY_DASHBOARDS, "");
+        PrefUtils.setDefaultPreferenceValue(store, DashboardConstants.PREF_HISTORY_RETENTION, DashboardConstants.DEF_DASHBOARD_HISTORY_RETENTION);
 
     }
 
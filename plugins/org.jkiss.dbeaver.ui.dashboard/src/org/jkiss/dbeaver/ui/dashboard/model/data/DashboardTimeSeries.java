@@ -0,0 +1,293 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.dashboard.model.data;
+
+/**
+ * Bounded time series storage.
+ * Keeps raw values in a ring buffer of primitives. Each next tier keeps min/max/avg of
+ * {@link #TIER_FACTOR} times more raw values, so long time windows are still available after raw values are evicted.
+ */
+public class DashboardTimeSeries {
+
+    public static final int TIER_FACTOR = 10;
+    public static final int TIER_COUNT = 3;
+
+    /**
+     * Ring buffer of aggregated values
+     */
+    public static class Tier {
+        private final int bucketSize;
+        private long[] timestamps;
+        private double[] minValues;
+        private double[] maxValues;
+        private double[] avgValues;
+        private int start;
+        private int count;
+
+        // Current (incomplete) bucket
+        private int pendingCount;
+        private long pendingTimestamp;
+        private double pendingMin;
+        private double pendingMax;
+        private double pendingSum;
+
+        Tier(int bucketSize, int capacity) {
+            this.bucketSize = bucketSize;
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            timestamps = new long[capacity];
+            minValues = new double[capacity];
+            maxValues = new double[capacity];
+            avgValues = new double[capacity];
+        }
+
+        public int getBucketSize() {
+            return bucketSize;
+        }
+
+        public int getItemCount() {
+            return count;
+        }
+
+        public long getTimestamp(int index) {
+            return timestamps[physicalIndex(index)];
+        }
+
+        public double getMinValue(int index) {
+            return minValues[physicalIndex(index)];
+        }
+
+        public double getMaxValue(int index) {
+            return maxValues[physicalIndex(index)];
+        }
+
+        public double getAvgValue(int index) {
+            return avgValues[physicalIndex(index)];
+        }
+
+        /**
+         * Time span between the first and the last item
+         */
+        public long getTimeSpan() {
+            return count < 2 ? 0 : getTimestamp(count - 1) - getTimestamp(0);
+        }
+
+        private int physicalIndex(int index) {
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Index " + index + " is out of bounds [0.." + count + ")");
+            }
+            return (start + index) % timestamps.length;
+        }
+
+        private void add(long timestamp, double min, double max, double avg) {
+            int capacity = timestamps.length;
+            int pos;
+            if (count < capacity) {
+                pos = (start + count) % capacity;
+                count++;
+            } else {
+                // Overwrite the oldest item
+                pos = start;
+                start = (start + 1) % capacity;
+            }
+            timestamps[pos] = timestamp;
+            minValues[pos] = min;
+            maxValues[pos] = max;
+            avgValues[pos] = avg;
+        }
+
+        private void aggregate(long timestamp, double value) {
+            if (pendingCount == 0) {
+                pendingTimestamp = timestamp;
+                pendingMin = value;
+                pendingMax = value;
+                pendingSum = value;
+            } else {
+                pendingMin = Math.min(pendingMin, value);
+                pendingMax = Math.max(pendingMax, value);
+                pendingSum += value;
+            }
+            pendingCount++;
+            if (pendingCount >= bucketSize) {
+                add(pendingTimestamp, pendingMin, pendingMax, pendingSum / pendingCount);
+                pendingCount = 0;
+            }
+        }
+
+        private int findItem(long timestamp) {
+            int low = 0, high = count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long midTime = getTimestamp(mid);
+                if (midTime < timestamp) {
+                    low = mid + 1;
+                } else if (midTime > timestamp) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        private void removeOlderThan(long minTimestamp) {
+            while (count > 0 && timestamps[start] < minTimestamp) {
+                start = (start + 1) % timestamps.length;
+                count--;
+            }
+        }
+
+        private void resize(int capacity) {
+            long[] oldTimestamps = timestamps;
+            double[] oldMin = minValues, oldMax = maxValues, oldAvg = avgValues;
+            int oldStart = start, oldCount = count;
+            allocate(capacity);
+            // Keep the most recent items
+            int skip = Math.max(0, oldCount - capacity);
+            start = 0;
+            count = 0;
+            for (int i = skip; i < oldCount; i++) {
+                int pos = (oldStart + i) % oldTimestamps.length;
+                add(oldTimestamps[pos], oldMin[pos], oldMax[pos], oldAvg[pos]);
+            }
+        }
+
+        private void clear() {
+            start = 0;
+            count = 0;
+            pendingCount = 0;
+        }
+    }
+
+    private final String name;
+    private final Tier[] tiers;
+    private long maxAge;
+    // The last raw value may be updated until the next value comes, so it is propagated to tiers later
+    private boolean hasUnsealedValue;
+
+    public DashboardTimeSeries(String name, int maxItems, long maxAge) {
+        this.name = name;
+        this.maxAge = maxAge;
+        this.tiers = new Tier[TIER_COUNT];
+        int bucketSize = 1;
+        for (int i = 0; i < TIER_COUNT; i++) {
+            tiers[i] = new Tier(bucketSize, Math.max(1, maxItems));
+            bucketSize *= TIER_FACTOR;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Tier getRawValues() {
+        return tiers[0];
+    }
+
+    public Tier getTier(int index) {
+        return tiers[index];
+    }
+
+    /**
+     * Returns the most detailed tier which covers the whole time window (max age).
+     * If no tier covers it then the tier with the longest history is returned.
+     */
+    public Tier getVisibleTier() {
+        Tier raw = tiers[0];
+        if (raw.count < raw.timestamps.length || maxAge <= 0) {
+            // Raw values weren't evicted yet
+            return raw;
+        }
+        Tier result = raw;
+        for (Tier tier : tiers) {
+            if (tier.count > 0 && tier.getTimeSpan() > result.getTimeSpan()) {
+                result = tier;
+            }
+            if (result.getTimeSpan() >= maxAge) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds new value or updates the existing value with the same timestamp.
+     * Values older than the last one are only used to update existing items.
+     */
+    public void addOrUpdate(long timestamp, double value) {
+        Tier raw = tiers[0];
+        if (raw.count > 0) {
+            long lastTimestamp = raw.getTimestamp(raw.count - 1);
+            if (timestamp < lastTimestamp) {
+                int index = raw.findItem(timestamp);
+                if (index >= 0) {
+                    int pos = raw.physicalIndex(index);
+                    raw.minValues[pos] = raw.maxValues[pos] = raw.avgValues[pos] = value;
+                }
+                return;
+            } else if (timestamp == lastTimestamp) {
+                int pos = raw.physicalIndex(raw.count - 1);
+                raw.minValues[pos] = raw.maxValues[pos] = raw.avgValues[pos] = value;
+                return;
+            }
+            sealLastValue();
+        }
+        raw.add(timestamp, value, value, value);
+        hasUnsealedValue = true;
+        if (maxAge > 0) {
+            long minTimestamp = timestamp - maxAge;
+            for (Tier tier : tiers) {
+                tier.removeOlderThan(minTimestamp);
+            }
+        }
+    }
+
+    private void sealLastValue() {
+        if (!hasUnsealedValue) {
+            return;
+        }
+        Tier raw = tiers[0];
+        int pos = raw.physicalIndex(raw.count - 1);
+        for (int i = 1; i < tiers.length; i++) {
+            tiers[i].aggregate(raw.timestamps[pos], raw.avgValues[pos]);
+        }
+        hasUnsealedValue = false;
+    }
+
+    public void setMaximumItemCount(int maxItems) {
+        maxItems = Math.max(1, maxItems);
+        for (Tier tier : tiers) {
+            if (tier.timestamps.length != maxItems) {
+                tier.resize(maxItems);
+            }
+        }
+    }
+
+    public void setMaximumItemAge(long maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public void clear() {
+        for (Tier tier : tiers) {
+            tier.clear();
+        }
+        hasUnsealedValue = false;
+    }
+
+}
@@ -17,20 +17,27 @@
  */
 package org.jkiss.dbeaver.ui.dashboard.preferences;
 
+import org.eclipse.swt.SWT;
 import org.eclipse.swt.layout.GridData;
-import org.eclipse.swt.widgets.Button;
-import org.eclipse.swt.widgets.Composite;
-import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.*;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.dbeaver.ui.dashboard.history.DashboardHistoryRecorder;
 import org.jkiss.dbeaver.ui.dashboard.internal.UIDashboardMessages;
 import org.jkiss.dbeaver.ui.dashboard.model.DashboardConstants;
+import org.jkiss.dbeaver.ui.dashboard.registry.DashboardDescriptor;
+import org.jkiss.dbeaver.ui.dashboard.registry.DashboardRegistry;
 import org.jkiss.dbeaver.ui.preferences.TargetPrefPage;
 import org.jkiss.dbeaver.utils.PrefUtils;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
 /**
  * PrefPageDashboards
  */
@@ -41,6 +48,10 @@ public class PrefPageDashboards extends TargetPrefPage
     public static final String PAGE_ID = "org.jkiss.dbeaver.preferences.main.dashboards"; //$NON-NLS-1$
 
     private Button openSeparateConnectionCheck;
+    private Spinner queryTimeoutSpinner;
+    private Button historyEnabledCheck;
+    private Table historyDashboardsTable;
+    private Spinner historyRetentionSpinner;
 
     public PrefPageDashboards()
     {
@@ -52,7 +63,11 @@ public class PrefPageDashboards extends TargetPrefPage
     {
         DBPPreferenceStore store = dataSourceDescriptor.getPreferenceStore();
         return
-            store.contains(DashboardConstants.PREF_OPEN_SEPARATE_CONNECTION)
+            store.contains(DashboardConstants.PREF_OPEN_SEPARATE_CONNECTION) ||
+            store.contains(DashboardConstants.PREF_QUERY_TIMEOUT) ||
+            store.contains(DashboardConstants.PREF_HISTORY_ENABLED) ||
+            store.contains(DashboardConstants.PREF_HISTORY_DASHBOARDS) ||
+            store.contains(DashboardConstants.PREF_HISTORY_RETENTION)
         ;
     }
 
@@ -72,17 +87,68 @@ public class PrefPageDashboards extends TargetPrefPage
             Composite commonGroup = UIUtils.createControlGroup(composite, UIDashboardMessages.pref_page_dashboards_group_common, 2, GridData.FILL_HORIZONTAL | GridData.VERTICAL_ALIGN_BEGINNING, 0);
             {
                 openSeparateConnectionCheck = UIUtils.createCheckbox(commonGroup, UIDashboardMessages.pref_page_dashboards_open_separate_connection_label, null, false, 2);
+                queryTimeoutSpinner = UIUtils.createLabelSpinner(
+                    commonGroup,
+                    UIDashboardMessages.pref_page_dashboards_query_timeout_label,
+                    UIDashboardMessages.pref_page_dashboards_query_timeout_tip,
+                    DashboardConstants.DEF_DASHBOARD_QUERY_TIMEOUT,
+                    0,
+                    Integer.MAX_VALUE);
+            }
+        }
+        {
+            Composite historyGroup = UIUtils.createControlGroup(composite, UIDashboardMessages.pref_page_dashboards_group_history, 2, GridData.FILL_HORIZONTAL | GridData.VERTICAL_ALIGN_BEGINNING, 0);
+            historyEnabledCheck = UIUtils.createCheckbox(historyGroup, UIDashboardMessages.pref_page_dashboards_history_enabled_label, UIDashboardMessages.pref_page_dashboards_history_enabled_tip, false, 2);
+            UIUtils.createControlLabel(historyGroup, UIDashboardMessages.pref_page_dashboards_history_dashboards_label, 2);
+            historyDashboardsTable = new Table(historyGroup, SWT.BORDER | SWT.CHECK | SWT.V_SCROLL | SWT.FULL_SELECTION);
+            historyDashboardsTable.setToolTipText(UIDashboardMessages.pref_page_dashboards_history_dashboards_tip);
+            GridData gd = new GridData(GridData.FILL_HORIZONTAL);
+            gd.horizontalSpan = 2;
+            gd.heightHint = 150;
+            historyDashboardsTable.setLayoutData(gd);
+            for (DashboardDescriptor dashboard : getRecordableDashboards()) {
+                TableItem item = new TableItem(historyDashboardsTable, SWT.NONE);
+                item.setData(dashboard);
+                item.setText(dashboard.getName());
             }
+            historyRetentionSpinner = UIUtils.createLabelSpinner(
+                historyGroup,
+                UIDashboardMessages.pref_page_dashboards_history_retention_label,
+                DashboardConstants.DEF_DASHBOARD_HISTORY_RETENTION,
+                1,
+                24 * 365);
         }
 
         return composite;
     }
 
+    private List<DashboardDescriptor> getRecordableDashboards() {
+        DashboardRegistry registry = DashboardRegistry.getInstance();
+        List<DashboardDescriptor> result = new ArrayList<>();
+        for (DashboardDescriptor dashboard : isDataSourcePreferencePage() ?
+            registry.getDashboards(getDataSourceContainer(), false) : registry.getAllDashboards())
+        {
+            // Same as in DashboardHistoryRecorder: map queries are not recorded
+            if (dashboard.getMapQuery() == null && !dashboard.getQueries().isEmpty()) {
+                result.add(dashboard);
+            }
+        }
+        result.sort(Comparator.comparing(DashboardDescriptor::getName, String.CASE_INSENSITIVE_ORDER));
+        return result;
+    }
+
     @Override
     protected void loadPreferences(DBPPreferenceStore store)
     {
         try {
             openSeparateConnectionCheck.setSelection(store.getBoolean(DashboardConstants.PREF_OPEN_SEPARATE_CONNECTION));
+            queryTimeoutSpinner.setSelection(store.getInt(DashboardConstants.PREF_QUERY_TIMEOUT));
+            historyEnabledCheck.setSelection(store.getBoolean(DashboardConstants.PREF_HISTORY_ENABLED));
+            Set<String> recordedIds = DashboardHistoryRecorder.getRecordedDashboardIds(store);
+            for (TableItem item : historyDashboardsTable.getItems()) {
+                item.setChecked(recordedIds.contains(((DashboardDescriptor) item.getData()).getId()));
+            }
+            historyRetentionSpinner.setSelection(store.getInt(DashboardConstants.PREF_HISTORY_RETENTION));
         } catch (Exception e) {
             log.warn(e);
         }
@@ -93,6 +159,16 @@ public class PrefPageDashboards extends TargetPrefPage
     {
         try {
             store.setValue(DashboardConstants.PREF_OPEN_SEPARATE_CONNECTION, openSeparateConnectionCheck.getText());
+            store.setValue(DashboardConstants.PREF_QUERY_TIMEOUT, queryTimeoutSpinner.getSelection());
+            store.setValue(DashboardConstants.PREF_HISTORY_ENABLED, historyEnabledCheck.getSelection());
+            List<String> recordedIds = new ArrayList<>();
+            for (TableItem item : historyDashboardsTable.getItems()) {
+                if (item.getChecked()) {
+                    recordedIds.add(((DashboardDescriptor) item.getData()).getId());
+                }
+            }
+            store.setValue(DashboardConstants.PREF_HISTORY_DASHBOARDS, String.join(",", recordedIds));
+            store.setValue(DashboardConstants.PREF_HISTORY_RETENTION, historyRetentionSpinner.getSelection());
         } catch (Exception e) {
             log.warn(e);
         }
@@ -103,6 +179,10 @@ public class PrefPageDashboards extends TargetPrefPage
     protected void clearPreferences(DBPPreferenceStore store)
     {
         store.setToDefault(DashboardConstants.PREF_OPEN_SEPARATE_CONNECTION);
+        store.setToDefault(DashboardConstants.PREF_QUERY_TIMEOUT);
+        store.setToDefault(DashboardConstants.PREF_HISTORY_ENABLED);
+        store.setToDefault(DashboardConstants.PREF_HISTORY_DASHBOARDS);
+        store.setToDefault(DashboardConstants.PREF_HISTORY_RETENTION);
     }
 
     @Override
@@ -19,12 +19,18 @@ package org.jkiss.dbeaver.ui.dashboard.view;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
+import org.jkiss.dbeaver.ui.dashboard.model.DashboardContainer;
+
+import java.util.*;
 
 /**
- * Job which runs every second and updates necessary dashboards
+ * Job which runs every second and schedules update of necessary dashboards.
+ * Dashboards of each data source are updated by a separate job. Only one update job
+ * per data source may be active at the same time, so slow servers do not accumulate queued queries.
  */
 public class DashboardUpdateJob extends AbstractJob {
 
@@ -32,6 +38,8 @@ public class DashboardUpdateJob extends AbstractJob {
 
     private static final int JOB_DELAY = 1000;
 
+    private static final Set<DBPDataSourceContainer> activeUpdates = new HashSet<>();
+
     private DashboardUpdateJob() {
         super("Dashboard update");
     }
@@ -40,7 +48,20 @@ public class DashboardUpdateJob extends AbstractJob {
     protected IStatus run(DBRProgressMonitor monitor) {
 
         try {
-            new DashboardUpdater().updateDashboards(monitor);
+            List<DashboardContainer> dashboards = new DashboardUpdater().getDashboardsToUpdate();
+            Map<DBPDataSourceContainer, List<DashboardContainer>> dsDashboards = new LinkedHashMap<>();
+            for (DashboardContainer dashboard : dashboards) {
+                dsDashboards.computeIfAbsent(dashboard.getDataSourceContainer(), k -> new ArrayList<>()).add(dashboard);
+            }
+            for (Map.Entry<DBPDataSourceContainer, List<DashboardContainer>> entry : dsDashboards.entrySet()) {
+                synchronized (activeUpdates) {
+                    if (!activeUpdates.add(entry.getKey())) {
+                        // Previous update is still running
+                        continue;
+                    }
+                }
+                new DataSourceUpdateJob(entry.getKey(), entry.getValue()).schedule();
+            }
         } catch (Exception e) {
             log.error("Error running dashboard updater", e);
         }
@@ -55,4 +76,31 @@ public class DashboardUpdateJob extends AbstractJob {
         new DashboardUpdateJob().schedule(JOB_DELAY);
     }
 
-}
\ No newline at end of file
+    private static class DataSourceUpdateJob extends AbstractJob {
+        private final DBPDataSourceContainer dataSourceContainer;
+        private final List<DashboardContainer> dashboards;
+
+        DataSourceUpdateJob(DBPDataSourceContainer dataSourceContainer, List<DashboardContainer> dashboards) {
+            super("Dashboard update (" + dataSourceContainer.getName() + ")");
+            this.dataSourceContainer = dataSourceContainer;
+            this.dashboards = dashboards;
+            setSystem(true);
+            setUser(false);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                new DashboardUpdater().updateDashboards(monitor, dashboards);
+            } catch (Exception e) {
+                log.error("Error updating dashboards of '" + dataSourceContainer.getName() + "'", e);
+            } finally {
+                synchronized (activeUpdates) {
+                    activeUpdates.remove(dataSourceContainer);
+                }
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
@@ -66,9 +66,24 @@ public class DashboardUpdater {
 
     }
 
-    private void updateDashboards(DBRProgressMonitor monitor, List<DashboardContainer> dashboards) {
+    /**
+     * Updates dashboards. Identical queries of different dashboards (e.g. the same dashboard opened in
+     * several views) are executed only once and their results are shared between all of them.
+     */
+    public void updateDashboards(DBRProgressMonitor monitor, List<DashboardContainer> dashboards) {
         monitor.beginTask("Update dashboards", dashboards.size());
 
+        // Max items count required by all consumers of the same query
+        Map<String, Integer> queryMaxItems = new HashMap<>();
+        for (DashboardContainer dashboard : dashboards) {
+            if (dashboard.getMapQuery() == null) {
+                for (DashboardQuery query : dashboard.getQueryList()) {
+                    queryMaxItems.merge(getQueryKey(dashboard, query), dashboard.getDashboardMaxItems(), Math::max);
+                }
+            }
+        }
+        Map<String, DashboardDataset> queryResults = new HashMap<>();
+
         // Get all map queries used by dashboards
         for (DashboardContainer dashboard : dashboards) {
             DashboardMapQuery mapQuery = dashboard.getMapQuery();
@@ -131,7 +146,7 @@ public class DashboardUpdater {
             try {
                 DBExecUtils.tryExecuteRecover(dashboards, dataSource, param -> {
                     try {
-                        updateDashboard(monitor, dashboard);
+                        updateDashboard(monitor, dashboard, queryResults, queryMaxItems);
                     } catch (Throwable e) {
                         log.debug("Datasource '" + dashboard.getDataSourceContainer().getName() + "' dashboard query failed. Stopping update of dashboards for this datasource.");
                         dashboard.disableAutoUpdate();
@@ -171,7 +186,12 @@ public class DashboardUpdater {
         }
     }
 
-    private void updateDashboard(DBRProgressMonitor monitor, DashboardContainer dashboard) throws DBCException {
+    private void updateDashboard(
+        DBRProgressMonitor monitor,
+        DashboardContainer dashboard,
+        Map<String, DashboardDataset> queryResults,
+        Map<String, Integer> queryMaxItems
+    ) throws DBCException {
         if (!dashboard.getDataSourceContainer().isConnected() || DBWorkbench.getPlatform().isShuttingDown()) {
             return;
         }
@@ -184,11 +204,36 @@ public class DashboardUpdater {
         if (queries.isEmpty()) {
             return;
         }
+        List<DashboardQuery> queriesToRead = new ArrayList<>();
+        for (DashboardQuery query : queries) {
+            if (!queryResults.containsKey(getQueryKey(dashboard, query))) {
+                queriesToRead.add(query);
+            }
+        }
+        if (!queriesToRead.isEmpty()) {
+            readDashboardQueries(monitor, dashboard, queriesToRead, queryResults, queryMaxItems);
+        }
+        for (DashboardQuery query : queries) {
+            DashboardDataset dataset = queryResults.get(getQueryKey(dashboard, query));
+            if (dataset != null) {
+                dashboard.updateDashboardData(prepareDashboardDataset(dashboard, dataset));
+            }
+        }
+    }
+
+    private void readDashboardQueries(
+        DBRProgressMonitor monitor,
+        DashboardContainer dashboard,
+        List<DashboardQuery> queries,
+        Map<String, DashboardDataset> queryResults,
+        Map<String, Integer> queryMaxItems
+    ) throws DBCException {
         DashboardViewContainer view = dashboard.getGroup().getView();
         DBCExecutionContext executionContext = view.getExecutionContext();
         if (executionContext == null) {
             return;
         }
+        int queryTimeout = dashboard.getDataSourceContainer().getPreferenceStore().getInt(DashboardConstants.PREF_QUERY_TIMEOUT);
         try (DBCSession session = executionContext.openSession(
             monitor, DBCExecutionPurpose.UTIL, "Read dashboard '" + dashboard.getDashboardTitle() + "' data")) {
             session.enableLogging(false);
@@ -205,11 +250,21 @@ public class DashboardUpdater {
             }
             try {
                 for (DashboardQuery query : queries) {
+                    String queryKey = getQueryKey(dashboard, query);
                     try (DBCStatement dbStat = session.prepareStatement(DBCStatementType.QUERY, query.getQueryText(), false, false, false)) {
+                        if (queryTimeout > 0) {
+                            try {
+                                dbStat.setStatementTimeout(queryTimeout);
+                            } catch (DBCException e) {
+                                log.debug("Can't set dashboard query timeout: " + e.getMessage());
+                            }
+                        }
                         if (dbStat.executeStatement()) {
                             try (DBCResultSet dbResults = dbStat.openResultSet()) {
                                 if (dbResults != null) {
-                                    fetchDashboardData(dashboard, dbResults);
+                                    queryResults.put(
+                                        queryKey,
+                                        fetchDashboardData(dbResults, queryMaxItems.getOrDefault(queryKey, dashboard.getDashboardMaxItems())));
                                 }
                             }
                         }
@@ -225,6 +280,13 @@ public class DashboardUpdater {
         }
     }
 
+    /**
+     * Query results can be shared only within the same data source
+     */
+    private static String getQueryKey(DashboardContainer dashboard, DashboardQuery query) {
+        return dashboard.getDataSourceContainer().getId() + ":" + query.getQueryText();
+    }
+
     private void fetchDashboardMapData(DBRProgressMonitor monitor, DashboardContainer dashboard) {
         MapQueryInfo mqi = getMapQueryData(dashboard);
         if (mqi == null) {
@@ -300,7 +362,7 @@ public class DashboardUpdater {
         }
     }
 
-    private void fetchDashboardData(DashboardContainer dashboard, DBCResultSet dbResults) throws DBCException {
+    public static DashboardDataset fetchDashboardData(DBCResultSet dbResults, int maxItems) throws DBCException {
         DBCResultSetMetaData meta = dbResults.getMeta();
         List<DBCAttributeMetaData> rsAttrs = meta.getAttributes();
         List<String> colNames = new ArrayList<>();
@@ -330,20 +392,34 @@ public class DashboardUpdater {
                 values[i] = dbResults.getAttributeValue(colNames.get(i));
             }
             dataset.addRow(new DashboardDatasetRow(timestamp, values));
-            if (dataset.getRows().size() >= dashboard.getDashboardMaxItems()) {
+            if (dataset.getRows().size() >= maxItems) {
                 break;
             }
         }
+        return dataset;
+    }
 
+    /**
+     * Makes a dataset for the particular dashboard from the (possibly shared) query result
+     */
+    private DashboardDataset prepareDashboardDataset(DashboardContainer dashboard, DashboardDataset queryResult) {
+        DashboardDataset dataset = queryResult;
+        List<DashboardDatasetRow> rows = queryResult.getRows();
+        if (rows.size() > dashboard.getDashboardMaxItems()) {
+            dataset = new DashboardDataset(queryResult.getColumnNames());
+            for (DashboardDatasetRow row : rows.subList(0, dashboard.getDashboardMaxItems())) {
+                dataset.addRow(row);
+            }
+        }
         switch (dashboard.getDashboardFetchType()) {
             case rows:
                 dataset = transposeDataset(dataset);
                 break;
         }
-        dashboard.updateDashboardData(dataset);
+        return dataset;
     }
 
-    private DashboardDataset transposeDataset(DashboardDataset dataset) {
+    public static DashboardDataset transposeDataset(DashboardDataset dataset) {
         int oldColumnCount = dataset.getColumnNames().length;
         if (oldColumnCount < 2) {
             // Something went wrong
@@ -403,13 +479,28 @@ public class DashboardUpdater {
         for (DashboardGroupContainer group : viewManager.getGroups()) {
             for (DashboardContainer dashboard : group.getItems()) {
                 Date lastUpdateTime = dashboard.getLastUpdateTime();
-                if (lastUpdateTime == null || (currentTime - lastUpdateTime.getTime()) >= dashboard.getUpdatePeriod()) {
+                if (lastUpdateTime == null || isUpdateRequired(lastUpdateTime.getTime(), currentTime, dashboard.getUpdatePeriod())) {
                     dashboards.add(dashboard);
                 }
             }
         }
     }
 
+    /**
+     * Update moments are aligned to the multiples of the update period. This way dashboards with the same
+     * period are updated at the same time and their identical queries are coalesced.
+     */
+    public static boolean isUpdateRequired(long lastUpdateTime, long currentTime, long updatePeriod) {
+        if (updatePeriod <= 0) {
+            return true;
+        }
+        if (currentTime - lastUpdateTime < updatePeriod / 2) {
+            // Too early
+            return false;
+        }
+        return currentTime / updatePeriod > lastUpdateTime / updatePeriod;
+    }
+
     private MapQueryInfo getMapQueryData(DashboardContainer dashboard) {
         List<MapQueryInfo> mapQueryInfos = mapQueries.get(dashboard.getDataSourceContainer());
         if (mapQueryInfos != null) {
@@ -170,7 +170,7 @@ class GridCellRenderer extends AbstractRenderer {
             switch (columnAlign) {
                 // Center
                 case IGridContentProvider.ALIGN_CENTER: {
-                    Point textSize = gc.textExtent(text);
+                    Point textSize = font == null ? grid.getTextExtent(text) : gc.textExtent(text);
                     gc.drawString(
                         text,
                         bounds.x + (bounds.width - textSize.x) / 2,
@@ -181,7 +181,7 @@ class GridCellRenderer extends AbstractRenderer {
                 }
                 case IGridContentProvider.ALIGN_RIGHT: {
                     // Right (numbers, datetimes)
-                    Point textSize = gc.textExtent(text);
+                    Point textSize = font == null ? grid.getTextExtent(text) : gc.textExtent(text);
                     int valueWidth = textSize.x + INSIDE_MARGIN;
                     if (imageBounds != null) {
                         valueWidth += imageBounds.width + INSIDE_MARGIN;
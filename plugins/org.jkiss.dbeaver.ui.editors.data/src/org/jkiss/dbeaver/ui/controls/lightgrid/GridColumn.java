@@ -311,7 +311,7 @@ public class GridColumn implements IGridColumn {
             x += imageBounds.width + insideMargin;
         }
 
-        x += grid.sizingGC.textExtent(cellText).x + rightMargin;
+        x += grid.getTextExtent(cellText).x + rightMargin;
         return x;
     }
 
@@ -52,6 +52,7 @@ public abstract class LightGrid extends Canvas {
     private static final Log log = Log.getLog(LightGrid.class);
 
     private static final int MAX_TOOLTIP_LENGTH = 1000;
+    private static final int MAX_TEXT_EXTENT_CACHE_SIZE = 10000;
 
     protected static final int Event_ChangeSort = 1000;
     protected static final int Event_NavigateLink = 1001;
@@ -320,6 +321,15 @@ public abstract class LightGrid extends Canvas {
     Font normalFont;
     Font boldFont;
     Font italicFont;
+    // Text extents in normal font. Text measuring is one of the most expensive parts of grid painting.
+    private final Map<String, Point> textExtentCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Point> eldest) {
+            return size() > MAX_TEXT_EXTENT_CACHE_SIZE;
+        }
+    };
+    // Horizontal scroll position of the pixels currently shown in the grid. -1 if unknown.
+    private int paintedHScrollSelection = -1;
 
     @NotNull
     private Color lineColor;
@@ -555,6 +565,7 @@ public abstract class LightGrid extends Canvas {
             refreshColumns = true;
         }
         controlWasHidden = getClientArea().height == 0;
+        textExtentCache.clear();
 
         if (refreshColumns) {
             this.removeAll();
@@ -2320,6 +2331,9 @@ public abstract class LightGrid extends Canvas {
     {
         final GC gc = e.gc;
         gc.setBackground(getBackground());
+        // Damaged area. Cells outside of it are not painted.
+        final int paintLeft = e.x, paintRight = e.x + e.width;
+        final int paintTop = e.y, paintBottom = e.y + e.height;
 
         //this.drawBackground(gc, 0, 0, getSize().x, getSize().y);
 
@@ -2351,6 +2365,7 @@ public abstract class LightGrid extends Canvas {
 
         int row = firstVisibleIndex;
         final int hScrollSelectionInPixels = getHScrollSelectionInPixels();
+        paintedHScrollSelection = hScrollSelectionInPixels;
         final GridPos testPos = new GridPos(-1, -1);
         final Rectangle cellBounds = new Rectangle(0, 0, 0, 0);
         int pinnedColumnsWidth = getPinnedColumnsWidth();
@@ -2361,6 +2376,13 @@ public abstract class LightGrid extends Canvas {
 
             x -= hScrollSelectionInPixels;
 
+            if (y + itemHeight < paintTop || y > paintBottom) {
+                // Row is outside of damaged area
+                y += itemHeight + 1;
+                row++;
+                continue;
+            }
+
             // get the item to draw
             if (row >= 0 && row < getItemCount()) {
 
@@ -2381,7 +2403,7 @@ public abstract class LightGrid extends Canvas {
 
                     int width = column.getWidth();
 
-                    if (x + width >= 0 && x < clientArea.width) {
+                    if (x + width >= paintLeft && x < paintRight) {
 
                         cellBounds.x = x;
                         cellBounds.y = y;
@@ -3023,7 +3045,7 @@ public abstract class LightGrid extends Canvas {
         }
 
         if (getHorizontalBar() != null) {
-            getHorizontalBar().addListener(SWT.Selection, e -> onScrollSelection());
+            getHorizontalBar().addListener(SWT.Selection, e -> onHorizontalScrollSelection());
         }
 
         addListener(SWT.KeyDown, this::onKeyDown);
@@ -4083,6 +4105,34 @@ public abstract class LightGrid extends Canvas {
         redraw(clientArea.x, clientArea.y, clientArea.width, clientArea.height, false);
     }
 
+    /**
+     * Horizontal scrollbar selection event handler.
+     * Shifts already painted pixels of scrollable columns and repaints only the exposed area
+     * instead of repainting all visible cells.
+     */
+    private void onHorizontalScrollSelection()
+    {
+        final int hScrollSelection = getHScrollSelectionInPixels();
+        final int delta = paintedHScrollSelection - hScrollSelection;
+        final Rectangle clientArea = getClientArea();
+        int fixedWidth = getPinnedColumnsWidth();
+        if (rowHeaderVisible) {
+            fixedWidth += rowHeaderWidth;
+        }
+        final int scrollableWidth = clientArea.width - fixedWidth;
+        if (paintedHScrollSelection < 0 || delta == 0 || Math.abs(delta) >= scrollableWidth) {
+            onScrollSelection();
+            return;
+        }
+        refreshHoverState();
+        paintedHScrollSelection = hScrollSelection;
+        if (delta > 0) {
+            scroll(fixedWidth + delta, 0, fixedWidth, 0, scrollableWidth - delta, clientArea.height, false);
+        } else {
+            scroll(fixedWidth, 0, fixedWidth - delta, 0, scrollableWidth + delta, clientArea.height, false);
+        }
+    }
+
     /**
      * Returns the intersection of the given column and given item.
      *
@@ -4684,6 +4734,7 @@ public abstract class LightGrid extends Canvas {
         sizingGC.setFont(font);
         fontMetrics = sizingGC.getFontMetrics();
         normalFont = font;
+        textExtentCache.clear();
         UIUtils.dispose(boldFont);
         UIUtils.dispose(italicFont);
         boldFont = UIUtils.makeBoldFont(normalFont);
@@ -4709,6 +4760,19 @@ public abstract class LightGrid extends Canvas {
         return getCellText(text);
     }
 
+    /**
+     * Returns text extent in the normal grid font
+     */
+    @NotNull
+    Point getTextExtent(@NotNull String text) {
+        Point extent = textExtentCache.get(text);
+        if (extent == null) {
+            extent = sizingGC.textExtent(text);
+            textExtentCache.put(text, extent);
+        }
+        return extent;
+    }
+
     @NotNull
     String getCellText(Object cellValue) {
         String text = String.valueOf(cellValue);
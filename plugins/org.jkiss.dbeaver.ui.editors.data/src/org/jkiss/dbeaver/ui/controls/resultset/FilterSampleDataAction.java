@@ -0,0 +1,74 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.eclipse.jface.action.Action;
+import org.eclipse.swt.SWT;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.dbeaver.ui.controls.resultset.internal.ResultSetMessages;
+import org.jkiss.dbeaver.ui.dialogs.EnterNameDialog;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.Random;
+
+/**
+ * Reads only a random sample of table rows. Sampling is performed by the database server.
+ */
+class FilterSampleDataAction extends Action {
+    private final ResultSetViewer resultSetViewer;
+
+    FilterSampleDataAction(ResultSetViewer resultSetViewer) {
+        super(ResultSetMessages.controls_resultset_viewer_action_sample_data, AS_CHECK_BOX);
+        this.resultSetViewer = resultSetViewer;
+        setChecked(resultSetViewer.getDataFilter().isSampled());
+    }
+
+    @Override
+    public void run() {
+        DBDDataFilter dataFilter = new DBDDataFilter(resultSetViewer.getDataFilter());
+        if (dataFilter.isSampled()) {
+            dataFilter.setSamplePercent(0);
+        } else {
+            String percentText = EnterNameDialog.chooseName(
+                resultSetViewer.getControl().getShell(),
+                ResultSetMessages.controls_resultset_viewer_action_sample_data_percent,
+                "10");
+            if (CommonUtils.isEmptyTrimmed(percentText)) {
+                return;
+            }
+            double percent;
+            try {
+                percent = Double.parseDouble(percentText.trim());
+            } catch (NumberFormatException e) {
+                percent = -1;
+            }
+            if (percent <= 0 || percent >= 100) {
+                UIUtils.showMessageBox(
+                    resultSetViewer.getControl().getShell(),
+                    ResultSetMessages.controls_resultset_viewer_action_sample_data,
+                    ResultSetMessages.controls_resultset_viewer_action_sample_data_bad_percent,
+                    SWT.ICON_ERROR);
+                return;
+            }
+            dataFilter.setSamplePercent(percent);
+            // Fixed seed makes all segments read from the same sample
+            dataFilter.setSampleSeed(new Random().nextInt(Integer.MAX_VALUE - 1) + 1);
+        }
+        resultSetViewer.setDataFilter(dataFilter, true);
+    }
+}
@@ -132,6 +132,12 @@ public interface IResultSetController extends IDataController, DBPContextProvide
      */
     void readNextSegment();
 
+    /**
+     * Reads next segment of data in background, before user reaches the end of fetched rows.
+     * Doesn't show loading progress and doesn't change current row.
+     */
+    void prefetchNextSegment();
+
     /**
      * Reads all rows from data container.
      * Note: in case of huge resultset this function may eventually throw {@link java.lang.OutOfMemoryError}
@@ -1254,6 +1254,9 @@ class ResultSetFilterPanel extends Composite implements IContentProposalProvider
             if (viewer.getDataFilter().hasPinnedAttributes()) {
                 menuManager.add(new FilterResetAllPinsAction(viewer));
             }
+            if (viewer.getDataFilter().isSampled()) {
+                menuManager.add(new FilterSampleDataAction(viewer));
+            }
             if (menuManager.getSize() > 1) {
                 menuManager.add(new FilterResetAllSettingsAction(viewer));
             }
@@ -59,6 +59,7 @@ public class ResultSetModel {
     // Data
     private List<ResultSetRow> curRows = new ArrayList<>();
     private Long totalRowCount = null;
+    private boolean totalRowCountEstimated;
     private int changesCount = 0;
     private volatile boolean hasData = false;
     // Flag saying that edited values update is in progress
@@ -374,8 +375,20 @@ public class ResultSetModel {
         return totalRowCount;
     }
 
+    /**
+     * Returns true if total row count was estimated from the database statistics
+     */
+    public boolean isTotalRowCountEstimated() {
+        return totalRowCountEstimated;
+    }
+
     void setTotalRowCount(Long totalRowCount) {
+        setTotalRowCount(totalRowCount, false);
+    }
+
+    void setTotalRowCount(Long totalRowCount, boolean estimated) {
         this.totalRowCount = totalRowCount;
+        this.totalRowCountEstimated = estimated;
     }
 
     @Nullable
@@ -882,6 +895,7 @@ public class ResultSetModel {
         // Refresh all rows
         this.curRows = new ArrayList<>();
         this.totalRowCount = null;
+        this.totalRowCountEstimated = false;
         this.singleSourceEntity = null;
 
         this.hasData = false;
@@ -1103,6 +1117,8 @@ public class ResultSetModel {
         this.dataFilter.setWhere(filter.getWhere());
         this.dataFilter.setOrder(filter.getOrder());
         this.dataFilter.setAnyConstraint(filter.isAnyConstraint());
+        this.dataFilter.setSamplePercent(filter.getSamplePercent());
+        this.dataFilter.setSampleSeed(filter.getSampleSeed());
     }
 
     public void resetOrdering() {
@@ -29,6 +29,7 @@ import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.edit.DBEPersistAction;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
+import org.jkiss.dbeaver.model.impl.struct.DictionaryCache;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.sql.RowDataReceiver;
 import org.jkiss.dbeaver.model.struct.*;
@@ -849,6 +850,10 @@ class ResultSetPersister {
 
         private void processStatementChanges(DataStatementInfo statement) {
             statement.executed = true;
+            if (!generateScript) {
+                // Edited entity may be a dictionary of other tables
+                DictionaryCache.invalidate(statement.entity);
+            }
         }
 
         private void processStatementError(DataStatementInfo statement, DBCSession session) {
@@ -235,6 +235,7 @@ public class ResultSetViewer extends Viewer
     // Theme listener
     private IPropertyChangeListener themeChangeListener;
     private final AbstractJob themeUpdateJob;
+    private volatile AbstractJob exactRowCountJob;
     private long lastThemeUpdateTime;
 
     private volatile boolean nextSegmentReadingBlocked;
@@ -1812,7 +1813,27 @@ public class ResultSetViewer extends Viewer
                         @Override
                         public String evaluate(DBRProgressMonitor monitor) throws InvocationTargetException {
                             try {
-                                long rowCount = readRowCount(monitor);
+                                cancelExactRowCount();
+                                DBSDataContainer dataContainer = getDataContainer();
+                                if (getPreferenceStore().getBoolean(ResultSetPreferences.RESULT_SET_ROW_COUNT_ESTIMATE) &&
+                                    dataContainer != null && dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_DATA_COUNT_ESTIMATE)) {
+                                    long estimatedCount = -1;
+                                    try {
+                                        estimatedCount = readRowCount(monitor, DBSDataContainer.FLAG_ESTIMATE_COUNT);
+                                    } catch (DBException e) {
+                                        // Statistics may be unavailable, use exact count
+                                        log.debug("Error reading estimated row count", e);
+                                    }
+                                    if (estimatedCount >= 0) {
+                                        model.setTotalRowCount(estimatedCount, true);
+                                        if (getPreferenceStore().getBoolean(ResultSetPreferences.RESULT_SET_ROW_COUNT_EXACT_IN_BACKGROUND)) {
+                                            scheduleExactRowCount();
+                                        }
+                                        return "~" + ROW_COUNT_FORMAT.format(estimatedCount);
+                                    }
+                                }
+                                long rowCount = readRowCount(monitor, DBSDataContainer.FLAG_NONE);
+                                model.setTotalRowCount(rowCount);
                                 return ROW_COUNT_FORMAT.format(rowCount);
                             } catch (DBException e) {
                                 log.error(e);
@@ -1959,6 +1980,7 @@ public class ResultSetViewer extends Viewer
         if (!themeUpdateJob.isCanceled()) {
             themeUpdateJob.cancel();
         }
+        cancelExactRowCount();
         if (themeChangeListener != null) {
             PlatformUI.getWorkbench().getThemeManager().removePropertyChangeListener(themeChangeListener);
             themeChangeListener = null;
@@ -2142,6 +2164,8 @@ public class ResultSetViewer extends Viewer
             } else {
                 if (model.getTotalRowCount() == null) {
                     rcMessage = ROW_COUNT_FORMAT.format(model.getRowCount()) + "+";
+                } else if (model.isTotalRowCountEstimated()) {
+                    rcMessage = "~" + ROW_COUNT_FORMAT.format(model.getTotalRowCount());
                 } else {
                     // We know actual row count
                     rcMessage = ROW_COUNT_FORMAT.format(model.getTotalRowCount());
@@ -3468,9 +3492,14 @@ public class ResultSetViewer extends Viewer
             }
         }
         filtersMenu.add(new Separator());
-        if (getDataContainer() instanceof DBSEntity) {
+        DBSDataContainer dataContainer = getDataContainer();
+        if (dataContainer instanceof DBSEntity) {
             filtersMenu.add(ActionUtils.makeCommandContribution(site, ResultSetHandlerMain.CMD_FILTER_SAVE_SETTING));
         }
+        if (dataContainer != null && dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_DATA_SAMPLE)) {
+            // Sampling is ignored by other containers (e.g. query results)
+            filtersMenu.add(new FilterSampleDataAction(this));
+        }
         filtersMenu.add(ActionUtils.makeCommandContribution(site, ResultSetHandlerMain.CMD_FILTER_CLEAR_SETTING));
         filtersMenu.add(ActionUtils.makeCommandContribution(site, ResultSetHandlerMain.CMD_FILTER_EDIT_SETTINGS));
     }
@@ -3985,7 +4014,21 @@ public class ResultSetViewer extends Viewer
 
 
     public void readNextSegment() {
-        if (!verifyQuerySafety()) {
+        readNextSegment(false);
+    }
+
+    @Override
+    public void prefetchNextSegment() {
+        DBSDataContainer dataContainer = getDataContainer();
+        if (dataContainer == null || dataContainer.isFeatureSupported(DBSDataContainer.FEATURE_DATA_MODIFIED_ON_REFRESH)) {
+            // Never re-execute modifying queries without confirmation
+            return;
+        }
+        readNextSegment(true);
+    }
+
+    private void readNextSegment(boolean background) {
+        if (!background && !verifyQuerySafety()) {
             return;
         }
         if (!dataReceiver.isHasMoreData()) {
@@ -3999,7 +4042,8 @@ public class ResultSetViewer extends Viewer
 
         nextSegmentReadingBlocked = true;
         UIUtils.asyncExec(() -> {
-            if (isRefreshInProgress() || !checkForChanges()) {
+            // Do not prompt for unsaved changes in background, next segment will be read on the scroll to the end
+            if (isRefreshInProgress() || (background ? isDirty() : !checkForChanges())) {
                 nextSegmentReadingBlocked = false;
                 return;
             }
@@ -4017,6 +4061,7 @@ public class ResultSetViewer extends Viewer
                     false,
                     true,
                     true,
+                    background,
                     () -> nextSegmentReadingBlocked = false);
             }
         });
@@ -4087,19 +4132,56 @@ public class ResultSetViewer extends Viewer
     }
 
     /**
-     * Reads row count and sets value in status label
+     * Reads row count. See {@link DBSDataContainer#FLAG_ESTIMATE_COUNT} for estimated count.
      */
-    private long readRowCount(DBRProgressMonitor monitor) throws DBException {
+    private long readRowCount(DBRProgressMonitor monitor, long flags) throws DBException {
         final DBCExecutionContext executionContext = getExecutionContext();
         DBSDataContainer dataContainer = getDataContainer();
         if (executionContext == null || dataContainer == null) {
             throw new DBException(ModelMessages.error_not_connected_to_database);
         }
 
-        long[] result = new long[1];
-        result[0] = DBUtils.readRowCount(monitor, executionContext, dataContainer, model.getDataFilter(), this);
-        model.setTotalRowCount(result[0]);
-        return result[0];
+        return DBUtils.readRowCount(monitor, executionContext, dataContainer, model.getDataFilter(), this, flags);
+    }
+
+    /**
+     * Replaces estimated row count with the exact one when it is calculated.
+     * Job is canceled if data is reloaded.
+     */
+    private void scheduleExactRowCount() {
+        AbstractJob countJob = new AbstractJob("Calculate exact row count") {
+            @Override
+            protected IStatus run(DBRProgressMonitor monitor) {
+                long rowCount;
+                try {
+                    rowCount = readRowCount(monitor, DBSDataContainer.FLAG_NONE);
+                } catch (DBException e) {
+                    if (!monitor.isCanceled()) {
+                        log.debug("Error calculating exact row count", e);
+                    }
+                    return Status.OK_STATUS;
+                }
+                if (!monitor.isCanceled() && exactRowCountJob == this && model.isTotalRowCountEstimated()) {
+                    model.setTotalRowCount(rowCount);
+                    UIUtils.asyncExec(() -> {
+                        if (!viewerPanel.isDisposed()) {
+                            updateStatusMessage();
+                        }
+                    });
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        exactRowCountJob = countJob;
+        countJob.schedule();
+    }
+
+    private void cancelExactRowCount() {
+        AbstractJob countJob = exactRowCountJob;
+        if (countJob != null) {
+            exactRowCountJob = null;
+            countJob.cancel();
+        }
     }
 
     public int getSegmentMaxRows()
@@ -4150,6 +4232,21 @@ public class ResultSetViewer extends Viewer
         final boolean scroll, // Scroll operation
         final boolean refresh, // Refresh. Nothing was changed but refresh from server or scroll happened
         @Nullable final Runnable finalizer)
+    {
+        return runDataPump(dataContainer, dataFilter, offset, maxRows, focusRow, saveHistory, scroll, refresh, false, finalizer);
+    }
+
+    private boolean runDataPump(
+        @NotNull final DBSDataContainer dataContainer,
+        @Nullable final DBDDataFilter dataFilter,
+        final int offset,
+        final int maxRows,
+        final int focusRow,
+        final boolean saveHistory, // Save history state (sometimes we don'ty need it)
+        final boolean scroll, // Scroll operation
+        final boolean refresh, // Refresh. Nothing was changed but refresh from server or scroll happened
+        final boolean background, // Background prefetch. No progress and no presentation state changes
+        @Nullable final Runnable finalizer)
     {
         DBCExecutionContext executionContext = getExecutionContext();
         if (executionContext == null || dataContainer.getDataSource() != executionContext.getDataSource()) {
@@ -4164,6 +4261,10 @@ public class ResultSetViewer extends Viewer
         }
         // Cancel any refresh jobs
         autoRefreshControl.cancelRefresh();
+        if (!scroll && !background) {
+            // Total row count will be reset
+            cancelExactRowCount();
+        }
 
         // Read data
         Composite progressControl = viewerPanel;
@@ -4179,10 +4280,12 @@ public class ResultSetViewer extends Viewer
             focusRow,
             saveHistory,
             scroll,
+            background,
             finalizer);
         dataPumpJob.setOffset(offset);
         dataPumpJob.setMaxRows(maxRows);
         dataPumpJob.setRefresh(refresh);
+        dataPumpJob.setBackground(background);
 
         queueDataPump(dataPumpJob);
 
@@ -5116,6 +5219,7 @@ public class ResultSetViewer extends Viewer
         private final int focusRow;
         private final boolean saveHistory;
         private final boolean scroll;
+        private final boolean background;
         private final Object presentationState;
         private final Runnable finalizer;
 
@@ -5127,14 +5231,17 @@ public class ResultSetViewer extends Viewer
             int focusRow,
             boolean saveHistory,
             boolean scroll,
+            boolean background,
             @Nullable Runnable finalizer)
         {
             super(dataContainer, executionSource, executionContext, progressControl);
             this.focusRow = focusRow;
             this.saveHistory = saveHistory;
             this.scroll = scroll;
+            this.background = background;
             this.finalizer = finalizer;
-            this.presentationState = savePresentationState();
+            // User keeps scrolling during the background read, so the current view state must not be restored after it
+            this.presentationState = background ? null : savePresentationState();
         }
 
         @Override
@@ -5170,6 +5277,10 @@ public class ResultSetViewer extends Viewer
             dataReceiver.setFocusRow(focusRow);
             // Set explicit target container
             dataReceiver.setTargetDataContainer(executionSource.getDataContainer());
+            if (background) {
+                // Prefetch must not interrupt user work with the result set
+                return;
+            }
 
             model.setUpdateInProgress(this);
             model.setStatistics(null);
@@ -5193,7 +5304,15 @@ public class ResultSetViewer extends Viewer
                     if (control1.isDisposed()) {
                         return;
                     }
-                    model.setUpdateInProgress(null);
+                    if (background && error != null) {
+                        // Do not show prefetch errors. Next segment read will be retried on scroll.
+                        log.debug("Error prefetching next result set segment", error);
+                        dataReceiver.setHasMoreData(true);
+                        return;
+                    }
+                    if (!background) {
+                        model.setUpdateInProgress(null);
+                    }
 
                     // update history. Do it first otherwise we are in the incorrect state (getDatacontainer() may return wrong value)
                     if (saveHistory && error == null) {
@@ -75,6 +75,9 @@ public class ResultSetMessages extends NLS {
     public static String controls_resultset_viewer_action_reset_all_transformers;
     public static String controls_resultset_viewer_action_reset_all_pins;
     public static String controls_resultset_viewer_action_reset_all_settings;
+    public static String controls_resultset_viewer_action_sample_data;
+    public static String controls_resultset_viewer_action_sample_data_percent;
+    public static String controls_resultset_viewer_action_sample_data_bad_percent;
     public static String controls_resultset_viewer_action_filter_clipboard;
     public static String controls_resultset_viewer_action_filter_value;
     public static String controls_resultset_viewer_action_filter_input;
@@ -292,6 +295,8 @@ public class ResultSetMessages extends NLS {
 
     public static String pref_page_data_viewer_dictionary_panel_group;
     public static String getPref_page_data_viewer_dictionary_panel_results_max_size;
+    public static String pref_page_data_viewer_dictionary_panel_cache_ttl;
+    public static String pref_page_data_viewer_dictionary_panel_cache_ttl_tip;
 
 
     public static String dialog_data_format_profiles_button_delete_profile;
@@ -325,6 +330,12 @@ public class ResultSetMessages extends NLS {
     public static String pref_page_database_resultsets_label_binary_strings_max_length;
     public static String pref_page_database_resultsets_label_auto_fetch_segment;
     public static String pref_page_database_resultsets_label_auto_fetch_segment_tip;
+    public static String pref_page_database_resultsets_label_prefetch_segment_rows;
+    public static String pref_page_database_resultsets_label_prefetch_segment_rows_tip;
+    public static String pref_page_database_resultsets_label_row_count_estimate;
+    public static String pref_page_database_resultsets_label_row_count_estimate_tip;
+    public static String pref_page_database_resultsets_label_row_count_exact_background;
+    public static String pref_page_database_resultsets_label_row_count_exact_background_tip;
     public static String pref_page_database_resultsets_label_reread_on_scrolling;
     public static String pref_page_database_resultsets_label_reread_on_scrolling_tip;
     public static String pref_page_database_resultsets_label_use_sql;
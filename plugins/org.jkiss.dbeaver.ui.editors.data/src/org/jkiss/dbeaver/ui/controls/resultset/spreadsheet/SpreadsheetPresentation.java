@@ -107,6 +107,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
     public static final String PRESENTATION_ID = "spreadsheet";
 
     private static final int MAX_INLINE_COLLECTION_ELEMENTS = 3;
+    private static final int MAX_FORMATTED_VALUES_CACHE_SIZE = 50000;
 
     private static final Log log = Log.getLog(SpreadsheetPresentation.class);
 
@@ -143,6 +144,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
     private boolean showAttrOrdering;
     private boolean supportsAttributeFilter;
     private boolean autoFetchSegments;
+    private int prefetchSegmentRows;
     private boolean showAttributeIcons;
     private boolean showAttributeDescription;
     private boolean calcColumnWidthByValue;
@@ -165,6 +167,14 @@ public class SpreadsheetPresentation extends AbstractPresentation
     private final Map<DBPDataKind, Color> dataTypesForegrounds = new IdentityHashMap<>();
     private DBDDisplayFormat gridValueFormat;
 
+    // Formatted cell values. Grid asks for cell text on each repaint and value formatting is expensive.
+    private final Map<FormattedValueKey, FormattedValue> formattedValuesCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<FormattedValueKey, FormattedValue> eldest) {
+            return size() > MAX_FORMATTED_VALUES_CACHE_SIZE;
+        }
+    };
+
     public Spreadsheet getSpreadsheet() {
         return spreadsheet;
     }
@@ -829,6 +839,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
             return;
         }
         isHighContrastTheme = UIStyles.isHighContrastTheme();
+        formattedValuesCache.clear();
 
         // Cache preferences
         DBPPreferenceStore preferenceStore = getPreferenceStore();
@@ -848,6 +859,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
                 controller.getDataContainer().isFeatureSupported(DBSDataContainer.FEATURE_DATA_FILTER) &&
                 controller.getPreferenceStore().getBoolean(ResultSetPreferences.RESULT_SET_SHOW_ATTR_FILTERS);
         autoFetchSegments = controller.getPreferenceStore().getBoolean(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT);
+        prefetchSegmentRows = controller.getPreferenceStore().getInt(ResultSetPreferences.RESULT_SET_PREFETCH_NEXT_SEGMENT_ROWS);
         calcColumnWidthByValue = getPreferenceStore().getBoolean(ResultSetPreferences.RESULT_SET_CALC_COLUMN_WIDTH_BY_VALUES);
         showCollectionsInline = preferenceStore.getBoolean(ResultSetPreferences.RESULT_SET_SHOW_COLLECTIONS_INLINE);
         showBooleanAsCheckbox = preferenceStore.getBoolean(ResultSetPreferences.RESULT_SET_SHOW_BOOLEAN_AS_CHECKBOX);
@@ -868,12 +880,14 @@ public class SpreadsheetPresentation extends AbstractPresentation
 
     @Override
     public void formatData(boolean refreshData) {
+        formattedValuesCache.clear();
         spreadsheet.refreshData(false, true, false);
     }
 
     @Override
     public void clearMetaData() {
         this.curAttribute = null;
+        this.formattedValuesCache.clear();
         if (this.columnOrder != SWT.NONE) {
             this.columnOrder = SWT.DEFAULT;
         }
@@ -2093,14 +2107,21 @@ public class SpreadsheetPresentation extends AbstractPresentation
             // Check for next segment read
             ResultSetRow row = getResultRowFromGrid(gridColumn, gridRow);
             int rowNum = row.getVisualNumber();
+            int lastRowNum = controller.getModel().getRowCount() - 1;
+            // Prefetch starts when scrolling reaches the threshold, so the next segment is ready before the end
+            boolean prefetch = prefetchSegmentRows > 0 && rowNum < lastRowNum && rowNum >= lastRowNum - prefetchSegmentRows;
             if (rowNum > 0 &&
-                rowNum == controller.getModel().getRowCount() - 1 &&
+                (rowNum == lastRowNum || prefetch) &&
                 autoFetchSegments &&
                 !controller.isRefreshInProgress() &&
                 !(controller.getContainer().getDataContainer() != null && controller.getContainer().getDataContainer().isFeatureSupported(DBSDataContainer.FEATURE_DATA_MODIFIED_ON_REFRESH)) &&
                 !(getPreferenceStore().getInt(ModelPreferences.RESULT_SET_MAX_ROWS) < getSpreadsheet().getMaxVisibleRows()) &&
                 (controller.isRecordMode() || spreadsheet.isRowVisible(rowNum))) {
-                controller.readNextSegment();
+                if (prefetch) {
+                    controller.prefetchNextSegment();
+                } else {
+                    controller.readNextSegment();
+                }
             }
         }
 
@@ -2114,7 +2135,7 @@ public class SpreadsheetPresentation extends AbstractPresentation
             Object cellValue = row == null || attr == null ? null : getCellValue(colElement, rowElement, false);
 
             info.value = cellValue;
-            info.text = formatValue(attr, row, info.value);
+            info.text = getFormattedValue(attr, row, rowElement, info.value);
 
             info.state = STATE_NONE;
             if (attr != null && cellValue != DBDVoid.INSTANCE) {
@@ -2227,6 +2248,26 @@ public class SpreadsheetPresentation extends AbstractPresentation
             }
         }
 
+        /**
+         * Returns cached formatted value. Only unchanged values of top level rows are cached.
+         * Cached text is reused while the cell holds the same value instance.
+         */
+        @Nullable
+        private Object getFormattedValue(DBDAttributeBinding attr, ResultSetRow row, IGridRow rowElement, Object value) {
+            if (attr == null || row == null || rowElement.getParent() != null ||
+                row.getState() != ResultSetRow.STATE_NORMAL || row.isChanged())
+            {
+                return formatValue(attr, row, value);
+            }
+            FormattedValueKey key = new FormattedValueKey(row, attr, getValueRenderFormat(attr, value));
+            FormattedValue formattedValue = formattedValuesCache.get(key);
+            if (formattedValue == null || formattedValue.value != value) {
+                formattedValue = new FormattedValue(value, formatValue(attr, row, value));
+                formattedValuesCache.put(key, formattedValue);
+            }
+            return formattedValue.text;
+        }
+
         @Nullable
         private Object formatValue(DBDAttributeBinding attr, ResultSetRow row, Object value) {
             if (DBUtils.isNullValue(value) && row.getState() == ResultSetRow.STATE_ADDED) {
@@ -2596,6 +2637,42 @@ public class SpreadsheetPresentation extends AbstractPresentation
         return rowElement.getParent() == null && spreadsheet.getColumnCount() > 1 && isAttributeExpandable(attr);
     }
 
+    private static class FormattedValueKey {
+        private final ResultSetRow row;
+        private final DBDAttributeBinding attr;
+        private final DBDDisplayFormat format;
+
+        FormattedValueKey(ResultSetRow row, DBDAttributeBinding attr, DBDDisplayFormat format) {
+            this.row = row;
+            this.attr = attr;
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FormattedValueKey)) {
+                return false;
+            }
+            FormattedValueKey key = (FormattedValueKey) obj;
+            return row == key.row && attr == key.attr && format == key.format;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(row) * 31 + System.identityHashCode(attr)) * 31 + Objects.hashCode(format);
+        }
+    }
+
+    private static class FormattedValue {
+        private final Object value;
+        private final Object text;
+
+        FormattedValue(Object value, Object text) {
+            this.value = value;
+            this.text = text;
+        }
+    }
+
     private class GridLabelProvider implements IGridLabelProvider {
         @Nullable
         @Override
@@ -52,6 +52,7 @@ import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPAdaptable;
 import org.jkiss.dbeaver.model.DBPMessageType;
 import org.jkiss.dbeaver.model.data.DBDContent;
+import org.jkiss.dbeaver.model.data.DBDContentPartial;
 import org.jkiss.dbeaver.model.data.DBDContentStorage;
 import org.jkiss.dbeaver.model.data.storage.StringContentStorage;
 import org.jkiss.dbeaver.model.exec.DBCException;
@@ -72,6 +73,7 @@ import org.jkiss.dbeaver.ui.editors.SubEditorSite;
 import org.jkiss.dbeaver.ui.editors.content.ContentEditorInput;
 import org.jkiss.dbeaver.ui.editors.data.internal.DataEditorsActivator;
 import org.jkiss.dbeaver.ui.editors.text.BaseTextEditor;
+import org.jkiss.dbeaver.utils.ContentUtils;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 
 import java.io.IOException;
@@ -397,21 +399,30 @@ public abstract class AbstractTextPanelEditor<EDITOR extends BaseTextEditor>
     }
 
     private void showLimitedContent(@NotNull DBDContent value, int lengthInBytes) throws DBCException, IOException {
-        DBDContentStorage contents = value.getContents(new VoidProgressMonitor());
-        byte[] displaingContentBytes = new byte[lengthInBytes];
-        try (final InputStream stream = contents.getContentStream()) {
-            displaingContentBytes = stream.readNBytes(lengthInBytes);
-            if (displaingContentBytes != null && displaingContentBytes.length > 0) {
-                final String content = new String(displaingContentBytes);
-                UIUtils.asyncExec(() -> {
-                    if (editor != null) {
-                        String msg = NLS.bind(ResultSetMessages.panel_editor_text_content_limitation_lbl, lengthInBytes / 1000);
-                        editor.setInput(new StringEditorInput("Limited Content ", content, true,
-                            StandardCharsets.UTF_8.name()));
-                        showMessageBar(msg);
-                    }
-                });
+        final String content;
+        if (value instanceof DBDContentPartial && ((DBDContentPartial) value).isPartialReadSupported()) {
+            // Read only the displayed part, the rest of the value stays in the database
+            DBDContentPartial partialValue = (DBDContentPartial) value;
+            if (ContentUtils.isTextContent(value)) {
+                content = partialValue.readChars(new VoidProgressMonitor(), 0, lengthInBytes);
+            } else {
+                content = new String(partialValue.readBytes(new VoidProgressMonitor(), 0, lengthInBytes));
             }
+        } else {
+            DBDContentStorage contents = value.getContents(new VoidProgressMonitor());
+            try (final InputStream stream = contents.getContentStream()) {
+                content = new String(stream.readNBytes(lengthInBytes));
+            }
+        }
+        if (!content.isEmpty()) {
+            UIUtils.asyncExec(() -> {
+                if (editor != null) {
+                    String msg = NLS.bind(ResultSetMessages.panel_editor_text_content_limitation_lbl, lengthInBytes / 1000);
+                    editor.setInput(new StringEditorInput("Limited Content ", content, true,
+                        StandardCharsets.UTF_8.name()));
+                    showMessageBar(msg);
+                }
+            });
         }
     }
 
@@ -44,6 +44,7 @@ public class PrefPageDataViewer extends TargetPrefPage {
 
     private List refPanelDescColumnKeywords;
     private Text maxAmountText;
+    private Text cacheTtlText;
 
     public PrefPageDataViewer() {
         setPreferenceStore(new PreferenceStoreDelegate(DBWorkbench.getPlatform().getPreferenceStore()));
@@ -53,7 +54,8 @@ public class PrefPageDataViewer extends TargetPrefPage {
     protected boolean hasDataSourceSpecificOptions(DBPDataSourceContainer container) {
         final DBPPreferenceStore store = container.getPreferenceStore();
         return store.contains(ModelPreferences.RESULT_REFERENCE_DESCRIPTION_COLUMN_PATTERNS)
-            || store.contains(ModelPreferences.DICTIONARY_MAX_ROWS);
+            || store.contains(ModelPreferences.DICTIONARY_MAX_ROWS)
+            || store.contains(ModelPreferences.DICTIONARY_CACHE_TTL);
     }
 
     @Override
@@ -128,13 +130,21 @@ public class PrefPageDataViewer extends TargetPrefPage {
                 updateApplyButton();
                 getContainer().updateButtons();
             });
+            cacheTtlText = UIUtils.createLabelText(group,
+                ResultSetMessages.pref_page_data_viewer_dictionary_panel_cache_ttl, "60");
+            cacheTtlText.setToolTipText(ResultSetMessages.pref_page_data_viewer_dictionary_panel_cache_ttl_tip);
+            cacheTtlText.addVerifyListener(UIUtils.getNumberVerifyListener(Locale.getDefault()));
+            cacheTtlText.addModifyListener((event) -> {
+                updateApplyButton();
+                getContainer().updateButtons();
+            });
         }
         return composite;
     }
 
     @Override
     public boolean isValid() {
-        return super.isValid() && !maxAmountText.getText().isEmpty();
+        return super.isValid() && !maxAmountText.getText().isEmpty() && !cacheTtlText.getText().isEmpty();
     }
 
     @Override
@@ -145,6 +155,7 @@ public class PrefPageDataViewer extends TargetPrefPage {
         }
         refPanelDescColumnKeywords.notifyListeners(SWT.Selection, new Event());
         maxAmountText.setText(store.getString(ModelPreferences.DICTIONARY_MAX_ROWS));
+        cacheTtlText.setText(store.getString(ModelPreferences.DICTIONARY_CACHE_TTL));
     }
 
     @Override
@@ -155,17 +166,20 @@ public class PrefPageDataViewer extends TargetPrefPage {
         }
         store.setValue(ModelPreferences.RESULT_REFERENCE_DESCRIPTION_COLUMN_PATTERNS, buffer.toString());
         store.setValue(ModelPreferences.DICTIONARY_MAX_ROWS, maxAmountText.getText());
+        store.setValue(ModelPreferences.DICTIONARY_CACHE_TTL, cacheTtlText.getText());
     }
 
     @Override
     protected void clearPreferences(DBPPreferenceStore store) {
         store.setToDefault(ModelPreferences.RESULT_REFERENCE_DESCRIPTION_COLUMN_PATTERNS);
         store.setToDefault(ModelPreferences.DICTIONARY_MAX_ROWS);
+        store.setToDefault(ModelPreferences.DICTIONARY_CACHE_TTL);
     }
 
     @Override
     protected void performDefaults() {
         maxAmountText.setText(getTargetPreferenceStore().getDefaultString(ModelPreferences.DICTIONARY_MAX_ROWS));
+        cacheTtlText.setText(getTargetPreferenceStore().getDefaultString(ModelPreferences.DICTIONARY_CACHE_TTL));
         refPanelDescColumnKeywords.removeAll();
         for (String pattern : DBVEntity.DEFAULT_DESCRIPTION_COLUMN_PATTERNS) {
             refPanelDescColumnKeywords.add(pattern);
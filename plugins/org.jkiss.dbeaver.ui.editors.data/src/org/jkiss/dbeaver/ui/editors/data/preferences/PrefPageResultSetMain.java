@@ -55,6 +55,9 @@ public class PrefPageResultSetMain extends TargetPrefPage
     public static final String PAGE_ID = "org.jkiss.dbeaver.preferences.main.resultset"; //$NON-NLS-1$
 
     private Button autoFetchNextSegmentCheck;
+    private Text prefetchSegmentRowsText;
+    private Button rowCountEstimateCheck;
+    private Button rowCountExactInBackgroundCheck;
     private Button rereadOnScrollingCheck;
     private Text resultSetSize;
     private Button resultSetUseSQLCheck;
@@ -92,6 +95,9 @@ public class PrefPageResultSetMain extends TargetPrefPage
         DBPPreferenceStore store = dataSourceDescriptor.getPreferenceStore();
         return
             store.contains(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT) ||
+            store.contains(ResultSetPreferences.RESULT_SET_PREFETCH_NEXT_SEGMENT_ROWS) ||
+            store.contains(ResultSetPreferences.RESULT_SET_ROW_COUNT_ESTIMATE) ||
+            store.contains(ResultSetPreferences.RESULT_SET_ROW_COUNT_EXACT_IN_BACKGROUND) ||
             store.contains(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING) ||
             store.contains(ModelPreferences.RESULT_SET_MAX_ROWS) ||
             store.contains(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL) ||
@@ -145,6 +151,11 @@ public class PrefPageResultSetMain extends TargetPrefPage
             });
 
             autoFetchNextSegmentCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_auto_fetch_segment, ResultSetMessages.pref_page_database_resultsets_label_auto_fetch_segment_tip, true, 2);
+            prefetchSegmentRowsText = UIUtils.createLabelText(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_prefetch_segment_rows, "0", SWT.BORDER);
+            prefetchSegmentRowsText.setToolTipText(ResultSetMessages.pref_page_database_resultsets_label_prefetch_segment_rows_tip);
+            prefetchSegmentRowsText.addVerifyListener(UIUtils.getIntegerVerifyListener(Locale.getDefault()));
+            rowCountEstimateCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_row_count_estimate, ResultSetMessages.pref_page_database_resultsets_label_row_count_estimate_tip, true, 2);
+            rowCountExactInBackgroundCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_row_count_exact_background, ResultSetMessages.pref_page_database_resultsets_label_row_count_exact_background_tip, true, 2);
             rereadOnScrollingCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_reread_on_scrolling, ResultSetMessages.pref_page_database_resultsets_label_reread_on_scrolling_tip, true, 2);
             resultSetUseSQLCheck = UIUtils.createCheckbox(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_use_sql, ResultSetMessages.pref_page_database_resultsets_label_use_sql_tip, false, 2);
             orderingModeCombo = UIUtils.createLabelCombo(queriesGroup, ResultSetMessages.pref_page_database_resultsets_label_order_mode, ResultSetMessages.pref_page_database_resultsets_label_order_mode_tip, SWT.DROP_DOWN | SWT.READ_ONLY);
@@ -263,6 +274,9 @@ public class PrefPageResultSetMain extends TargetPrefPage
     {
         try {
             autoFetchNextSegmentCheck.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT));
+            prefetchSegmentRowsText.setText(String.valueOf(store.getInt(ResultSetPreferences.RESULT_SET_PREFETCH_NEXT_SEGMENT_ROWS)));
+            rowCountEstimateCheck.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_ROW_COUNT_ESTIMATE));
+            rowCountExactInBackgroundCheck.setSelection(store.getBoolean(ResultSetPreferences.RESULT_SET_ROW_COUNT_EXACT_IN_BACKGROUND));
             rereadOnScrollingCheck.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING));
             useDateTimeEditor.setSelection(store.getBoolean(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR));
             int rsSegmentSize = store.getInt(ModelPreferences.RESULT_SET_MAX_ROWS);
@@ -305,6 +319,9 @@ public class PrefPageResultSetMain extends TargetPrefPage
         try {
             store.setValue(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR, useDateTimeEditor.getSelection());
             store.setValue(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT, autoFetchNextSegmentCheck.getSelection());
+            store.setValue(ResultSetPreferences.RESULT_SET_PREFETCH_NEXT_SEGMENT_ROWS, CommonUtils.toInt(prefetchSegmentRowsText.getText()));
+            store.setValue(ResultSetPreferences.RESULT_SET_ROW_COUNT_ESTIMATE, rowCountEstimateCheck.getSelection());
+            store.setValue(ResultSetPreferences.RESULT_SET_ROW_COUNT_EXACT_IN_BACKGROUND, rowCountExactInBackgroundCheck.getSelection());
             store.setValue(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING, rereadOnScrollingCheck.getSelection());
             store.setValue(ModelPreferences.RESULT_SET_MAX_ROWS, resultSetSize.getText());
             store.setValue(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL, resultSetUseSQLCheck.getSelection());
@@ -341,6 +358,9 @@ public class PrefPageResultSetMain extends TargetPrefPage
         store.setToDefault(ResultSetPreferences.RESULT_IMAGE_USE_BROWSER_BASED_RENDERER);
         store.setToDefault(ModelPreferences.RESULT_SET_USE_DATETIME_EDITOR);
         store.setToDefault(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_PREFETCH_NEXT_SEGMENT_ROWS);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_ROW_COUNT_ESTIMATE);
+        store.setToDefault(ResultSetPreferences.RESULT_SET_ROW_COUNT_EXACT_IN_BACKGROUND);
         store.setToDefault(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING);
         store.setToDefault(ModelPreferences.RESULT_SET_MAX_ROWS);
         store.setToDefault(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL);
@@ -371,6 +391,9 @@ public class PrefPageResultSetMain extends TargetPrefPage
     protected void performDefaults() {
         DBPPreferenceStore store = DBWorkbench.getPlatform().getPreferenceStore();
         autoFetchNextSegmentCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_AUTO_FETCH_NEXT_SEGMENT));
+        prefetchSegmentRowsText.setText(String.valueOf(store.getDefaultInt(ResultSetPreferences.RESULT_SET_PREFETCH_NEXT_SEGMENT_ROWS)));
+        rowCountEstimateCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_ROW_COUNT_ESTIMATE));
+        rowCountExactInBackgroundCheck.setSelection(store.getDefaultBoolean(ResultSetPreferences.RESULT_SET_ROW_COUNT_EXACT_IN_BACKGROUND));
         rereadOnScrollingCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_REREAD_ON_SCROLLING));
         resultSetSize.setText(String.valueOf(store.getDefaultInt(ModelPreferences.RESULT_SET_MAX_ROWS)));
         resultSetUseSQLCheck.setSelection(store.getDefaultBoolean(ModelPreferences.RESULT_SET_MAX_ROWS_USE_SQL));
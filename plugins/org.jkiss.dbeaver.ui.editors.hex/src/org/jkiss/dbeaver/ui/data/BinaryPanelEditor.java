@@ -16,22 +16,29 @@
  */
 package org.jkiss.dbeaver.ui.data;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jface.action.Action;
 import org.eclipse.jface.action.IContributionManager;
 import org.eclipse.swt.SWT;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.DBPEventListener;
 import org.jkiss.dbeaver.model.DBValueFormatting;
 import org.jkiss.dbeaver.model.data.DBDContent;
+import org.jkiss.dbeaver.model.data.DBDContentPartial;
 import org.jkiss.dbeaver.model.data.DBDContentStorage;
 import org.jkiss.dbeaver.model.data.storage.BytesContentStorage;
 import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBExecUtils;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceListener;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.DBRRunnableWithProgress;
 import org.jkiss.dbeaver.runtime.DBWorkbench;
 import org.jkiss.dbeaver.ui.DBeaverIcons;
 import org.jkiss.dbeaver.ui.UIIcon;
@@ -45,6 +52,8 @@ import org.jkiss.dbeaver.utils.GeneralUtils;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationTargetException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 
@@ -55,6 +64,9 @@ public class BinaryPanelEditor implements IStreamValueEditor<HexEditControl> {
 
     private static final Log log = Log.getLog(BinaryPanelEditor.class);
 
+    // Bigger values are read from the database by parts while they are viewed
+    private static final long PARTIAL_READ_MIN_LENGTH = 1024 * 1024;
+
     @Override
     public HexEditControl createControl(IValueController valueController) {
         HexEditControl hControl = new HexEditControl(valueController.getEditPlaceholder(), SWT.BORDER | SWT.READ_ONLY);
@@ -89,6 +101,9 @@ public class BinaryPanelEditor implements IStreamValueEditor<HexEditControl> {
     {
         monitor.beginTask("Prime content value", 1);
         try {
+            if (primePartialValue(control, value)) {
+                return;
+            }
             DBDContentStorage data = value.getContents(monitor);
             String charset = null;
             monitor.subTask("Read binary value");
@@ -122,6 +137,25 @@ public class BinaryPanelEditor implements IStreamValueEditor<HexEditControl> {
         }
     }
 
+    private boolean primePartialValue(@NotNull HexEditControl control, @NotNull DBDContent value) throws DBCException {
+        if (!(value instanceof DBDContentPartial) || !((DBDContentPartial) value).isPartialReadSupported() ||
+            ContentUtils.isTextContent(value))
+        {
+            return false;
+        }
+        long length = value.getContentLength();
+        if (length < PARTIAL_READ_MIN_LENGTH) {
+            return false;
+        }
+        BinaryContent.PartReader reader = new PartialValueReader((DBDContentPartial) value, value.getDataSource());
+        String charset = DBValueFormatting.getDefaultBinaryFileEncoding(value.getDataSource());
+        UIUtils.syncExec(() -> {
+            control.setContent(reader, length, charset, false);
+            control.setReadOnly(value.getDataSource().getContainer().isConnectionReadOnly());
+        });
+        return true;
+    }
+
     @Override
     public void extractEditorValue(@NotNull DBRProgressMonitor monitor, @NotNull HexEditControl control, @NotNull DBDContent value) throws DBException
     {
@@ -159,4 +193,96 @@ public class BinaryPanelEditor implements IStreamValueEditor<HexEditControl> {
 
     }
 
+    /**
+     * Reads parts of a big value from the database.
+     * Parts requested by the UI thread are read in the progress service.
+     * Other parts (e.g. requested by search) are read by a job with a real progress monitor,
+     * so the read is shown in the progress view and can be canceled.
+     */
+    private static class PartialValueReader implements BinaryContent.PartReader {
+        private final DBDContentPartial value;
+        private final DBPDataSource dataSource;
+        private volatile AbstractJob readJob;
+
+        PartialValueReader(@NotNull DBDContentPartial value, DBPDataSource dataSource) {
+            this.value = value;
+            this.dataSource = dataSource;
+        }
+
+        @NotNull
+        @Override
+        public byte[] readPart(long position, int length) throws IOException {
+            byte[][] result = new byte[1][];
+            DBRRunnableWithProgress readTask = monitor -> {
+                try {
+                    DBExecUtils.tryExecuteRecover(monitor, dataSource, param -> {
+                        try {
+                            result[0] = value.readBytes(param, position, length);
+                        } catch (DBCException e) {
+                            throw new InvocationTargetException(e);
+                        }
+                    });
+                } catch (DBException e) {
+                    throw new InvocationTargetException(e);
+                }
+            };
+            try {
+                if (UIUtils.isUIThread()) {
+                    // Parts are requested while content is shown. Do not freeze UI while part is read from the database.
+                    UIUtils.runInProgressService(readTask);
+                } else {
+                    runInJob(readTask, position);
+                }
+            } catch (InvocationTargetException e) {
+                throw new IOException("Error reading binary value part", e.getTargetException());
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException("Binary value part read canceled");
+            }
+            if (result[0] == null) {
+                throw new InterruptedIOException("Binary value part read canceled");
+            }
+            return result[0];
+        }
+
+        @Override
+        public void cancelRead() {
+            AbstractJob job = readJob;
+            if (job != null) {
+                job.cancel();
+            }
+        }
+
+        private void runInJob(@NotNull DBRRunnableWithProgress readTask, long position)
+            throws InvocationTargetException, InterruptedException
+        {
+            InvocationTargetException[] error = new InvocationTargetException[1];
+            AbstractJob job = new AbstractJob("Read binary value part at " + position) {
+                @Override
+                protected IStatus run(DBRProgressMonitor monitor) {
+                    try {
+                        readTask.run(monitor);
+                    } catch (InvocationTargetException e) {
+                        error[0] = e;
+                    } catch (InterruptedException e) {
+                        return Status.CANCEL_STATUS;
+                    }
+                    return Status.OK_STATUS;
+                }
+            };
+            readJob = job;
+            try {
+                job.schedule();
+                job.join();
+            } finally {
+                readJob = null;
+            }
+            if (error[0] != null) {
+                throw error[0];
+            }
+            if (job.isCanceled()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
 }
@@ -17,9 +17,11 @@
 package org.jkiss.dbeaver.ui.editors.binary;
 
 import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.utils.ContentUtils;
 
 import java.io.Closeable;
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -53,7 +55,85 @@ public class BinaryContent {
 
 
     /**
-     * A subset of data contained in a ByteBuffer or a File
+     * Reads parts of external data (e.g. of a database value) on demand
+     */
+    public interface PartReader {
+        /**
+         * Reads up to length bytes starting at the given position. May return fewer bytes at the data end.
+         */
+        @NotNull
+        byte[] readPart(long position, int length) throws IOException;
+
+        /**
+         * Cancels the part read in progress, if any. Called from another thread, e.g. when search is stopped.
+         * Canceled read throws {@link java.io.InterruptedIOException}.
+         */
+        default void cancelRead() {
+        }
+    }
+
+
+    /**
+     * External data read by pages. Recently used pages are cached.
+     */
+    private static final class PagedData {
+        private static final int PAGE_SIZE = 64 * 1024;
+        private static final int MAX_CACHED_PAGES = 32;
+
+        private final PartReader reader;
+        private final Map<Long, byte[]> pages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest)
+            {
+                return size() > MAX_CACHED_PAGES;
+            }
+        };
+
+        PagedData(PartReader reader)
+        {
+            this.reader = reader;
+        }
+
+        synchronized byte[] getPage(long pageIndex)
+            throws IOException
+        {
+            byte[] page = pages.get(pageIndex);
+            if (page == null) {
+                page = reader.readPart(pageIndex * PAGE_SIZE, PAGE_SIZE);
+                pages.put(pageIndex, page);
+            }
+            return page;
+        }
+
+        int get(long position)
+            throws IOException
+        {
+            byte[] page = getPage(position / PAGE_SIZE);
+            int offset = (int) (position % PAGE_SIZE);
+            return offset < page.length ? page[offset] & 0x0ff : 0;
+        }
+
+        /**
+         * Copies up to length bytes to dst. Stops at the data end.
+         */
+        void get(ByteBuffer dst, long position, int length)
+            throws IOException
+        {
+            long end = position + length;
+            while (position < end) {
+                byte[] page = getPage(position / PAGE_SIZE);
+                int offset = (int) (position % PAGE_SIZE);
+                if (offset >= page.length) break;
+                int count = (int) Math.min(page.length - offset, end - position);
+                dst.put(page, offset, count);
+                position += count;
+            }
+        }
+    }
+
+
+    /**
+     * A subset of data contained in a ByteBuffer, a File or external paged data
      */
     final static class Range implements Comparable<Range>, Cloneable {
         long position = -1L;
@@ -86,6 +166,13 @@ public class BinaryContent {
             dirty = isDirty;
         }
 
+        Range(long aPosition, long aLength, PagedData pagedData)
+        {
+            this(aPosition, aLength);
+            data = pagedData;
+            dirty = false;
+        }
+
         @Override
         public Object clone()
         {
@@ -137,6 +224,7 @@ public class BinaryContent {
     private long changesPosition = -1L;
     private TreeSet<Range> ranges = new TreeSet<>();
     private Iterator<Range> tailTree = null;
+    private PartReader partReader = null;
 
     /**
      * Create new empty content.
@@ -161,6 +249,34 @@ public class BinaryContent {
         ranges.add(new Range(0L, aFile, false));
     }
 
+    /**
+     * Create new content which reads data by parts on demand.
+     * Only viewed parts are read, so content may be much bigger than available memory.
+     *
+     * @param reader reads data parts
+     * @param length data length
+     */
+    BinaryContent(PartReader reader, long length)
+    {
+        this();
+        partReader = reader;
+        if (length < 1L)
+            return;
+
+        ranges.add(new Range(0L, length, new PagedData(reader)));
+    }
+
+
+    /**
+     * Cancels the external data part read in progress, if any
+     */
+    void cancelPartRead()
+    {
+        if (partReader != null) {
+            partReader.cancelRead();
+        }
+    }
+
 
     void actionsOn(boolean on)
     {
@@ -411,6 +527,10 @@ public class BinaryContent {
             src.getChannel().read(dst, start);
             if (limit > 0)
                 dst.limit(limit);
+        } else if (sourceRange.data instanceof PagedData) {
+            long start = sourceRange.dataOffset + overlapBytes;
+            int length = (int) Math.min(Math.min(sourceRange.length - overlapBytes, maxCopyLength), dst.remaining());
+            ((PagedData) sourceRange.data).get(dst, start, length);
         }
 
         return dst.position() - dstInitialPosition;
@@ -525,6 +645,72 @@ public class BinaryContent {
     }
 
 
+    /**
+     * Returns read-only view of the content part. In-memory part is returned without copying, part of file is read
+     * with positional reads (it is not memory mapped, mapped buffers can't be released and keep the file locked on Windows).
+     * Returns null if the part spans several ranges or content has pending changes, in this case
+     * it must be read with {@link #get(ByteBuffer, long)}.
+     * Parts may be read from several threads while content is not modified.
+     *
+     * @param position starting read point
+     * @param length   part length
+     */
+    @Nullable
+    ByteBuffer getReadOnlyPart(long position, int length)
+        throws IOException
+    {
+        Range range = getReadOnlyRange(position, length);
+        if (range == null)
+            return null;
+
+        long offset = range.dataOffset + position - range.position;
+        if (range.data instanceof RandomAccessFile) {
+            FileChannel channel = ((RandomAccessFile) range.data).getChannel();
+            ByteBuffer part = ByteBuffer.allocate(length);
+            while (part.hasRemaining()) {
+                if (channel.read(part, offset + part.position()) < 0) {
+                    throw new EOFException("Unexpected end of file at " + (offset + part.position()));
+                }
+            }
+            part.flip();
+            return part.asReadOnlyBuffer();
+        } else if (range.data instanceof ByteBuffer) {
+            ByteBuffer data = ((ByteBuffer) range.data).duplicate();
+            data.limit(data.capacity());
+            data.position((int) offset);
+            data.limit((int) offset + length);
+            return data.slice().asReadOnlyBuffer();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Checks whether the part can be read with {@link #getReadOnlyPart(long, int)}
+     *
+     * @param position starting read point
+     * @param length   part length
+     */
+    boolean hasReadOnlyPart(long position, int length)
+    {
+        return getReadOnlyRange(position, length) != null;
+    }
+
+
+    @Nullable
+    private Range getReadOnlyRange(long position, int length)
+    {
+        if (changeList != null) return null;
+
+        Range range = getRangeAt(position);
+        if (range == null || position < range.position || position + length > range.exclusiveEnd())
+            return null;
+
+        return range.data instanceof RandomAccessFile || range.data instanceof ByteBuffer ? range : null;
+    }
+
+
     /**
      * Reads the sequence of all bytes from this content into the given file
      *
@@ -616,6 +802,8 @@ public class BinaryContent {
                 RandomAccessFile randomFile = (RandomAccessFile) value;
                 randomFile.seek(position);
                 result = randomFile.read();
+            } else if (value instanceof PagedData) {
+                result = ((PagedData) value).get(range.dataOffset + position - range.position);
             }
         }
 
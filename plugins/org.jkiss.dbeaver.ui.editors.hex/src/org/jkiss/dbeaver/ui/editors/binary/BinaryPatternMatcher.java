@@ -0,0 +1,204 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jkiss.dbeaver.ui.editors.binary;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+
+/**
+ * Finds several byte patterns in a buffer in one pass.
+ * Pattern is a sequence of code units of 1 or 2 bytes (little or big endian). Each unit may have several
+ * allowed values (case variants). The main loop only checks buffer bytes in the table of pattern first bytes,
+ * patterns are verified at candidate positions.
+ * Matcher is immutable after construction, so one matcher may scan several buffers in parallel.
+ */
+class BinaryPatternMatcher {
+
+    private static final int STOP_CHECK_INTERVAL = 64 * 1024;
+
+    private static final class BytePattern {
+        private final int unitSize;
+        private final boolean bigEndian;
+        private final char[][] units;
+
+        BytePattern(int unitSize, boolean bigEndian, char[][] units)
+        {
+            this.unitSize = unitSize;
+            this.bigEndian = bigEndian;
+            this.units = units;
+        }
+
+        int byteLength()
+        {
+            return units.length * unitSize;
+        }
+
+        boolean matches(ByteBuffer buffer, int offset)
+        {
+            for (int i = 0; i < units.length; i++) {
+                int pos = offset + i * unitSize;
+                int value;
+                if (unitSize == 1) {
+                    value = buffer.get(pos) & 0xff;
+                } else if (bigEndian) {
+                    value = (buffer.get(pos) & 0xff) << 8 | buffer.get(pos + 1) & 0xff;
+                } else {
+                    value = buffer.get(pos) & 0xff | (buffer.get(pos + 1) & 0xff) << 8;
+                }
+                if (!contains(units[i], (char) value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean contains(char[] values, char value)
+        {
+            for (char c : values) {
+                if (c == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final List<BytePattern> patterns = new ArrayList<>();
+    private final boolean[] firstBytes = new boolean[256];
+    private final Map<Character, char[]> caseVariants = new HashMap<>();
+    private int maxLength;
+
+
+    /**
+     * Adds raw byte sequence
+     *
+     * @param ignoreAsciiCase match ascii letters in any case
+     */
+    void addBytes(byte[] sequence, boolean ignoreAsciiCase)
+    {
+        char[][] units = new char[sequence.length][];
+        for (int i = 0; i < sequence.length; i++) {
+            char value = (char) (sequence[i] & 0xff);
+            if (ignoreAsciiCase && (value >= 'a' && value <= 'z' || value >= 'A' && value <= 'Z')) {
+                units[i] = new char[]{value, (char) (value ^ 0x20)};
+            } else {
+                units[i] = new char[]{value};
+            }
+        }
+        addPattern(new BytePattern(1, false, units));
+    }
+
+
+    /**
+     * Adds text in UTF-16 encoding. Text is matched at both even and odd positions.
+     *
+     * @param ignoreCase match text in any case, like Unicode case insensitive regular expression
+     */
+    void addText(CharSequence text, boolean ignoreCase, boolean bigEndian)
+    {
+        char[][] units = new char[text.length()][];
+        for (int i = 0; i < text.length(); i++) {
+            char value = text.charAt(i);
+            units[i] = ignoreCase ? caseVariants.computeIfAbsent(value, BinaryPatternMatcher::makeCaseVariants) : new char[]{value};
+        }
+        addPattern(new BytePattern(2, bigEndian, units));
+    }
+
+
+    /**
+     * Length of the longest pattern. Matches starting before the end of a buffer part may go past it this far.
+     */
+    int getMaxLength()
+    {
+        return maxLength;
+    }
+
+
+    /**
+     * Finds the first (forward) or the last (backward) match which starts in [from, to) and ends within the buffer limit.
+     * If several patterns match at the same position then the pattern added first wins.
+     *
+     * @param matchLength receives the length of found match
+     * @return match position in the buffer or -1
+     */
+    int find(ByteBuffer buffer, int from, int to, boolean forward, int[] matchLength, BooleanSupplier stopCondition)
+    {
+        if (patterns.isEmpty()) {
+            return -1;
+        }
+        int limit = buffer.limit();
+        int step = forward ? 1 : -1;
+        int end = forward ? to : from - 1;
+        int checked = 0;
+        for (int i = forward ? from : to - 1; i != end; i += step) {
+            if (++checked == STOP_CHECK_INTERVAL) {
+                if (stopCondition.getAsBoolean()) {
+                    return -1;
+                }
+                checked = 0;
+            }
+            if (!firstBytes[buffer.get(i) & 0xff]) {
+                continue;
+            }
+            for (BytePattern pattern : patterns) {
+                if (i + pattern.byteLength() <= limit && pattern.matches(buffer, i)) {
+                    matchLength[0] = pattern.byteLength();
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+
+    private void addPattern(BytePattern pattern)
+    {
+        if (pattern.units.length == 0) {
+            return;
+        }
+        patterns.add(pattern);
+        maxLength = Math.max(maxLength, pattern.byteLength());
+        for (char value : pattern.units[0]) {
+            int firstByte = pattern.unitSize == 2 && pattern.bigEndian ? value >> 8 : value & 0xff;
+            firstBytes[firstByte] = true;
+        }
+    }
+
+
+    private static char[] makeCaseVariants(char value)
+    {
+        char upper = Character.toUpperCase(value);
+        char lower = Character.toLowerCase(value);
+        if (upper == value && lower == value) {
+            return new char[]{value};
+        }
+        // The same comparison as regular expression CASE_INSENSITIVE | UNICODE_CASE matching
+        StringBuilder variants = new StringBuilder().append(value);
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            if (c != value && (Character.toUpperCase((char) c) == upper || Character.toLowerCase((char) c) == lower)) {
+                variants.append((char) c);
+            }
+        }
+        return variants.toString().toCharArray();
+    }
+}
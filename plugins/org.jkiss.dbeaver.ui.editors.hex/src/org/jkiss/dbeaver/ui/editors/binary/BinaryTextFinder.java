@@ -19,9 +19,12 @@ package org.jkiss.dbeaver.ui.editors.binary;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 
 /**
@@ -30,6 +33,14 @@ import java.util.regex.Pattern;
  * The search is either binary or text based. Text based search uses standard java unicode (all of big
  * and little endian, odd and even address) plus ascii when the literal falls within ascii char limits.
  *
+ * Each search starts with a small window near the start point, so subsequent finds are fast. Then content
+ * is scanned by chunks. Each chunk is read when its scan starts, in-memory content is not copied.
+ * Chunks are scanned in parallel only if all of them are read-only parts of a single file or memory range.
+ * Other chunks (pending changes, several ranges, paged data) are read with {@link BinaryContent#get(ByteBuffer, long)},
+ * which is not thread-safe, so they are scanned sequentially.
+ * Chunk buffers overlap by the longest pattern length, so matches spanning chunk boundaries are found
+ * by the chunk where they start.
+ *
  * @author Jordi
  */
 public class BinaryTextFinder {
@@ -37,20 +48,18 @@ public class BinaryTextFinder {
 
     public static final int MAP_SIZE = 64 * 1024;
     public static final int MAX_SEQUENCE_SIZE = 2 * 1024;  // a search string of 2K should be enough
+    private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+    private static final int SCAN_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
 
-    private long bufferPosition = -1L;
-    private ByteBuffer byteBuffer = null;
-    private int currentPartFound = -1;  // relative positions
-    private boolean currentPartFoundIsUnicode = false;
+    private volatile long bufferPosition = -1L;
     private long currentPosition = 0L;  // absolute value, start of forward finds, end(exclusive) of backward finds
     private byte[] byteFindSequence = null;
     private boolean caseSensitive = true;
     private BinaryContent content = null;
     private boolean directionForward = true;
     private CharSequence literal = null;
-    private int literalByteLength = -1;
-    private Pattern pattern = null;
-    private boolean stopSearching = false;
+    private BinaryPatternMatcher matcher = null;
+    private volatile boolean stopSearching = false;
 
 
     /**
@@ -84,133 +93,145 @@ public class BinaryTextFinder {
     }
 
 
-    void findAllMatches()
-        throws IOException
+    long getContentLength()
     {
-        currentPartFound = findHexAsciiMatchInPart();
-        int currentPartFoundUnicode = findUnicodeMatchInPart();
-        currentPartFoundIsUnicode = false;
-
-        if (currentPartFoundUnicode >= 0 && (currentPartFound < 0 ||
-            directionForward && currentPartFound > currentPartFoundUnicode ||
-            !directionForward && currentPartFound < currentPartFoundUnicode)) {
-            currentPartFound = currentPartFoundUnicode;
-            currentPartFoundIsUnicode = true;
+        if (content == null) {
+            return 0L;
         }
+
+        return content.length();
     }
 
 
-    private int findHexAsciiMatchInPart()
+    /**
+     * Get the next position and length of a matching literal
+     *
+     * @return an array with 2 elements, the first one a Long (position in the file),
+     *         and the second one an Integer (byte length of the matching literal),
+     *         or null if there are no matches
+     */
+    public Number[] getNextMatch()
         throws IOException
     {
-        if (byteFindSequence == null) return -1;
-
-        int start = 0;
-        int inclusiveEnd = byteBuffer.limit() - byteFindSequence.length;
-        if (!directionForward) {
-            start = inclusiveEnd;
-            inclusiveEnd = 0;
-        }
-
-        for (int i = start;
-            directionForward && i <= inclusiveEnd || !directionForward && i >= inclusiveEnd;
-            i += directionForward ? 1 : -1)
-        {
-            boolean matchesSoFar = true;
-            for (int j = 0; j < byteFindSequence.length && matchesSoFar; ++j) {
-                byte existing = byteBuffer.get(i + j);
-                byte matcher = byteFindSequence[j];
-                if (existing != matcher) {
-                    if (caseSensitive || existing < 'A' || existing > 'z' || matcher < 'A' ||
-                        matcher > 'z' || existing - matcher != 32 && matcher - existing != 32)
-                        matchesSoFar = false;
-                }
+        stopSearching = false;
+        if (content == null) return null;
+
+        int[] matchLength = new int[1];
+        long resultPosition = -1L;
+        long windowSize = MAP_SIZE;
+        if (directionForward) {
+            long contentLength = getContentLength();
+            for (long start = currentPosition; start < contentLength && !stopSearching; ) {
+                bufferPosition = start;
+                long end = Math.min(contentLength, start + windowSize);
+                resultPosition = findInRange(start, end, contentLength, matchLength);
+                if (resultPosition >= 0L) break;
+                start = end;
+                windowSize = (long) CHUNK_SIZE * SCAN_THREADS;
             }
-            if (matchesSoFar) {
-                return i;
+        } else {
+            // Backward matches must end before the current position
+            for (long end = currentPosition; end > 0L && !stopSearching; ) {
+                long start = Math.max(0L, end - windowSize);
+                bufferPosition = start;
+                resultPosition = findInRange(start, end, currentPosition, matchLength);
+                if (resultPosition >= 0L) break;
+                end = start;
+                windowSize = (long) CHUNK_SIZE * SCAN_THREADS;
             }
         }
+        if (resultPosition < 0L || stopSearching) {
+            stopSearching = false;
+            return null;  // end of file
+        }
+
+        int length = matchLength[0];
+        setNewStart(resultPosition + (directionForward ? 1 : length - 1));
 
-        return -1;
+        return new Number[]{resultPosition, length};
     }
 
 
-    private int findUnicodeMatchInPart()
+    /**
+     * Finds a match starting in [start, end) and ending before limit
+     */
+    private long findInRange(long start, long end, long limit, int[] matchLength)
         throws IOException
     {
-        if (pattern == null) return -1;
+        int overlap = matcher.getMaxLength() - 1;
+        List<ChunkScan> chunks = new ArrayList<>();
+        for (long chunkStart = start; chunkStart < end; chunkStart += CHUNK_SIZE) {
+            int scanLength = (int) Math.min(CHUNK_SIZE, end - chunkStart);
+            int bufferLength = (int) Math.min(scanLength + overlap, limit - chunkStart);
+            if (bufferLength <= 0) break;
+            chunks.add(new ChunkScan(chunkStart, bufferLength, scanLength));
+        }
+        if (chunks.isEmpty()) return -1L;
 
-        int result = Integer.MAX_VALUE;
-        if (!directionForward) {
-            result = -1;
+        if (chunks.size() == 1 || !hasReadOnlyParts(chunks)) {
+            return scanSequentially(chunks, matchLength);
         }
-        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-        Matcher matcher = pattern.matcher(byteBuffer.asCharBuffer());
-
-        for (int encoding = 0; encoding < 4; ++encoding) {
-            while (matcher.find()) {
-                int index = matcher.start() * 2 + (encoding >= 2 ? 1 : 0);
-                if (directionForward && result > index || !directionForward && result < index) {
-                    result = index;
-                }
-                if (directionForward) {
-                    break;
-                }
-            }
-            if (encoding == 0) {
-                byteBuffer.order(ByteOrder.BIG_ENDIAN);
-            } else if (encoding == 1 && byteBuffer.limit() > 0) {
-                byteBuffer.position(1);
-            } else if (encoding == 2) {
-                byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        List<Future<Integer>> results = ForkJoinPool.commonPool().invokeAll(chunks);
+        long resultPosition = -1L;
+        try {
+            for (int i = 0; i < chunks.size(); i++) {
+                int found = results.get(i).get();
+                if (found < 0) continue;
+                resultPosition = chunks.get(i).position + found;
+                matchLength[0] = chunks.get(i).matchLength[0];
+                if (directionForward) break;  // the first chunk wins, otherwise the last one
             }
-            matcher.reset(byteBuffer.asCharBuffer());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stopSearching = true;
+            return -1L;
+        } catch (ExecutionException e) {
+            throw new IOException("Error searching in content", e.getCause());
         }
-        if (result == Integer.MAX_VALUE) {
-            result = -1;
+
+        return resultPosition;
+    }
+
+
+    private long scanSequentially(List<ChunkScan> chunks, int[] matchLength)
+        throws IOException
+    {
+        for (int i = 0; i < chunks.size() && !stopSearching; i++) {
+            // Forward search wins with the first chunk, backward one with the last one
+            ChunkScan chunk = chunks.get(directionForward ? i : chunks.size() - 1 - i);
+            int found = chunk.call();
+            if (found >= 0) {
+                matchLength[0] = chunk.matchLength[0];
+                return chunk.position + found;
+            }
         }
 
-        return result;
+        return -1L;
     }
 
 
-    long getContentLength()
+    private boolean hasReadOnlyParts(List<ChunkScan> chunks)
     {
-        if (content == null) {
-            return 0L;
+        for (ChunkScan chunk : chunks) {
+            if (!content.hasReadOnlyPart(chunk.position, chunk.bufferLength)) return false;
         }
 
-        return content.length();
+        return true;
     }
 
 
-    /**
-     * Get the next position and length of a matching literal
-     *
-     * @return an array with 2 elements, the first one a Long (position in the file),
-     *         and the second one an Integer (byte length of the matching literal),
-     *         or null if there are no matches
-     */
-    public Number[] getNextMatch()
+    private ByteBuffer readPart(long position, int length)
         throws IOException
     {
-        stopSearching = false;
-        populatePart();
-        findAllMatches();
-
-        while (currentPartFound < 0) { // end of part
-            if (nextPart() == null || stopSearching) {
-                stopSearching = false;
-                return null;  // end of file
-            }
-            findAllMatches();
+        ByteBuffer part = content.getReadOnlyPart(position, length);
+        if (part == null) {
+            part = ByteBuffer.allocate(length);
+            content.get(part, position);
+            part.flip();
         }
 
-        long resultPosition = bufferPosition + currentPartFound;
-        int length = currentPartFoundIsUnicode ? literalByteLength : byteFindSequence.length;
-        setNewStart(resultPosition + (directionForward ? 1 : length - 1));
-
-        return new Number[]{resultPosition, length};
+        return part;
     }
 
 
@@ -223,7 +244,8 @@ public class BinaryTextFinder {
             System.arraycopy(sequence, 0, byteFindSequence, 0, MAX_SEQUENCE_SIZE);
         }
 
-        literalByteLength = byteFindSequence.length;
+        matcher = new BinaryPatternMatcher();
+        matcher.addBytes(byteFindSequence, !caseSensitive);
     }
 
 
@@ -240,93 +262,25 @@ public class BinaryTextFinder {
 
     void initSearchUnicodeAscii()
     {
-        StringBuilder regex = new StringBuilder("\\Q");  // everything-quoted regular expression
-
         if (literal.length() * 2 > MAX_SEQUENCE_SIZE)  // 16 bit Unicode chars
             literal = literal.subSequence(0, MAX_SEQUENCE_SIZE / 2);
-        literalByteLength = literal.length() * 2;
 
         boolean isAsciiCompatible = true;
         byte[] tmpBytes = new byte[literal.length()];
-        char previous = '\0';
         for (int i = 0; i < literal.length(); ++i) {
             char aChar = literal.charAt(i);
-            regex.append(aChar);
-
-            if (previous == '\\' && aChar == 'E')
-                regex.append("\\\\E\\Q");
-
-            previous = aChar;
-
             tmpBytes[i] = (byte) aChar;
             if (aChar > 255) isAsciiCompatible = false;
         }
-        regex.append("\\E");
 
-        int ignoreCaseFlags = 0;
-        if (!caseSensitive) ignoreCaseFlags = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
-        pattern = Pattern.compile(regex.toString(), ignoreCaseFlags);
-
-        if (isAsciiCompatible)
+        // Ascii is added first, so it wins over unicode match at the same position
+        matcher = new BinaryPatternMatcher();
+        if (isAsciiCompatible) {
             byteFindSequence = tmpBytes;
-    }
-
-
-    ByteBuffer nextPart()
-        throws IOException
-    {
-        long newPos = bufferPosition + byteBuffer.limit() - literalByteLength + 1L;
-        if (!directionForward)
-            newPos = bufferPosition - MAP_SIZE + literalByteLength - 1L;
-        if (newPos < 0L)
-            newPos = 0L;
-
-        int size = (int) Math.min(MAP_SIZE, getContentLength() - newPos);
-        if (!directionForward)
-            size = (int) (bufferPosition + literalByteLength - 1L - newPos);
-
-        if (size < literalByteLength)
-            return null;
-        bufferPosition = newPos;
-        populatePart(size);
-
-        return byteBuffer;
-    }
-
-
-    void populatePart()
-        throws IOException
-    {
-        int size = MAP_SIZE;
-        if (!directionForward) {
-            size = (int) Math.min(MAP_SIZE, currentPosition);
+            matcher.addBytes(byteFindSequence, !caseSensitive);
         }
-        populatePart(size);
-    }
-
-
-    void populatePart(int size)
-        throws IOException
-    {
-        if (content == null) return;
-
-        byteBuffer = null;  // multiple FileChannel.read(byteBuffer) leak memory, so don't reuse buffer
-        byteBuffer = ByteBuffer.allocate(MAP_SIZE);
-//	if (byteBuffer == null)
-//		byteBuffer = ByteBuffer.allocate(MAP_SIZE);
-        byteBuffer.limit(size);
-        byteBuffer.position(0);
-//	try {
-        content.get(byteBuffer, bufferPosition);
-//	} catch (OutOfMemoryError e) {
-//		byteBuffer = null;
-//		byteBuffer = ByteBuffer.allocate(MAP_SIZE);
-        //	byteBuffer.limit(size);
-        //byteBuffer.position(0);
-        //content.get(byteBuffer, myCurrentPosition);
-        //}
-        byteBuffer.limit(byteBuffer.position());
-        byteBuffer.position(0);
+        matcher.addText(literal, !caseSensitive, false);
+        matcher.addText(literal, !caseSensitive, true);
     }
 
 
@@ -342,6 +296,8 @@ public class BinaryTextFinder {
         caseSensitive = beSensitive;
         if (literal != null)
             initSearchUnicodeAscii();
+        else
+            initSearchHex(byteFindSequence);
     }
 
 
@@ -368,11 +324,6 @@ public class BinaryTextFinder {
 
         currentPosition = startPoint;
         bufferPosition = startPoint;
-        if (!directionForward) {
-            bufferPosition = startPoint - MAP_SIZE;
-        }
-        if (bufferPosition < 0L)
-            bufferPosition = 0L;
     }
 
 
@@ -383,4 +334,33 @@ public class BinaryTextFinder {
     {
         stopSearching = true;
     }
+
+
+    /**
+     * Scan of one content chunk. Buffer includes the chunk and the overlap with the next one.
+     * Buffer is read by the scan itself, so only chunks being scanned are kept in memory.
+     */
+    private class ChunkScan implements Callable<Integer> {
+        private final long position;
+        private final int bufferLength;
+        private final int scanLength;
+        private final int[] matchLength = new int[1];
+
+        ChunkScan(long position, int bufferLength, int scanLength)
+        {
+            this.position = position;
+            this.bufferLength = bufferLength;
+            this.scanLength = scanLength;
+        }
+
+        @Override
+        public Integer call()
+            throws IOException
+        {
+            if (stopSearching) return -1;
+
+            ByteBuffer buffer = readPart(position, bufferLength);
+            return matcher.find(buffer, 0, Math.min(scanLength, buffer.limit()), directionForward, matchLength, () -> stopSearching);
+        }
+    }
 }
@@ -35,6 +35,7 @@ import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
@@ -1144,6 +1145,10 @@ public class HexEditControl extends Composite {
                 result[1] = e;
             }
         });
+        if (result[1] instanceof InterruptedIOException) {
+            // Part read was canceled by stopSearching()
+            return false;
+        }
         if (result[1] != null) {
             throw (IOException) result[1];
         }
@@ -1840,6 +1845,20 @@ public class HexEditControl extends Composite {
         setContentProvider(binaryContent, notify);
     }
 
+    /**
+     * Sets content which is read by parts when it is shown or searched.
+     *
+     * @param reader reads content parts
+     * @param length content length
+     */
+    public void setContent(BinaryContent.PartReader reader, long length, String charset, boolean notify)
+    {
+        if (charset != null) {
+            setCharset(charset);
+        }
+        setContentProvider(new BinaryContent(reader, length), notify);
+    }
+
 
     /**
      * Causes the receiver to have the keyboard focus. Within Eclipse, never call setFocus() before
@@ -1959,6 +1978,10 @@ public class HexEditControl extends Composite {
         if (finder != null) {
             finder.stopSearching();
         }
+        if (content != null) {
+            // Do not wait until the page being read from the database is fetched
+            content.cancelPartRead();
+        }
     }
 
 
@@ -4137,6 +4137,10 @@ public class SQLEditor extends SQLEditorBase implements
         public long countData(@NotNull DBCExecutionSource source, @NotNull DBCSession session, @Nullable DBDDataFilter dataFilter, long flags)
             throws DBCException
         {
+            if ((flags & DBSDataContainer.FLAG_ESTIMATE_COUNT) != 0) {
+                // Query results can't be estimated
+                return -1;
+            }
             if (dataContainer != null) {
                 return dataContainer.countData(source, session, dataFilter, DBSDataContainer.FLAG_NONE);
             }
@@ -68,6 +68,10 @@ public class SQLPreferenceConstants {
     public static final String READ_METADATA_FOR_SEMANTIC_ANALYSIS     = SQLModelPreferences.READ_METADATA_FOR_SEMANTIC_ANALYSIS;
     public static final String ENABLE_KEYSTROKE_ACTIVATION             = "SQLEditor.ContentAssistant.auto.keystrokes.activation";
     public static final String AUTO_ACTIVATION_DELAY                   = "SQLEditor.ContentAssistant.auto.activation.delay";
+    // Time to wait for proposals before showing those found so far (ms). Search continues in background.
+    public static final String PROPOSALS_WAIT_TIMEOUT                  = "SQLEditor.ContentAssistant.proposals.wait.timeout";
+    // Max time of background proposals search (ms). 0 means no limit.
+    public static final String PROPOSALS_SEARCH_TIMEOUT                = "SQLEditor.ContentAssistant.proposals.search.timeout";
     public static final String PROPOSAL_INSERT_CASE                    = "SQLEditor.ContentAssistant.insert.case";
     public static final String TAB_AUTOCOMPLETION                      = "SQLEditor.ContentAssistant.autocompletion.tab";
     public static final String PROPOSAL_REPLACE_WORD                   = "SQLEditor.ContentAssistant.replace.word";
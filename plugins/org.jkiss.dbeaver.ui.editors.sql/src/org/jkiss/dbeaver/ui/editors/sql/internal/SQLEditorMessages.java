@@ -213,6 +213,10 @@ public class SQLEditorMessages extends NLS {
     public static String pref_page_sql_completion_label_enable_experimental_features_tip;
     public static String pref_page_sql_completion_label_auto_activation_delay;
     public static String pref_page_sql_completion_label_set_auto_activation_delay_tip;
+    public static String pref_page_sql_completion_label_proposals_wait_timeout;
+    public static String pref_page_sql_completion_label_proposals_wait_timeout_tip;
+    public static String pref_page_sql_completion_label_proposals_search_timeout;
+    public static String pref_page_sql_completion_label_proposals_search_timeout_tip;
     public static String pref_page_sql_completion_label_activate_on_typing;
     public static String pref_page_sql_completion_label_activate_on_typing_tip;
     public static String pref_page_sql_completion_label_auto_insert_proposal;
@@ -47,6 +47,8 @@ public class PrefPageSQLCompletion extends TargetPrefPage
 
     private Button csAutoActivationCheck;
     private Spinner csAutoActivationDelaySpinner;
+    private Spinner csProposalsWaitTimeoutSpinner;
+    private Spinner csProposalsSearchTimeoutSpinner;
     private Button csAutoActivateOnKeystroke;
     private Button csAutoInsertCheck;
     private Button csTabChoice;
@@ -80,6 +82,8 @@ public class PrefPageSQLCompletion extends TargetPrefPage
             store.contains(SQLPreferenceConstants.ENABLE_AUTO_ACTIVATION) ||
             store.contains(SQLPreferenceConstants.ENABLE_EXPERIMENTAL_FEATURES) ||
             store.contains(SQLPreferenceConstants.AUTO_ACTIVATION_DELAY) ||
+            store.contains(SQLPreferenceConstants.PROPOSALS_WAIT_TIMEOUT) ||
+            store.contains(SQLPreferenceConstants.PROPOSALS_SEARCH_TIMEOUT) ||
             store.contains(SQLPreferenceConstants.ENABLE_KEYSTROKE_ACTIVATION) ||
             store.contains(SQLPreferenceConstants.INSERT_SINGLE_PROPOSALS_AUTO) ||
             store.contains(SQLPreferenceConstants.TAB_AUTOCOMPLETION) ||
@@ -146,6 +150,22 @@ public class PrefPageSQLCompletion extends TargetPrefPage
             csAutoActivationDelaySpinner.setMaximum(1000000);
             csAutoActivationDelaySpinner.setToolTipText(SQLEditorMessages.pref_page_sql_completion_label_set_auto_activation_delay_tip);
 
+            UIUtils.createControlLabel(assistGroup, SQLEditorMessages.pref_page_sql_completion_label_proposals_wait_timeout + UIMessages.label_ms);
+            csProposalsWaitTimeoutSpinner = new Spinner(assistGroup, SWT.BORDER);
+            csProposalsWaitTimeoutSpinner.setDigits(0);
+            csProposalsWaitTimeoutSpinner.setIncrement(100);
+            csProposalsWaitTimeoutSpinner.setMinimum(0);
+            csProposalsWaitTimeoutSpinner.setMaximum(1000000);
+            csProposalsWaitTimeoutSpinner.setToolTipText(SQLEditorMessages.pref_page_sql_completion_label_proposals_wait_timeout_tip);
+
+            UIUtils.createControlLabel(assistGroup, SQLEditorMessages.pref_page_sql_completion_label_proposals_search_timeout + UIMessages.label_ms);
+            csProposalsSearchTimeoutSpinner = new Spinner(assistGroup, SWT.BORDER);
+            csProposalsSearchTimeoutSpinner.setDigits(0);
+            csProposalsSearchTimeoutSpinner.setIncrement(1000);
+            csProposalsSearchTimeoutSpinner.setMinimum(0);
+            csProposalsSearchTimeoutSpinner.setMaximum(1000000);
+            csProposalsSearchTimeoutSpinner.setToolTipText(SQLEditorMessages.pref_page_sql_completion_label_proposals_search_timeout_tip);
+
             csAutoActivateOnKeystroke = UIUtils.createCheckbox(
                 assistGroup,
                 SQLEditorMessages.pref_page_sql_completion_label_activate_on_typing,
@@ -211,6 +231,8 @@ public class PrefPageSQLCompletion extends TargetPrefPage
             csEnableExperimentalFeatures.setSelection(store.getBoolean(SQLPreferenceConstants.ENABLE_EXPERIMENTAL_FEATURES));
             csHippieActivation.setSelection(store.getBoolean(SQLPreferenceConstants.ENABLE_HIPPIE));
             csAutoActivationDelaySpinner.setSelection(store.getInt(SQLPreferenceConstants.AUTO_ACTIVATION_DELAY));
+            csProposalsWaitTimeoutSpinner.setSelection(store.getInt(SQLPreferenceConstants.PROPOSALS_WAIT_TIMEOUT));
+            csProposalsSearchTimeoutSpinner.setSelection(store.getInt(SQLPreferenceConstants.PROPOSALS_SEARCH_TIMEOUT));
             csAutoActivateOnKeystroke.setSelection(store.getBoolean(SQLPreferenceConstants.ENABLE_KEYSTROKE_ACTIVATION));
             csAutoInsertCheck.setSelection(store.getBoolean(SQLPreferenceConstants.INSERT_SINGLE_PROPOSALS_AUTO));
             csTabChoice.setSelection(store.getBoolean(SQLPreferenceConstants.TAB_AUTOCOMPLETION));
@@ -243,6 +265,8 @@ public class PrefPageSQLCompletion extends TargetPrefPage
             store.setValue(SQLPreferenceConstants.ENABLE_EXPERIMENTAL_FEATURES, csEnableExperimentalFeatures.getSelection());
             store.setValue(SQLPreferenceConstants.ENABLE_HIPPIE, csHippieActivation.getSelection());
             store.setValue(SQLPreferenceConstants.AUTO_ACTIVATION_DELAY, csAutoActivationDelaySpinner.getSelection());
+            store.setValue(SQLPreferenceConstants.PROPOSALS_WAIT_TIMEOUT, csProposalsWaitTimeoutSpinner.getSelection());
+            store.setValue(SQLPreferenceConstants.PROPOSALS_SEARCH_TIMEOUT, csProposalsSearchTimeoutSpinner.getSelection());
             store.setValue(SQLPreferenceConstants.ENABLE_KEYSTROKE_ACTIVATION, csAutoActivateOnKeystroke.getSelection());
             store.setValue(SQLPreferenceConstants.INSERT_SINGLE_PROPOSALS_AUTO, csAutoInsertCheck.getSelection());
             store.setValue(SQLPreferenceConstants.TAB_AUTOCOMPLETION, csTabChoice.getSelection());
@@ -271,6 +295,8 @@ public class PrefPageSQLCompletion extends TargetPrefPage
     {
         store.setToDefault(SQLPreferenceConstants.ENABLE_AUTO_ACTIVATION);
         store.setToDefault(SQLPreferenceConstants.AUTO_ACTIVATION_DELAY);
+        store.setToDefault(SQLPreferenceConstants.PROPOSALS_WAIT_TIMEOUT);
+        store.setToDefault(SQLPreferenceConstants.PROPOSALS_SEARCH_TIMEOUT);
         store.setToDefault(SQLPreferenceConstants.ENABLE_KEYSTROKE_ACTIVATION);
         store.setToDefault(SQLPreferenceConstants.INSERT_SINGLE_PROPOSALS_AUTO);
         store.setToDefault(SQLPreferenceConstants.TAB_AUTOCOMPLETION);
@@ -297,6 +323,8 @@ public class PrefPageSQLCompletion extends TargetPrefPage
         DBPPreferenceStore store = DBWorkbench.getPlatform().getPreferenceStore();
         csAutoActivationCheck.setSelection(store.getDefaultBoolean(SQLPreferenceConstants.ENABLE_AUTO_ACTIVATION));
         csAutoActivationDelaySpinner.setSelection(store.getDefaultInt(SQLPreferenceConstants.AUTO_ACTIVATION_DELAY));
+        csProposalsWaitTimeoutSpinner.setSelection(store.getDefaultInt(SQLPreferenceConstants.PROPOSALS_WAIT_TIMEOUT));
+        csProposalsSearchTimeoutSpinner.setSelection(store.getDefaultInt(SQLPreferenceConstants.PROPOSALS_SEARCH_TIMEOUT));
         csAutoActivateOnKeystroke.setSelection(store.getDefaultBoolean(SQLPreferenceConstants.ENABLE_KEYSTROKE_ACTIVATION));
         csAutoInsertCheck.setSelection(store.getDefaultBoolean(SQLPreferenceConstants.INSERT_SINGLE_PROPOSALS_AUTO));
         csTabChoice.setSelection(store.getDefaultBoolean(SQLPreferenceConstants.TAB_AUTOCOMPLETION));
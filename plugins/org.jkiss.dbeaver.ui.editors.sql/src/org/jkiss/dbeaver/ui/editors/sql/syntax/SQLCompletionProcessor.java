@@ -18,6 +18,8 @@ package org.jkiss.dbeaver.ui.editors.sql.syntax;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.jface.text.*;
 import org.eclipse.jface.text.contentassist.*;
 import org.eclipse.jface.text.templates.GlobalTemplateVariables;
@@ -29,6 +31,7 @@ import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.exec.DBExecUtils;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.sql.SQLScriptElement;
@@ -79,6 +82,23 @@ public class SQLCompletionProcessor implements IContentAssistProcessor
     }
 
     private final SQLEditorBase editor;
+    private SQLContentAssistant contentAssistant;
+    // Search which didn't finish in time and continues in background
+    private ProposalSearchJob activeSearchJob;
+    // Document of the active search. Any document change cancels the search.
+    private IDocument activeSearchDocument;
+    private final IDocumentListener activeSearchCanceler = new IDocumentListener() {
+        @Override
+        public void documentAboutToBeChanged(DocumentEvent event) {
+        }
+
+        @Override
+        public void documentChanged(DocumentEvent event) {
+            cancelActiveSearch();
+        }
+    };
+    // Finished background search. Its proposals are returned by the next request at the same position.
+    private ProposalSearchJob completedSearchJob;
 
     public SQLCompletionProcessor(SQLEditorBase editor)
     {
@@ -86,6 +106,7 @@ public class SQLCompletionProcessor implements IContentAssistProcessor
     }
 
     public void initAssistant(SQLContentAssistant contentAssistant) {
+        this.contentAssistant = contentAssistant;
         contentAssistant.addCompletionListener(new CompletionListener());
     }
 
@@ -155,18 +176,12 @@ public class SQLCompletionProcessor implements IContentAssistProcessor
                 log.debug(e);
             }
 
-            SQLCompletionAnalyzer analyzer = new SQLCompletionAnalyzer(request);
             DBPDataSource dataSource = editor.getDataSource();
-            if (request.getWordPart() != null) {
-                if (dataSource != null) {
-                    ProposalSearchJob searchJob = new ProposalSearchJob(analyzer);
-                    searchJob.schedule();
-                    // Wait until job finished
-                    UIUtils.waitJobCompletion(searchJob);
-                }
+            if (request.getWordPart() != null && dataSource != null) {
+                proposals = searchProposals(request);
+            } else {
+                proposals = Collections.emptyList();
             }
-
-            proposals = analyzer.getProposals();
             break;
         default:
             proposals = Collections.emptyList();
@@ -181,6 +196,109 @@ public class SQLCompletionProcessor implements IContentAssistProcessor
         return ArrayUtils.toArray(ICompletionProposal.class, result);
     }
 
+    /**
+     * Runs proposals search and waits for it not longer than {@link SQLPreferenceConstants#PROPOSALS_WAIT_TIMEOUT}.
+     * If search is not finished in time then proposals found so far are returned and the search continues in background.
+     * When it finishes the proposals popup is refreshed. The next completion request cancels the background search.
+     */
+    @NotNull
+    private List<SQLCompletionProposalBase> searchProposals(@NotNull SQLCompletionRequest request) {
+        ProposalSearchJob completedJob = completedSearchJob;
+        completedSearchJob = null;
+        if (completedJob != null && completedJob.isSameRequest(request.getDocument(), request.getDocumentOffset())) {
+            return completedJob.analyzer.getProposals();
+        }
+        // Document or position has changed, previous search is useless
+        cancelActiveSearch();
+
+        SQLCompletionAnalyzer analyzer = new SQLCompletionAnalyzer(request);
+        ProposalSearchJob searchJob = new ProposalSearchJob(analyzer, request);
+        searchJob.schedule();
+
+        DBPPreferenceStore store = editor.getActivePreferenceStore();
+        int waitTimeout = store.getInt(SQLPreferenceConstants.PROPOSALS_WAIT_TIMEOUT);
+        if (waitTimeout <= 0) {
+            // Wait until job finished
+            UIUtils.waitJobCompletion(searchJob);
+            return analyzer.getProposals();
+        }
+        if (UIUtils.waitJobCompletion(searchJob, waitTimeout)) {
+            return analyzer.getProposals();
+        }
+
+        List<SQLCompletionProposalBase> availableProposals = analyzer.getAvailableProposals();
+        searchJob.partialProposalsShown = !availableProposals.isEmpty();
+        setActiveSearch(searchJob, request.getDocument());
+        searchJob.addJobChangeListener(new JobChangeAdapter() {
+            @Override
+            public void done(IJobChangeEvent event) {
+                UIUtils.asyncExec(() -> showCompletedSearch(searchJob));
+            }
+        });
+        if (searchJob.isFinished()) {
+            // Finished before listener was added
+            UIUtils.asyncExec(() -> showCompletedSearch(searchJob));
+        }
+        int searchTimeout = store.getInt(SQLPreferenceConstants.PROPOSALS_SEARCH_TIMEOUT);
+        if (searchTimeout > 0) {
+            UIUtils.timerExec(Math.max(searchTimeout - waitTimeout, 1), () -> {
+                if (!searchJob.isFinished()) {
+                    log.debug("SQL completion proposals search canceled by timeout");
+                    searchJob.cancel();
+                }
+            });
+        }
+        return availableProposals;
+    }
+
+    private void showCompletedSearch(@NotNull ProposalSearchJob searchJob) {
+        if (activeSearchJob != searchJob) {
+            // Search was canceled or already processed
+            return;
+        }
+        setActiveSearch(null, null);
+        TextViewer textViewer = editor.getTextViewer();
+        if (searchJob.isCanceled() || contentAssistant == null || textViewer == null || textViewer.getTextWidget() == null ||
+            textViewer.getTextWidget().isDisposed())
+        {
+            return;
+        }
+        if (!searchJob.isSameRequest(editor.getDocument(), textViewer.getSelectedRange().x)) {
+            return;
+        }
+        if (searchJob.partialProposalsShown && !contentAssistant.isProposalsPopupOpened()) {
+            // Popup was closed by user
+            return;
+        }
+        completedSearchJob = searchJob;
+        contentAssistant.showPossibleCompletions();
+    }
+
+    private void setActiveSearch(@Nullable ProposalSearchJob searchJob, @Nullable IDocument document) {
+        if (activeSearchDocument != null) {
+            activeSearchDocument.removeDocumentListener(activeSearchCanceler);
+        }
+        activeSearchJob = searchJob;
+        activeSearchDocument = document;
+        if (document != null) {
+            document.addDocumentListener(activeSearchCanceler);
+        }
+    }
+
+    private void cancelActiveSearch() {
+        ProposalSearchJob searchJob = activeSearchJob;
+        if (searchJob != null) {
+            setActiveSearch(null, null);
+            searchJob.cancel();
+        }
+    }
+
+    private static long getModificationStamp(@Nullable IDocument document) {
+        return document instanceof IDocumentExtension4 ?
+            ((IDocumentExtension4) document).getModificationStamp() :
+            IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+    }
+
     private ICompletionProposal[] makeCommandProposals(SQLCompletionRequest request, String prefix) {
         final String controlCommandPrefix = editor.getSyntaxManager().getControlCommandPrefix();
         if (prefix.startsWith(controlCommandPrefix)) {
@@ -331,14 +449,27 @@ public class SQLCompletionProcessor implements IContentAssistProcessor
 
     private class ProposalSearchJob extends AbstractJob {
         private final SQLCompletionAnalyzer analyzer;
+        private final IDocument document;
+        private final int documentOffset;
+        private final long modificationStamp;
+        private boolean partialProposalsShown;
 
-        ProposalSearchJob(SQLCompletionAnalyzer analyzer) {
+        ProposalSearchJob(SQLCompletionAnalyzer analyzer, SQLCompletionRequest request) {
             super("Search proposals...");
             this.analyzer = analyzer;
+            this.document = request.getDocument();
+            this.documentOffset = request.getDocumentOffset();
+            this.modificationStamp = getModificationStamp(document);
             setSystem(true);
             setUser(false);
         }
 
+        boolean isSameRequest(@Nullable IDocument document, int documentOffset) {
+            return document == this.document && documentOffset == this.documentOffset &&
+                modificationStamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP &&
+                getModificationStamp(document) == modificationStamp;
+        }
+
         @Override
         protected IStatus run(DBRProgressMonitor monitor) {
             try {
@@ -351,7 +482,11 @@ public class SQLCompletionProcessor implements IContentAssistProcessor
                 }
                 return Status.OK_STATUS;
             } catch (Throwable e) {
-                log.error(e);
+                if (monitor.isCanceled()) {
+                    log.debug("SQL completion proposals search canceled");
+                } else {
+                    log.error(e);
+                }
                 return Status.CANCEL_STATUS;
             }
         }
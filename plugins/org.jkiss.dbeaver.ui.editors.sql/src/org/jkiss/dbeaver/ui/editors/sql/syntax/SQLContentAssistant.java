@@ -55,6 +55,10 @@ public class SQLContentAssistant extends ContentAssistant {
         }
     }
 
+    boolean isProposalsPopupOpened() {
+        return isProposalPopupActive();
+    }
+
     @Override
     public String showContextInformation() {
         SQLCompletionProcessor.setLookupTemplates(true);
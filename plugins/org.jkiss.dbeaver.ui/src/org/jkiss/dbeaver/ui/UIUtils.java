@@ -2117,6 +2117,25 @@ public class UIUtils {
         display.update();
     }
 
+    /**
+     * Waits for job completion not longer than the specified timeout.
+     * Returns true if job has finished.
+     */
+    public static boolean waitJobCompletion(@NotNull AbstractJob job, long timeout) {
+        long endTime = System.currentTimeMillis() + timeout;
+        Display display = Display.getCurrent();
+        while (!job.isFinished()) {
+            if (System.currentTimeMillis() >= endTime) {
+                return false;
+            }
+            if (!display.readAndDispatch()) {
+                RuntimeUtils.pause(10);
+            }
+        }
+        display.update();
+        return true;
+    }
+
     public static void waitInUI(DBRCondition condition, long waitTime) {
         syncExec(() -> {
             long startTime = System.currentTimeMillis();
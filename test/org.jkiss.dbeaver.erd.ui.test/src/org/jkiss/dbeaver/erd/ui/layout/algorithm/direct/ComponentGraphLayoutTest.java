@@ -0,0 +1,115 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.erd.ui.layout.algorithm.direct;
+
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.draw2d.graph.Edge;
+import org.eclipse.draw2d.graph.EdgeList;
+import org.eclipse.draw2d.graph.Node;
+import org.eclipse.draw2d.graph.NodeList;
+import org.eclipse.draw2d.graph.Subgraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class ComponentGraphLayoutTest {
+
+    @Test
+    public void testSplitComponents() {
+        NodeList nodes = new NodeList();
+        EdgeList edges = new EdgeList();
+        Node a = addNode(nodes, "a");
+        Node b = addNode(nodes, "b");
+        Node c = addNode(nodes, "c");
+        Node d = addNode(nodes, "d");
+        Node e = addNode(nodes, "e");
+        Subgraph s = new Subgraph("s");
+        nodes.add(s);
+        Node member = new Node("m", s);
+        edges.add(new Edge(a, c));
+        edges.add(new Edge(c, a));
+        edges.add(new Edge(member, d));
+
+        List<ComponentGraphLayout.Component> components = ComponentGraphLayout.splitComponents(nodes, edges);
+        Assert.assertEquals(4, components.size());
+        assertNodes(components.get(0), a, c);
+        Assert.assertEquals(2, components.get(0).edges.size());
+        assertNodes(components.get(1), b);
+        Assert.assertTrue(components.get(1).edges.isEmpty());
+        // Edge of the subgraph member links the subgraph
+        assertNodes(components.get(2), d, s);
+        Assert.assertEquals(1, components.get(2).edges.size());
+        assertNodes(components.get(3), e);
+    }
+
+    @Test
+    public void testPacking() {
+        NodeList nodes = new NodeList();
+        EdgeList edges = new EdgeList();
+        Node single1 = addNode(nodes, "single1");
+        Node linked1 = addNode(nodes, "linked1");
+        Node single2 = addNode(nodes, "single2");
+        Node linked2 = addNode(nodes, "linked2");
+        Node single3 = addNode(nodes, "single3");
+        edges.add(new Edge(linked1, linked2));
+
+        Point origin = new Point(10, 20);
+        new ComponentGraphLayout(1).visit(nodes, edges, origin);
+
+        // The biggest component is placed first
+        Rectangle linkedBounds = getBounds(linked1).union(getBounds(linked2));
+        Assert.assertEquals(origin.x, linkedBounds.x);
+        Assert.assertEquals(origin.y, linkedBounds.y);
+
+        Node[] singles = {single1, single2, single3};
+        for (int i = 0; i < singles.length; i++) {
+            Rectangle bounds = getBounds(singles[i]);
+            Assert.assertTrue(bounds.x >= origin.x && bounds.y >= origin.y);
+            Assert.assertFalse(bounds.intersects(linkedBounds));
+            for (int k = i + 1; k < singles.length; k++) {
+                Assert.assertFalse(bounds.intersects(getBounds(singles[k])));
+            }
+        }
+        // Components are packed in rows, not in one line
+        Rectangle totalBounds = linkedBounds.getCopy();
+        for (Node single : singles) {
+            totalBounds.union(getBounds(single));
+        }
+        Assert.assertTrue(totalBounds.width < linkedBounds.width + 3 * (100 + ComponentGraphLayout.COMPONENT_SPACING));
+    }
+
+    private static Node addNode(NodeList nodes, String name) {
+        Node node = new Node(name);
+        node.width = 100;
+        node.height = 50;
+        nodes.add(node);
+        return node;
+    }
+
+    private static Rectangle getBounds(Node node) {
+        return new Rectangle(node.x, node.y, node.width, node.height);
+    }
+
+    private static void assertNodes(ComponentGraphLayout.Component component, Node... expected) {
+        Assert.assertEquals(expected.length, component.nodes.size());
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertSame(expected[i], component.nodes.getNode(i));
+        }
+    }
+}
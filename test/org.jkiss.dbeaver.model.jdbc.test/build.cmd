@@ -0,0 +1,3 @@
+set MAVEN_OPTS=-Xmx2048m
+call mvn clean install
+pause
@@ -0,0 +1,123 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.struct;
+
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.sql.SQLDialect;
+import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JDBCTableKeysetTest {
+    // Table rows (id values) in the natural (storage) order
+    private static final List<Integer> TABLE_ROWS = List.of(5, 3, 9, 1, 7, 2, 8, 4, 6, 10);
+    private static final int PAGE_SIZE = 4;
+
+    @Mock
+    private DBPDataSource dataSource;
+    @Mock
+    private SQLDialect dialect;
+    @Mock
+    private DBSEntityAttribute idAttribute;
+
+    @Before
+    public void init() {
+        Mockito.when(dataSource.getSQLDialect()).thenReturn(dialect);
+        Mockito.when(dialect.getQuotedIdentifier(Mockito.anyString(), Mockito.eq(true), Mockito.eq(false)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        Mockito.when(idAttribute.getName()).thenReturn("id");
+        Mockito.when(idAttribute.getDataSource()).thenReturn(dataSource);
+    }
+
+    @Test
+    public void testFirstAndNextPages() {
+        JDBCTableKeyset keyset = JDBCTableKeyset.create(List.of(idAttribute), null);
+        Assert.assertNotNull(keyset);
+
+        List<Integer> firstPage = readPage(keyset, 0);
+        Assert.assertEquals(List.of(1, 2, 3, 4), firstPage);
+        List<Integer> secondPage = readPage(keyset, PAGE_SIZE);
+        Assert.assertEquals(List.of(5, 6, 7, 8), secondPage);
+        List<Integer> lastPage = readPage(keyset, PAGE_SIZE * 2);
+        Assert.assertEquals(List.of(9, 10), lastPage);
+
+        // No rows repeat and none are missing
+        Set<Integer> allRows = new HashSet<>();
+        for (List<Integer> page : List.of(firstPage, secondPage, lastPage)) {
+            for (Integer id : page) {
+                Assert.assertTrue("Row " + id + " is read twice", allRows.add(id));
+            }
+        }
+        Assert.assertEquals(new HashSet<>(TABLE_ROWS), allRows);
+    }
+
+    @Test
+    public void testCompositeKeyCondition() {
+        DBSEntityAttribute nameAttribute = Mockito.mock(DBSEntityAttribute.class);
+        Mockito.when(nameAttribute.getName()).thenReturn("name");
+        Mockito.when(nameAttribute.getDataSource()).thenReturn(dataSource);
+
+        JDBCTableKeyset keyset = JDBCTableKeyset.create(List.of(idAttribute, nameAttribute), null);
+        Assert.assertNotNull(keyset);
+        StringBuilder query = new StringBuilder();
+        keyset.appendCondition(query, "x");
+        keyset.appendOrder(query, "x");
+        Assert.assertEquals("((x.id > ?) OR (x.id = ? AND x.name > ?))\nORDER BY x.id,x.name", query.toString());
+    }
+
+    /**
+     * Emulates JDBCTable segment read: the same key ordering for all segments,
+     * key condition for segments with a known start key and offset for others.
+     */
+    private static List<Integer> readPage(JDBCTableKeyset keyset, long firstRow) {
+        StringBuilder orderClause = new StringBuilder();
+        keyset.appendOrder(orderClause, null);
+        Assert.assertEquals("\nORDER BY id", orderClause.toString());
+        String segmentQuery = "SELECT id FROM test" + orderClause;
+
+        Object[] startKey = firstRow > 0 ? keyset.getSegmentKey(segmentQuery, firstRow) : null;
+        if (firstRow > 0) {
+            // Previous page was read in the key order, so it remembered where this one starts
+            Assert.assertNotNull(startKey);
+        }
+        List<Integer> rows = new ArrayList<>(TABLE_ROWS);
+        rows.sort(null);
+        long offset = firstRow;
+        if (startKey != null) {
+            int lastId = (Integer) startKey[0];
+            rows.removeIf(id -> id <= lastId);
+            offset = 0;
+        }
+        int fromIndex = (int) Math.min(offset, rows.size());
+        List<Integer> page = new ArrayList<>(rows.subList(fromIndex, Math.min(fromIndex + PAGE_SIZE, rows.size())));
+        if (page.size() == PAGE_SIZE) {
+            keyset.setSegmentKey(segmentQuery, firstRow + page.size(), new Object[]{page.get(page.size() - 1)});
+        }
+        return page;
+    }
+}
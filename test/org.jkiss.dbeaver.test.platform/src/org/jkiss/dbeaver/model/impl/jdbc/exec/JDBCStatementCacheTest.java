@@ -0,0 +1,125 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.exec;
+
+import org.jkiss.dbeaver.ext.generic.model.GenericDataSource;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(MockitoJUnitRunner.class)
+public class JDBCStatementCacheTest {
+    @Mock
+    private GenericDataSource dataSource;
+    @Mock
+    private JDBCSession session;
+    @Mock
+    private Connection connection;
+
+    private final List<PreparedStatement> preparedStatements = new ArrayList<>();
+
+    @Before
+    public void init() throws SQLException {
+        Mockito.when(session.getDataSource()).thenReturn(dataSource);
+        Mockito.when(session.getOriginal()).thenReturn(connection);
+        Mockito.when(dataSource.getJdbcFactory()).thenReturn(new JDBCFactoryDefault());
+        Mockito.when(connection.prepareStatement(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt())).thenAnswer(invocation -> {
+            PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+            preparedStatements.add(statement);
+            return statement;
+        });
+    }
+
+    @Test
+    public void testReuseAfterRelease() throws SQLException {
+        JDBCStatementCache cache = new JDBCStatementCache(10);
+
+        JDBCPreparedStatement first = openStatement(cache, "select 1");
+        first.close();
+        Assert.assertEquals(1, cache.getSize());
+
+        JDBCPreparedStatement second = openStatement(cache, "select 1");
+        Assert.assertEquals(0, cache.getSize());
+        second.close();
+
+        Assert.assertEquals(1, preparedStatements.size());
+        PreparedStatement original = preparedStatements.get(0);
+        Mockito.verify(original, Mockito.times(2)).clearParameters();
+        Mockito.verify(original, Mockito.never()).close();
+    }
+
+    @Test
+    public void testDoubleClose() throws SQLException {
+        JDBCStatementCache cache = new JDBCStatementCache(10);
+
+        JDBCPreparedStatement first = openStatement(cache, "select 1");
+        first.close();
+        JDBCPreparedStatement second = openStatement(cache, "select 1");
+        // Original statement now belongs to the second wrapper
+        first.close();
+        Assert.assertEquals(0, cache.getSize());
+
+        // So the same query must be prepared again
+        JDBCPreparedStatement third = openStatement(cache, "select 1");
+        Assert.assertEquals(2, preparedStatements.size());
+
+        second.close();
+        Assert.assertEquals(1, cache.getSize());
+        // The last released duplicate replaces the cached statement of the same query
+        third.close();
+        Assert.assertEquals(1, cache.getSize());
+        Mockito.verify(preparedStatements.get(0)).close();
+        Mockito.verify(preparedStatements.get(1), Mockito.never()).close();
+    }
+
+    @Test
+    public void testEviction() throws SQLException {
+        JDBCStatementCache cache = new JDBCStatementCache(1);
+
+        JDBCPreparedStatement first = openStatement(cache, "select 1");
+        JDBCPreparedStatement second = openStatement(cache, "select 2");
+        first.close();
+        second.close();
+
+        Assert.assertEquals(1, cache.getSize());
+        Mockito.verify(preparedStatements.get(0)).close();
+        Mockito.verify(preparedStatements.get(1), Mockito.never()).close();
+
+        cache.close();
+        Assert.assertEquals(0, cache.getSize());
+        Mockito.verify(preparedStatements.get(1)).close();
+    }
+
+    private JDBCPreparedStatement openStatement(JDBCStatementCache cache, String query) throws SQLException {
+        JDBCPreparedStatement statement = cache.openStatement(session, query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        Assert.assertNotNull(statement);
+        return statement;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.model.impl.struct;
+
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.data.DBDLabelValuePair;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DictionaryCacheTest {
+    @Mock
+    private DBPDataSource dataSource;
+    @Mock
+    private DBPDataSourceContainer container;
+    @Mock
+    private DBPPreferenceStore preferenceStore;
+    @Mock
+    private DBSEntity entity;
+
+    private final List<List<Object>> loadedBatches = new ArrayList<>();
+
+    @Before
+    public void init() {
+        Mockito.when(dataSource.getContainer()).thenReturn(container);
+        Mockito.when(container.getPreferenceStore()).thenReturn(preferenceStore);
+        Mockito.when(preferenceStore.getLong(ModelPreferences.DICTIONARY_CACHE_TTL)).thenReturn(60L);
+        Mockito.when(entity.getName()).thenReturn("dict");
+    }
+
+    @Test
+    public void testLookupBatches() throws DBException {
+        List<Object> keys = new ArrayList<>();
+        for (int i = 0; i < 450; i++) {
+            keys.add(i);
+        }
+        DictionaryCache cache = DictionaryCache.getInstance(dataSource);
+
+        List<DBDLabelValuePair> values = cache.getValues(entity, List.of("id"), keys, this::loadValues);
+        Assert.assertEquals(450, values.size());
+        Assert.assertEquals(3, loadedBatches.size());
+        Assert.assertEquals(DictionaryCache.MAX_LOOKUP_BATCH_SIZE, loadedBatches.get(0).size());
+        Assert.assertEquals(DictionaryCache.MAX_LOOKUP_BATCH_SIZE, loadedBatches.get(1).size());
+        Assert.assertEquals(50, loadedBatches.get(2).size());
+
+        // All labels are cached now
+        values = cache.getValues(entity, List.of("id"), keys, this::loadValues);
+        Assert.assertEquals(450, values.size());
+        Assert.assertEquals(3, loadedBatches.size());
+    }
+
+    @Test
+    public void testMissingKeysAreCached() throws DBException {
+        DictionaryCache cache = DictionaryCache.getInstance(dataSource);
+        DictionaryCache.LookupLoader loader = keyValues -> {
+            loadedBatches.add(new ArrayList<>(keyValues));
+            // Key 2 is missing in the dictionary. Database returns numbers of another type.
+            return List.of(new DBDLabelValuePair("one", 1L), new DBDLabelValuePair("three", 3L));
+        };
+
+        List<DBDLabelValuePair> values = cache.getValues(entity, List.of("id"), Arrays.asList(3, 2, 1), loader);
+        Assert.assertEquals(List.of("three", "one"), getLabels(values));
+        Assert.assertEquals(1, loadedBatches.size());
+
+        values = cache.getValues(entity, List.of("id"), Arrays.asList(1, 2, 3), loader);
+        Assert.assertEquals(List.of("one", "three"), getLabels(values));
+        Assert.assertEquals(1, loadedBatches.size());
+    }
+
+    @Test
+    public void testUnmatchedKeysAreNotCachedAsMissing() throws DBException {
+        DictionaryCache cache = DictionaryCache.getInstance(dataSource);
+        DictionaryCache.LookupLoader loader = keyValues -> {
+            loadedBatches.add(new ArrayList<>(keyValues));
+            // Value was converted and can't be matched with the requested key
+            return List.of(new DBDLabelValuePair("one", "1"));
+        };
+
+        List<DBDLabelValuePair> values = cache.getValues(entity, List.of("id"), List.of(1), loader);
+        Assert.assertEquals(List.of("one"), getLabels(values));
+
+        cache.getValues(entity, List.of("id"), List.of(1), loader);
+        Assert.assertEquals(2, loadedBatches.size());
+    }
+
+    private List<DBDLabelValuePair> loadValues(List<Object> keyValues) {
+        loadedBatches.add(new ArrayList<>(keyValues));
+        List<DBDLabelValuePair> result = new ArrayList<>();
+        for (Object key : keyValues) {
+            result.add(new DBDLabelValuePair("label" + key, key));
+        }
+        return result;
+    }
+
+    private static List<String> getLabels(List<DBDLabelValuePair> values) {
+        List<String> labels = new ArrayList<>();
+        for (DBDLabelValuePair pair : values) {
+            labels.add(pair.getLabel());
+        }
+        return labels;
+    }
+}
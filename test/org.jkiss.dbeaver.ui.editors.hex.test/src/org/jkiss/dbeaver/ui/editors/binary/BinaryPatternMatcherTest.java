@@ -0,0 +1,149 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2023 DBeaver Corp and others
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jkiss.dbeaver.ui.editors.binary;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class BinaryPatternMatcherTest {
+
+    @Test
+    public void testUtf16OddAlignment() {
+        BinaryPatternMatcher matcher = new BinaryPatternMatcher();
+        matcher.addText("ab", false, false);
+        matcher.addText("ab", false, true);
+
+        int[] matchLength = new int[1];
+        ByteBuffer littleEndian = makeBuffer(new byte[]{0x11}, "ab".getBytes(StandardCharsets.UTF_16LE), new byte[]{0x22});
+        Assert.assertEquals(1, matcher.find(littleEndian, 0, littleEndian.limit(), true, matchLength, () -> false));
+        Assert.assertEquals(4, matchLength[0]);
+
+        ByteBuffer bigEndian = makeBuffer(new byte[]{0x11, 0x11, 0x11}, "ab".getBytes(StandardCharsets.UTF_16BE));
+        Assert.assertEquals(3, matcher.find(bigEndian, 0, bigEndian.limit(), true, matchLength, () -> false));
+        Assert.assertEquals(4, matchLength[0]);
+    }
+
+    @Test
+    public void testUtf16IgnoreCase() {
+        BinaryPatternMatcher matcher = new BinaryPatternMatcher();
+        matcher.addText("\u00e9t\u00e9", true, false);
+
+        int[] matchLength = new int[1];
+        ByteBuffer buffer = makeBuffer(new byte[]{0x11}, "x\u00c9T\u00c9".getBytes(StandardCharsets.UTF_16LE));
+        Assert.assertEquals(3, matcher.find(buffer, 0, buffer.limit(), true, matchLength, () -> false));
+    }
+
+    @Test
+    public void testMatchCrossingChunkBoundary() {
+        BinaryPatternMatcher matcher = new BinaryPatternMatcher();
+        matcher.addBytes("abcd".getBytes(StandardCharsets.US_ASCII), false);
+
+        // Chunk is [0, 6), buffer includes overlap with the next chunk
+        ByteBuffer buffer = makeBuffer("xxxxabcdyy".getBytes(StandardCharsets.US_ASCII));
+        int[] matchLength = new int[1];
+        Assert.assertEquals(4, matcher.find(buffer, 0, 6, true, matchLength, () -> false));
+        Assert.assertEquals(4, matchLength[0]);
+        Assert.assertEquals(4, matcher.find(buffer, 0, 6, false, matchLength, () -> false));
+
+        // Match which starts in the next chunk belongs to that chunk
+        Assert.assertEquals(-1, matcher.find(buffer, 0, 4, true, matchLength, () -> false));
+        // Match which goes past the buffer limit is not found
+        buffer.limit(7);
+        Assert.assertEquals(-1, matcher.find(buffer, 0, 6, true, matchLength, () -> false));
+    }
+
+    @Test
+    public void testFinderMatchCrossingChunkBoundary() throws IOException {
+        // The first search window is followed by chunks of 4Mb
+        int chunkEnd = BinaryTextFinder.MAP_SIZE + 4 * 1024 * 1024;
+        byte[] data = new byte[chunkEnd + 1024];
+        byte[] needle = "needle".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(needle, 0, data, chunkEnd - 3, needle.length);
+
+        File file = File.createTempFile("binary-finder", ".bin");
+        try {
+            Files.write(file.toPath(), data);
+            BinaryContent content = new BinaryContent(file);
+            try {
+                BinaryTextFinder finder = new BinaryTextFinder("needle", content);
+                Number[] match = finder.getNextMatch();
+                Assert.assertNotNull(match);
+                Assert.assertEquals((long) chunkEnd - 3, match[0].longValue());
+                Assert.assertEquals(needle.length, match[1].intValue());
+                Assert.assertNull(finder.getNextMatch());
+            } finally {
+                content.dispose();
+            }
+        } finally {
+            // File is not locked by the search
+            Assert.assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    public void testFinderWithPendingChanges() throws IOException {
+        // Several chunks after the first search window
+        int position = BinaryTextFinder.MAP_SIZE + 9 * 1024 * 1024;
+        byte[] data = new byte[position + 1024];
+        byte[] needle = "needle".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(needle, 0, data, position, needle.length);
+
+        File file = File.createTempFile("binary-finder", ".bin");
+        try {
+            Files.write(file.toPath(), data);
+            BinaryContent content = new BinaryContent(file);
+            try {
+                // Content has pending changes, all chunks are read with BinaryContent.get
+                content.overwrite((byte) 'x', 10);
+                BinaryTextFinder finder = new BinaryTextFinder("needle", content);
+                Number[] match = finder.getNextMatch();
+                Assert.assertNotNull(match);
+                Assert.assertEquals((long) position, match[0].longValue());
+                Assert.assertNull(finder.getNextMatch());
+
+                finder.setDirectionForward(false);
+                finder.setNewStart(content.length());
+                match = finder.getNextMatch();
+                Assert.assertNotNull(match);
+                Assert.assertEquals((long) position, match[0].longValue());
+            } finally {
+                content.dispose();
+            }
+        } finally {
+            Assert.assertTrue(file.delete());
+        }
+    }
+
+    private static ByteBuffer makeBuffer(byte[]... parts) {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (byte[] part : parts) {
+            buffer.put(part);
+        }
+        buffer.flip();
+        return buffer;
+    }
+}